@@ -18,45 +18,69 @@
  */
 package org.kie.kogito.index.graphql;
 
+import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.ServiceLoader.Provider;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
 import org.kie.kogito.index.CommonUtils;
 import org.kie.kogito.index.api.KogitoRuntimeClient;
 import org.kie.kogito.index.graphql.query.GraphQLQueryOrderByParser;
 import org.kie.kogito.index.graphql.query.GraphQLQueryParser;
 import org.kie.kogito.index.graphql.query.GraphQLQueryParserRegistry;
+import org.kie.kogito.index.graphql.query.QueryCursor;
 import org.kie.kogito.index.model.*;
 import org.kie.kogito.index.model.Timer;
 import org.kie.kogito.index.service.DataIndexServiceException;
 import org.kie.kogito.index.storage.DataIndexStorageService;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
+import org.kie.kogito.persistence.api.ReactiveStorageFetcher;
 import org.kie.kogito.persistence.api.StorageFetcher;
 import org.kie.kogito.persistence.api.StorageServiceCapability;
+import org.kie.kogito.persistence.api.query.AttributeFilter;
+import org.kie.kogito.persistence.api.query.AttributeSort;
 import org.kie.kogito.persistence.api.query.Query;
+import org.kie.kogito.persistence.api.query.QueryBuilder;
+import org.kie.kogito.persistence.api.query.QueryTimeoutException;
+import org.kie.kogito.persistence.api.query.SortDirection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import graphql.execution.DataFetcherResult;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLInputObjectType;
 import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeUtil;
+import graphql.schema.PropertyDataFetcher;
+import graphql.schema.SelectedField;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import graphql.schema.idl.TypeRuntimeWiring.Builder;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 
 import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 import static org.kie.kogito.persistence.api.query.QueryFilterFactory.equalTo;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.in;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
 
 public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManager {
 
@@ -67,6 +91,27 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
     private static final String COMMENT_ID = "commentId";
     private static final String ATTACHMENT_ID = "attachmentId";
 
+    static final String PROCESS_DEFINITION_LOADER = "processDefinition";
+    static final String PROCESS_INSTANCE_LOADER = "processInstance";
+    static final String CHILD_PROCESS_INSTANCES_LOADER = "childProcessInstances";
+
+    // attributes read by the fields resolved with a custom data fetcher, used to compute the query projection
+    private static final Map<String, Set<String>> PROJECTION_DEPENDENCIES = Map.of(
+            "ProcessInstance.serviceUrl", Set.of("endpoint", "processId"),
+            "ProcessInstance.definition", Set.of("processId", "version"),
+            "ProcessInstance.source", Set.of("processId", "version", "endpoint"),
+            "ProcessInstance.nodeDefinitions", Set.of("processId", "version", "endpoint"),
+            "ProcessInstance.parentProcessInstance", Set.of("parentProcessInstanceId"),
+            "ProcessInstance.childProcessInstances", Set.of("id"),
+            "ProcessInstance.executionSummary", Set.of("nodes", "start", "end", "state"),
+            "ProcessDefinition.serviceUrl", Set.of("endpoint", "id"),
+            "ProcessDefinition.source", Set.of("source", "endpoint", "id"),
+            "ProcessDefinition.nodes", Set.of("nodes", "endpoint", "id"));
+
+    // attributes completing the sort of the paginated queries, so the cursor identifies a single row
+    private static final Map<String, List<String>> CURSOR_KEYS = Map.of("ProcessDefinition", List.of(ID, "version"));
+    private static final String CURSORS = "cursors";
+
     private static final String UNABLE_TO_FIND_ERROR_MSG = "Unable to find the instance with %s %s";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGraphQLSchemaManager.class);
@@ -88,6 +133,10 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
 
     private Collection<GraphQLMutationsProvider> mutations;
 
+    private GraphQLQueryLimits queryLimits = GraphQLQueryLimits.NONE;
+
+    private GraphQLQueryMetrics queryMetrics = GraphQLQueryMetrics.NOOP;
+
     @PostConstruct
     public void setup() {
         mutations = ServiceLoader.load(GraphQLMutationsProvider.class).stream().map(Provider::get).collect(Collectors.toList());
@@ -100,6 +149,12 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
                 (GraphQLInputObjectType) schema.getType("JobArgument"));
     }
 
+    @Override
+    public void setQueryLimits(GraphQLQueryLimits queryLimits, GraphQLQueryMetrics queryMetrics) {
+        this.queryLimits = queryLimits;
+        this.queryMetrics = queryMetrics;
+    }
+
     protected final void loadAdditionalMutations(Builder builder) {
         Map<String, DataFetcher<CompletableFuture<?>>> mutationMap = mutations.stream().map(m -> m.mutations(this)).flatMap(map -> map.entrySet().stream())
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v2));
@@ -174,9 +229,75 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
         return getServiceUrl(source.getEndpoint(), source.getProcessId());
     }
 
-    public ProcessDefinition getProcessDefinition(DataFetchingEnvironment env) {
-        ProcessInstance source = env.getSource();
-        return cacheService.getProcessDefinitionStorage().get(new ProcessDefinitionKey(source.getProcessId(), source.getVersion()));
+    /**
+     * Creates the data loaders used by the process instance fields that reference other entities, so the fetching of
+     * those fields for all the instances returned by a query is batched into one storage query per field.
+     * A new registry must be created for every request, as the loaded values are cached by the data loaders unless
+     * the caching is disabled.
+     */
+    @Override
+    public DataLoaderRegistry createDataLoaderRegistry(boolean cachingEnabled) {
+        DataLoaderOptions options = DataLoaderOptions.newOptions().setCachingEnabled(cachingEnabled);
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        registry.register(PROCESS_DEFINITION_LOADER, DataLoaderFactory.newMappedDataLoader(this::loadProcessDefinitions, options));
+        registry.register(PROCESS_INSTANCE_LOADER, DataLoaderFactory.newMappedDataLoader(this::loadProcessInstances, options));
+        registry.register(CHILD_PROCESS_INSTANCES_LOADER, DataLoaderFactory.newMappedDataLoader(this::loadChildProcessInstances, options));
+        return registry;
+    }
+
+    public CompletableFuture<Map<ProcessDefinitionKey, ProcessDefinition>> loadProcessDefinitions(Set<ProcessDefinitionKey> keys) {
+        return executeQuery(cacheService.getProcessDefinitionStorage(), in("id", keys.stream().map(ProcessDefinitionKey::getId).distinct().collect(Collectors.toList())))
+                .thenApply(processDefinitions -> {
+                    Map<ProcessDefinitionKey, ProcessDefinition> result = new HashMap<>();
+                    for (ProcessDefinition pd : processDefinitions) {
+                        ProcessDefinitionKey key = new ProcessDefinitionKey(pd.getId(), pd.getVersion());
+                        if (keys.contains(key)) {
+                            result.put(key, pd);
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    public CompletableFuture<Map<String, ProcessInstance>> loadProcessInstances(Set<String> ids) {
+        return executeQuery(cacheService.getProcessInstanceStorage(), in("id", new ArrayList<>(ids)))
+                .thenApply(processInstances -> processInstances.stream().collect(Collectors.toMap(ProcessInstance::getId, pi -> pi, (pi1, pi2) -> pi1)));
+    }
+
+    public CompletableFuture<Map<String, List<ProcessInstance>>> loadChildProcessInstances(Set<String> parentIds) {
+        return executeQuery(cacheService.getProcessInstanceStorage(), in("parentProcessInstanceId", new ArrayList<>(parentIds)))
+                .thenApply(processInstances -> {
+                    Map<String, List<ProcessInstance>> result = processInstances.stream().collect(Collectors.groupingBy(ProcessInstance::getParentProcessInstanceId));
+                    parentIds.forEach(id -> result.putIfAbsent(id, Collections.emptyList()));
+                    return result;
+                });
+    }
+
+    // the batched queries of the data loaders run on the reactive variant of the storage when it is available
+    private <K, T> CompletableFuture<List<T>> executeQuery(StorageFetcher<K, T> cache, AttributeFilter<?> filter) {
+        Optional<? extends ReactiveStorageFetcher<K, T>> reactive = cache.reactive();
+        if (reactive.isPresent()) {
+            return reactive.get().query().filter(singletonList(filter)).execute()
+                    // the nested fetchers may block, so they must not run on the driver thread completing the query
+                    .emitOn(Infrastructure.getDefaultExecutor())
+                    .subscribeAsCompletionStage();
+        }
+        Query<T> query = cache.query();
+        query.filter(singletonList(filter));
+        return CompletableFuture.completedFuture(query.execute());
+    }
+
+    private <K, V> CompletableFuture<V> load(DataFetchingEnvironment env, String loaderName, K key, Function<K, V> fallback) {
+        DataLoader<K, V> loader = env.getDataLoader(loaderName);
+        return loader == null ? CompletableFuture.completedFuture(fallback.apply(key)) : loader.load(key);
+    }
+
+    private CompletableFuture<ProcessDefinition> loadProcessDefinition(DataFetchingEnvironment env, ProcessInstance pi) {
+        return load(env, PROCESS_DEFINITION_LOADER, new ProcessDefinitionKey(pi.getProcessId(), pi.getVersion()), cacheService.getProcessDefinitionStorage()::get);
+    }
+
+    public CompletableFuture<ProcessDefinition> getProcessDefinition(DataFetchingEnvironment env) {
+        return loadProcessDefinition(env, env.getSource());
     }
 
     private static final String START_MESSAGE = "Workflow started at %s";
@@ -219,34 +340,35 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
         return CommonUtils.getServiceUrl(endpoint, processId);
     }
 
-    protected Collection<ProcessInstance> getChildProcessInstancesValues(DataFetchingEnvironment env) {
+    protected CompletableFuture<List<ProcessInstance>> getChildProcessInstancesValues(DataFetchingEnvironment env) {
         ProcessInstance source = env.getSource();
-        Query<ProcessInstance> query = cacheService.getProcessInstanceStorage().query();
-        query.filter(singletonList(equalTo("parentProcessInstanceId", source.getId())));
-        return query.execute();
+        return load(env, CHILD_PROCESS_INSTANCES_LOADER, source.getId(), id -> {
+            Query<ProcessInstance> query = cacheService.getProcessInstanceStorage().query();
+            query.filter(singletonList(equalTo("parentProcessInstanceId", id)));
+            return query.execute();
+        });
     }
 
-    protected ProcessInstance getParentProcessInstanceValue(DataFetchingEnvironment env) {
+    protected CompletableFuture<ProcessInstance> getParentProcessInstanceValue(DataFetchingEnvironment env) {
         ProcessInstance source = env.getSource();
         if (source.getParentProcessInstanceId() == null) {
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
-        Query<ProcessInstance> query = cacheService.getProcessInstanceStorage().query();
-        query.filter(singletonList(equalTo("id", source.getParentProcessInstanceId())));
-        List<ProcessInstance> execute = query.execute();
-        return !execute.isEmpty() ? execute.get(0) : null;
+        return load(env, PROCESS_INSTANCE_LOADER, source.getParentProcessInstanceId(), id -> {
+            Query<ProcessInstance> query = cacheService.getProcessInstanceStorage().query();
+            query.filter(singletonList(equalTo("id", id)));
+            List<ProcessInstance> execute = query.execute();
+            return !execute.isEmpty() ? execute.get(0) : null;
+        });
     }
 
-    protected Collection<ProcessDefinition> getProcessDefinitionsValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getProcessDefinitionStorage(), env);
+    protected CompletableFuture<DataFetcherResult<List<ProcessDefinition>>> getProcessDefinitionsValues(DataFetchingEnvironment env) {
+        return executePagedQueryForCacheAsync(cacheService.getProcessDefinitionStorage(), env);
     }
 
-    protected DataFetcherResult<?> getProcessInstancesValues(DataFetchingEnvironment env) {
-        Collection<ProcessInstance> processInstances = executeAdvancedQueryForCache(cacheService.getProcessInstanceStorage(), env);
-        return DataFetcherResult.newResult()
-                .data(processInstances)
-                .localContext(processInstances)
-                .build();
+    protected CompletableFuture<DataFetcherResult<?>> getProcessInstancesValues(DataFetchingEnvironment env) {
+        return executePagedQueryForCacheAsync(cacheService.getProcessInstanceStorage(), env)
+                .thenApply(processInstances -> processInstances.transform(builder -> builder.localContext(processInstances.getData())));
     }
 
     protected long countProcessInstances(DataFetchingEnvironment env) {
@@ -266,48 +388,211 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
     }
 
     protected <K, T> List<T> executeAdvancedQueryForCache(StorageFetcher<K, T> cache, DataFetchingEnvironment env) {
-        Query<T> query = buildQuery(cache, env);
-        query.sort(new GraphQLQueryOrderByParser().apply(env));
-        Map<String, Integer> pagination = env.getArgument("pagination");
-        if (pagination != null) {
-            Integer limit = pagination.get("limit");
-            if (limit != null) {
-                query.limit(limit);
+        return executePagedQueryForCache(cache, env).getData();
+    }
+
+    /**
+     * Executes the query of a list field. When the pagination has a limit, the sort is completed with the key attributes
+     * of the type and the cursor of the next page is returned in the extensions of the response, under {@code cursors}
+     * and the name of the field, to be passed as the {@code after} pagination argument.
+     */
+    protected <K, T> DataFetcherResult<List<T>> executePagedQueryForCache(StorageFetcher<K, T> cache, DataFetchingEnvironment env) {
+        assert cache != null;
+        QueryArguments arguments = getPagedQueryArguments(env);
+        List<T> result = execute(arguments.applyTo(cache.query())::execute);
+        return toPagedResult(result, arguments, env);
+    }
+
+    /**
+     * Executes the query of a list field as {@link #executePagedQueryForCache(StorageFetcher, DataFetchingEnvironment)},
+     * on the reactive variant of the storage when it is available, so the calling thread is not blocked waiting for the
+     * results. The results are emitted on a worker thread, where the nested fetchers are allowed to block.
+     */
+    protected <K, T> CompletableFuture<DataFetcherResult<List<T>>> executePagedQueryForCacheAsync(StorageFetcher<K, T> cache, DataFetchingEnvironment env) {
+        assert cache != null;
+        Optional<? extends ReactiveStorageFetcher<K, T>> reactive = cache.reactive();
+        if (reactive.isEmpty()) {
+            return CompletableFuture.completedFuture(executePagedQueryForCache(cache, env));
+        }
+        QueryArguments arguments = getPagedQueryArguments(env);
+        return execute(arguments.applyTo(reactive.get().query()).execute())
+                .map(result -> toPagedResult(result, arguments, env))
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .subscribeAsCompletionStage();
+    }
+
+    private QueryArguments getPagedQueryArguments(DataFetchingEnvironment env) {
+        QueryArguments arguments = getQueryArguments(env);
+        List<AttributeSort> sortBy = new ArrayList<>(new GraphQLQueryOrderByParser().apply(env));
+        Map<String, Object> pagination = env.getArgument("pagination");
+        Integer limit = pagination == null ? null : (Integer) pagination.get("limit");
+        Integer offset = pagination == null ? null : (Integer) pagination.get("offset");
+        String after = pagination == null ? null : (String) pagination.get("after");
+        if (limit == null && queryLimits.getDefaultPageSize() > 0) {
+            limit = queryLimits.getDefaultPageSize();
+        } else if (limit != null && queryLimits.getMaxPageSize() > 0 && limit > queryLimits.getMaxPageSize()) {
+            queryMetrics.rejected(GraphQLQueryMetrics.PAGE_SIZE);
+            throw new DataIndexServiceException(format("The pagination limit %d exceeds the maximum page size %d", limit, queryLimits.getMaxPageSize()));
+        }
+        if (limit != null || after != null) {
+            getCursorKey(env).stream().filter(key -> sortBy.stream().noneMatch(sort -> key.equals(sort.getAttribute())))
+                    .forEach(key -> sortBy.add(orderBy(key, SortDirection.ASC)));
+        }
+        arguments.sortBy = sortBy;
+        Set<String> projection = getProjection(env);
+        if (projection != null) {
+            // the sort attributes are read to build the cursor
+            sortBy.forEach(sort -> projection.add(sort.getAttribute().split("\\.")[0]));
+            arguments.projection = projection;
+        }
+        arguments.limit = limit;
+        arguments.offset = offset;
+        if (after != null) {
+            arguments.after = QueryCursor.decode(after).stream().map(this::toQueryValue).collect(Collectors.toList());
+        }
+        return arguments;
+    }
+
+    private <T> DataFetcherResult<List<T>> toPagedResult(List<T> result, QueryArguments arguments, DataFetchingEnvironment env) {
+        DataFetcherResult.Builder<List<T>> builder = DataFetcherResult.<List<T>> newResult().data(result);
+        if (arguments.limit != null && !result.isEmpty()) {
+            getCursor(result.get(result.size() - 1), arguments.sortBy)
+                    .ifPresent(cursor -> builder.extensions(Map.of(CURSORS, Map.of(env.getMergedField().getResultKey(), cursor))));
+        }
+        return builder.build();
+    }
+
+    private List<String> getCursorKey(DataFetchingEnvironment env) {
+        return CURSOR_KEYS.getOrDefault(((GraphQLNamedType) GraphQLTypeUtil.unwrapAll(env.getFieldType())).getName(), singletonList(ID));
+    }
+
+    private Optional<String> getCursor(Object row, List<AttributeSort> sortBy) {
+        try {
+            List<Object> values = sortBy.stream().map(sort -> QueryCursor.readAttribute(row, sort.getAttribute())).collect(Collectors.toList());
+            return values.stream().allMatch(QueryCursor::isSupported) ? Optional.of(QueryCursor.encode(values)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Unable to build the cursor of the next page", e);
+            return Optional.empty();
+        }
+    }
+
+    // the date times are converted into the values the storage expects in the filters, as done for the where argument
+    private Object toQueryValue(Object value) {
+        return value instanceof ZonedDateTime ? dateTimeScalarType.getCoercing().parseValue(dateTimeScalarType.getCoercing().serialize(value)) : value;
+    }
+
+    /**
+     * Computes the attributes read by the fields selected in the query, so the storage does not fetch the rest.
+     * 
+     * @return the attributes to fetch, or null if any of the selected fields is resolved by a fetcher whose dependencies
+     *         are unknown
+     */
+    protected Set<String> getProjection(DataFetchingEnvironment env) {
+        DataFetchingFieldSelectionSet selectionSet = env.getSelectionSet();
+        if (selectionSet == null || env.getGraphQLSchema() == null) {
+            return null;
+        }
+        GraphQLSchema graphQLSchema = env.getGraphQLSchema();
+        Set<String> projection = new HashSet<>();
+        for (SelectedField field : selectionSet.getImmediateFields()) {
+            if (field.getName().startsWith("__")) {
+                continue;
             }
-            Integer offset = pagination.get("offset");
-            if (offset != null) {
-                query.offset(offset);
+            for (String typeName : field.getObjectTypeNames()) {
+                GraphQLObjectType type = graphQLSchema.getObjectType(typeName);
+                DataFetcher<?> fetcher = graphQLSchema.getCodeRegistry().getDataFetcher(FieldCoordinates.coordinates(typeName, field.getName()),
+                        type.getFieldDefinition(field.getName()));
+                if (fetcher instanceof PropertyDataFetcher) {
+                    projection.add(field.getName());
+                } else if (PROJECTION_DEPENDENCIES.containsKey(typeName + "." + field.getName())) {
+                    projection.addAll(PROJECTION_DEPENDENCIES.get(typeName + "." + field.getName()));
+                } else {
+                    return null;
+                }
             }
         }
-        return query.execute();
+        return projection.isEmpty() ? null : projection;
     }
 
     protected <K, T> long executeCount(StorageFetcher<K, T> cache, DataFetchingEnvironment env) {
-        return buildQuery(cache, env).count();
+        assert cache != null;
+        return execute(getQueryArguments(env).applyTo(cache.query())::count);
     }
 
-    private <K, T> Query<T> buildQuery(StorageFetcher<K, T> cache, DataFetchingEnvironment env) {
-        assert cache != null;
-        Query<T> query = cache.query();
+    private <R> R execute(Supplier<R> execution) {
+        try {
+            return execution.get();
+        } catch (QueryTimeoutException e) {
+            queryMetrics.aborted(GraphQLQueryMetrics.TIMEOUT);
+            throw e;
+        }
+    }
+
+    private <R> Uni<R> execute(Uni<R> execution) {
+        return execution.onFailure(QueryTimeoutException.class).invoke(() -> queryMetrics.aborted(GraphQLQueryMetrics.TIMEOUT));
+    }
+
+    private QueryArguments getQueryArguments(DataFetchingEnvironment env) {
+        QueryArguments arguments = new QueryArguments();
+        if (queryLimits.getQueryTimeoutMillis() > 0) {
+            arguments.timeout = queryLimits.getQueryTimeoutMillis();
+        }
         GraphQLArgument arg = env.getFieldDefinition().getArgument("where");
         if (arg != null) {
             GraphQLInputType inputType = arg.getType();
             if (inputType instanceof GraphQLNamedType) {
                 GraphQLQueryParser parser = GraphQLQueryParserRegistry.get().getParser(((GraphQLNamedType) inputType).getName());
                 if (parser != null) {
-                    query.filter(parser.apply(env.getArgument("where")));
+                    arguments.filters = parser.apply(env.getArgument("where"));
                 }
             }
         }
-        return query;
+        return arguments;
+    }
+
+    // arguments of a query parsed from the field, applied to either the blocking or the reactive query of the storage
+    private static class QueryArguments {
+
+        private Integer timeout;
+        private List<AttributeFilter<?>> filters;
+        private List<AttributeSort> sortBy;
+        private Set<String> projection;
+        private Integer limit;
+        private Integer offset;
+        private List<Object> after;
+
+        <Q extends QueryBuilder<Q>> Q applyTo(Q query) {
+            if (timeout != null) {
+                query.timeout(timeout);
+            }
+            if (filters != null) {
+                query.filter(filters);
+            }
+            if (sortBy != null) {
+                query.sort(sortBy);
+            }
+            if (projection != null) {
+                query.projection(projection);
+            }
+            if (limit != null) {
+                query.limit(limit);
+            }
+            if (offset != null) {
+                query.offset(offset);
+            }
+            if (after != null) {
+                query.after(after);
+            }
+            return query;
+        }
     }
 
-    protected Collection<UserTaskInstance> getUserTaskInstancesValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getUserTaskInstanceStorage(), env);
+    protected CompletableFuture<DataFetcherResult<List<UserTaskInstance>>> getUserTaskInstancesValues(DataFetchingEnvironment env) {
+        return executePagedQueryForCacheAsync(cacheService.getUserTaskInstanceStorage(), env);
     }
 
-    protected Collection<Job> getJobsValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(getCacheService().getJobsStorage(), env);
+    protected CompletableFuture<DataFetcherResult<List<Job>>> getJobsValues(DataFetchingEnvironment env) {
+        return executePagedQueryForCacheAsync(getCacheService().getJobsStorage(), env);
     }
 
     public CompletableFuture<String> getProcessInstanceDiagram(DataFetchingEnvironment env) {
@@ -318,12 +603,13 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
 
     public CompletableFuture<String> getProcessInstanceSource(DataFetchingEnvironment env) {
         ProcessInstance pi = env.getSource();
-        ProcessDefinition pd = cacheService.getProcessDefinitionStorage().get(new ProcessDefinitionKey(pi.getProcessId(), pi.getVersion()));
-        if (pd == null) {
-            return dataIndexApiExecutor.getProcessDefinitionSourceFileContent(getServiceUrl(pi.getEndpoint(), pi.getProcessId()), pi.getProcessId());
-        } else {
-            return getProcessDefinitionSource(pd);
-        }
+        return loadProcessDefinition(env, pi).thenCompose(pd -> {
+            if (pd == null) {
+                return dataIndexApiExecutor.getProcessDefinitionSourceFileContent(getServiceUrl(pi.getEndpoint(), pi.getProcessId()), pi.getProcessId());
+            } else {
+                return getProcessDefinitionSource(pd);
+            }
+        });
     }
 
     public CompletableFuture<List<Timer>> getProcessInstanceTimers(DataFetchingEnvironment env) {
@@ -340,12 +626,13 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
 
     public CompletableFuture<List<Node>> getProcessInstanceNodes(DataFetchingEnvironment env) {
         ProcessInstance pi = env.getSource();
-        ProcessDefinition pd = cacheService.getProcessDefinitionStorage().get(new ProcessDefinitionKey(pi.getProcessId(), pi.getVersion()));
-        if (pd == null) {
-            return dataIndexApiExecutor.getProcessDefinitionNodes(getServiceUrl(pi.getEndpoint(), pi.getProcessId()), pi.getProcessId());
-        } else {
-            return getProcessDefinitionNodes(pd);
-        }
+        return loadProcessDefinition(env, pi).thenCompose(pd -> {
+            if (pd == null) {
+                return dataIndexApiExecutor.getProcessDefinitionNodes(getServiceUrl(pi.getEndpoint(), pi.getProcessId()), pi.getProcessId());
+            } else {
+                return getProcessDefinitionNodes(pd);
+            }
+        });
     }
 
     public CompletableFuture<String> getProcessDefinitionSource(ProcessDefinition pd) {
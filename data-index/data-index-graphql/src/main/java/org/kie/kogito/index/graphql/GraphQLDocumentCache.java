@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.schema.GraphQLSchema;
+
+/**
+ * Bounded cache of the parsed and validated documents, keyed by the SHA-256 hash of the query, so the requests
+ * repeating a query only bind its variables.
+ * <p>
+ * It also supports the Apollo automatic persisted queries: a request with the {@code persistedQuery} extension and
+ * without the query text is resolved by its {@code sha256Hash}, failing with {@code PersistedQueryNotFound} when the
+ * hash is unknown so the client sends the query again together with its hash.
+ * <p>
+ * The documents are validated against the schema, so the cache is cleared when the schema changes.
+ */
+public class GraphQLDocumentCache implements PreparsedDocumentProvider {
+
+    static final String PERSISTED_QUERY = "persistedQuery";
+    static final String SHA_256_HASH = "sha256Hash";
+
+    private final Supplier<GraphQLSchema> schemaSupplier;
+    private final Map<String, PreparsedDocumentEntry> documents;
+    private GraphQLSchema schema;
+
+    public GraphQLDocumentCache(Supplier<GraphQLSchema> schemaSupplier, int maxSize) {
+        this.schemaSupplier = schemaSupplier;
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparsedDocumentEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        return CompletableFuture.completedFuture(lookup(executionInput, parseAndValidateFunction));
+    }
+
+    PreparsedDocumentEntry lookup(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        String query = executionInput.getQuery();
+        boolean hasQuery = query != null && !query.isBlank() && !PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query);
+        String hash = getPersistedQueryHash(executionInput);
+        if (hash == null) {
+            if (!hasQuery) {
+                return parseAndValidateFunction.apply(executionInput);
+            }
+            hash = sha256(query);
+        } else if (!hasQuery) {
+            PreparsedDocumentEntry entry = get(hash);
+            return entry == null ? new PreparsedDocumentEntry(new PersistedQueryNotFound(hash)) : entry;
+        } else if (!hash.equalsIgnoreCase(sha256(query))) {
+            return new PreparsedDocumentEntry(new PersistedQueryIdInvalid(hash));
+        }
+        PreparsedDocumentEntry entry = get(hash);
+        if (entry == null) {
+            entry = parseAndValidateFunction.apply(executionInput);
+            if (!entry.hasErrors()) {
+                put(hash, entry);
+            }
+        }
+        return entry;
+    }
+
+    public synchronized int size() {
+        return documents.size();
+    }
+
+    private synchronized PreparsedDocumentEntry get(String hash) {
+        checkSchema();
+        return documents.get(hash);
+    }
+
+    private synchronized void put(String hash, PreparsedDocumentEntry entry) {
+        checkSchema();
+        documents.put(hash, entry);
+    }
+
+    private void checkSchema() {
+        GraphQLSchema current = schemaSupplier.get();
+        if (current != schema) {
+            documents.clear();
+            schema = current;
+        }
+    }
+
+    private static String getPersistedQueryHash(ExecutionInput executionInput) {
+        Map<String, Object> extensions = executionInput.getExtensions();
+        Object persistedQuery = extensions == null ? null : extensions.get(PERSISTED_QUERY);
+        if (persistedQuery instanceof Map) {
+            Object hash = ((Map<?, ?>) persistedQuery).get(SHA_256_HASH);
+            return hash == null ? null : hash.toString();
+        }
+        return null;
+    }
+
+    static String sha256(String query) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
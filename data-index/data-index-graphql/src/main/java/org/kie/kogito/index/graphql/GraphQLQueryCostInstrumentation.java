@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.schema.GraphQLTypeUtil;
+
+/**
+ * Rejects the queries exceeding the maximum depth or complexity of the {@link GraphQLQueryLimits} before they are
+ * executed. The complexity of a list field is the one of its selection multiplied by the page size, taken from the
+ * {@code pagination} argument, or estimated when there is none.
+ */
+public class GraphQLQueryCostInstrumentation extends ChainedInstrumentation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GraphQLQueryCostInstrumentation.class);
+
+    // estimated size of the lists that are not paginated, like the nodes of a process instance
+    static final int NESTED_LIST_SIZE = 10;
+
+    public GraphQLQueryCostInstrumentation(GraphQLQueryLimits limits, GraphQLQueryMetrics metrics) {
+        super(instrumentations(limits, metrics));
+    }
+
+    private static List<Instrumentation> instrumentations(GraphQLQueryLimits limits, GraphQLQueryMetrics metrics) {
+        List<Instrumentation> instrumentations = new ArrayList<>();
+        if (limits.getMaxDepth() > 0) {
+            instrumentations.add(new MaxQueryDepthInstrumentation(limits.getMaxDepth(), info -> {
+                LOGGER.debug("Rejecting query with depth {} exceeding the maximum of {}", info.getDepth(), limits.getMaxDepth());
+                metrics.rejected(GraphQLQueryMetrics.DEPTH);
+                return true;
+            }));
+        }
+        if (limits.getMaxComplexity() > 0) {
+            instrumentations.add(new MaxQueryComplexityInstrumentation(limits.getMaxComplexity(), complexityCalculator(limits), info -> {
+                LOGGER.debug("Rejecting query with complexity {} exceeding the maximum of {}", info.getComplexity(), limits.getMaxComplexity());
+                metrics.rejected(GraphQLQueryMetrics.COMPLEXITY);
+                return true;
+            }));
+        }
+        return instrumentations;
+    }
+
+    static FieldComplexityCalculator complexityCalculator(GraphQLQueryLimits limits) {
+        return (environment, childComplexity) -> {
+            if (!GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()))) {
+                return 1 + childComplexity;
+            }
+            long complexity = (long) getListSize(environment, limits) * Math.max(1, childComplexity);
+            return (int) Math.min(Integer.MAX_VALUE, complexity);
+        };
+    }
+
+    private static int getListSize(FieldComplexityEnvironment environment, GraphQLQueryLimits limits) {
+        if (environment.getFieldDefinition().getArgument("pagination") == null) {
+            return NESTED_LIST_SIZE;
+        }
+        Object pagination = environment.getArguments().get("pagination");
+        Object limit = pagination instanceof Map ? ((Map<?, ?>) pagination).get("limit") : null;
+        if (limit instanceof Number) {
+            return Math.max(1, ((Number) limit).intValue());
+        }
+        if (limits.getDefaultPageSize() > 0) {
+            return limits.getDefaultPageSize();
+        }
+        return limits.getMaxPageSize() > 0 ? limits.getMaxPageSize() : Integer.MAX_VALUE;
+    }
+}
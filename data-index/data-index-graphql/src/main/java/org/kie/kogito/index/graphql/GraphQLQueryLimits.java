@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+/**
+ * Bounds of the GraphQL queries, a value of zero or lower disables the limit:
+ * <ul>
+ * <li>maxDepth: maximum nesting of the selected fields.</li>
+ * <li>maxComplexity: maximum estimated cost, every field costs one, multiplied by the page size on the list fields. The
+ * list queries without a limit are rejected unless there is a default page size.</li>
+ * <li>defaultPageSize: limit of the list queries without one, the next pages are read through the returned cursor.</li>
+ * <li>maxPageSize: maximum limit accepted on the list queries.</li>
+ * <li>queryTimeoutMillis: maximum time the storage spends executing a query.</li>
+ * </ul>
+ */
+public class GraphQLQueryLimits {
+
+    public static final GraphQLQueryLimits NONE = new GraphQLQueryLimits(0, 0, 0, 0, 0);
+
+    private final int maxDepth;
+    private final int maxComplexity;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int queryTimeoutMillis;
+
+    public GraphQLQueryLimits(int maxDepth, int maxComplexity, int defaultPageSize, int maxPageSize, int queryTimeoutMillis) {
+        this.maxDepth = maxDepth;
+        this.maxComplexity = maxComplexity;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.queryTimeoutMillis = queryTimeoutMillis;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getMaxComplexity() {
+        return maxComplexity;
+    }
+
+    public int getDefaultPageSize() {
+        return defaultPageSize;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public int getQueryTimeoutMillis() {
+        return queryTimeoutMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "GraphQLQueryLimits{" +
+                "maxDepth=" + maxDepth +
+                ", maxComplexity=" + maxComplexity +
+                ", defaultPageSize=" + defaultPageSize +
+                ", maxPageSize=" + maxPageSize +
+                ", queryTimeoutMillis=" + queryTimeoutMillis +
+                '}';
+    }
+}
@@ -20,6 +20,8 @@ package org.kie.kogito.index.graphql;
 
 import java.util.function.Consumer;
 
+import org.dataloader.DataLoaderRegistry;
+
 import graphql.schema.GraphQLSchema;
 
 public interface GraphQLSchemaManager {
@@ -27,4 +29,19 @@ public interface GraphQLSchemaManager {
     GraphQLSchema getGraphQLSchema();
 
     void transform(Consumer<GraphQLSchema.Builder> builder);
+
+    default DataLoaderRegistry createDataLoaderRegistry() {
+        return createDataLoaderRegistry(true);
+    }
+
+    /**
+     * Creates the data loaders of a single execution, the caching must be disabled when the registry outlives it, as
+     * happens with the subscriptions, where every event must load the current values.
+     */
+    default DataLoaderRegistry createDataLoaderRegistry(boolean cachingEnabled) {
+        return new DataLoaderRegistry();
+    }
+
+    default void setQueryLimits(GraphQLQueryLimits queryLimits, GraphQLQueryMetrics queryMetrics) {
+    }
 }
@@ -237,180 +237,170 @@ public class GraphQLQueryMapper implements Function<GraphQLInputObjectType, Grap
     }
 
     private Function<Object, Stream<AttributeFilter<?>>> mapArrayArgument(String attribute, GraphQLInputObjectType arrayArgType) {
-        return argument -> {
-            Map<String, Object> argMap = (Map<String, Object>) argument;
-
-            // Separate array operations from backward-compatible fields
-            Map<String, Object> backwardCompatFields = new java.util.HashMap<>();
-            List<Stream<AttributeFilter<?>>> arrayOpStreams = new java.util.ArrayList<>();
-
-            // Lazy initialization of element parser (only when needed)
-            GraphQLQueryParser elementParser = null;
-
-            // Helper to get element parser (lazy initialization)
-            final GraphQLQueryParser[] parserHolder = new GraphQLQueryParser[1];
-            java.util.function.Supplier<GraphQLQueryParser> getElementParser = () -> {
-                if (parserHolder[0] == null) {
-                    GraphQLInputType containsFieldType = arrayArgType.getField("contains") != null ? arrayArgType.getField("contains").getType() : null;
-                    if (containsFieldType == null) {
-                        LOGGER.warn("Array argument type {} does not have a 'contains' field required for element operations", arrayArgType.getName());
-                        return null;
-                    }
-                    GraphQLType unwrappedType = unwrapNonNull(containsFieldType);
-                    if (!(unwrappedType instanceof GraphQLInputObjectType elementType)) {
-                        LOGGER.warn("Contains field type is not an input object type: {}", simplePrint(unwrappedType));
-                        return null;
-                    }
-                    parserHolder[0] = new GraphQLQueryMapper().apply(elementType);
-                }
-                return parserHolder[0];
-            };
-
-            for (Map.Entry<String, Object> entry : argMap.entrySet()) {
-                FilterCondition condition = FilterCondition.fromLabel(entry.getKey());
-                Object value = entry.getValue();
-
-                if (condition == null) {
-                    // Backward compatibility: treat as element property (like 'contains')
-                    backwardCompatFields.put(entry.getKey(), value);
-                    continue;
-                }
-
-                switch (condition) {
-                    case CONTAINS:
-                        // Single element filter: nodes.name = 'X'
-                        if (value instanceof Map) {
-                            GraphQLQueryParser parser = getElementParser.get();
-                            if (parser != null) {
-                                arrayOpStreams.add(parser.apply(value).stream().map(f -> {
-                                    f.setAttribute(attribute + "." + f.getAttribute());
-                                    return f;
-                                }));
-                            }
-                        }
-                        break;
-
-                    case CONTAINS_ALL:
-                        // All elements must match: AND(nodes.name = 'X', nodes.name = 'Y')
-                        if (value instanceof List) {
-                            GraphQLQueryParser parser = getElementParser.get();
-                            if (parser != null) {
-                                List<AttributeFilter<?>> allFilters = ((List<?>) value).stream()
-                                        .flatMap(elem -> {
-                                            if (elem instanceof Map) {
-                                                return parser.apply(elem).stream().map(f -> {
-                                                    f.setAttribute(attribute + "." + f.getAttribute());
-                                                    return f;
-                                                });
-                                            }
-                                            return Stream.empty();
-                                        })
-                                        .collect(toList());
-                                if (!allFilters.isEmpty()) {
-                                    arrayOpStreams.add(Stream.of(and(allFilters)));
-                                }
-                            }
-                        }
-                        break;
-
-                    case CONTAINS_ANY:
-                        // Any element matches: OR(nodes.name = 'X', nodes.name = 'Y')
-                        if (value instanceof List) {
-                            GraphQLQueryParser parser = getElementParser.get();
-                            if (parser != null) {
-                                List<AttributeFilter<?>> anyFilters = ((List<?>) value).stream()
-                                        .flatMap(elem -> {
-                                            if (elem instanceof Map) {
-                                                return parser.apply(elem).stream().map(f -> {
-                                                    f.setAttribute(attribute + "." + f.getAttribute());
-                                                    return f;
-                                                });
-                                            }
-                                            return Stream.empty();
-                                        })
-                                        .collect(toList());
-                                if (!anyFilters.isEmpty()) {
-                                    arrayOpStreams.add(Stream.of(or(anyFilters)));
-                                }
-                            }
-                        }
-                        break;
+        // The element parser is built with the array argument parser and shared by all the queries
+        GraphQLQueryParser elementParser = elementParser(arrayArgType);
+        return argument -> mapArrayArgument(attribute, elementParser, (Map<String, Object>) argument);
+    }
 
-                    case IS_NULL:
-                        // Check if array is null or empty
-                        if (value instanceof Boolean) {
-                            arrayOpStreams.add(Stream.of(Boolean.TRUE.equals(value) ? isNull(attribute) : notNull(attribute)));
+    private GraphQLQueryParser elementParser(GraphQLInputObjectType arrayArgType) {
+        GraphQLInputType containsFieldType = arrayArgType.getField("contains") != null ? arrayArgType.getField("contains").getType() : null;
+        if (containsFieldType == null) {
+            LOGGER.warn("Array argument type {} does not have a 'contains' field required for element operations", arrayArgType.getName());
+            return null;
+        }
+        GraphQLType unwrappedType = unwrapNonNull(containsFieldType);
+        if (!(unwrappedType instanceof GraphQLInputObjectType elementType)) {
+            LOGGER.warn("Contains field type is not an input object type: {}", simplePrint(unwrappedType));
+            return null;
+        }
+        return new GraphQLQueryMapper().apply(elementType);
+    }
+
+    private Stream<AttributeFilter<?>> mapArrayArgument(String attribute, GraphQLQueryParser elementParser, Map<String, Object> argMap) {
+        // Separate array operations from backward-compatible fields
+        Map<String, Object> backwardCompatFields = new java.util.HashMap<>();
+        List<Stream<AttributeFilter<?>>> arrayOpStreams = new java.util.ArrayList<>();
+
+        for (Map.Entry<String, Object> entry : argMap.entrySet()) {
+            FilterCondition condition = FilterCondition.fromLabel(entry.getKey());
+            Object value = entry.getValue();
+
+            if (condition == null) {
+                // Backward compatibility: treat as element property (like 'contains')
+                backwardCompatFields.put(entry.getKey(), value);
+                continue;
+            }
+
+            switch (condition) {
+                case CONTAINS:
+                    // Single element filter: nodes.name = 'X'
+                    if (value instanceof Map) {
+                        if (elementParser != null) {
+                            arrayOpStreams.add(elementParser.apply(value).stream().map(f -> {
+                                f.setAttribute(attribute + "." + f.getAttribute());
+                                return f;
+                            }));
                         }
-                        break;
+                    }
+                    break;
 
-                    case AND:
-                        // Recursively process AND conditions
-                        if (value instanceof List) {
-                            List<AttributeFilter<?>> andFilters = ((List<?>) value).stream()
+                case CONTAINS_ALL:
+                    // All elements must match: AND(nodes.name = 'X', nodes.name = 'Y')
+                    if (value instanceof List) {
+                        if (elementParser != null) {
+                            List<AttributeFilter<?>> allFilters = ((List<?>) value).stream()
                                     .flatMap(elem -> {
                                         if (elem instanceof Map) {
-                                            return mapArrayArgument(attribute, arrayArgType).apply(elem);
+                                            return elementParser.apply(elem).stream().map(f -> {
+                                                f.setAttribute(attribute + "." + f.getAttribute());
+                                                return f;
+                                            });
                                         }
                                         return Stream.empty();
                                     })
                                     .collect(toList());
-                            if (!andFilters.isEmpty()) {
-                                arrayOpStreams.add(Stream.of(and(andFilters)));
+                            if (!allFilters.isEmpty()) {
+                                arrayOpStreams.add(Stream.of(and(allFilters)));
                             }
                         }
-                        break;
+                    }
+                    break;
 
-                    case OR:
-                        // Recursively process OR conditions
-                        if (value instanceof List) {
-                            List<AttributeFilter<?>> orFilters = ((List<?>) value).stream()
+                case CONTAINS_ANY:
+                    // Any element matches: OR(nodes.name = 'X', nodes.name = 'Y')
+                    if (value instanceof List) {
+                        if (elementParser != null) {
+                            List<AttributeFilter<?>> anyFilters = ((List<?>) value).stream()
                                     .flatMap(elem -> {
                                         if (elem instanceof Map) {
-                                            return mapArrayArgument(attribute, arrayArgType).apply(elem);
+                                            return elementParser.apply(elem).stream().map(f -> {
+                                                f.setAttribute(attribute + "." + f.getAttribute());
+                                                return f;
+                                            });
                                         }
                                         return Stream.empty();
                                     })
                                     .collect(toList());
-                            if (!orFilters.isEmpty()) {
-                                arrayOpStreams.add(Stream.of(or(orFilters)));
+                            if (!anyFilters.isEmpty()) {
+                                arrayOpStreams.add(Stream.of(or(anyFilters)));
                             }
                         }
-                        break;
-
-                    case NOT:
-                        // Recursively process NOT condition
-                        if (value instanceof Map) {
-                            List<AttributeFilter<?>> notFilters = mapArrayArgument(attribute, arrayArgType).apply(value).collect(toList());
-                            if (notFilters.size() == 1) {
-                                // Single filter: apply NOT directly
-                                arrayOpStreams.add(Stream.of(not(notFilters.get(0))));
-                            } else if (notFilters.size() > 1) {
-                                // Multiple filters: combine with AND, then apply NOT
-                                arrayOpStreams.add(Stream.of(not(and(notFilters))));
-                            }
+                    }
+                    break;
+
+                case IS_NULL:
+                    // Check if array is null or empty
+                    if (value instanceof Boolean) {
+                        arrayOpStreams.add(Stream.of(Boolean.TRUE.equals(value) ? isNull(attribute) : notNull(attribute)));
+                    }
+                    break;
+
+                case AND:
+                    // Recursively process AND conditions
+                    if (value instanceof List) {
+                        List<AttributeFilter<?>> andFilters = ((List<?>) value).stream()
+                                .flatMap(elem -> {
+                                    if (elem instanceof Map) {
+                                        return mapArrayArgument(attribute, elementParser, (Map<String, Object>) elem);
+                                    }
+                                    return Stream.empty();
+                                })
+                                .collect(toList());
+                        if (!andFilters.isEmpty()) {
+                            arrayOpStreams.add(Stream.of(and(andFilters)));
                         }
-                        break;
+                    }
+                    break;
 
-                    default:
-                        // Unknown condition - ignore
-                        break;
-                }
+                case OR:
+                    // Recursively process OR conditions
+                    if (value instanceof List) {
+                        List<AttributeFilter<?>> orFilters = ((List<?>) value).stream()
+                                .flatMap(elem -> {
+                                    if (elem instanceof Map) {
+                                        return mapArrayArgument(attribute, elementParser, (Map<String, Object>) elem);
+                                    }
+                                    return Stream.empty();
+                                })
+                                .collect(toList());
+                        if (!orFilters.isEmpty()) {
+                            arrayOpStreams.add(Stream.of(or(orFilters)));
+                        }
+                    }
+                    break;
+
+                case NOT:
+                    // Recursively process NOT condition
+                    if (value instanceof Map) {
+                        List<AttributeFilter<?>> notFilters = mapArrayArgument(attribute, elementParser, (Map<String, Object>) value).collect(toList());
+                        if (notFilters.size() == 1) {
+                            // Single filter: apply NOT directly
+                            arrayOpStreams.add(Stream.of(not(notFilters.get(0))));
+                        } else if (notFilters.size() > 1) {
+                            // Multiple filters: combine with AND, then apply NOT
+                            arrayOpStreams.add(Stream.of(not(and(notFilters))));
+                        }
+                    }
+                    break;
+
+                default:
+                    // Unknown condition - ignore
+                    break;
             }
+        }
 
-            // Process backward-compatible fields as 'contains'
-            if (!backwardCompatFields.isEmpty()) {
-                GraphQLQueryParser parser = getElementParser.get();
-                if (parser != null) {
-                    arrayOpStreams.add(parser.apply(backwardCompatFields).stream().map(f -> {
-                        f.setAttribute(attribute + "." + f.getAttribute());
-                        return f;
-                    }));
-                }
+        // Process backward-compatible fields as 'contains'
+        if (!backwardCompatFields.isEmpty()) {
+            if (elementParser != null) {
+                arrayOpStreams.add(elementParser.apply(backwardCompatFields).stream().map(f -> {
+                    f.setAttribute(attribute + "." + f.getAttribute());
+                    return f;
+                }));
             }
+        }
 
-            // Combine all streams
-            return arrayOpStreams.stream().flatMap(s -> s);
-        };
+        // Combine all streams
+        return arrayOpStreams.stream().flatMap(s -> s);
     }
 
     private Function<Object, Stream<AttributeFilter<?>>> mapIdArgument(String attribute) {
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql.query;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.kie.kogito.index.DateTimeUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Opaque cursor of the keyset pagination, holding the values of the sort attributes in the last row of a page.
+ */
+public final class QueryCursor {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte DATE_TIME = 6;
+
+    private static final Map<Class<?>, Map<String, PropertyDescriptor>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private QueryCursor() {
+    }
+
+    public static boolean isSupported(Object value) {
+        return value == null || value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Double
+                || value instanceof ZonedDateTime;
+    }
+
+    public static String encode(List<?> values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(values.size());
+            for (Object value : values) {
+                if (value == null) {
+                    out.writeByte(NULL);
+                } else if (value instanceof String) {
+                    out.writeByte(STRING);
+                    out.writeUTF((String) value);
+                } else if (value instanceof Boolean) {
+                    out.writeByte(BOOLEAN);
+                    out.writeBoolean((Boolean) value);
+                } else if (value instanceof Integer) {
+                    out.writeByte(INTEGER);
+                    out.writeInt((Integer) value);
+                } else if (value instanceof Long) {
+                    out.writeByte(LONG);
+                    out.writeLong((Long) value);
+                } else if (value instanceof Double) {
+                    out.writeByte(DOUBLE);
+                    out.writeDouble((Double) value);
+                } else if (value instanceof ZonedDateTime) {
+                    out.writeByte(DATE_TIME);
+                    out.writeUTF(DateTimeUtils.formatZonedDateTime((ZonedDateTime) value));
+                } else {
+                    throw new IllegalArgumentException("Unsupported cursor value of type " + value.getClass().getName());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public static List<Object> decode(String cursor) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            int size = in.readUnsignedShort();
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                byte type = in.readByte();
+                switch (type) {
+                    case NULL:
+                        values.add(null);
+                        break;
+                    case STRING:
+                        values.add(in.readUTF());
+                        break;
+                    case BOOLEAN:
+                        values.add(in.readBoolean());
+                        break;
+                    case INTEGER:
+                        values.add(in.readInt());
+                        break;
+                    case LONG:
+                        values.add(in.readLong());
+                        break;
+                    case DOUBLE:
+                        values.add(in.readDouble());
+                        break;
+                    case DATE_TIME:
+                        values.add(DateTimeUtils.parseZonedDateTime(in.readUTF()));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Invalid cursor " + cursor);
+                }
+            }
+            return values;
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+
+    /**
+     * Reads the value of a sort attribute, which might be a path of nested attributes, from a query result.
+     */
+    public static Object readAttribute(Object row, String attribute) {
+        Object value = row;
+        for (String name : attribute.split("\\.")) {
+            if (value == null) {
+                return null;
+            }
+            value = value instanceof JsonNode ? ((JsonNode) value).get(name) : readProperty(value, name);
+        }
+        return value instanceof JsonNode ? fromJson((JsonNode) value) : value;
+    }
+
+    private static Object readProperty(Object value, String name) {
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).get(name);
+        }
+        PropertyDescriptor property = PROPERTIES.computeIfAbsent(value.getClass(), QueryCursor::getProperties).get(name);
+        if (property == null || property.getReadMethod() == null) {
+            throw new IllegalArgumentException("Unknown attribute " + name + " of " + value.getClass().getName());
+        }
+        try {
+            return property.getReadMethod().invoke(value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to read attribute " + name + " of " + value.getClass().getName(), e);
+        }
+    }
+
+    private static Map<String, PropertyDescriptor> getProperties(Class<?> type) {
+        try {
+            return Arrays.stream(Introspector.getBeanInfo(type).getPropertyDescriptors()).collect(toMap(PropertyDescriptor::getName, Function.identity()));
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException("Unable to introspect " + type.getName(), e);
+        }
+    }
+
+    private static Object fromJson(JsonNode node) {
+        if (node.isNull() || node.isMissingNode()) {
+            return null;
+        } else if (node.isTextual()) {
+            return node.textValue();
+        } else if (node.isBoolean()) {
+            return node.booleanValue();
+        } else if (node.isInt()) {
+            return node.intValue();
+        } else if (node.isIntegralNumber()) {
+            return node.longValue();
+        } else if (node.isNumber()) {
+            return node.doubleValue();
+        }
+        return node;
+    }
+}
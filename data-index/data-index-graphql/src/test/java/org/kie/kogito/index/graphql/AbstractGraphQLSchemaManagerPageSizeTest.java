@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.service.DataIndexServiceException;
+import org.kie.kogito.index.storage.DataIndexStorageService;
+import org.kie.kogito.persistence.api.StorageFetcher;
+import org.kie.kogito.persistence.api.query.Query;
+
+import graphql.execution.MergedField;
+import graphql.language.Field;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AbstractGraphQLSchemaManagerPageSizeTest {
+
+    List<String> rejected = new ArrayList<>();
+
+    GraphQLQueryMetrics metrics = new GraphQLQueryMetrics() {
+        @Override
+        public void rejected(String reason) {
+            rejected.add(reason);
+        }
+
+        @Override
+        public void aborted(String reason) {
+        }
+    };
+
+    AbstractGraphQLSchemaManager schemaManager;
+    StorageFetcher<String, ProcessInstance> storage;
+    Query<ProcessInstance> query;
+    DataFetchingEnvironment env;
+
+    @BeforeEach
+    void setup() {
+        schemaManager = new AbstractGraphQLSchemaManager(mock(DataIndexStorageService.class), null, null) {
+            @Override
+            public GraphQLSchema createSchema() {
+                return null;
+            }
+        };
+        storage = mock(StorageFetcher.class);
+        query = mock(Query.class);
+        when(storage.query()).thenReturn(query);
+        when(query.execute()).thenReturn(List.of());
+        env = mock(DataFetchingEnvironment.class);
+        when(env.getFieldDefinition()).thenReturn(mock(GraphQLFieldDefinition.class));
+        when(env.getMergedField()).thenReturn(MergedField.newMergedField(Field.newField("ProcessInstances").build()).build());
+        lenient().when(env.getFieldType()).thenReturn(GraphQLList.list(GraphQLObjectType.newObject().name("ProcessInstance").build()));
+    }
+
+    @Test
+    void testNoPageSizeLimits() {
+        schemaManager.executePagedQueryForCache(storage, env);
+
+        verify(query, never()).limit(anyInt());
+    }
+
+    @Test
+    void testDefaultPageSize() {
+        schemaManager.setQueryLimits(new GraphQLQueryLimits(0, 0, 10, 100, 0), metrics);
+
+        schemaManager.executePagedQueryForCache(storage, env);
+
+        verify(query).limit(10);
+        verify(query).sort(any());
+    }
+
+    @Test
+    void testPageSizeWithinMaximum() {
+        schemaManager.setQueryLimits(new GraphQLQueryLimits(0, 0, 10, 100, 0), metrics);
+        when(env.getArgument("pagination")).thenReturn(Map.of("limit", 100));
+
+        schemaManager.executePagedQueryForCache(storage, env);
+
+        verify(query).limit(100);
+        assertThat(rejected).isEmpty();
+    }
+
+    @Test
+    void testPageSizeExceedingMaximum() {
+        schemaManager.setQueryLimits(new GraphQLQueryLimits(0, 0, 10, 100, 0), metrics);
+        when(env.getArgument("pagination")).thenReturn(Map.of("limit", 101));
+
+        assertThatThrownBy(() -> schemaManager.executePagedQueryForCache(storage, env))
+                .isInstanceOf(DataIndexServiceException.class)
+                .hasMessageContaining("maximum page size 100");
+
+        verify(query, never()).execute();
+        assertThat(rejected).containsExactly(GraphQLQueryMetrics.PAGE_SIZE);
+    }
+}
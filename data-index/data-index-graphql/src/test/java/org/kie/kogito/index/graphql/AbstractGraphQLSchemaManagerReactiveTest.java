@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.storage.DataIndexStorageService;
+import org.kie.kogito.persistence.api.ReactiveStorageFetcher;
+import org.kie.kogito.persistence.api.StorageFetcher;
+import org.kie.kogito.persistence.api.query.ReactiveQuery;
+
+import graphql.execution.DataFetcherResult;
+import graphql.execution.MergedField;
+import graphql.language.Field;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLSchema;
+import io.smallrye.mutiny.Uni;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AbstractGraphQLSchemaManagerReactiveTest {
+
+    private static final String DRIVER_THREAD = "driver";
+
+    AbstractGraphQLSchemaManager schemaManager;
+    StorageFetcher<String, ProcessInstance> storage;
+    DataFetchingEnvironment env;
+    ExecutorService driver;
+    CountDownLatch released;
+
+    @BeforeEach
+    void setup() {
+        schemaManager = new AbstractGraphQLSchemaManager(mock(DataIndexStorageService.class), null, null) {
+            @Override
+            public GraphQLSchema createSchema() {
+                return null;
+            }
+        };
+        driver = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, DRIVER_THREAD));
+        released = new CountDownLatch(1);
+        // emulates a driver completing the query on its own thread
+        ReactiveQuery<ProcessInstance> query = mock(ReactiveQuery.class);
+        when(query.execute()).thenReturn(Uni.createFrom().emitter(emitter -> driver.execute(() -> {
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            emitter.complete(List.of());
+        })));
+        ReactiveStorageFetcher<String, ProcessInstance> reactive = mock(ReactiveStorageFetcher.class);
+        when(reactive.query()).thenReturn(query);
+        storage = mock(StorageFetcher.class);
+        doReturn(Optional.of(reactive)).when(storage).reactive();
+        env = mock(DataFetchingEnvironment.class);
+        when(env.getFieldDefinition()).thenReturn(mock(GraphQLFieldDefinition.class));
+        when(env.getMergedField()).thenReturn(MergedField.newMergedField(Field.newField("ProcessInstances").build()).build());
+    }
+
+    @AfterEach
+    void close() {
+        driver.shutdownNow();
+    }
+
+    @Test
+    void testPagedQueryCompletesOutOfTheDriverThread() throws Exception {
+        CompletableFuture<DataFetcherResult<List<ProcessInstance>>> result = schemaManager.executePagedQueryForCacheAsync(storage, env);
+        CompletableFuture<String> completingThread = result.thenApply(page -> Thread.currentThread().getName());
+        released.countDown();
+
+        assertThat(result.get(5, TimeUnit.SECONDS).getData()).isEmpty();
+        assertThat(completingThread.get(5, TimeUnit.SECONDS)).isNotEqualTo(DRIVER_THREAD);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.index.graphql.GraphQLDocumentCache.PERSISTED_QUERY;
+import static org.kie.kogito.index.graphql.GraphQLDocumentCache.SHA_256_HASH;
+import static org.kie.kogito.index.graphql.GraphQLDocumentCache.sha256;
+import static org.mockito.Mockito.mock;
+
+class GraphQLDocumentCacheTest {
+
+    private static final String QUERY = "{ ProcessInstances { id } }";
+
+    GraphQLSchema schema = mock(GraphQLSchema.class);
+    AtomicInteger parsed = new AtomicInteger();
+    Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate = input -> {
+        parsed.incrementAndGet();
+        return new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+    };
+    GraphQLDocumentCache cache;
+
+    @BeforeEach
+    void setup() {
+        cache = new GraphQLDocumentCache(() -> schema, 2);
+    }
+
+    @Test
+    void testQueryIsParsedOnce() {
+        PreparsedDocumentEntry first = cache.lookup(input(QUERY, null), parseAndValidate);
+        PreparsedDocumentEntry second = cache.lookup(input(QUERY, null), parseAndValidate);
+
+        assertThat(second).isSameAs(first);
+        assertThat(parsed).hasValue(1);
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        cache.lookup(input("{ a }", null), parseAndValidate);
+        cache.lookup(input("{ b }", null), parseAndValidate);
+        cache.lookup(input("{ a }", null), parseAndValidate);
+        cache.lookup(input("{ c }", null), parseAndValidate);
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.lookup(input("{ a }", null), parseAndValidate);
+        assertThat(parsed).hasValue(3);
+        cache.lookup(input("{ b }", null), parseAndValidate);
+        assertThat(parsed).hasValue(4);
+    }
+
+    @Test
+    void testSchemaChangeClearsCache() {
+        cache.lookup(input(QUERY, null), parseAndValidate);
+        schema = mock(GraphQLSchema.class);
+        cache.lookup(input(QUERY, null), parseAndValidate);
+
+        assertThat(parsed).hasValue(2);
+    }
+
+    @Test
+    void testErrorsAreNotCached() {
+        Function<ExecutionInput, PreparsedDocumentEntry> failing = input -> {
+            parsed.incrementAndGet();
+            return new PreparsedDocumentEntry(new PersistedQueryNotFound("test"));
+        };
+        cache.lookup(input(QUERY, null), failing);
+        cache.lookup(input(QUERY, null), failing);
+
+        assertThat(parsed).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testPersistedQuery() {
+        String hash = sha256(QUERY);
+
+        PreparsedDocumentEntry notFound = cache.lookup(input(PersistedQuerySupport.PERSISTED_QUERY_MARKER, hash), parseAndValidate);
+        assertThat(notFound.getErrors()).singleElement().isInstanceOf(PersistedQueryNotFound.class);
+
+        PreparsedDocumentEntry registered = cache.lookup(input(QUERY, hash), parseAndValidate);
+        assertThat(registered.hasErrors()).isFalse();
+
+        PreparsedDocumentEntry found = cache.lookup(input(PersistedQuerySupport.PERSISTED_QUERY_MARKER, hash), parseAndValidate);
+        assertThat(found).isSameAs(registered);
+        assertThat(parsed).hasValue(1);
+    }
+
+    @Test
+    void testPersistedQueryWithWrongHash() {
+        PreparsedDocumentEntry entry = cache.lookup(input(QUERY, sha256("{ other }")), parseAndValidate);
+
+        assertThat(entry.getErrors()).singleElement().isInstanceOf(PersistedQueryIdInvalid.class);
+        assertThat(parsed).hasValue(0);
+    }
+
+    private static ExecutionInput input(String query, String hash) {
+        ExecutionInput.Builder builder = ExecutionInput.newExecutionInput().query(query);
+        if (hash != null) {
+            builder.extensions(Map.of(PERSISTED_QUERY, Map.of("version", 1, SHA_256_HASH, hash)));
+        }
+        return builder.build();
+    }
+}
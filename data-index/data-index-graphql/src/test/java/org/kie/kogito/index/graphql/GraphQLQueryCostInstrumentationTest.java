@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphQLQueryCostInstrumentationTest {
+
+    private static final String SCHEMA = "type Query { items(pagination: Pagination): [Item] }\n" +
+            "input Pagination { limit: Int offset: Int }\n" +
+            "type Item { id: String children: [Item] parent: Item }";
+
+    List<String> rejected = new ArrayList<>();
+
+    GraphQLQueryMetrics metrics = new GraphQLQueryMetrics() {
+        @Override
+        public void rejected(String reason) {
+            rejected.add(reason);
+        }
+
+        @Override
+        public void aborted(String reason) {
+        }
+    };
+
+    @Test
+    void testMaxDepth() {
+        GraphQL graphQL = graphQL(new GraphQLQueryLimits(3, 0, 0, 0, 0));
+
+        assertThat(graphQL.execute("{ items { parent { id } } }").getErrors()).isEmpty();
+        assertThat(graphQL.execute("{ items { parent { parent { id } } } }").getErrors()).isNotEmpty();
+        assertThat(rejected).containsExactly(GraphQLQueryMetrics.DEPTH);
+    }
+
+    @Test
+    void testMaxComplexity() {
+        GraphQL graphQL = graphQL(new GraphQLQueryLimits(0, 1000, 0, 0, 0));
+
+        assertThat(graphQL.execute("{ items(pagination: {limit: 10}) { id children { id } } }").getErrors()).isEmpty();
+        assertThat(graphQL.execute("{ items(pagination: {limit: 100}) { id children { id } } }").getErrors()).isNotEmpty();
+        assertThat(graphQL.execute("{ items { id } }").getErrors()).isNotEmpty();
+        assertThat(rejected).containsExactly(GraphQLQueryMetrics.COMPLEXITY, GraphQLQueryMetrics.COMPLEXITY);
+    }
+
+    @Test
+    void testMaxComplexityWithDefaultPageSize() {
+        GraphQL graphQL = graphQL(new GraphQLQueryLimits(0, 1000, 50, 0, 0));
+
+        ExecutionResult result = graphQL.execute("{ items { id } }");
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(rejected).isEmpty();
+    }
+
+    private GraphQL graphQL(GraphQLQueryLimits limits) {
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder.dataFetcher("items", env -> List.of(Map.of("id", "1"))))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+        return GraphQL.newGraphQL(schema).instrumentation(new GraphQLQueryCostInstrumentation(limits, metrics)).build();
+    }
+}
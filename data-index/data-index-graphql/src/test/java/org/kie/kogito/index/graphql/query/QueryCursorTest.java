@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql.query;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.index.model.ProcessInstance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCursorTest {
+
+    @Test
+    void testEncodeDecode() {
+        List<Object> values = Arrays.asList("id", null, true, 1, 2L, 3.5, ZonedDateTime.parse("2024-01-02T03:04:05.678Z"));
+        assertThat(QueryCursor.decode(QueryCursor.encode(values))).isEqualTo(values);
+    }
+
+    @Test
+    void testInvalidCursor() {
+        assertThatThrownBy(() -> QueryCursor.decode("invalid")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QueryCursor.encode(List.of(new Object()))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testReadAttribute() {
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId("pi");
+        pi.setState(1);
+        assertThat(QueryCursor.readAttribute(pi, "id")).isEqualTo("pi");
+        assertThat(QueryCursor.readAttribute(pi, "state")).isEqualTo(1);
+        assertThat(QueryCursor.readAttribute(pi, "end")).isNull();
+
+        ObjectNode json = new ObjectMapper().createObjectNode();
+        json.put("id", "domain").putObject("traveller").put("age", 30).putNull("name");
+        assertThat(QueryCursor.readAttribute(json, "id")).isEqualTo("domain");
+        assertThat(QueryCursor.readAttribute(json, "traveller.age")).isEqualTo(30);
+        assertThat(QueryCursor.readAttribute(json, "traveller.name")).isNull();
+        assertThat(QueryCursor.readAttribute(json, "traveller.missing")).isNull();
+    }
+}
@@ -90,7 +90,7 @@ public class ModelProcessInstanceStorage extends ModelStorageFetcher<String, Pro
                 variableMerger.merge(processInstance, event);
             }
         }
-        processInstances.values().forEach(processInstance -> storage.put(processInstance.getId(), processInstance));
+        storage.putAll(processInstances);
     }
 
     private <T extends ProcessInstanceDataEvent<?>> void index(T event, ProcessInstanceEventMerger merger) {
@@ -18,13 +18,17 @@
  */
 package org.kie.kogito.index.storage;
 
+import java.util.Optional;
 import java.util.function.Function;
 
+import org.kie.kogito.persistence.api.ReactiveStorageFetcher;
 import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.StorageFetcher;
 import org.kie.kogito.persistence.api.query.Query;
+import org.kie.kogito.persistence.api.query.ReactiveQuery;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 public abstract class ModelStorageFetcher<K, V> implements StorageFetcher<K, V> {
 
@@ -63,6 +67,21 @@ public abstract class ModelStorageFetcher<K, V> implements StorageFetcher<K, V>
         return storage.query();
     }
 
+    @Override
+    public Optional<ReactiveStorageFetcher<K, V>> reactive() {
+        return storage.reactive().map(reactiveStorage -> new ReactiveStorageFetcher<K, V>() {
+            @Override
+            public ReactiveQuery<V> query() {
+                return reactiveStorage.query();
+            }
+
+            @Override
+            public Uni<V> get(K key) {
+                return reactiveStorage.get(toString.apply(key));
+            }
+        });
+    }
+
     @Override
     public V get(K key) {
         return storage.get(toString.apply(key));
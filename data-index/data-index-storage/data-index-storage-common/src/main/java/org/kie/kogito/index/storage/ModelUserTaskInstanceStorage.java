@@ -19,6 +19,8 @@
 package org.kie.kogito.index.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.kie.kogito.event.usertask.MultipleUserTaskInstanceDataEvent;
 import org.kie.kogito.event.usertask.UserTaskInstanceAssignmentDataEvent;
@@ -85,24 +87,39 @@ public class ModelUserTaskInstanceStorage extends ModelStorageFetcher<String, Us
 
     @Override
     public void indexGroup(MultipleUserTaskInstanceDataEvent events) {
+        Map<String, UserTaskInstance> taskInstances = new HashMap<>();
         for (UserTaskInstanceDataEvent<?> event : events.getData()) {
-            if (event instanceof UserTaskInstanceAssignmentDataEvent) {
-                index((UserTaskInstanceAssignmentDataEvent) event, assignmentMerger);
-            } else if (event instanceof UserTaskInstanceAttachmentDataEvent) {
-                index((UserTaskInstanceAttachmentDataEvent) event, attachmentMerger);
-            } else if (event instanceof UserTaskInstanceDeadlineDataEvent) {
-                index((UserTaskInstanceDeadlineDataEvent) event, deadlineMerger);
-            } else if (event instanceof UserTaskInstanceStateDataEvent) {
-                index((UserTaskInstanceStateDataEvent) event, stateMerger);
-            } else if (event instanceof UserTaskInstanceCommentDataEvent) {
-                index((UserTaskInstanceCommentDataEvent) event, commentMerger);
-            } else if (event instanceof UserTaskInstanceVariableDataEvent) {
-                index((UserTaskInstanceVariableDataEvent) event, variableMerger);
+            UserTaskInstanceEventMerger merger = getMerger(event);
+            if (merger != null) {
+                UserTaskInstance taskInstance = taskInstances.computeIfAbsent(event.getKogitoUserTaskInstanceId(), k -> findUserTaskInstance(event));
+                taskInstances.put(event.getKogitoUserTaskInstanceId(), merger.merge(taskInstance, event));
             }
         }
+        storage.putAll(taskInstances);
+    }
+
+    private UserTaskInstanceEventMerger getMerger(UserTaskInstanceDataEvent<?> event) {
+        if (event instanceof UserTaskInstanceAssignmentDataEvent) {
+            return assignmentMerger;
+        } else if (event instanceof UserTaskInstanceAttachmentDataEvent) {
+            return attachmentMerger;
+        } else if (event instanceof UserTaskInstanceDeadlineDataEvent) {
+            return deadlineMerger;
+        } else if (event instanceof UserTaskInstanceStateDataEvent) {
+            return stateMerger;
+        } else if (event instanceof UserTaskInstanceCommentDataEvent) {
+            return commentMerger;
+        } else if (event instanceof UserTaskInstanceVariableDataEvent) {
+            return variableMerger;
+        }
+        return null;
     }
 
     private <T extends UserTaskInstanceDataEvent<?>> void index(T event, UserTaskInstanceEventMerger merger) {
+        storage.put(event.getKogitoUserTaskInstanceId(), merger.merge(findUserTaskInstance(event), event));
+    }
+
+    private UserTaskInstance findUserTaskInstance(UserTaskInstanceDataEvent<?> event) {
         UserTaskInstance taskInstance = storage.get(event.getKogitoUserTaskInstanceId());
         if (taskInstance == null) {
             taskInstance = new UserTaskInstance();
@@ -114,6 +131,6 @@ public class ModelUserTaskInstanceStorage extends ModelStorageFetcher<String, Us
             taskInstance.setAttachments(new ArrayList<>());
             taskInstance.setComments(new ArrayList<>());
         }
-        storage.put(event.getKogitoUserTaskInstanceId(), merger.merge(taskInstance, event));
+        return taskInstance;
     }
 }
@@ -18,20 +18,36 @@
  */
 package org.kie.kogito.index.jpa.storage;
 
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.kie.kogito.index.jpa.model.AbstractEntity;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
 import org.kie.kogito.persistence.api.query.AttributeSort;
 import org.kie.kogito.persistence.api.query.FilterCondition;
 import org.kie.kogito.persistence.api.query.Query;
+import org.kie.kogito.persistence.api.query.QueryFilterFactory;
+import org.kie.kogito.persistence.api.query.QueryTimeoutException;
 import org.kie.kogito.persistence.api.query.SortDirection;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
@@ -40,10 +56,14 @@ import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import jakarta.persistence.criteria.Subquery;
 import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 public class JPAQuery<E extends AbstractEntity, T> implements Query<T> {
 
@@ -55,6 +75,13 @@ public class JPAQuery<E extends AbstractEntity, T> implements Query<T> {
     protected final Class<E> entityClass;
     protected final Function<E, T> mapper;
     private Optional<JsonPredicateBuilder> jsonPredicateBuilder;
+    private Set<String> projection;
+    private List<?> after;
+    private Integer timeout;
+
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    private static final Map<Class<?>, Map<String, PropertyDescriptor>> PROPERTIES = new ConcurrentHashMap<>();
 
     public JPAQuery(EntityManager em, Function<E, T> mapper, Class<E> entityClass) {
         this(em, mapper, entityClass, Optional.empty());
@@ -91,29 +118,158 @@ public class JPAQuery<E extends AbstractEntity, T> implements Query<T> {
         return this;
     }
 
+    @Override
+    public Query<T> projection(Set<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
+
+    @Override
+    public Query<T> after(List<?> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
+
+    @Override
+    public Query<T> timeout(Integer timeoutMillis) {
+        this.timeout = timeoutMillis;
+        return this;
+    }
+
     @Override
     public List<T> execute() {
+        Map<Attribute<? super E, ?>, PropertyDescriptor> projected = getProjectedAttributes();
         CriteriaBuilder builder = em.getCriteriaBuilder();
+        if (projected != null && projected.keySet().stream().noneMatch(a -> a.isCollection() || a.isAssociation())) {
+            // only columns of the entity table were requested, so they are selected instead of the entity
+            CriteriaQuery<Tuple> criteriaQuery = builder.createTupleQuery();
+            Root<E> root = criteriaQuery.from(entityClass);
+            criteriaQuery.multiselect(projected.keySet().stream().<Selection<?>> map(a -> root.get(a.getName())).collect(toList()));
+            List<PropertyDescriptor> properties = new ArrayList<>(projected.values());
+            return getResultList(builder, criteriaQuery, root).stream().map(tuple -> {
+                E entity = newEntity();
+                for (int i = 0; i < properties.size(); i++) {
+                    writeProperty(entity, properties.get(i), tuple.get(i));
+                }
+                return entity;
+            }).map(mapper).collect(toList());
+        }
         CriteriaQuery<E> criteriaQuery = builder.createQuery(entityClass);
         Root<E> root = criteriaQuery.from(entityClass);
-
         criteriaQuery.select(root);
-        addWhere(builder, criteriaQuery, root);
+        Stream<E> entities = getResultList(builder, criteriaQuery, root).stream();
+        if (projected != null) {
+            // copying the requested attributes only, the collections and associations not requested are never loaded
+            entities = entities.map(e -> {
+                E entity = newEntity();
+                projected.values().forEach(property -> writeProperty(entity, property, readProperty(e, property)));
+                return entity;
+            });
+        }
+        return entities.map(mapper).collect(toList());
+    }
+
+    private <R> List<R> getResultList(CriteriaBuilder builder, CriteriaQuery<R> criteriaQuery, Root<E> root) {
+        List<AttributeFilter<?>> where = filters == null ? new ArrayList<>() : new ArrayList<>(filters);
+        if (after != null) {
+            // the null values are sorted as the highest ones, see toOrder
+            where.add(QueryFilterFactory.after(sortBy == null ? List.of() : sortBy, after, true));
+        }
+        addWhere(builder, criteriaQuery, root, where);
         if (sortBy != null && !sortBy.isEmpty()) {
-            List<Order> orderBy = sortBy.stream().map(f -> {
-                Path attributePath = getAttributePath(root, f.getAttribute());
-                return f.getSort() == SortDirection.ASC ? builder.asc(attributePath) : builder.desc(attributePath);
-            }).collect(toList());
+            List<Order> orderBy = sortBy.stream().map(f -> toOrder(builder, getAttributePath(root, f.getAttribute()), f.getSort())).collect(toList());
             criteriaQuery.orderBy(orderBy);
         }
-        jakarta.persistence.Query query = em.createQuery(criteriaQuery);
+        TypedQuery<R> query = em.createQuery(criteriaQuery);
         if (limit != null) {
             query.setMaxResults(limit);
         }
         if (offset != null) {
             query.setFirstResult(offset);
         }
-        return (List<T>) query.getResultList().stream().map(mapper).collect(toList());
+        return withTimeout(query, query::getResultList);
+    }
+
+    /**
+     * Sorts the null values as the highest ones, as PostgreSQL does by default, so the order and the keyset pagination
+     * do not depend on the database, H2 for instance sorts them as the lowest ones.
+     */
+    private static Order toOrder(CriteriaBuilder builder, Path<?> attributePath, SortDirection direction) {
+        boolean ascending = direction == SortDirection.ASC;
+        if (builder instanceof HibernateCriteriaBuilder) {
+            HibernateCriteriaBuilder hibernateBuilder = (HibernateCriteriaBuilder) builder;
+            return ascending ? hibernateBuilder.asc(attributePath, false) : hibernateBuilder.desc(attributePath, true);
+        }
+        return ascending ? builder.asc(attributePath) : builder.desc(attributePath);
+    }
+
+    private <R> R withTimeout(jakarta.persistence.Query query, Supplier<R> execution) {
+        if (timeout != null) {
+            query.setHint(QUERY_TIMEOUT_HINT, timeout);
+        }
+        try {
+            return execution.get();
+        } catch (jakarta.persistence.QueryTimeoutException e) {
+            throw new QueryTimeoutException("Query on " + entityClass.getSimpleName() + " exceeded the timeout of " + timeout + " ms", e);
+        }
+    }
+
+    /**
+     * Resolves the projection into the entity attributes, always including the identifier.
+     * 
+     * @return the attributes to fetch, or null if there is no projection or any of the attributes cannot be resolved
+     */
+    private Map<Attribute<? super E, ?>, PropertyDescriptor> getProjectedAttributes() {
+        if (projection == null || projection.isEmpty()) {
+            return null;
+        }
+        EntityType<E> entityType = em.getMetamodel().entity(entityClass);
+        Set<String> names = new LinkedHashSet<>();
+        entityType.getSingularAttributes().stream().filter(SingularAttribute::isId).map(Attribute::getName).forEach(names::add);
+        names.addAll(projection);
+        Map<String, PropertyDescriptor> properties = PROPERTIES.computeIfAbsent(entityClass, JPAQuery::getProperties);
+        Map<Attribute<? super E, ?>, PropertyDescriptor> result = new LinkedHashMap<>();
+        for (String name : names) {
+            Optional<Attribute<? super E, ?>> attribute = entityType.getAttributes().stream().filter(a -> a.getName().equals(name)).findAny();
+            PropertyDescriptor property = properties.get(name);
+            if (attribute.isEmpty() || property == null || property.getReadMethod() == null || property.getWriteMethod() == null) {
+                return null;
+            }
+            result.put(attribute.get(), property);
+        }
+        return result;
+    }
+
+    private static Map<String, PropertyDescriptor> getProperties(Class<?> type) {
+        try {
+            return Arrays.stream(Introspector.getBeanInfo(type).getPropertyDescriptors()).collect(toMap(PropertyDescriptor::getName, Function.identity()));
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException("Unable to introspect entity " + type.getName(), e);
+        }
+    }
+
+    private E newEntity() {
+        try {
+            return entityClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create entity " + entityClass.getName(), e);
+        }
+    }
+
+    private static Object readProperty(Object entity, PropertyDescriptor property) {
+        try {
+            return property.getReadMethod().invoke(entity);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to read property " + property.getName(), e);
+        }
+    }
+
+    private static void writeProperty(Object entity, PropertyDescriptor property, Object value) {
+        try {
+            property.getWriteMethod().invoke(entity, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to write property " + property.getName(), e);
+        }
     }
 
     /**
@@ -359,11 +515,12 @@ public class JPAQuery<E extends AbstractEntity, T> implements Query<T> {
         CriteriaQuery<Long> criteriaQuery = builder.createQuery(Long.class);
         Root<E> root = criteriaQuery.from(entityClass);
         criteriaQuery.select(builder.count(root));
-        addWhere(builder, criteriaQuery, root);
-        return em.createQuery(criteriaQuery).getSingleResult();
+        addWhere(builder, criteriaQuery, root, filters);
+        TypedQuery<Long> query = em.createQuery(criteriaQuery);
+        return withTimeout(query, query::getSingleResult);
     }
 
-    private <V> void addWhere(CriteriaBuilder builder, CriteriaQuery<V> criteriaQuery, Root<E> root) {
+    private <V> void addWhere(CriteriaBuilder builder, CriteriaQuery<V> criteriaQuery, Root<E> root, List<AttributeFilter<?>> filters) {
         if (filters != null && !filters.isEmpty()) {
             criteriaQuery.where(filters.stream().map(filterPredicateFunction(root, builder, criteriaQuery)).toArray(Predicate[]::new));
         }
@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
 
+import org.hibernate.Hibernate;
 import org.kie.kogito.event.process.MultipleProcessInstanceDataEvent;
 import org.kie.kogito.event.process.ProcessInstanceDataEvent;
 import org.kie.kogito.event.process.ProcessInstanceErrorDataEvent;
@@ -42,6 +43,7 @@ import org.kie.kogito.event.process.ProcessInstanceVariableEventBody;
 import org.kie.kogito.index.CommonUtils;
 import org.kie.kogito.index.jpa.mapper.ProcessInstanceEntityMapper;
 import org.kie.kogito.index.jpa.model.MilestoneEntity;
+import org.kie.kogito.index.jpa.model.MilestoneEntityId;
 import org.kie.kogito.index.jpa.model.NodeInstanceEntity;
 import org.kie.kogito.index.jpa.model.ProcessInstanceEntity;
 import org.kie.kogito.index.jpa.model.ProcessInstanceErrorEntity;
@@ -159,33 +161,50 @@ public class ProcessInstanceEntityStorage extends AbstractJPAStorageFetcher<Stri
         errorEntity.setNodeDefinitionId(error.getNodeDefinitionId());
         errorEntity.setNodeInstanceId(error.getNodeInstanceId());
         pi.setState(CommonUtils.ERROR_STATE);
-        pi.getNodes().stream()
-                .filter(n -> n.getId().equals(error.getNodeInstanceId()))
-                .findAny()
+        findNode(pi, error.getNodeInstanceId())
                 .ifPresent(n -> {
                     n.setErrorMessage(error.getErrorMessage());
                     n.setCancelType(CancelType.ERROR);
                 });
     }
 
+    // nodes and milestones are looked up by primary key, so the collections of a long running instance are not loaded to index its events
     private void indexNode(ProcessInstanceEntity pi, ProcessInstanceNodeEventBody data) {
-        pi.getNodes().stream()
-                .filter(n -> n.getId().equals(data.getNodeInstanceId()))
-                .findAny()
+        findNode(pi, data.getNodeInstanceId())
                 .ifPresentOrElse(n -> updateNode(n, data), () -> createNode(pi, data));
         if ("MilestoneNode".equals(data.getNodeType())) {
-            pi.getMilestones().stream()
-                    .filter(n -> n.getId().equals(data.getNodeInstanceId()))
-                    .findAny()
+            findMilestone(pi, data.getNodeInstanceId())
                     .ifPresentOrElse(n -> updateMilestone(n, data), () -> createMilestone(pi, data));
         }
     }
 
+    private Optional<NodeInstanceEntity> findNode(ProcessInstanceEntity pi, String nodeInstanceId) {
+        if (nodeInstanceId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(em.find(NodeInstanceEntity.class, nodeInstanceId))
+                .filter(n -> pi.getId().equals(n.getProcessInstance().getId()));
+    }
+
+    private Optional<MilestoneEntity> findMilestone(ProcessInstanceEntity pi, String milestoneId) {
+        if (milestoneId == null) {
+            return Optional.empty();
+        }
+        MilestoneEntityId id = new MilestoneEntityId();
+        id.setId(milestoneId);
+        id.setProcessInstance(pi.getId());
+        return Optional.ofNullable(em.find(MilestoneEntity.class, id));
+    }
+
     private MilestoneEntity createMilestone(ProcessInstanceEntity pi, ProcessInstanceNodeEventBody data) {
         MilestoneEntity milestone = new MilestoneEntity();
         milestone.setProcessInstance(pi);
-        pi.getMilestones().add(milestone);
-        return updateMilestone(milestone, data);
+        updateMilestone(milestone, data);
+        em.persist(milestone);
+        if (Hibernate.isInitialized(pi.getMilestones())) {
+            pi.getMilestones().add(milestone);
+        }
+        return milestone;
     }
 
     private MilestoneEntity updateMilestone(MilestoneEntity milestone, ProcessInstanceNodeEventBody body) {
@@ -199,7 +218,10 @@ public class ProcessInstanceEntityStorage extends AbstractJPAStorageFetcher<Stri
         NodeInstanceEntity node = new NodeInstanceEntity();
         node.setProcessInstance(pi);
         updateNode(node, data);
-        pi.getNodes().add(node);
+        em.persist(node);
+        if (Hibernate.isInitialized(pi.getNodes())) {
+            pi.getNodes().add(node);
+        }
         return node;
     }
 
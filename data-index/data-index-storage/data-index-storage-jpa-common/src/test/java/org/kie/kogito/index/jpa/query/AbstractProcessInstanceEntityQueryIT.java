@@ -18,7 +18,10 @@
  */
 package org.kie.kogito.index.jpa.query;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -27,8 +30,11 @@ import org.kie.kogito.event.process.ProcessInstanceNodeEventBody;
 import org.kie.kogito.event.process.ProcessInstanceStateDataEvent;
 import org.kie.kogito.index.jpa.storage.ProcessInstanceEntityStorage;
 import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.model.ProcessInstanceState;
 import org.kie.kogito.index.test.TestUtils;
 import org.kie.kogito.index.test.query.AbstractProcessInstanceQueryIT;
+import org.kie.kogito.persistence.api.query.AttributeSort;
+import org.kie.kogito.persistence.api.query.SortDirection;
 
 import jakarta.transaction.Transactional;
 
@@ -58,6 +64,79 @@ public abstract class AbstractProcessInstanceEntityQueryIT extends AbstractProce
         assertThat(storage.query().filter(List.of(in("state", List.of(34)))).count()).isZero();
     }
 
+    @Test
+    @Transactional
+    void testProjection() {
+        String processId = "testProcess_" + UUID.randomUUID().toString();
+        String processInstanceId = UUID.randomUUID().toString();
+        storage.indexState(TestUtils.getProcessCloudEvent(processId, processInstanceId, ACTIVE, null, null, null, "user1"));
+        addNodeToProcessInstance(processInstanceId, "Start", "node1");
+
+        List<ProcessInstance> result = storage.query().filter(List.of(equalTo("processId", processId))).projection(Set.of("state")).execute();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getId()).isEqualTo(processInstanceId);
+        assertThat(result.get(0).getState()).isEqualTo(ACTIVE.ordinal());
+        assertThat(result.get(0).getProcessId()).isNull();
+        assertThat(result.get(0).getNodes()).isNullOrEmpty();
+
+        result = storage.query().filter(List.of(equalTo("processId", processId))).projection(Set.of("processId", "nodes")).execute();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getProcessId()).isEqualTo(processId);
+        assertThat(result.get(0).getNodes()).extracting("name").containsExactly("Start");
+        assertThat(result.get(0).getState()).isNull();
+
+        result = storage.query().filter(List.of(equalTo("processId", processId))).projection(Set.of("unknown")).execute();
+        assertThat(result.get(0).getProcessId()).isEqualTo(processId);
+        assertThat(result.get(0).getState()).isEqualTo(ACTIVE.ordinal());
+    }
+
+    @Test
+    @Transactional
+    void testKeysetPagination() {
+        String processId = "testProcess_" + UUID.randomUUID().toString();
+        for (ProcessInstanceState state : List.of(ACTIVE, COMPLETED, ACTIVE, COMPLETED, ACTIVE)) {
+            storage.indexState(TestUtils.createProcessInstanceEvent(UUID.randomUUID().toString(), processId, null, null, state.ordinal()));
+        }
+        List<AttributeSort> sortBy = List.of(orderBy("state", SortDirection.DESC), orderBy("id", SortDirection.ASC));
+        List<ProcessInstance> all = storage.query().filter(List.of(equalTo("processId", processId))).sort(sortBy).execute();
+        assertThat(all).hasSize(5);
+
+        List<ProcessInstance> pages = new ArrayList<>();
+        List<ProcessInstance> page = storage.query().filter(List.of(equalTo("processId", processId))).sort(sortBy).limit(2).execute();
+        while (!page.isEmpty()) {
+            pages.addAll(page);
+            ProcessInstance last = page.get(page.size() - 1);
+            page = storage.query().filter(List.of(equalTo("processId", processId))).sort(sortBy).limit(2).after(List.of(last.getState(), last.getId())).execute();
+        }
+        assertThat(pages).extracting(ProcessInstance::getId).containsExactlyElementsOf(all.stream().map(ProcessInstance::getId).toList());
+    }
+
+    @Test
+    @Transactional
+    void testKeysetPaginationWithNullSortValues() {
+        String processId = "testProcess_" + UUID.randomUUID().toString();
+        for (String rootProcessInstanceId : Arrays.asList(null, "root1", null, "root2", null)) {
+            storage.indexState(TestUtils.createProcessInstanceEvent(UUID.randomUUID().toString(), processId, rootProcessInstanceId, null, ACTIVE.ordinal()));
+        }
+        for (SortDirection direction : SortDirection.values()) {
+            List<AttributeSort> sortBy = List.of(orderBy("rootProcessInstanceId", direction), orderBy("id", SortDirection.ASC));
+            List<ProcessInstance> all = storage.query().filter(List.of(equalTo("processId", processId))).sort(sortBy).execute();
+            assertThat(all).hasSize(5);
+            // the null values are the highest ones on every database
+            assertThat(all.get(direction == SortDirection.ASC ? 4 : 0).getRootProcessInstanceId()).isNull();
+
+            List<ProcessInstance> pages = new ArrayList<>();
+            List<ProcessInstance> page = storage.query().filter(List.of(equalTo("processId", processId))).sort(sortBy).limit(2).execute();
+            while (!page.isEmpty()) {
+                pages.addAll(page);
+                ProcessInstance last = page.get(page.size() - 1);
+                page = storage.query().filter(List.of(equalTo("processId", processId))).sort(sortBy).limit(2)
+                        .after(Arrays.asList(last.getRootProcessInstanceId(), last.getId())).execute();
+            }
+            assertThat(pages).extracting(ProcessInstance::getId).containsExactlyElementsOf(all.stream().map(ProcessInstance::getId).toList());
+        }
+    }
+
     // ========================================
     // NOT Operator Tests for Collection Operations
     // ========================================
@@ -23,6 +23,7 @@ import java.util.UUID;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.event.process.ProcessInstanceNodeEventBody;
+import org.kie.kogito.index.model.MilestoneStatus;
 import org.kie.kogito.index.model.ProcessInstance;
 import org.kie.kogito.index.model.ProcessInstanceState;
 import org.kie.kogito.index.test.TestUtils;
@@ -34,7 +35,7 @@ public abstract class AbstractProcessInstanceStorageIT {
     private static final String TRAVELER_NAME = "John";
     private static final String TRAVELER_LAST_NAME = "Doe";
 
-    ProcessInstanceEntityStorage storage;
+    protected ProcessInstanceEntityStorage storage;
 
     public AbstractProcessInstanceStorageIT(ProcessInstanceEntityStorage storage) {
         this.storage = storage;
@@ -135,6 +136,39 @@ public abstract class AbstractProcessInstanceStorageIT {
                 .hasFieldOrPropertyWithValue("id", nodeInstanceId);
     }
 
+    @Test
+    @Transactional
+    public void testProcessInstanceMilestoneEvent() {
+        String processInstanceId = createNewProcessInstance();
+        String nodeDefinitionId = UUID.randomUUID().toString();
+        String nodeInstanceId = UUID.randomUUID().toString();
+
+        storage.indexNode(TestUtils.createProcessInstanceNodeDataEvent(processInstanceId, PROCESS_ID, nodeDefinitionId, nodeInstanceId, "milestone", "MilestoneNode",
+                ProcessInstanceNodeEventBody.EVENT_TYPE_ENTER));
+
+        ProcessInstance processInstance = storage.get(processInstanceId);
+
+        Assertions.assertThat(processInstance.getMilestones())
+                .hasSize(1);
+        Assertions.assertThat(processInstance.getMilestones().get(0))
+                .hasFieldOrPropertyWithValue("id", nodeInstanceId)
+                .hasFieldOrPropertyWithValue("name", "milestone")
+                .hasFieldOrPropertyWithValue("status", MilestoneStatus.ACTIVE.name());
+
+        storage.indexNode(TestUtils.createProcessInstanceNodeDataEvent(processInstanceId, PROCESS_ID, nodeDefinitionId, nodeInstanceId, "milestone", "MilestoneNode",
+                ProcessInstanceNodeEventBody.EVENT_TYPE_EXIT));
+
+        processInstance = storage.get(processInstanceId);
+
+        Assertions.assertThat(processInstance.getNodes())
+                .hasSize(1);
+        Assertions.assertThat(processInstance.getMilestones())
+                .hasSize(1);
+        Assertions.assertThat(processInstance.getMilestones().get(0))
+                .hasFieldOrPropertyWithValue("id", nodeInstanceId)
+                .hasFieldOrPropertyWithValue("status", MilestoneStatus.COMPLETED.name());
+    }
+
     @Test
     @Transactional
     public void testProcessInstanceVariableEvent() {
@@ -49,6 +49,40 @@ public interface JobSchedulerBuilder {
 
     JobSchedulerBuilder withMaxRefreshJobsIntervalWindow(Long maxRefreshsJobsIntervalWindow);
 
+    /**
+     * Interval between two full reloads of the active jobs from the job store. The refreshes in between only load
+     * the jobs changed since the previous refresh.
+     *
+     * @param fullRefreshJobsInterval interval in milliseconds, never lower than the refresh jobs interval
+     */
+    JobSchedulerBuilder withFullRefreshJobsInterval(Long fullRefreshJobsInterval);
+
+    /**
+     * Longest time a transaction writing jobs may take to commit. The last update of a job is set before the commit,
+     * so the incremental refreshes load the jobs changed since the previous refresh minus this time, not to miss the
+     * jobs committed late.
+     *
+     * @param maxTransactionTime time in milliseconds
+     */
+    JobSchedulerBuilder withMaxTransactionTime(Long maxTransactionTime);
+
+    /**
+     * Maximum number of due jobs claimed from the job store in a single statement when timers expire. Timers expiring
+     * together are then claimed and loaded at once instead of one job at a time. Only used when the job store
+     * supports it, a value of zero disables it.
+     *
+     * @param claimBatchSize maximum number of jobs claimed at once
+     */
+    JobSchedulerBuilder withClaimBatchSize(Integer claimBatchSize);
+
+    /**
+     * Time after which a job claimed but never completed, for instance because the node stopped, is claimed again.
+     * It must be greater than the longest job execution.
+     *
+     * @param claimTimeout timeout in milliseconds
+     */
+    JobSchedulerBuilder withClaimTimeout(Long claimTimeout);
+
     JobSchedulerBuilder withJobSchedulerListeners(JobSchedulerListener... jobSchedulerListeners);
 
     JobSchedulerBuilder withRetryInterval(Long retryInterval);
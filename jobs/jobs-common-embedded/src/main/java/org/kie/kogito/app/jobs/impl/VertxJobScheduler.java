@@ -26,10 +26,14 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.kie.kogito.app.jobs.api.JobDescriptionMerger;
 import org.kie.kogito.app.jobs.api.JobDetailsEventAdapter;
@@ -79,6 +83,8 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
 
     private static Logger LOG = LoggerFactory.getLogger(VertxJobScheduler.class);
 
+    private static final Set<JobStatus> ACTIVE_STATUSES = EnumSet.of(JobStatus.SCHEDULED, JobStatus.RETRY);
+
     private Integer maxNumberOfRetries;
 
     private Long refreshJobsInterval;
@@ -109,8 +115,24 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
 
     private Long maxRefreshJobsIntervalWindow;
 
+    private Long fullRefreshJobsInterval;
+
+    private Long maxTransactionTime;
+
+    private OffsetDateTime lastSyncTime;
+
+    private OffsetDateTime lastSyncMaxWindow;
+
+    private OffsetDateTime lastFullSyncTime;
+
     private Long retryInterval;
 
+    private Integer claimBatchSize;
+
+    private Long claimTimeout;
+
+    private final AtomicBoolean claimRequested = new AtomicBoolean(false);
+
     public Integer numberOfWorkerThreads;
 
     private JobSynchronization jobSynchronization;
@@ -151,6 +173,30 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
             return this;
         }
 
+        @Override
+        public JobSchedulerBuilder withFullRefreshJobsInterval(Long fullRefreshJobsInterval) {
+            VertxJobScheduler.this.fullRefreshJobsInterval = fullRefreshJobsInterval;
+            return this;
+        }
+
+        @Override
+        public JobSchedulerBuilder withMaxTransactionTime(Long maxTransactionTime) {
+            VertxJobScheduler.this.maxTransactionTime = maxTransactionTime;
+            return this;
+        }
+
+        @Override
+        public JobSchedulerBuilder withClaimBatchSize(Integer claimBatchSize) {
+            VertxJobScheduler.this.claimBatchSize = claimBatchSize;
+            return this;
+        }
+
+        @Override
+        public JobSchedulerBuilder withClaimTimeout(Long claimTimeout) {
+            VertxJobScheduler.this.claimTimeout = claimTimeout;
+            return this;
+        }
+
         @Override
         public JobSchedulerBuilder withMaxNumberOfRetries(Integer maxNumberOfRetries) {
             VertxJobScheduler.this.maxNumberOfRetries = maxNumberOfRetries;
@@ -252,6 +298,10 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
         this.refreshJobsInterval = 1000L;
         this.retryInterval = 10 * 1000L; // ten seconds
         this.maxRefreshJobsIntervalWindow = 5 * 60 * 1000L; // every 5 minute
+        this.fullRefreshJobsInterval = 60 * 60 * 1000L; // every hour
+        this.maxTransactionTime = 5 * 60 * 1000L; // five minutes
+        this.claimBatchSize = 0; // disabled
+        this.claimTimeout = 10 * 60 * 1000L; // ten minutes
         this.transactionRollbackMarker = new NoOpTransactionRollbackMarker();
     }
 
@@ -271,57 +321,100 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
     }
 
     private void syncWithJobStores() {
-        ZonedDateTime maxWindowLoad = DateUtil.now().plus(Duration.ofMillis(maxRefreshJobsIntervalWindow));
-        OffsetDateTime maxWindow = maxWindowLoad.toOffsetDateTime();
-        LOG.debug("Syncing jobs with job store till {}", maxWindow);
+        ZonedDateTime now = DateUtil.now();
+        OffsetDateTime syncTime = now.toOffsetDateTime();
+        OffsetDateTime maxWindow = now.plus(Duration.ofMillis(maxRefreshJobsIntervalWindow)).toOffsetDateTime();
         JobContext jobContext = jobContextFactory.newContext();
+        if (!jobStore.supportsIncrementalLoad() || lastFullSyncTime == null || ChronoUnit.MILLIS.between(lastFullSyncTime, syncTime) >= fullRefreshJobsInterval) {
+            fullSyncWithJobStores(jobContext, maxWindow);
+            lastFullSyncTime = syncTime;
+        } else {
+            incrementalSyncWithJobStores(jobContext, maxWindow);
+        }
+        lastSyncTime = syncTime;
+        lastSyncMaxWindow = maxWindow;
+    }
+
+    private void fullSyncWithJobStores(JobContext jobContext, OffsetDateTime maxWindow) {
+        LOG.debug("Syncing all jobs with job store till {}", maxWindow);
         List<JobDetails> jobDetailsList = jobStore.loadActiveJobs(jobContext, maxWindow);
 
         // this cover scenarios where the database jobs are already stored
+        Set<String> databaseJobKeys = new HashSet<>();
         for (JobDetails currentJobDetails : jobDetailsList) {
-            String mapKey = getMapKey(currentJobDetails);
-            jobsScheduled.compute(mapKey, (key, timerInfo) -> {
-                if (timerInfo == null) {
-                    // we schedule this (no need to trigger an event as it was already trigger during scheduling)
-                    // this is new job loaded by this instance
-                    LOG.trace("sync job new job {}", currentJobDetails);
-                    return addTimerInfo(currentJobDetails);
-                }
+            databaseJobKeys.add(syncJob(currentJobDetails, maxWindow));
+        }
 
-                // there is timer and changed but we check the timeout is after. we remove it.
-                // as it is not in this window
-                if (DateUtil.dateToOffsetDateTime(timerInfo.timeout()).isAfter(maxWindow)) {
-                    LOG.trace("sync job removed job {}", currentJobDetails);
-                    // we remove it
-                    removeTimerInfo(timerInfo);
-                    return null;
-                }
+        // the ones left are the ones we need to be removed as they are not in database or active anymore
+        for (String keyToBeRemoved : jobsScheduled.keySet()) {
+            if (!databaseJobKeys.contains(keyToBeRemoved)) {
+                unsyncJob(keyToBeRemoved);
+            }
+        }
+    }
 
-                if (DateUtil.dateToOffsetDateTime(timerInfo.timeout()).isBefore(maxWindow) && !timerInfo.timeout().equals(currentJobDetails.getTrigger().hasNextFireTime())) {
-                    // timeout has changed and it is in our window. we should reschedule
-                    LOG.trace("sync job changed job {}", currentJobDetails);
-                    removeTimerInfo(timerInfo);
-                    return addTimerInfo(currentJobDetails);
-                }
+    private void incrementalSyncWithJobStores(JobContext jobContext, OffsetDateTime maxWindow) {
+        // the last update is stamped by the application before the commit, so a job committed after the previous sync
+        // may carry an older stamp: we go back as far as the longest transaction, and at least one refresh interval
+        // to cope with clock skew between nodes
+        OffsetDateTime changedSince = lastSyncTime.minus(Duration.ofMillis(Math.max(maxTransactionTime, refreshJobsInterval)));
+        LOG.debug("Syncing jobs changed since {} with job store till {}", changedSince, maxWindow);
+        List<JobDetails> jobDetailsList = jobStore.loadJobsChangedSince(jobContext, changedSince, lastSyncMaxWindow, maxWindow);
 
-                // timeout has not changed
-                return timerInfo;
-            });
+        for (JobDetails currentJobDetails : jobDetailsList) {
+            if (ACTIVE_STATUSES.contains(currentJobDetails.getStatus()) && isInWindow(currentJobDetails, maxWindow)) {
+                syncJob(currentJobDetails, maxWindow);
+            } else {
+                LOG.trace("sync job not active or out of the window {}", currentJobDetails);
+                unsyncJob(getMapKey(currentJobDetails));
+            }
         }
+    }
 
-        // the ones left are the ones we need to be removed as they are not in database or active anymore
-        List<String> databaseJobKeys = jobDetailsList.stream().map(this::getMapKey).toList();
-        List<String> keysToBeRemoved = new ArrayList<>(jobsScheduled.keySet());
-        keysToBeRemoved.removeAll(databaseJobKeys);
+    private boolean isInWindow(JobDetails jobDetails, OffsetDateTime maxWindow) {
+        Date nextFireTime = jobDetails.getTrigger().hasNextFireTime();
+        return nextFireTime != null && !DateUtil.dateToOffsetDateTime(nextFireTime).isAfter(maxWindow);
+    }
 
-        for (String keyToBeRemoved : keysToBeRemoved) {
-            jobsScheduled.compute(keyToBeRemoved, (key, timerInfo) -> {
-                if (timerInfo != null) {
-                    removeTimerInfo(timerInfo);
-                }
+    private String syncJob(JobDetails currentJobDetails, OffsetDateTime maxWindow) {
+        String mapKey = getMapKey(currentJobDetails);
+        jobsScheduled.compute(mapKey, (key, timerInfo) -> {
+            if (timerInfo == null) {
+                // we schedule this (no need to trigger an event as it was already trigger during scheduling)
+                // this is new job loaded by this instance
+                LOG.trace("sync job new job {}", currentJobDetails);
+                return addTimerInfo(currentJobDetails);
+            }
+
+            // there is timer and changed but we check the timeout is after. we remove it.
+            // as it is not in this window
+            if (DateUtil.dateToOffsetDateTime(timerInfo.timeout()).isAfter(maxWindow)) {
+                LOG.trace("sync job removed job {}", currentJobDetails);
+                // we remove it
+                removeTimerInfo(timerInfo);
                 return null;
-            });
-        }
+            }
+
+            if (DateUtil.dateToOffsetDateTime(timerInfo.timeout()).isBefore(maxWindow) && !timerInfo.timeout().equals(currentJobDetails.getTrigger().hasNextFireTime())) {
+                // timeout has changed and it is in our window. we should reschedule
+                LOG.trace("sync job changed job {}", currentJobDetails);
+                removeTimerInfo(timerInfo);
+                return addTimerInfo(currentJobDetails);
+            }
+
+            // timeout has not changed
+            return timerInfo;
+        });
+        return mapKey;
+    }
+
+    private void unsyncJob(String mapKey) {
+        jobsScheduled.compute(mapKey, (key, timerInfo) -> {
+            if (timerInfo != null) {
+                removeTimerInfo(timerInfo);
+            }
+            return null;
+        });
     }
 
     @Override
@@ -329,6 +422,7 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
         this.vertx = Vertx.builder().build();
         this.workerExecutor = this.vertx.createSharedWorkerExecutor("Jobs", numberOfWorkerThreads);
         this.maxRefreshJobsIntervalWindow = Math.max(maxRefreshJobsIntervalWindow, refreshJobsInterval);
+        this.fullRefreshJobsInterval = Math.max(fullRefreshJobsInterval, refreshJobsInterval);
         this.refreshJobsIntervalTimerId = this.vertx.setPeriodic(0L, refreshJobsInterval, this);
 
         LOG.info("Initializing Job Service Logic \n" +
@@ -336,13 +430,19 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
                 "\tMaxIntervalLimitToRetryMillis: {} (millis)\n" +
                 "\tMaxNumberOfRetries: {}\n" +
                 "\tRefreshJobsInterval: {} (millis)\n" +
+                "\tFullRefreshJobsInterval: {} (millis)\n" +
+                "\tMaxTransactionTime: {} (millis)\n" +
                 "\tNumber of worker threads {}\n" +
+                "\tClaim batch size: {}\n" +
                 "\tStore: {}",
                 maxRefreshJobsIntervalWindow,
                 retryInterval,
                 maxNumberOfRetries,
                 refreshJobsInterval,
+                fullRefreshJobsInterval,
+                maxTransactionTime,
                 numberOfWorkerThreads,
+                isClaimDueEnabled() ? claimBatchSize : "disabled",
                 jobStore);
     }
 
@@ -354,6 +454,10 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
         this.workerExecutor.close();
         this.vertx.close();
         this.jobsScheduled.clear();
+        this.lastSyncTime = null;
+        this.lastSyncMaxWindow = null;
+        this.lastFullSyncTime = null;
+        this.claimRequested.set(false);
 
         this.refreshJobsIntervalTimerId = null;
         this.workerExecutor = null;
@@ -401,9 +505,77 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
 
     private void timeout(Long timerId, String jobId) {
         LOG.debug("Executing timeout with timer Id {} and jobId {}", timerId, jobId);
+        if (isClaimDueEnabled()) {
+            requestClaim();
+            return;
+        }
         workerExecutor.executeBlocking(newTimeoutTask(timerId, jobId), false);
     }
 
+    private boolean isClaimDueEnabled() {
+        return claimBatchSize != null && claimBatchSize > 0 && jobStore.supportsClaimDue();
+    }
+
+    /**
+     * The timers expiring while a claim is requested are served by the same claim, so a burst of timers only
+     * costs one claim per batch of jobs.
+     */
+    private void requestClaim() {
+        if (claimRequested.compareAndSet(false, true)) {
+            workerExecutor.executeBlocking(newClaimTask(), false);
+        }
+    }
+
+    private Callable<JobTimeoutExecution> newClaimTask() {
+        Callable<JobTimeoutExecution> current = new Callable<JobTimeoutExecution>() {
+            @Override
+            public JobTimeoutExecution call() throws Exception {
+                // the timers firing from now on need another claim
+                claimRequested.set(false);
+                OffsetDateTime now = DateUtil.now().toOffsetDateTime();
+                JobContext jobContext = jobContextFactory.newContext();
+                List<JobDetails> claimedJobs = jobStore.claimDue(jobContext, now, now.minus(Duration.ofMillis(claimTimeout)), claimBatchSize);
+                LOG.debug("Claimed {} due jobs", claimedJobs.size());
+                // the claimed jobs are executed once the claim is committed
+                jobSynchronization.synchronize(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (JobDetails claimedJob : claimedJobs) {
+                            TimerInfo timerInfo = jobsScheduled.remove(getMapKey(claimedJob));
+                            if (timerInfo != null) {
+                                removeTimerInfo(timerInfo);
+                            }
+                            workerExecutor.executeBlocking(newClaimedTimeoutTask(timerInfo != null ? timerInfo.timerId() : null, claimedJob), false);
+                        }
+                        if (claimedJobs.size() >= claimBatchSize) {
+                            // there might be more due jobs
+                            requestClaim();
+                        }
+                    }
+                });
+                return new JobTimeoutExecution(null);
+            }
+        };
+        for (JobTimeoutInterceptor interceptor : interceptors) {
+            current = interceptor.chainIntercept(current);
+        }
+        return current;
+    }
+
+    private Callable<JobTimeoutExecution> newClaimedTimeoutTask(Long timerId, JobDetails claimedJob) {
+        Callable<JobTimeoutExecution> current = new Callable<JobTimeoutExecution>() {
+            @Override
+            public JobTimeoutExecution call() throws Exception {
+                LOG.debug("Timeout {} with claimed jobId {} will be executed", timerId, claimedJob.getId());
+                return execute(timerId, jobContextFactory.newContext(), claimedJob);
+            }
+        };
+        for (JobTimeoutInterceptor interceptor : interceptors) {
+            current = interceptor.chainIntercept(current);
+        }
+        return current;
+    }
+
     private Callable<JobTimeoutExecution> newTimeoutTask(Long timerId, String jobId) {
         Callable<JobTimeoutExecution> current = new Callable<JobTimeoutExecution>() {
             @Override
@@ -421,27 +593,7 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
 
                 LOG.debug("Timeout {} with jobId {} will be executed", timerId, jobId);
                 JobDetails jobDetails = jobStore.find(jobContext, jobId);
-                try {
-                    JobDetails runningJobDetails = doRun(jobDetails);
-                    LOG.trace("Timeout {} with jobId {} have been executed", timerId, jobId);
-                    JobDetails executeJobDetails = doExecute(runningJobDetails);
-                    LOG.trace("Timeout {} with jobId {} will be rescheduled if required", timerId, jobId);
-                    JobDetails nextJobDetails = computeAndScheduleNextJobIfAny(executeJobDetails);
-                    reconcileScheduling(timerId, jobContext, nextJobDetails);
-                    jobSchedulerListeners.forEach(l -> l.onExecution(jobDetails));
-                    return new JobTimeoutExecution(nextJobDetails);
-                } catch (Exception exception) {
-                    LOG.trace("Timeout {} with jobId {} will be retried if possible", timerId, jobId, exception);
-
-                    // Mark the current transaction for rollback
-                    markTransactionForRollbackWhenEnabled();
-
-                    JobDetails nextJobDetails = doRetryOrError(jobDetails, exception);
-                    reconcileScheduling(timerId, jobContext, nextJobDetails);
-                    jobSchedulerListeners.forEach(l -> l.onFailure(jobDetails));
-                    return new JobTimeoutExecution(nextJobDetails, exception);
-                }
-
+                return execute(timerId, jobContext, jobDetails);
             }
         };
         for (JobTimeoutInterceptor interceptor : interceptors) {
@@ -450,6 +602,30 @@ public class VertxJobScheduler implements JobScheduler, Handler<Long> {
         return current;
     }
 
+    private JobTimeoutExecution execute(Long timerId, JobContext jobContext, JobDetails jobDetails) {
+        String jobId = jobDetails.getId();
+        try {
+            JobDetails runningJobDetails = doRun(jobDetails);
+            LOG.trace("Timeout {} with jobId {} have been executed", timerId, jobId);
+            JobDetails executeJobDetails = doExecute(runningJobDetails);
+            LOG.trace("Timeout {} with jobId {} will be rescheduled if required", timerId, jobId);
+            JobDetails nextJobDetails = computeAndScheduleNextJobIfAny(executeJobDetails);
+            reconcileScheduling(timerId, jobContext, nextJobDetails);
+            jobSchedulerListeners.forEach(l -> l.onExecution(jobDetails));
+            return new JobTimeoutExecution(nextJobDetails);
+        } catch (Exception exception) {
+            LOG.trace("Timeout {} with jobId {} will be retried if possible", timerId, jobId, exception);
+
+            // Mark the current transaction for rollback
+            markTransactionForRollbackWhenEnabled();
+
+            JobDetails nextJobDetails = doRetryOrError(jobDetails, exception);
+            reconcileScheduling(timerId, jobContext, nextJobDetails);
+            jobSchedulerListeners.forEach(l -> l.onFailure(jobDetails));
+            return new JobTimeoutExecution(nextJobDetails, exception);
+        }
+    }
+
     /**
      * Handles retry scheduling for RETRY and ERROR job statuses.
      * If there's an active transaction that was marked for rollback, schedules the retry
@@ -27,6 +27,31 @@ public interface JobStore {
 
     List<JobDetails> loadActiveJobs(JobContext jobContext, OffsetDateTime maxWindowsLoad);
 
+    /**
+     * Whether this store is able to answer {@link #loadJobsChangedSince(JobContext, OffsetDateTime, OffsetDateTime, OffsetDateTime)}.
+     * When it is not, the scheduler reloads the whole window with {@link #loadActiveJobs(JobContext, OffsetDateTime)}
+     * on every refresh.
+     */
+    default boolean supportsIncrementalLoad() {
+        return false;
+    }
+
+    /**
+     * Incremental counterpart of {@link #loadActiveJobs(JobContext, OffsetDateTime)}. It returns the jobs modified after
+     * <code>changedSince</code>, whatever their status and fire time, plus the active jobs whose fire time entered the
+     * window between <code>previousMaxWindowsLoad</code> and <code>maxWindowsLoad</code>.
+     * Jobs removed from the store are not reported, the scheduler detects them during the periodic full load.
+     *
+     * @param jobContext the job context
+     * @param changedSince only jobs updated after this instant are returned
+     * @param previousMaxWindowsLoad upper bound of the window used by the previous load
+     * @param maxWindowsLoad upper bound of the current window
+     * @return the jobs that changed since the previous load
+     */
+    default List<JobDetails> loadJobsChangedSince(JobContext jobContext, OffsetDateTime changedSince, OffsetDateTime previousMaxWindowsLoad, OffsetDateTime maxWindowsLoad) {
+        throw new UnsupportedOperationException("Incremental load is not supported by " + getClass().getName());
+    }
+
     JobDetails find(JobContext context, String jobId);
 
     void persist(JobContext context, JobDetails jobDetails);
@@ -37,4 +62,29 @@ public interface JobStore {
 
     boolean shouldRun(JobContext jobContext, String jobId);
 
+    /**
+     * Whether this store is able to answer {@link #claimDue(JobContext, OffsetDateTime, OffsetDateTime, int)}.
+     * When it is not, every fired timer is checked with {@link #shouldRun(JobContext, String)}.
+     */
+    default boolean supportsClaimDue() {
+        return false;
+    }
+
+    /**
+     * Batch counterpart of {@link #shouldRun(JobContext, String)} and {@link #find(JobContext, String)}. It marks as
+     * <code>RUNNING</code> and returns up to <code>limit</code> active jobs with a fire time before <code>now</code>.
+     * Jobs claimed by a concurrent transaction are skipped, so several nodes can share the same store. Jobs
+     * claimed before <code>expiredClaim</code> that are still <code>RUNNING</code> were left behind by a node that
+     * stopped before completing them and are claimed again.
+     *
+     * @param jobContext the job context
+     * @param now only jobs with a fire time before this instant are claimed
+     * @param expiredClaim running jobs claimed before this instant are claimed again
+     * @param limit maximum number of jobs to claim
+     * @return the claimed jobs
+     */
+    default List<JobDetails> claimDue(JobContext jobContext, OffsetDateTime now, OffsetDateTime expiredClaim, int limit) {
+        throw new UnsupportedOperationException("Claiming due jobs is not supported by " + getClass().getName());
+    }
+
 }
@@ -20,6 +20,7 @@ package org.kie.kogito.app.jobs.spi.memory;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
@@ -72,7 +73,7 @@ public class MemoryJobStore implements JobStore {
 
     @Override
     public synchronized void persist(JobContext context, JobDetails jobDetails) {
-        this.jobs.put(jobDetails.getId(), JobDetails.builder().of(jobDetails).build());
+        this.jobs.put(jobDetails.getId(), JobDetails.builder().of(jobDetails).lastUpdate(DateUtil.now()).build());
     }
 
     @Override
@@ -86,7 +87,7 @@ public class MemoryJobStore implements JobStore {
 
     @Override
     public synchronized void update(JobContext context, JobDetails jobDetails) {
-        JobDetails persisted = JobDetails.builder().of(jobDetails).build();
+        JobDetails persisted = JobDetails.builder().of(jobDetails).lastUpdate(DateUtil.now()).build();
         this.jobs.put(jobDetails.getId(), persisted);
     }
 
@@ -117,4 +118,62 @@ public class MemoryJobStore implements JobStore {
         return copyJobDetails;
     }
 
+    @Override
+    public boolean supportsIncrementalLoad() {
+        return true;
+    }
+
+    @Override
+    public synchronized List<JobDetails> loadJobsChangedSince(JobContext jobContext, OffsetDateTime changedSince, OffsetDateTime previousMaxWindowsLoad, OffsetDateTime maxWindowsLoad) {
+        List<JobDetails> copyJobDetails = new ArrayList<>();
+        for (JobDetails jobDetails : jobs.values()) {
+            if (isChangedSince(jobDetails, changedSince) || isEnteringWindow(jobDetails, previousMaxWindowsLoad, maxWindowsLoad)) {
+                copyJobDetails.add(JobDetails.builder().of(jobDetails).build());
+            }
+        }
+        return copyJobDetails;
+    }
+
+    @Override
+    public boolean supportsClaimDue() {
+        return true;
+    }
+
+    @Override
+    public synchronized List<JobDetails> claimDue(JobContext jobContext, OffsetDateTime now, OffsetDateTime expiredClaim, int limit) {
+        List<JobDetails> claimed = new ArrayList<>();
+        List<JobDetails> candidates = jobs.values().stream()
+                .filter(j -> isDue(j, now) || isExpiredClaim(j, expiredClaim))
+                .sorted(Comparator.comparing(j -> j.getTrigger().hasNextFireTime(), Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .toList();
+        for (JobDetails jobDetails : candidates) {
+            claimed.add(JobDetails.builder().of(jobDetails).build());
+            update(jobContext, JobDetails.builder().of(jobDetails).status(JobStatus.RUNNING).build());
+        }
+        return claimed;
+    }
+
+    private boolean isDue(JobDetails jobDetails, OffsetDateTime now) {
+        return EnumSet.of(JobStatus.RETRY, JobStatus.SCHEDULED).contains(jobDetails.getStatus()) && jobDetails.getTrigger().hasNextFireTime() != null
+                && !DateUtil.dateToOffsetDateTime(jobDetails.getTrigger().hasNextFireTime()).isAfter(now);
+    }
+
+    private boolean isExpiredClaim(JobDetails jobDetails, OffsetDateTime expiredClaim) {
+        return JobStatus.RUNNING.equals(jobDetails.getStatus()) && jobDetails.getLastUpdate() != null
+                && jobDetails.getLastUpdate().toOffsetDateTime().isBefore(expiredClaim);
+    }
+
+    private boolean isChangedSince(JobDetails jobDetails, OffsetDateTime changedSince) {
+        return jobDetails.getLastUpdate() != null && jobDetails.getLastUpdate().toOffsetDateTime().isAfter(changedSince);
+    }
+
+    private boolean isEnteringWindow(JobDetails jobDetails, OffsetDateTime previousMaxWindowsLoad, OffsetDateTime maxWindowsLoad) {
+        if (!EnumSet.of(JobStatus.RETRY, JobStatus.SCHEDULED).contains(jobDetails.getStatus()) || jobDetails.getTrigger().hasNextFireTime() == null) {
+            return false;
+        }
+        OffsetDateTime fireTime = DateUtil.dateToOffsetDateTime(jobDetails.getTrigger().hasNextFireTime());
+        return fireTime.isAfter(previousMaxWindowsLoad) && !fireTime.isAfter(maxWindowsLoad);
+    }
+
 }
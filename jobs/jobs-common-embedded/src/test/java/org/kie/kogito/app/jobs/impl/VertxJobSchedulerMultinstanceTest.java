@@ -19,6 +19,7 @@
 package org.kie.kogito.app.jobs.impl;
 
 import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +28,7 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.app.jobs.api.JobScheduler;
 import org.kie.kogito.app.jobs.api.JobSchedulerBuilder;
+import org.kie.kogito.app.jobs.spi.JobContext;
 import org.kie.kogito.app.jobs.spi.JobContextFactory;
 import org.kie.kogito.app.jobs.spi.JobStore;
 import org.kie.kogito.app.jobs.spi.memory.MemoryJobContextFactory;
@@ -138,6 +140,69 @@ public class VertxJobSchedulerMultinstanceTest {
         jobScheduler.close();
     }
 
+    @Test
+    public void testIncrementalSyncJobEnteringWindow() throws Exception {
+        final String jobId = "1";
+        JobStore memoryJobStore = new MemoryJobStore();
+        JobContextFactory jobContextFactory = new MemoryJobContextFactory();
+        TestJobExecutor latchJobExecutor = new TestJobExecutor();
+        LatchExecutionJobSchedulerListener latchExecutionJobSchedulerListener = new LatchExecutionJobSchedulerListener();
+        JobScheduler jobScheduler = JobSchedulerBuilder.newJobSchedulerBuilder().withJobExecutors(latchJobExecutor)
+                .withJobEventAdapters(new TestJobDetailsEventAdapter())
+                .withEventPublishers(new TestEventPublisher())
+                .withJobContextFactory(jobContextFactory)
+                .withJobStore(memoryJobStore)
+                .withJobSchedulerListeners(latchExecutionJobSchedulerListener)
+                .withRefreshJobsInterval(1000L) // every second
+                .withMaxRefreshJobsIntervalWindow(1000L) // 1 second window
+                .withFullRefreshJobsInterval(60 * 60 * 1000L) // only the first refresh is a full one
+                .build();
+        jobScheduler.init();
+
+        // the job is out of the window when it is stored and unchanged when it enters the window
+        JobDetails jobDetails = JobDetailsHelper.newScheduledJobDetails(new TestJobDescription(jobId, ZonedDateTime.now().plus(Duration.ofSeconds(4))));
+        memoryJobStore.persist(jobContextFactory.newContext(), jobDetails);
+        latchExecutionJobSchedulerListener.waitForExecution(8000L);
+        assertThat(memoryJobStore.find(jobContextFactory.newContext(), jobId)).isNull();
+        assertThat(latchExecutionJobSchedulerListener.isExecuted()).isTrue();
+        jobScheduler.close();
+    }
+
+    @Test
+    public void testIncrementalSyncJobCommittedLate() throws Exception {
+        final String jobId = "1";
+        // the last update is stamped when the transaction writes the job, three seconds before it commits
+        JobStore memoryJobStore = new MemoryJobStore() {
+            @Override
+            public synchronized List<JobDetails> loadJobsChangedSince(JobContext jobContext, OffsetDateTime changedSince, OffsetDateTime previousMaxWindowsLoad,
+                    OffsetDateTime maxWindowsLoad) {
+                return super.loadJobsChangedSince(jobContext, changedSince.plusSeconds(3), previousMaxWindowsLoad, maxWindowsLoad);
+            }
+        };
+        JobContextFactory jobContextFactory = new MemoryJobContextFactory();
+        TestJobExecutor latchJobExecutor = new TestJobExecutor();
+        LatchExecutionJobSchedulerListener latchExecutionJobSchedulerListener = new LatchExecutionJobSchedulerListener();
+        JobScheduler jobScheduler = JobSchedulerBuilder.newJobSchedulerBuilder().withJobExecutors(latchJobExecutor)
+                .withJobEventAdapters(new TestJobDetailsEventAdapter())
+                .withEventPublishers(new TestEventPublisher())
+                .withJobContextFactory(jobContextFactory)
+                .withJobStore(memoryJobStore)
+                .withJobSchedulerListeners(latchExecutionJobSchedulerListener)
+                .withRefreshJobsInterval(1000L) // every second
+                .withMaxRefreshJobsIntervalWindow(60 * 1000L)
+                .withFullRefreshJobsInterval(60 * 60 * 1000L) // only the first refresh is a full one
+                .withMaxTransactionTime(5000L)
+                .build();
+        jobScheduler.init();
+        Thread.sleep(1500L);
+
+        JobDetails jobDetails = JobDetailsHelper.newScheduledJobDetails(new TestJobDescription(jobId, ZonedDateTime.now().plus(Duration.ofSeconds(3))));
+        memoryJobStore.persist(jobContextFactory.newContext(), jobDetails);
+        latchExecutionJobSchedulerListener.waitForExecution(8000L);
+        assertThat(latchExecutionJobSchedulerListener.isExecuted()).isTrue();
+        jobScheduler.close();
+    }
+
     // this test logic in multiinstance is working properly and it is only executed once.
     @Test
     public void testMultipleInstanceConcurrentAccess() throws Exception {
@@ -207,4 +272,40 @@ public class VertxJobSchedulerMultinstanceTest {
         instances.forEach(JobScheduler::close);
     }
 
+    // several jobs firing together are claimed in batches and every one is executed only once
+    @Test
+    public void testMultipleInstanceClaimDue() throws Exception {
+        final Integer TOTAL_COUNT = 3;
+        final Integer JOBS_COUNT = 10;
+        JobStore memoryJobStore = new MemoryJobStore();
+        JobContextFactory jobContextFactory = new MemoryJobContextFactory();
+        TestJobExecutor latchJobExecutor = new TestJobExecutor();
+
+        LatchExecutionJobSchedulerListener latchExecutionJobSchedulerListener = new LatchExecutionJobSchedulerListener(JOBS_COUNT);
+        List<JobScheduler> instances = new ArrayList<>();
+        for (int i = 0; i < TOTAL_COUNT; i++) {
+            JobScheduler jobScheduler = JobSchedulerBuilder.newJobSchedulerBuilder().withJobExecutors(latchJobExecutor)
+                    .withJobEventAdapters(new TestJobDetailsEventAdapter())
+                    .withEventPublishers(new TestEventPublisher())
+                    .withJobContextFactory(jobContextFactory)
+                    .withJobStore(memoryJobStore)
+                    .withJobSchedulerListeners(latchExecutionJobSchedulerListener)
+                    .withRefreshJobsInterval(1000L) // every second
+                    .withClaimBatchSize(4)
+                    .build();
+            jobScheduler.init();
+            instances.add(jobScheduler);
+        }
+        ZonedDateTime fireTime = ZonedDateTime.now().plus(Duration.ofSeconds(2));
+        for (int i = 0; i < JOBS_COUNT; i++) {
+            JobDescription jobDescription = new TestJobDescription(String.valueOf(i), fireTime);
+            memoryJobStore.persist(jobContextFactory.newContext(), JobDetailsHelper.newScheduledJobDetails(jobDescription));
+        }
+
+        latchExecutionJobSchedulerListener.waitForExecution(10000L);
+        Awaitility.await().atMost(Duration.ofSeconds(5L)).until(() -> memoryJobStore.loadActiveJobs(jobContextFactory.newContext(), fireTime.plusDays(1).toOffsetDateTime()).isEmpty());
+        assertThat(latchExecutionJobSchedulerListener.getCount()).isEqualTo(JOBS_COUNT);
+        instances.forEach(JobScheduler::close);
+    }
+
 }
@@ -69,6 +69,34 @@ public class VertxJobSchedulerTest {
         jobScheduler.close();
     }
 
+    @Test
+    public void testBasicPeriodicLimitedTimeFlowWithClaimDue() throws Exception {
+        final String jobId = "1";
+        JobStore memoryJobStore = new MemoryJobStore();
+        JobContextFactory jobContextFactory = new MemoryJobContextFactory();
+        LatchExecutionJobSchedulerListener latchExecutionJobSchedulerListener = new LatchExecutionJobSchedulerListener(3);
+        TestJobExecutor latchJobExecutor = new TestJobExecutor();
+        JobScheduler jobScheduler = JobSchedulerBuilder.newJobSchedulerBuilder()
+                .withJobExecutors(latchJobExecutor)
+                .withJobEventAdapters(new TestJobDetailsEventAdapter())
+                .withEventPublishers(new TestEventPublisher())
+                .withJobContextFactory(jobContextFactory)
+                .withJobStore(memoryJobStore)
+                .withJobSchedulerListeners(latchExecutionJobSchedulerListener)
+                .withJobDescriptorMergers(new TestJobDescriptionMerger())
+                .withClaimBatchSize(10)
+                .build();
+        jobScheduler.init();
+        ExpirationTime expirationTime = DurationExpirationTime.repeat(0, 1000L, 3);
+        jobScheduler.schedule(new TestJobDescription(jobId, expirationTime));
+
+        latchExecutionJobSchedulerListener.waitForExecution();
+        assertThat(latchJobExecutor.getJobsExecuted()).hasSize(3);
+        assertThat(memoryJobStore.find(jobContextFactory.newContext(), jobId)).isNull();
+        assertThat(latchExecutionJobSchedulerListener.isExecuted()).isTrue();
+        jobScheduler.close();
+    }
+
     @Test
     public void testBasicPeriodicLimitedTimeFlow() throws Exception {
         final String jobId = "1";
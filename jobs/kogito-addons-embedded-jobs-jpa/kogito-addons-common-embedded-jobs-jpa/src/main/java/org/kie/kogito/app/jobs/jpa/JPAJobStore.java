@@ -19,6 +19,7 @@
 package org.kie.kogito.app.jobs.jpa;
 
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.kie.kogito.app.jobs.jpa.model.JobDetailsEntity;
@@ -28,11 +29,17 @@ import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 
 public class JPAJobStore implements JobStore {
 
     private static final List<String> JOB_ACTIVE_STATUSES = List.of(JobStatus.RETRY.toString(), JobStatus.SCHEDULED.toString());
 
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+
+    // lock timeout value translated by hibernate to SKIP LOCKED in the databases supporting it
+    private static final int SKIP_LOCKED = -2;
+
     @Override
     public List<JobDetails> loadActiveJobs(JobContext jobContext, OffsetDateTime maxWindowsLoad) {
         EntityManager entityManager = jobContext.getContext();
@@ -46,6 +53,27 @@ public class JPAJobStore implements JobStore {
                 .toList();
     }
 
+    @Override
+    public boolean supportsIncrementalLoad() {
+        return true;
+    }
+
+    @Override
+    public List<JobDetails> loadJobsChangedSince(JobContext jobContext, OffsetDateTime changedSince, OffsetDateTime previousMaxWindowsLoad, OffsetDateTime maxWindowsLoad) {
+        EntityManager entityManager = jobContext.getContext();
+
+        List<JobDetailsEntity> timers = entityManager.createQuery("SELECT o FROM JobDetailsEntity o WHERE o.lastUpdate > :changedSince OR " +
+                "(o.status IN (:activeStatus) AND o.fireTime > :previousMaxWindowsLoad AND o.fireTime <= :maxWindowsLoad)", JobDetailsEntity.class)
+                .setParameter("activeStatus", JOB_ACTIVE_STATUSES)
+                .setParameter("changedSince", changedSince)
+                .setParameter("previousMaxWindowsLoad", previousMaxWindowsLoad)
+                .setParameter("maxWindowsLoad", maxWindowsLoad)
+                .getResultList();
+        return timers.stream()
+                .map(JobDetailsEntityHelper::from)
+                .toList();
+    }
+
     @Override
     public JobDetails find(JobContext jobContext, String jobId) {
         EntityManager entityManager = jobContext.getContext();
@@ -84,4 +112,38 @@ public class JPAJobStore implements JobStore {
         return updated > 0;
     }
 
+    @Override
+    public boolean supportsClaimDue() {
+        return true;
+    }
+
+    @Override
+    public List<JobDetails> claimDue(JobContext jobContext, OffsetDateTime now, OffsetDateTime expiredClaim, int limit) {
+        EntityManager entityManager = jobContext.getContext();
+
+        List<JobDetailsEntity> timers = entityManager.createQuery("SELECT o FROM JobDetailsEntity o WHERE (o.status IN (:activeStatus) AND o.fireTime <= :now) OR " +
+                "(o.status = :runningStatus AND o.lastUpdate < :expiredClaim) ORDER BY o.fireTime", JobDetailsEntity.class)
+                .setParameter("activeStatus", JOB_ACTIVE_STATUSES)
+                .setParameter("now", now)
+                .setParameter("runningStatus", JobStatus.RUNNING.toString())
+                .setParameter("expiredClaim", expiredClaim)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, SKIP_LOCKED)
+                .getResultList();
+        if (timers.isEmpty()) {
+            return List.of();
+        }
+
+        List<JobDetails> claimed = timers.stream()
+                .map(JobDetailsEntityHelper::from)
+                .toList();
+        entityManager.createQuery("UPDATE JobDetailsEntity o SET o.status = :status, o.lastUpdate = :lastUpdate WHERE o.id IN (:ids)")
+                .setParameter("status", JobStatus.RUNNING.toString())
+                .setParameter("lastUpdate", now.truncatedTo(ChronoUnit.MILLIS))
+                .setParameter("ids", timers.stream().map(JobDetailsEntity::getId).toList())
+                .executeUpdate();
+        return claimed;
+    }
+
 }
@@ -37,7 +37,8 @@ import jakarta.persistence.TemporalType;
 @Table(name = "job_details",
         indexes = {
                 @Index(name = "job_details_fire_time_idx", columnList = "fire_time"),
-                @Index(name = "job_details_created_idx", columnList = "created")
+                @Index(name = "job_details_created_idx", columnList = "created"),
+                @Index(name = "job_details_last_update_idx", columnList = "last_update")
         })
 public class JobDetailsEntity {
 
@@ -18,7 +18,14 @@
  */
 package org.kie.kogito.index.graphql;
 
+import java.util.List;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import graphql.GraphQL;
+import graphql.execution.instrumentation.ChainedInstrumentation;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
@@ -26,16 +33,55 @@ import jakarta.inject.Inject;
 @ApplicationScoped
 public class GraphQLProducer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(GraphQLProducer.class);
+
     @Inject
     GraphQLInstrumentation instrumentation;
 
     @Inject
     GraphQLSchemaManager manager;
 
+    @Inject
+    MicrometerGraphQLQueryMetrics queryMetrics;
+
+    @ConfigProperty(name = "kogito.data-index.graphql.document-cache.max-size", defaultValue = "500")
+    int documentCacheMaxSize;
+
+    @ConfigProperty(name = "kogito.data-index.graphql.max-depth", defaultValue = "20")
+    int maxDepth;
+
+    @ConfigProperty(name = "kogito.data-index.graphql.max-complexity", defaultValue = "0")
+    int maxComplexity;
+
+    @ConfigProperty(name = "kogito.data-index.graphql.default-page-size", defaultValue = "0")
+    int defaultPageSize;
+
+    @ConfigProperty(name = "kogito.data-index.graphql.max-page-size", defaultValue = "0")
+    int maxPageSize;
+
+    @ConfigProperty(name = "kogito.data-index.graphql.query-timeout-millis", defaultValue = "0")
+    int queryTimeoutMillis;
+
     @Produces
     public GraphQL createGraphQL() {
+        GraphQLQueryLimits limits = new GraphQLQueryLimits(maxDepth, maxComplexity, defaultPageSize, maxPageSize, roundUpToSeconds(queryTimeoutMillis));
+        manager.setQueryLimits(limits, queryMetrics);
         return GraphQL.newGraphQL(manager.getGraphQLSchema())
-                .instrumentation(instrumentation)
+                .instrumentation(new ChainedInstrumentation(List.of(new GraphQLQueryCostInstrumentation(limits, queryMetrics), instrumentation)))
+                .preparsedDocumentProvider(new GraphQLDocumentCache(manager::getGraphQLSchema, documentCacheMaxSize))
                 .build();
     }
+
+    /**
+     * The JPA storages apply the query timeout in whole seconds, rounding the milliseconds, so a value below half a
+     * second would disable it. The timeout is rounded up to the next second instead.
+     */
+    static int roundUpToSeconds(int timeoutMillis) {
+        if (timeoutMillis <= 0 || timeoutMillis % 1000 == 0) {
+            return timeoutMillis;
+        }
+        int rounded = (timeoutMillis / 1000 + 1) * 1000;
+        LOGGER.warn("The query timeout of {} ms is rounded up to {} ms, as the storages apply it in whole seconds", timeoutMillis, rounded);
+        return rounded;
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+/**
+ * Counts the rejected and aborted GraphQL queries, by reason, when the service exports metrics, i.e. a Micrometer
+ * registry is available:
+ * <ul>
+ * <li>{@value #REJECTED_COUNTER}: queries exceeding the depth, complexity or page size limits.</li>
+ * <li>{@value #ABORTED_COUNTER}: queries aborted by the storage timeout.</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class MicrometerGraphQLQueryMetrics implements GraphQLQueryMetrics {
+
+    static final String REJECTED_COUNTER = "kogito.data-index.graphql.queries.rejected";
+    static final String ABORTED_COUNTER = "kogito.data-index.graphql.queries.aborted";
+    static final String REASON_TAG = "reason";
+
+    private final MeterRegistry registry;
+
+    @Inject
+    public MicrometerGraphQLQueryMetrics(Instance<MeterRegistry> registry) {
+        this.registry = registry.isResolvable() ? registry.get() : null;
+    }
+
+    @Override
+    public void rejected(String reason) {
+        increment(REJECTED_COUNTER, "GraphQL queries rejected for exceeding the query limits", reason);
+    }
+
+    @Override
+    public void aborted(String reason) {
+        increment(ABORTED_COUNTER, "GraphQL queries aborted during their execution", reason);
+    }
+
+    private void increment(String name, String description, String reason) {
+        if (registry != null) {
+            Counter.builder(name).description(description).tag(REASON_TAG, reason).register(registry).increment();
+        }
+    }
+}
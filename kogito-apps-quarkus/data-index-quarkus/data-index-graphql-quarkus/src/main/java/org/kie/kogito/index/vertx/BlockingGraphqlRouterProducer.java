@@ -18,6 +18,8 @@
  */
 package org.kie.kogito.index.vertx;
 
+import org.kie.kogito.index.graphql.GraphQLSchemaManager;
+
 import io.quarkus.arc.properties.IfBuildProperty;
 import io.quarkus.vertx.web.Route;
 import io.vertx.ext.web.RoutingContext;
@@ -40,14 +42,23 @@ public class BlockingGraphqlRouterProducer {
     @Inject
     GraphQL graphQL;
 
+    @Inject
+    GraphQLSchemaManager manager;
+
     GraphQLHandler graphQLHandler;
 
     ApolloWSHandler apolloWSHandler;
 
     @PostConstruct
     public void init() {
-        graphQLHandler = GraphQLHandler.create(graphQL, new GraphQLHandlerOptions());
-        apolloWSHandler = ApolloWSHandler.create(graphQL);
+        graphQLHandler = GraphQLHandler.create(graphQL, new GraphQLHandlerOptions())
+                .beforeExecute(context -> {
+                    PersistedQueryRequests.resolveQuery(context);
+                    context.builder().dataLoaderRegistry(manager.createDataLoaderRegistry());
+                });
+        // a subscription keeps the same registry for all its events, so the loaded values must not be cached
+        apolloWSHandler = ApolloWSHandler.create(graphQL)
+                .beforeExecute(context -> context.builder().dataLoaderRegistry(manager.createDataLoaderRegistry(false)));
     }
 
     @Route(path = "/graphql", type = Route.HandlerType.BLOCKING, order = 1, methods = { GET })
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.vertx;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.graphql.ExecutionInputBuilderWithContext;
+
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+/**
+ * The requests of a persisted query carry its hash in the {@code persistedQuery} extension and no query text, which the
+ * execution input requires, so the query is replaced by the marker that the document cache resolves from the hash.
+ */
+final class PersistedQueryRequests {
+
+    static final String QUERY = "query";
+    static final String EXTENSIONS = "extensions";
+
+    // a request without the query text is a few hundred bytes, larger bodies are not inspected
+    static final int MAX_PERSISTED_QUERY_REQUEST_SIZE = 1024;
+
+    private PersistedQueryRequests() {
+    }
+
+    static void resolveQuery(ExecutionInputBuilderWithContext<RoutingContext> context) {
+        if (isPersistedQueryRequest(context.context())) {
+            context.builder().query(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+        }
+    }
+
+    static boolean isPersistedQueryRequest(RoutingContext rc) {
+        if (rc.request().method() == HttpMethod.GET) {
+            return rc.queryParams().get(QUERY) == null && rc.queryParams().contains(EXTENSIONS);
+        }
+        String contentType = rc.request().getHeader(HttpHeaders.CONTENT_TYPE);
+        if (contentType == null || !contentType.startsWith("application/json") || rc.body().length() > MAX_PERSISTED_QUERY_REQUEST_SIZE) {
+            return false;
+        }
+        try {
+            JsonObject body = rc.body().asJsonObject();
+            return body != null && body.getValue(QUERY) == null && body.getValue(EXTENSIONS) != null;
+        } catch (RuntimeException e) {
+            // batched requests
+            return false;
+        }
+    }
+}
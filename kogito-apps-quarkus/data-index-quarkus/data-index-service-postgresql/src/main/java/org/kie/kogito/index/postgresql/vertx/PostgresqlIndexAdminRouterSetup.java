@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.postgresql.vertx;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.index.postgresql.JsonPathFilter;
+import org.kie.kogito.index.postgresql.PostgresqlJsonIndexManager;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Admin API of the json path indexes, disabled by default:
+ * <ul>
+ * <li>GET /admin/indexes: the filters built on every json path and the existing indexes.</li>
+ * <li>POST /admin/indexes with {"entity": "processes", "attribute": "variables.traveller.name", "text": true}: creates
+ * the index of the filter.</li>
+ * <li>DELETE /admin/indexes/{name}: drops the index.</li>
+ * </ul>
+ * The routes are restricted to the <code>kogito.data-index.admin.indexes.role</code> role by the HTTP permissions of the
+ * service configuration.
+ */
+@ApplicationScoped
+public class PostgresqlIndexAdminRouterSetup {
+
+    static final String INDEXES_PATH = "/admin/indexes";
+
+    @ConfigProperty(name = "kogito.data-index.admin.indexes.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @Inject
+    PostgresqlJsonIndexManager indexManager;
+
+    void setupRouter(@Observes Router router) {
+        if (enabled) {
+            router.get(INDEXES_PATH).blockingHandler(this::getIndexes);
+            router.post(INDEXES_PATH).blockingHandler(this::createIndex);
+            router.delete(INDEXES_PATH + "/:name").blockingHandler(this::dropIndex);
+        }
+    }
+
+    private void getIndexes(RoutingContext ctx) {
+        JsonArray filters = new JsonArray();
+        indexManager.getFilterCounts().forEach((filter, count) -> filters.add(toJson(filter).put("count", count)));
+        JsonArray indexes = new JsonArray();
+        indexManager.getIndexes().forEach((name, definition) -> indexes.add(new JsonObject().put("name", name).put("definition", definition)));
+        ctx.json(new JsonObject().put("filters", filters).put("indexes", indexes));
+    }
+
+    private void createIndex(RoutingContext ctx) {
+        JsonObject body = ctx.body().asJsonObject();
+        if (body == null || body.getString("entity") == null || body.getString("attribute") == null) {
+            ctx.response().setStatusCode(400).end("The entity and attribute of the filter are required");
+            return;
+        }
+        try {
+            String name = indexManager.createIndex(new JsonPathFilter(body.getString("entity"), body.getString("attribute"), body.getBoolean("text", false)));
+            ctx.response().setStatusCode(201);
+            ctx.json(new JsonObject().put("name", name));
+        } catch (IllegalArgumentException e) {
+            ctx.response().setStatusCode(400).end(e.getMessage());
+        }
+    }
+
+    private void dropIndex(RoutingContext ctx) {
+        ctx.response().setStatusCode(indexManager.dropIndex(ctx.pathParam("name")) ? 204 : 404).end();
+    }
+
+    private static JsonObject toJson(JsonPathFilter filter) {
+        return new JsonObject().put("entity", filter.entity()).put("attribute", filter.attribute()).put("text", filter.text());
+    }
+}
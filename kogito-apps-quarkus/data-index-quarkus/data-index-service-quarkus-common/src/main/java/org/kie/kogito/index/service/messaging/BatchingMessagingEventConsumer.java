@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.service.messaging;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.process.KogitoMarshallEventSupport;
+import org.kie.kogito.event.process.MultipleProcessInstanceDataEvent;
+import org.kie.kogito.event.process.ProcessDefinitionDataEvent;
+import org.kie.kogito.event.process.ProcessInstanceDataEvent;
+import org.kie.kogito.event.usertask.MultipleUserTaskInstanceDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceDataEvent;
+import org.kie.kogito.index.event.KogitoJobCloudEvent;
+import org.kie.kogito.index.service.IndexingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsumer.KOGITO_JOBS_EVENTS;
+import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsumer.KOGITO_PROCESSINSTANCES_EVENTS;
+import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsumer.KOGITO_PROCESS_DEFINITIONS_EVENTS;
+import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsumer.KOGITO_USERTASKINSTANCES_EVENTS;
+
+/**
+ * Consumer that receives the process and user task instance events in batches, as polled by the kafka connector
+ * (<code>mp.messaging.incoming.&lt;channel&gt;.batch=true</code>), and indexes every batch in a single transaction.
+ * <p>
+ * The events of a batch are merged in one group event, so the storage loads and flushes every instance once per batch,
+ * applying its events in the order they were received. The batch is acknowledged once the method returns, that is
+ * after the transaction is committed. The size of the batches is bound by the kafka <code>max.poll.records</code>,
+ * <code>fetch.min.bytes</code> and <code>fetch.max.wait.ms</code> consumer properties.
+ * <p>
+ * It replaces the {@link BlockingMessagingEventConsumer} when <code>kogito.data-index.batch</code> is enabled for the
+ * blocking storages.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "kogito.data-index.blocking", stringValue = "true")
+@IfBuildProperty(name = "kogito.data-index.batch", stringValue = "true")
+public class BatchingMessagingEventConsumer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingMessagingEventConsumer.class);
+
+    static final URI BATCH_SOURCE = URI.create("/data-index/batch");
+
+    @Inject
+    Event<DataEvent<?>> eventPublisher;
+
+    @Inject
+    IndexingService indexingService;
+
+    @Incoming(KOGITO_PROCESSINSTANCES_EVENTS)
+    @Blocking
+    @Transactional
+    public void onProcessInstanceEvents(List<ProcessInstanceDataEvent<?>> events) {
+        LOGGER.debug("Process instance consumer received a batch of {} ProcessInstanceDataEvent", events.size());
+        Collection<ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>> group = new ArrayList<>(events.size());
+        for (ProcessInstanceDataEvent<?> event : events) {
+            if (event instanceof MultipleProcessInstanceDataEvent) {
+                group.addAll(((MultipleProcessInstanceDataEvent) event).getData());
+            } else {
+                group.add((ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport>) event);
+            }
+        }
+        indexingService.indexProcessInstanceEvent(new MultipleProcessInstanceDataEvent(BATCH_SOURCE, group));
+        events.forEach(eventPublisher::fire);
+    }
+
+    @Incoming(KOGITO_USERTASKINSTANCES_EVENTS)
+    @Blocking
+    @Transactional
+    public void onUserTaskInstanceEvents(List<UserTaskInstanceDataEvent<?>> events) {
+        LOGGER.debug("Task instance consumer received a batch of {} UserTaskInstanceDataEvent", events.size());
+        Collection<UserTaskInstanceDataEvent<?>> group = new ArrayList<>(events.size());
+        for (UserTaskInstanceDataEvent<?> event : events) {
+            if (event instanceof MultipleUserTaskInstanceDataEvent) {
+                group.addAll(((MultipleUserTaskInstanceDataEvent) event).getData());
+            } else {
+                group.add(event);
+            }
+        }
+        indexingService.indexUserTaskInstanceEvent(new MultipleUserTaskInstanceDataEvent(BATCH_SOURCE, group));
+        events.forEach(eventPublisher::fire);
+    }
+
+    @Incoming(KOGITO_JOBS_EVENTS)
+    @Blocking
+    @Transactional
+    public void onJobEvent(KogitoJobCloudEvent event) {
+        LOGGER.debug("Job received KogitoJobCloudEvent \n{}", event);
+        indexingService.indexJob(event.getData());
+    }
+
+    @Incoming(KOGITO_PROCESS_DEFINITIONS_EVENTS)
+    @Blocking
+    @Transactional
+    public void onProcessDefinitionDataEvent(ProcessDefinitionDataEvent event) {
+        LOGGER.debug("Process definition received ProcessDefinitionDataEvent \n{}", event);
+        indexingService.indexProcessDefinition(event);
+    }
+}
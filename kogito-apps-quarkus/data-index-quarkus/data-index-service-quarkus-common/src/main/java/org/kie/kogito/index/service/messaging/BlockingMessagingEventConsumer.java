@@ -29,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.arc.properties.UnlessBuildProperty;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -44,6 +45,7 @@ import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsu
 
 @ApplicationScoped
 @IfBuildProperty(name = "kogito.data-index.blocking", stringValue = "true")
+@UnlessBuildProperty(name = "kogito.data-index.batch", stringValue = "true", enableIfMissing = true)
 public class BlockingMessagingEventConsumer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BlockingMessagingEventConsumer.class);
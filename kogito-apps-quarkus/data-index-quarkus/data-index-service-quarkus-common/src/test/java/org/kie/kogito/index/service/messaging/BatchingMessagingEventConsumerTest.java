@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.service.messaging;
+
+import java.net.URI;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.process.KogitoMarshallEventSupport;
+import org.kie.kogito.event.process.MultipleProcessInstanceDataEvent;
+import org.kie.kogito.event.process.ProcessInstanceDataEvent;
+import org.kie.kogito.event.usertask.MultipleUserTaskInstanceDataEvent;
+import org.kie.kogito.event.usertask.UserTaskInstanceDataEvent;
+import org.kie.kogito.index.service.IndexingService;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.enterprise.event.Event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingMessagingEventConsumerTest {
+
+    @Mock
+    IndexingService indexingService;
+
+    @Mock
+    Event<DataEvent<?>> eventPublisher;
+
+    @InjectMocks
+    BatchingMessagingEventConsumer consumer;
+
+    @Test
+    void testOnProcessInstanceEvents() {
+        ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport> event1 = mock(ProcessInstanceDataEvent.class);
+        ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport> event2 = mock(ProcessInstanceDataEvent.class);
+        ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport> event3 = mock(ProcessInstanceDataEvent.class);
+        MultipleProcessInstanceDataEvent group = new MultipleProcessInstanceDataEvent(URI.create("dummy"), List.of(event2, event3));
+
+        consumer.onProcessInstanceEvents(List.of(event1, group));
+
+        ArgumentCaptor<MultipleProcessInstanceDataEvent> captor = ArgumentCaptor.forClass(MultipleProcessInstanceDataEvent.class);
+        verify(indexingService, times(1)).indexProcessInstanceEvent(captor.capture());
+        assertThat(captor.getValue().getData()).containsExactly(event1, event2, event3);
+        verify(eventPublisher).fire(event1);
+        verify(eventPublisher).fire(group);
+    }
+
+    @Test
+    void testOnUserTaskInstanceEvents() {
+        UserTaskInstanceDataEvent<?> event1 = mock(UserTaskInstanceDataEvent.class);
+        UserTaskInstanceDataEvent<?> event2 = mock(UserTaskInstanceDataEvent.class);
+        UserTaskInstanceDataEvent<?> event3 = mock(UserTaskInstanceDataEvent.class);
+        MultipleUserTaskInstanceDataEvent group = new MultipleUserTaskInstanceDataEvent(URI.create("dummy"), List.of(event1, event2));
+
+        consumer.onUserTaskInstanceEvents(List.of(group, event3));
+
+        ArgumentCaptor<MultipleUserTaskInstanceDataEvent> captor = ArgumentCaptor.forClass(MultipleUserTaskInstanceDataEvent.class);
+        verify(indexingService, times(1)).indexUserTaskInstanceEvent(captor.capture());
+        assertThat(captor.getValue().getData()).containsExactly(event1, event2, event3);
+        verify(eventPublisher).fire(group);
+        verify(eventPublisher).fire(event3);
+    }
+
+    @Test
+    void testErrorHandlingInOnProcessInstanceEvents() {
+        ProcessInstanceDataEvent<? extends KogitoMarshallEventSupport> event = mock(ProcessInstanceDataEvent.class);
+        doThrow(new RuntimeException("On purpose! Indexing failed")).when(indexingService).indexProcessInstanceEvent(any());
+
+        assertThatThrownBy(() -> consumer.onProcessInstanceEvents(List.of(event))).isInstanceOf(RuntimeException.class);
+
+        verify(eventPublisher, never()).fire(any());
+    }
+}
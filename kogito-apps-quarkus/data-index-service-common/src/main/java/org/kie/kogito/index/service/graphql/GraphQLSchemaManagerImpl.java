@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.kie.kogito.index.api.KogitoRuntimeClient;
@@ -37,6 +38,7 @@ import org.reactivestreams.Publisher;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import graphql.execution.DataFetcherResult;
 import graphql.scalars.ExtendedScalars;
 import graphql.schema.*;
 import graphql.schema.idl.RuntimeWiring;
@@ -225,16 +227,17 @@ public class GraphQLSchemaManagerImpl extends AbstractGraphQLSchemaManager {
         return env -> publisher(Optional.ofNullable(getCacheService().getDomainModelCache(processId)).orElseThrow(cacheNotFoundException(processId)).objectCreatedListener());
     }
 
-    protected DataFetcher<Collection<ObjectNode>> getDomainModelDataFetcher(String processId) {
+    protected DataFetcher<CompletableFuture<DataFetcherResult<Collection<ObjectNode>>>> getDomainModelDataFetcher(String processId) {
         return env -> {
-            List result = executeAdvancedQueryForCache(Optional.ofNullable(getCacheService().getDomainModelCache(processId)).orElseThrow(cacheNotFoundException(processId)), env);
-            return (Collection<ObjectNode>) result.stream().map(json -> {
+            CompletableFuture<DataFetcherResult<List>> result = (CompletableFuture) executePagedQueryForCacheAsync(
+                    Optional.ofNullable(getCacheService().getDomainModelCache(processId)).orElseThrow(cacheNotFoundException(processId)), env);
+            return result.thenApply(r -> r.map(list -> (Collection<ObjectNode>) list.stream().map(json -> {
                 try {
                     return getObjectMapper().readTree(json.toString());
                 } catch (IOException e) {
                     throw new DataIndexParsingException("Failed to parse JSON: " + e.getMessage(), e);
                 }
-            }).collect(toList());
+            }).collect(toList())));
         };
     }
 
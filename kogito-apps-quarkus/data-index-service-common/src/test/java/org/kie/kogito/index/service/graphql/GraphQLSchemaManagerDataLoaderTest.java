@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.service.graphql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.dataloader.DataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.index.model.ProcessDefinition;
+import org.kie.kogito.index.model.ProcessDefinitionKey;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.storage.DataIndexStorageService;
+import org.kie.kogito.index.storage.ProcessInstanceStorage;
+import org.kie.kogito.persistence.api.Storage;
+import org.kie.kogito.persistence.api.query.Query;
+
+import graphql.schema.DataFetchingEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GraphQLSchemaManagerDataLoaderTest {
+
+    DataIndexStorageService storageService;
+    Storage<ProcessDefinitionKey, ProcessDefinition> definitionStorage;
+    ProcessInstanceStorage instanceStorage;
+    GraphQLSchemaManagerImpl schemaManager;
+
+    @BeforeEach
+    void setup() {
+        storageService = mock(DataIndexStorageService.class);
+        definitionStorage = mock(Storage.class);
+        instanceStorage = mock(ProcessInstanceStorage.class);
+        when(storageService.getProcessDefinitionStorage()).thenReturn(definitionStorage);
+        when(storageService.getProcessInstanceStorage()).thenReturn(instanceStorage);
+        schemaManager = new GraphQLSchemaManagerImpl(storageService, null, null);
+    }
+
+    @Test
+    void testLoadProcessDefinitions() {
+        Query<ProcessDefinition> query = mock(Query.class);
+        when(definitionStorage.query()).thenReturn(query);
+        when(query.execute()).thenReturn(List.of(definition("travels", "1.0"), definition("travels", "2.0"), definition("orders", "1.0")));
+
+        Map<ProcessDefinitionKey, ProcessDefinition> result = schemaManager.loadProcessDefinitions(
+                Set.of(new ProcessDefinitionKey("travels", "1.0"), new ProcessDefinitionKey("orders", "1.0"))).join();
+
+        assertThat(result).containsOnlyKeys(new ProcessDefinitionKey("travels", "1.0"), new ProcessDefinitionKey("orders", "1.0"));
+        verify(definitionStorage, times(1)).query();
+        verify(query).filter(any());
+    }
+
+    @Test
+    void testLoadChildProcessInstances() {
+        Query<ProcessInstance> query = mock(Query.class);
+        when(instanceStorage.query()).thenReturn(query);
+        when(query.execute()).thenReturn(List.of(instance("child1", "parent1"), instance("child2", "parent1")));
+
+        Map<String, List<ProcessInstance>> result = schemaManager.loadChildProcessInstances(Set.of("parent1", "parent2")).join();
+
+        assertThat(result.get("parent1")).extracting(ProcessInstance::getId).containsExactlyInAnyOrder("child1", "child2");
+        assertThat(result.get("parent2")).isEmpty();
+        verify(instanceStorage, times(1)).query();
+    }
+
+    @Test
+    void testGetProcessDefinitionWithoutDataLoader() {
+        ProcessDefinition definition = definition("travels", "1.0");
+        when(definitionStorage.get(new ProcessDefinitionKey("travels", "1.0"))).thenReturn(definition);
+        DataFetchingEnvironment env = mock(DataFetchingEnvironment.class);
+        ProcessInstance pi = instance("pi", null);
+        pi.setProcessId("travels");
+        pi.setVersion("1.0");
+        when(env.getSource()).thenReturn(pi);
+
+        assertThat(schemaManager.getProcessDefinition(env).join()).isSameAs(definition);
+    }
+
+    @Test
+    void testDataLoaderRegistry() {
+        assertThat(schemaManager.createDataLoaderRegistry().getKeys()).containsExactlyInAnyOrder("processDefinition", "processInstance", "childProcessInstances");
+    }
+
+    @Test
+    void testDataLoaderRegistryCaching() {
+        testLoadProcessDefinitionTwice(true, 1);
+    }
+
+    @Test
+    void testDataLoaderRegistryCachingDisabled() {
+        testLoadProcessDefinitionTwice(false, 2);
+    }
+
+    private void testLoadProcessDefinitionTwice(boolean cachingEnabled, int expectedQueries) {
+        Query<ProcessDefinition> query = mock(Query.class);
+        when(definitionStorage.query()).thenReturn(query);
+        when(query.execute()).thenReturn(List.of(definition("travels", "1.0")));
+        DataLoader<ProcessDefinitionKey, ProcessDefinition> loader = schemaManager.createDataLoaderRegistry(cachingEnabled).getDataLoader("processDefinition");
+
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<ProcessDefinition> loaded = loader.load(new ProcessDefinitionKey("travels", "1.0"));
+            loader.dispatchAndJoin();
+            assertThat(loaded.join().getId()).isEqualTo("travels");
+        }
+
+        verify(definitionStorage, times(expectedQueries)).query();
+    }
+
+    private static ProcessDefinition definition(String id, String version) {
+        ProcessDefinition pd = new ProcessDefinition();
+        pd.setId(id);
+        pd.setVersion(version);
+        return pd;
+    }
+
+    private static ProcessInstance instance(String id, String parentId) {
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId(id);
+        pi.setParentProcessInstanceId(parentId);
+        return pi;
+    }
+}
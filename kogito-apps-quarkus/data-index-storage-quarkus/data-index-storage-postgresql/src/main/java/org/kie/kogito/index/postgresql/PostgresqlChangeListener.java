@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.postgresql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Listens to the changes notified by the triggers of the data index tables on the {@value #CHANNEL} channel, and
+ * broadcasts them to the storage listeners. A single dedicated connection is used, opened with the first subscription.
+ * The payload of the notifications is {@code <table> <operation> <id>}.
+ * <p>
+ * The triggers are only enabled when {@value #ENABLED_PROPERTY} is true, see {@link PostgresqlNotificationsInterceptor}.
+ */
+@ApplicationScoped
+public class PostgresqlChangeListener {
+
+    static final String CHANNEL = "data_index_changes";
+    static final String ENABLED_PROPERTY = "kogito.data-index.postgresql.notifications.enabled";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresqlChangeListener.class);
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    @ConfigProperty(name = ENABLED_PROPERTY, defaultValue = "false")
+    boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "kogito.data-index.postgresql.notifications.poll-interval-millis", defaultValue = "500")
+    int pollIntervalMillis;
+
+    @Inject
+    @ConfigProperty(name = "kogito.data-index.postgresql.notifications.buffer-size", defaultValue = "1024")
+    int bufferSize;
+
+    private final BroadcastProcessor<Change> processor = BroadcastProcessor.create();
+
+    private ExecutorService executorService;
+
+    private volatile boolean running;
+
+    /**
+     * Emits the ids of the rows of the table changed by the operation, INSERT, UPDATE or DELETE. The ids not yet
+     * requested by a subscriber are buffered up to the configured size, beyond it the subscription fails.
+     *
+     * @throws UnsupportedOperationException if the notifications are not enabled
+     */
+    public Multi<String> changes(String table, String operation) {
+        if (!enabled) {
+            throw new UnsupportedOperationException("The change listeners require " + ENABLED_PROPERTY + "=true");
+        }
+        start();
+        return processor.filter(change -> change.table.equals(table) && change.operation.equals(operation))
+                .map(change -> change.id)
+                .onOverflow().buffer(bufferSize);
+    }
+
+    /**
+     * Emits the rows of the table changed by the operation, loaded on a worker thread. The rows no longer found are
+     * skipped.
+     */
+    public <V> Multi<V> changes(String table, String operation, Function<String, V> loader) {
+        return changes(table, operation).onItem()
+                .transformToUniAndConcatenate(id -> Uni.createFrom().item(() -> loader.apply(id)).runSubscriptionOn(Infrastructure.getDefaultWorkerPool()));
+    }
+
+    private synchronized void start() {
+        if (executorService == null) {
+            running = true;
+            executorService = Executors.newSingleThreadExecutor();
+            executorService.submit(this::listen);
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                LOGGER.debug("Listening to the notifications of the {} channel", CHANNEL);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollIntervalMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            onNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    LOGGER.warn("Error listening to the notifications of the {} channel, reconnecting", CHANNEL, e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    void onNotification(String payload) {
+        String[] parts = payload.split(" ", 3);
+        if (parts.length == 3) {
+            processor.onNext(new Change(parts[0], parts[1], parts[2]));
+        } else {
+            LOGGER.warn("Ignoring invalid notification {}", payload);
+        }
+    }
+
+    private void pause() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent ev) {
+        running = false;
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        processor.onComplete();
+    }
+
+    private static class Change {
+
+        private final String table;
+        private final String operation;
+        private final String id;
+
+        Change(String table, String operation, String id) {
+            this.table = table;
+            this.operation = operation;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.postgresql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import static java.lang.String.format;
+
+/**
+ * Manages the expression indexes on the paths of the json columns, matching the expressions built by
+ * {@link PostgresqlJsonPredicateBuilder} for the filters: <code>jsonb_extract_path_text</code> for the values compared
+ * as text and <code>jsonb_extract_path</code> for the rest. The indexes are created and dropped concurrently, so the
+ * tables are not locked, and they are named with the {@value #INDEX_PREFIX} prefix.
+ */
+@ApplicationScoped
+public class PostgresqlJsonIndexManager {
+
+    static final String INDEX_PREFIX = "idx_json_";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresqlJsonIndexManager.class);
+    private static final int MAX_NAME_LENGTH = 63;
+    private static final Map<String, Set<String>> JSON_COLUMNS = Map.of(
+            "processes", Set.of("variables"),
+            "tasks", Set.of("inputs", "outputs"));
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    PostgresqlJsonPredicateBuilder predicateBuilder;
+
+    /**
+     * Returns the filters built on every json path since the start, the most used first.
+     */
+    public Map<JsonPathFilter, Long> getFilterCounts() {
+        return predicateBuilder.getFilterCounts().entrySet().stream().sorted(Map.Entry.<JsonPathFilter, Long> comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v1, LinkedHashMap::new));
+    }
+
+    /**
+     * Returns the definition of the managed indexes by name.
+     */
+    public Map<String, String> getIndexes() {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT indexname, indexdef FROM pg_indexes WHERE indexname LIKE ? ORDER BY indexname")) {
+            statement.setString(1, INDEX_PREFIX.replace("_", "\\_") + "%");
+            Map<String, String> indexes = new LinkedHashMap<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    indexes.put(resultSet.getString(1), resultSet.getString(2));
+                }
+            }
+            return indexes;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to read the json indexes", e);
+        }
+    }
+
+    /**
+     * Creates the index of a json path filter, unless it already exists.
+     *
+     * @return the name of the index
+     */
+    public String createIndex(JsonPathFilter filter) {
+        Set<String> columns = JSON_COLUMNS.get(filter.entity());
+        List<String> path = Arrays.asList(filter.attribute().split("\\."));
+        if (columns == null || path.size() < 2 || !columns.contains(path.get(0))) {
+            throw new IllegalArgumentException(format("The attribute %s of %s is not a path of a json column", filter.attribute(), filter.entity()));
+        }
+        String name = indexName(filter);
+        String expression = format("%s(%s, %s)", filter.text() ? "jsonb_extract_path_text" : "jsonb_extract_path", path.get(0),
+                path.subList(1, path.size()).stream().map(p -> "'" + p.replace("'", "''") + "'").collect(Collectors.joining(", ")));
+        execute(format("CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s ((%s))", name, filter.entity(), expression));
+        return name;
+    }
+
+    /**
+     * Drops a managed index.
+     *
+     * @return whether the index existed
+     */
+    public boolean dropIndex(String name) {
+        if (!getIndexes().containsKey(name)) {
+            return false;
+        }
+        execute(format("DROP INDEX CONCURRENTLY IF EXISTS %s", name));
+        return true;
+    }
+
+    static String indexName(JsonPathFilter filter) {
+        String name = (INDEX_PREFIX + filter.entity() + "_" + filter.attribute() + (filter.text() ? "_text" : "")).toLowerCase().replaceAll("[^a-z0-9_]", "_");
+        if (name.length() > MAX_NAME_LENGTH) {
+            String hash = format("%08x", (filter.entity() + filter.attribute() + filter.text()).hashCode());
+            name = name.substring(0, MAX_NAME_LENGTH - hash.length() - 1) + "_" + hash;
+        }
+        return name;
+    }
+
+    private void execute(String sql) {
+        // concurrent index operations cannot run inside a transaction block
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            LOGGER.info("Executing {}", sql);
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to execute " + sql, e);
+        }
+    }
+}
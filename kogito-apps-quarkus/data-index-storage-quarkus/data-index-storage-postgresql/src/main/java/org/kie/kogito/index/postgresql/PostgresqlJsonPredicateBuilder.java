@@ -21,6 +21,9 @@ package org.kie.kogito.index.postgresql;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,8 +41,22 @@ import jakarta.persistence.criteria.Root;
 @ApplicationScoped
 public class PostgresqlJsonPredicateBuilder implements JsonPredicateBuilder {
 
+    // the json paths come from the queries of the clients, only the first ones are tracked to bound the memory
+    static final int MAX_TRACKED_FILTERS = 1000;
+
+    private final Map<JsonPathFilter, LongAdder> filterCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the number of filters built for every json path since the start, for the first
+     * {@value #MAX_TRACKED_FILTERS} distinct json paths.
+     */
+    public Map<JsonPathFilter, Long> getFilterCounts() {
+        return filterCounts.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
     public Predicate buildPredicate(AttributeFilter<?> filter, Root<?> root,
             CriteriaBuilder builder) {
+        countFilter(new JsonPathFilter(root.getModel().getName(), filter.getAttribute(), isText(filter)));
         boolean isString;
         List<Object> values;
         switch (filter.getCondition()) {
@@ -86,6 +103,36 @@ public class PostgresqlJsonPredicateBuilder implements JsonPredicateBuilder {
         throw new UnsupportedOperationException("Filter " + filter + " is not supported");
     }
 
+    private void countFilter(JsonPathFilter key) {
+        LongAdder count = filterCounts.get(key);
+        if (count == null) {
+            if (filterCounts.size() >= MAX_TRACKED_FILTERS) {
+                return;
+            }
+            count = filterCounts.computeIfAbsent(key, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    private static boolean isText(AttributeFilter<?> filter) {
+        switch (filter.getCondition()) {
+            case LIKE:
+                return true;
+            case EQUAL:
+            case GT:
+            case GTE:
+            case LT:
+            case LTE:
+                return filter.getValue() instanceof String;
+            case BETWEEN:
+            case IN:
+                List<?> values = (List<?>) filter.getValue();
+                return !values.isEmpty() && values.get(0) instanceof String;
+            default:
+                return false;
+        }
+    }
+
     private static Predicate containsPredicate(AttributeFilter<?> filter, Root<?> root, CriteriaBuilder builder, String name) {
         return builder.isTrue(
                 builder.function(name, Boolean.class,
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.postgresql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.agroal.api.AgroalPoolInterceptor;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import static org.kie.kogito.index.postgresql.PostgresqlChangeListener.ENABLED_PROPERTY;
+
+/**
+ * Enables the change notification triggers of the data index tables on the new connections of the datasource when
+ * {@value PostgresqlChangeListener#ENABLED_PROPERTY} is true. The triggers are skipped otherwise, so the writes do not
+ * pay for notifications nobody listens to.
+ */
+@ApplicationScoped
+public class PostgresqlNotificationsInterceptor implements AgroalPoolInterceptor {
+
+    static final String ENABLE_NOTIFICATIONS = "SET kogito.data_index_notifications = 'on'";
+
+    @Inject
+    @ConfigProperty(name = ENABLED_PROPERTY, defaultValue = "false")
+    boolean enabled;
+
+    @Override
+    public void onConnectionCreate(Connection connection) {
+        if (enabled) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(ENABLE_NOTIFICATIONS);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Unable to enable the change notifications", e);
+            }
+        }
+    }
+}
@@ -19,6 +19,9 @@
 package org.kie.kogito.index.postgresql;
 
 import org.kie.kogito.index.jpa.storage.JobEntityStorage;
+import org.kie.kogito.index.model.Job;
+
+import io.smallrye.mutiny.Multi;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -26,8 +29,29 @@ import jakarta.persistence.EntityManager;
 
 @ApplicationScoped
 public class QuarkusJobEntityStorage extends JobEntityStorage {
+
+    static final String TABLE = "jobs";
+
+    private PostgresqlChangeListener changeListener;
+
     @Inject
-    public QuarkusJobEntityStorage(EntityManager em) {
+    public QuarkusJobEntityStorage(EntityManager em, PostgresqlChangeListener changeListener) {
         super(em);
+        this.changeListener = changeListener;
+    }
+
+    @Override
+    public Multi<Job> objectCreatedListener() {
+        return changeListener.changes(TABLE, "INSERT", this::get);
+    }
+
+    @Override
+    public Multi<Job> objectUpdatedListener() {
+        return changeListener.changes(TABLE, "UPDATE", this::get);
+    }
+
+    @Override
+    public Multi<String> objectRemovedListener() {
+        return changeListener.changes(TABLE, "DELETE");
     }
 }
@@ -18,19 +18,118 @@
  */
 package org.kie.kogito.index.postgresql;
 
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.kie.kogito.event.process.ProcessInstanceVariableDataEvent;
+import org.kie.kogito.event.process.ProcessInstanceVariableEventBody;
+import org.kie.kogito.index.jpa.model.ProcessInstanceEntity;
 import org.kie.kogito.index.jpa.storage.JsonPredicateBuilder;
 import org.kie.kogito.index.jpa.storage.ProcessInstanceEntityStorage;
+import org.kie.kogito.index.json.JsonUtils;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.mutiny.Multi;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
 
 @ApplicationScoped
 public class QuarkusProcessInstanceEntityStorage extends ProcessInstanceEntityStorage {
 
+    static final String TABLE = "processes";
+
+    static final String SELECT_VARIABLE = "SELECT CAST(variables -> ?1 AS text) FROM processes WHERE id = ?2";
+    static final String UPDATE_VARIABLE =
+            "UPDATE processes SET variables = jsonb_set(COALESCE(variables, CAST('{}' AS jsonb)), ARRAY[CAST(?1 AS text)], CAST(?2 AS jsonb), true) WHERE id = ?3";
+
+    private PostgresqlChangeListener changeListener;
+
     @Inject
-    public QuarkusProcessInstanceEntityStorage(EntityManager em, Instance<JsonPredicateBuilder> jsonPredicateBuilder) {
+    public QuarkusProcessInstanceEntityStorage(EntityManager em, Instance<JsonPredicateBuilder> jsonPredicateBuilder, PostgresqlChangeListener changeListener) {
         super(em, jsonPredicateBuilder);
+        this.changeListener = changeListener;
+    }
+
+    @Override
+    public Multi<ProcessInstance> objectCreatedListener() {
+        return changeListener.changes(TABLE, "INSERT", this::get);
+    }
+
+    @Override
+    public Multi<ProcessInstance> objectUpdatedListener() {
+        return changeListener.changes(TABLE, "UPDATE", this::get);
+    }
+
+    @Override
+    public Multi<String> objectRemovedListener() {
+        return changeListener.changes(TABLE, "DELETE");
+    }
+
+    /**
+     * Applies the variable change with <code>jsonb_set</code> on the top level variable it belongs to, instead of loading
+     * the process instance and rewriting the whole variables document. The write is skipped when the value is unchanged.
+     * The process instances already loaded in the current transaction, or not yet stored, are updated through the entity.
+     */
+    @Override
+    @Transactional
+    public void indexVariable(ProcessInstanceVariableDataEvent event) {
+        String processInstanceId = event.getKogitoProcessInstanceId();
+        if (isManaged(processInstanceId) || !updateVariable(processInstanceId, event.getData())) {
+            super.indexVariable(event);
+        }
+    }
+
+    private boolean updateVariable(String processInstanceId, ProcessInstanceVariableEventBody data) {
+        String variableName = data.getVariableName();
+        int indexOf = variableName.indexOf('.');
+        String rootName = indexOf == -1 ? variableName : variableName.substring(0, indexOf);
+        List<?> rows = em.createNativeQuery(SELECT_VARIABLE)
+                .setParameter(1, rootName)
+                .setParameter(2, processInstanceId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return false;
+        }
+        JsonNode current = readTree((String) rows.get(0));
+        ObjectNode variables = ObjectMapperFactory.get().createObjectNode();
+        if (current != null) {
+            variables.set(rootName, current.deepCopy());
+        }
+        JsonNode merged = JsonUtils.mergeVariable(variableName, data.getVariableValue(), variables).get(rootName);
+        if (merged != null && !merged.equals(current)) {
+            em.createNativeQuery(UPDATE_VARIABLE)
+                    .setParameter(1, rootName)
+                    .setParameter(2, merged.toString())
+                    .setParameter(3, processInstanceId)
+                    .executeUpdate();
+        }
+        return true;
+    }
+
+    private boolean isManaged(String processInstanceId) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(ProcessInstanceEntity.class);
+        return session.getPersistenceContextInternal().getEntity(session.generateEntityKey(processInstanceId, persister)) != null;
+    }
+
+    private static JsonNode readTree(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return ObjectMapperFactory.get().readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to parse variable value " + json, e);
+        }
     }
 }
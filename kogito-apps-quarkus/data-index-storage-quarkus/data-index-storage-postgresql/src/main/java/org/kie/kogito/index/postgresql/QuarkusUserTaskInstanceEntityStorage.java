@@ -19,6 +19,9 @@
 package org.kie.kogito.index.postgresql;
 
 import org.kie.kogito.index.jpa.storage.UserTaskInstanceEntityStorage;
+import org.kie.kogito.index.model.UserTaskInstance;
+
+import io.smallrye.mutiny.Multi;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -26,8 +29,29 @@ import jakarta.persistence.EntityManager;
 
 @ApplicationScoped
 public class QuarkusUserTaskInstanceEntityStorage extends UserTaskInstanceEntityStorage {
+
+    static final String TABLE = "tasks";
+
+    private PostgresqlChangeListener changeListener;
+
     @Inject
-    public QuarkusUserTaskInstanceEntityStorage(EntityManager em) {
+    public QuarkusUserTaskInstanceEntityStorage(EntityManager em, PostgresqlChangeListener changeListener) {
         super(em);
+        this.changeListener = changeListener;
+    }
+
+    @Override
+    public Multi<UserTaskInstance> objectCreatedListener() {
+        return changeListener.changes(TABLE, "INSERT", this::get);
+    }
+
+    @Override
+    public Multi<UserTaskInstance> objectUpdatedListener() {
+        return changeListener.changes(TABLE, "UPDATE", this::get);
+    }
+
+    @Override
+    public Multi<String> objectRemovedListener() {
+        return changeListener.changes(TABLE, "DELETE");
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+-- Notifies the changes of the process instances, user tasks and jobs on the data_index_changes channel, read by the
+-- storage listeners. The payload is "<table> <operation> <id>", the changes of the child rows are notified as
+-- updates of the parent one. The notifications are sent on commit, and the duplicated ones of a transaction are merged.
+-- The key columns are read directly, so the rest of the row, like the process variables, is never serialized.
+-- The triggers only fire in the sessions setting kogito.data_index_notifications to on, which the data index does when
+-- kogito.data-index.postgresql.notifications.enabled is true, so no notification is sent by default.
+CREATE OR REPLACE FUNCTION data_index_notify_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('data_index_changes', TG_TABLE_NAME || ' DELETE ' || OLD.id);
+    ELSE
+        PERFORM pg_notify('data_index_changes', TG_TABLE_NAME || ' ' || TG_OP || ' ' || NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION data_index_notify_process_instance_change() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('data_index_changes', 'processes UPDATE ' || NEW.process_instance_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION data_index_notify_task_change() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('data_index_changes', 'tasks UPDATE ' || NEW.task_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS processes_notify_change ON processes;
+CREATE TRIGGER processes_notify_change AFTER INSERT OR UPDATE OR DELETE ON processes
+    FOR EACH ROW WHEN (current_setting('kogito.data_index_notifications', true) = 'on')
+    EXECUTE PROCEDURE data_index_notify_change();
+
+DROP TRIGGER IF EXISTS nodes_notify_change ON nodes;
+CREATE TRIGGER nodes_notify_change AFTER INSERT OR UPDATE ON nodes
+    FOR EACH ROW WHEN (current_setting('kogito.data_index_notifications', true) = 'on')
+    EXECUTE PROCEDURE data_index_notify_process_instance_change();
+
+DROP TRIGGER IF EXISTS milestones_notify_change ON milestones;
+CREATE TRIGGER milestones_notify_change AFTER INSERT OR UPDATE ON milestones
+    FOR EACH ROW WHEN (current_setting('kogito.data_index_notifications', true) = 'on')
+    EXECUTE PROCEDURE data_index_notify_process_instance_change();
+
+DROP TRIGGER IF EXISTS tasks_notify_change ON tasks;
+CREATE TRIGGER tasks_notify_change AFTER INSERT OR UPDATE OR DELETE ON tasks
+    FOR EACH ROW WHEN (current_setting('kogito.data_index_notifications', true) = 'on')
+    EXECUTE PROCEDURE data_index_notify_change();
+
+DROP TRIGGER IF EXISTS comments_notify_change ON comments;
+CREATE TRIGGER comments_notify_change AFTER INSERT OR UPDATE ON comments
+    FOR EACH ROW WHEN (current_setting('kogito.data_index_notifications', true) = 'on')
+    EXECUTE PROCEDURE data_index_notify_task_change();
+
+DROP TRIGGER IF EXISTS attachments_notify_change ON attachments;
+CREATE TRIGGER attachments_notify_change AFTER INSERT OR UPDATE ON attachments
+    FOR EACH ROW WHEN (current_setting('kogito.data_index_notifications', true) = 'on')
+    EXECUTE PROCEDURE data_index_notify_task_change();
+
+DROP TRIGGER IF EXISTS jobs_notify_change ON jobs;
+CREATE TRIGGER jobs_notify_change AFTER INSERT OR UPDATE OR DELETE ON jobs
+    FOR EACH ROW WHEN (current_setting('kogito.data_index_notifications', true) = 'on')
+    EXECUTE PROCEDURE data_index_notify_change();
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+-- Indexes of the columns commonly used to filter and sort the process instances, user tasks and jobs.
+-- They are created concurrently, so the tables are not locked, which makes flyway run this script out of a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_processes_state ON processes (state);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_processes_pid ON processes (process_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_processes_bk ON processes (business_key);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_processes_ppiid ON processes (parent_process_instance_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_processes_rpiid ON processes (root_process_instance_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_processes_start ON processes (start_time);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_processes_last_update ON processes (last_update_time);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_state ON tasks (state);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_actual_owner ON tasks (actual_owner);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_started ON tasks (started);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_last_update ON tasks (last_update);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_status ON jobs (status);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_expiration_time ON jobs (expiration_time);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_last_update ON jobs (last_update);
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.postgresql;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgresqlChangeListenerTest {
+
+    private PostgresqlChangeListener listener;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        listener = new PostgresqlChangeListener();
+        listener.enabled = true;
+        listener.dataSource = mock(DataSource.class);
+        when(listener.dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+        listener.pollIntervalMillis = 10;
+        listener.bufferSize = 16;
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.onStop(null);
+    }
+
+    @Test
+    void testChanges() throws Exception {
+        CompletableFuture<List<String>> created = firstItems(listener.changes("processes", "INSERT"), 2);
+        CompletableFuture<List<String>> updated = firstItems(listener.changes("processes", "UPDATE", id -> "2".equals(id) ? null : "pi-" + id), 2);
+        CompletableFuture<List<String>> removed = firstItems(listener.changes("jobs", "DELETE"), 1);
+
+        listener.onNotification("processes INSERT 1");
+        listener.onNotification("tasks INSERT 1");
+        listener.onNotification("processes UPDATE 2");
+        listener.onNotification("processes UPDATE 3");
+        listener.onNotification("invalid");
+        listener.onNotification("jobs DELETE 4");
+        listener.onNotification("processes INSERT 5");
+        listener.onNotification("processes UPDATE 6");
+
+        assertThat(created.get(5, SECONDS)).containsExactly("1", "5");
+        assertThat(updated.get(5, SECONDS)).containsExactly("pi-3", "pi-6");
+        assertThat(removed.get(5, SECONDS)).containsExactly("4");
+    }
+
+    @Test
+    void testChangesDisabled() {
+        listener.enabled = false;
+
+        assertThatThrownBy(() -> listener.changes("processes", "INSERT"))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining(PostgresqlChangeListener.ENABLED_PROPERTY);
+    }
+
+    private static CompletableFuture<List<String>> firstItems(Multi<String> multi, int count) {
+        return multi.select().first(count).collect().asList().subscribeAsCompletionStage().toCompletableFuture();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.postgresql;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PostgresqlJsonIndexManagerTest {
+
+    private PostgresqlJsonIndexManager indexManager;
+    private Statement statement;
+
+    @BeforeEach
+    void setup() throws Exception {
+        indexManager = new PostgresqlJsonIndexManager();
+        indexManager.dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        when(indexManager.dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+    }
+
+    @Test
+    void testCreateIndex() throws Exception {
+        assertThat(indexManager.createIndex(new JsonPathFilter("processes", "variables.traveller.name", true))).isEqualTo("idx_json_processes_variables_traveller_name_text");
+        verify(statement).execute(
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_json_processes_variables_traveller_name_text ON processes ((jsonb_extract_path_text(variables, 'traveller', 'name')))");
+
+        assertThat(indexManager.createIndex(new JsonPathFilter("tasks", "inputs.o'k", false))).isEqualTo("idx_json_tasks_inputs_o_k");
+        verify(statement).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_json_tasks_inputs_o_k ON tasks ((jsonb_extract_path(inputs, 'o''k')))");
+    }
+
+    @Test
+    void testIndexNameLength() {
+        String name = PostgresqlJsonIndexManager.indexName(new JsonPathFilter("processes", "variables.a_very_long_variable_name.with_a_very_long_nested_attribute", false));
+        assertThat(name).hasSize(63).startsWith("idx_json_processes_variables_a_very_long_variable_name");
+    }
+
+    @Test
+    void testCreateIndexInvalidAttribute() {
+        assertThatThrownBy(() -> indexManager.createIndex(new JsonPathFilter("processes", "variables", true))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> indexManager.createIndex(new JsonPathFilter("processes", "state.name", true))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> indexManager.createIndex(new JsonPathFilter("jobs; DROP TABLE jobs", "variables.a", true))).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(statement);
+    }
+}
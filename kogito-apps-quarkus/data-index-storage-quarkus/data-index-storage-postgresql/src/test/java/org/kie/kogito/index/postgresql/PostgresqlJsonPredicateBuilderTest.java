@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.postgresql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.isNull;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgresqlJsonPredicateBuilderTest {
+
+    private PostgresqlJsonPredicateBuilder predicateBuilder;
+    private Root<?> root;
+    private CriteriaBuilder builder;
+
+    @BeforeEach
+    void setup() {
+        predicateBuilder = new PostgresqlJsonPredicateBuilder();
+        root = mock(Root.class, RETURNS_DEEP_STUBS);
+        builder = mock(CriteriaBuilder.class);
+        when(root.getModel().getName()).thenReturn("processes");
+    }
+
+    @Test
+    void testFilterCounts() {
+        predicateBuilder.buildPredicate(isNull("name"), root, builder);
+        predicateBuilder.buildPredicate(isNull("name"), root, builder);
+
+        assertThat(predicateBuilder.getFilterCounts()).containsEntry(new JsonPathFilter("processes", "name", false), 2L);
+    }
+
+    @Test
+    void testFilterCountsAreBounded() {
+        predicateBuilder.buildPredicate(isNull("name"), root, builder);
+        for (int i = 0; i < PostgresqlJsonPredicateBuilder.MAX_TRACKED_FILTERS * 2; i++) {
+            predicateBuilder.buildPredicate(isNull("attribute" + i), root, builder);
+        }
+        predicateBuilder.buildPredicate(isNull("name"), root, builder);
+
+        assertThat(predicateBuilder.getFilterCounts()).hasSize(PostgresqlJsonPredicateBuilder.MAX_TRACKED_FILTERS)
+                .containsEntry(new JsonPathFilter("processes", "name", false), 2L);
+    }
+}
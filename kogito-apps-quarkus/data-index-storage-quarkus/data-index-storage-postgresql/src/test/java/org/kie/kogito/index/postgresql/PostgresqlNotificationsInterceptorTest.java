@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.index.postgresql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PostgresqlNotificationsInterceptorTest {
+
+    @Test
+    void testNotificationsEnabled() throws SQLException {
+        PostgresqlNotificationsInterceptor interceptor = new PostgresqlNotificationsInterceptor();
+        interceptor.enabled = true;
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+
+        interceptor.onConnectionCreate(connection);
+
+        verify(statement).execute(PostgresqlNotificationsInterceptor.ENABLE_NOTIFICATIONS);
+        verify(statement).close();
+    }
+
+    @Test
+    void testNotificationsDisabled() {
+        PostgresqlNotificationsInterceptor interceptor = new PostgresqlNotificationsInterceptor();
+        Connection connection = mock(Connection.class);
+
+        interceptor.onConnectionCreate(connection);
+
+        verifyNoInteractions(connection);
+    }
+}
@@ -18,8 +18,14 @@
  */
 package org.kie.kogito.index.postgresql.storage;
 
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
 import org.kie.kogito.index.jpa.storage.AbstractProcessInstanceStorageIT;
 import org.kie.kogito.index.jpa.storage.ProcessInstanceEntityStorage;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.model.ProcessInstanceState;
+import org.kie.kogito.index.test.TestUtils;
 import org.kie.kogito.testcontainers.quarkus.PostgreSqlQuarkusTestResource;
 
 import io.quarkus.test.TestTransaction;
@@ -27,13 +33,36 @@ import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @QuarkusTest
 @TestTransaction
 @QuarkusTestResource(PostgreSqlQuarkusTestResource.class)
 public class ProcessInstanceStorageIT extends AbstractProcessInstanceStorageIT {
+
+    @Inject
+    EntityManager em;
+
     @Inject
     public ProcessInstanceStorageIT(ProcessInstanceEntityStorage storage) {
         super(storage);
     }
+
+    @Test
+    void testProcessInstanceVariableEventNotLoaded() {
+        String processInstanceId = UUID.randomUUID().toString();
+        storage.indexState(TestUtils.createProcessInstanceEvent(processInstanceId, "travels", null, null, ProcessInstanceState.ACTIVE.ordinal()));
+        storage.indexVariable(TestUtils.createProcessInstanceVariableEvent(processInstanceId, "travels", "John", "Doe"));
+        em.flush();
+        em.clear();
+
+        storage.indexVariable(TestUtils.createProcessInstanceVariableEvent(processInstanceId, "travels", "Jane", "Doe"));
+        storage.indexVariable(TestUtils.createProcessInstanceVariableEvent(processInstanceId, "travels", "Jane", "Doe"));
+
+        ProcessInstance processInstance = storage.get(processInstanceId);
+        assertThat(processInstance.getVariables().at("/traveller/firstName").asText()).isEqualTo("Jane");
+        assertThat(processInstance.getVariables().at("/traveller/lastName").asText()).isEqualTo("Doe");
+    }
 }
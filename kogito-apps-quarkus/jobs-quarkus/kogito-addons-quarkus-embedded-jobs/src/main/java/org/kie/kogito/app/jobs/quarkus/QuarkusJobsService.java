@@ -18,6 +18,8 @@
  */
 package org.kie.kogito.app.jobs.quarkus;
 
+import java.util.Optional;
+
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.app.jobs.api.JobExecutor;
 import org.kie.kogito.app.jobs.api.JobScheduler;
@@ -83,6 +85,24 @@ public class QuarkusJobsService implements JobsService {
     @ConfigProperty(name = "kogito.jobs-service.schedulerChunkInMinutes", defaultValue = "10")
     protected Long maxRefreshJobsIntervalWindow;
 
+    // the jobs are loaded every chunk by default
+    @ConfigProperty(name = "kogito.jobs-service.refreshJobsIntervalMillis")
+    protected Optional<Long> refreshJobsInterval;
+
+    // between the full reloads only the jobs changed since the previous refresh are loaded
+    @ConfigProperty(name = "kogito.jobs-service.fullRefreshJobsIntervalMillis", defaultValue = "3600000")
+    protected Long fullRefreshJobsInterval;
+
+    // the changes committed late are loaded by the incremental refreshes as long as the transaction took less than this
+    @ConfigProperty(name = "kogito.jobs-service.maxTransactionTimeMillis", defaultValue = "300000")
+    protected Long maxTransactionTime;
+
+    @ConfigProperty(name = "kogito.jobs-service.claimBatchSize", defaultValue = "0")
+    protected Integer claimBatchSize;
+
+    @ConfigProperty(name = "kogito.jobs-service.claimTimeoutMillis", defaultValue = "600000")
+    protected Long claimTimeoutMillis;
+
     @ConfigProperty(name = "kogito.service.url", defaultValue = "http://localhost:8080")
     protected String serviceURL;
 
@@ -113,13 +133,17 @@ public class QuarkusJobsService implements JobsService {
                 .withMaxRefreshJobsIntervalWindow(maxRefreshJobsIntervalWindow * 60 * 1000L)
                 .withRetryInterval(retryMillis)
                 .withMaxNumberOfRetries(maxNumberOfRetries)
-                .withRefreshJobsInterval(maxRefreshJobsIntervalWindow * 60 * 1000L)
+                .withRefreshJobsInterval(refreshJobsInterval.orElse(maxRefreshJobsIntervalWindow * 60 * 1000L))
+                .withFullRefreshJobsInterval(fullRefreshJobsInterval)
+                .withMaxTransactionTime(maxTransactionTime)
                 .withTimeoutInterceptor(
                         new TransactionJobTimeoutInterceptor(),
                         new ErrorHandlingJobTimeoutInterceptor(exceptionHandlers.stream().toList()))
                 .withExceptionDetailsExtractor(exceptionDetailsExtractor)
                 .withTransactionRollbackMarker(transactionRollbackMarker)
                 .withNumberOfWorkerThreads(numberOfWorkerThreads)
+                .withClaimBatchSize(claimBatchSize)
+                .withClaimTimeout(claimTimeoutMillis)
                 .withJobSynchronization(new JobSynchronization() {
 
                     @Override
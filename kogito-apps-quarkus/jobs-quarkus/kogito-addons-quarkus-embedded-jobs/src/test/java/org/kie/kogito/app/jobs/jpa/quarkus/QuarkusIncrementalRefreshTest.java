@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.app.jobs.jpa.quarkus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.app.jobs.impl.JobDetailsHelper;
+import org.kie.kogito.app.jobs.spi.JobContextFactory;
+import org.kie.kogito.app.jobs.spi.JobStore;
+import org.kie.kogito.jobs.ExactExpirationTime;
+import org.kie.kogito.jobs.descriptors.ProcessInstanceJobDescription;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+import jakarta.inject.Inject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that a job stored by another instance is loaded by the incremental refresh, long before the next full
+ * reload of the jobs.
+ */
+@QuarkusTest
+@TestProfile(QuarkusIncrementalRefreshTest.IncrementalRefreshProfile.class)
+public class QuarkusIncrementalRefreshTest {
+
+    public static class IncrementalRefreshProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("kogito.jobs-service.refreshJobsIntervalMillis", "500",
+                    "kogito.jobs-service.fullRefreshJobsIntervalMillis", "600000");
+        }
+    }
+
+    @Inject
+    JobStore jobStore;
+
+    @Inject
+    JobContextFactory jobContextFactory;
+
+    @Inject
+    TestJobSchedulerListener listener;
+
+    @Test
+    public void testJobStoredByAnotherInstanceIsLoaded() throws Exception {
+        ProcessInstanceJobDescription jobDescription = new ProcessInstanceJobDescription("incremental", "-1",
+                ExactExpirationTime.of(Instant.now().plus(Duration.ofSeconds(2)).atZone(ZoneId.of("UTC"))), 5,
+                "processInstanceId", null, "processId", null, "nodeInstanceId");
+
+        listener.setCount(1);
+        // stored without going through the scheduler of this instance
+        QuarkusTransaction.requiringNew().run(() -> jobStore.persist(jobContextFactory.newContext(), JobDetailsHelper.newScheduledJobDetails(jobDescription)));
+
+        assertThat(listener.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -39,8 +39,9 @@ public class HttpJobExecutor extends HTTPRequestExecutor<HttpRecipient<?>> imple
     @Inject
     public HttpJobExecutor(@ConfigProperty(name = "kogito.job.recipient.http.timeout-in-millis") long timeout,
             Vertx vertx,
-            ObjectMapper objectMapper) {
-        super(timeout, vertx, objectMapper);
+            ObjectMapper objectMapper,
+            JobHttpRecipientRuntimeConfiguration configuration) {
+        super(timeout, vertx, objectMapper, configuration.client());
     }
 
     @PostConstruct
@@ -21,6 +21,7 @@ package org.kie.kogito.job.http.recipient;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 
+import org.kie.kogito.job.recipient.common.http.HTTPClientConfiguration;
 import org.kie.kogito.job.recipient.common.http.HTTPRequestExecutorTest;
 import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipient;
 import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipientStringPayloadData;
@@ -34,12 +35,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.mutiny.core.Vertx;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 class HttpJobExecutorTest extends HTTPRequestExecutorTest<HttpRecipient<?>, HttpJobExecutor> {
 
     @Override
     protected HttpJobExecutor createExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper) {
-        return new HttpJobExecutor(timeout, vertx, objectMapper);
+        JobHttpRecipientRuntimeConfiguration configuration = mock(JobHttpRecipientRuntimeConfiguration.class);
+        doReturn(mockClientConfiguration(HTTPClientConfiguration.class)).when(configuration).client();
+        return new HttpJobExecutor(timeout, vertx, objectMapper, configuration);
     }
 
     @Override
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.job.recipient.common.http;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Limits the number of requests executed at the same time against every destination, the requests beyond the limit
+ * are queued in arrival order and executed as soon as a running request for the same destination completes.
+ * <p>
+ * Permits are handed over directly from a completed request to the next queued one, so a burst of requests to a
+ * single destination never goes beyond the limit, while the requests to other destinations are not affected.
+ */
+public class DestinationBulkhead {
+
+    private final int maxConcurrentRequests;
+
+    private final int maxQueuedRequests;
+
+    private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+
+    private volatile Consumer<String> destinationListener = destination -> {
+    };
+
+    public DestinationBulkhead(int maxConcurrentRequests, int maxQueuedRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    public boolean isEnabled() {
+        return maxConcurrentRequests > 0;
+    }
+
+    /**
+     * Executes the action once a permit for the destination is available, the permit is released when the action
+     * terminates, either with an item, a failure or a cancellation.
+     *
+     * @param destination the destination the action targets.
+     * @param action supplies the action to execute, it is only called when the permit was acquired.
+     * @return the result of the action, or a {@link RejectedExecutionException} failure if the queue of the
+     *         destination is full.
+     */
+    public <T> Uni<T> execute(String destination, Supplier<Uni<T>> action) {
+        if (!isEnabled()) {
+            return Uni.createFrom().deferred(action);
+        }
+        return Uni.createFrom().deferred(() -> {
+            Destination target = destinations.computeIfAbsent(destination, this::newDestination);
+            return Uni.createFrom().<Runnable> emitter(target::acquire)
+                    .chain(release -> Uni.createFrom().deferred(action).onTermination().invoke(release));
+        });
+    }
+
+    /**
+     * Notifies the destinations already known and every new one, e.g. to register their meters. The listener is
+     * called once per destination, when its first request is executed.
+     */
+    public void onNewDestination(Consumer<String> listener) {
+        this.destinationListener = listener;
+        destinations.keySet().forEach(listener);
+    }
+
+    private Destination newDestination(String destination) {
+        destinationListener.accept(destination);
+        return new Destination();
+    }
+
+    public Set<String> getDestinations() {
+        return destinations.keySet();
+    }
+
+    /**
+     * @return the number of requests being executed for the destination.
+     */
+    public int getActiveRequests(String destination) {
+        Destination target = destinations.get(destination);
+        return target != null ? target.getActive() : 0;
+    }
+
+    /**
+     * @return the number of requests waiting for a permit for the destination.
+     */
+    public int getQueuedRequests(String destination) {
+        Destination target = destinations.get(destination);
+        return target != null ? target.getQueued() : 0;
+    }
+
+    /**
+     * @return the number of requests rejected for the destination since the start, because its queue was full.
+     */
+    public long getRejectedRequests(String destination) {
+        Destination target = destinations.get(destination);
+        return target != null ? target.getRejected() : 0;
+    }
+
+    private class Destination {
+
+        private final Deque<UniEmitter<? super Runnable>> waiting = new ArrayDeque<>();
+
+        private int active;
+
+        private long rejected;
+
+        void acquire(UniEmitter<? super Runnable> emitter) {
+            boolean granted = false;
+            boolean queueFull = false;
+            synchronized (this) {
+                if (active < maxConcurrentRequests) {
+                    active++;
+                    granted = true;
+                } else if (maxQueuedRequests >= 0 && waiting.size() >= maxQueuedRequests) {
+                    rejected++;
+                    queueFull = true;
+                } else {
+                    waiting.addLast(emitter);
+                }
+            }
+            if (granted) {
+                emitter.complete(newRelease());
+            } else if (queueFull) {
+                emitter.fail(new RejectedExecutionException("Too many requests queued for the destination, max queued requests: " + maxQueuedRequests));
+            } else {
+                emitter.onTermination(() -> {
+                    synchronized (this) {
+                        waiting.remove(emitter);
+                    }
+                });
+            }
+        }
+
+        private Runnable newRelease() {
+            AtomicBoolean released = new AtomicBoolean();
+            return () -> {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            };
+        }
+
+        private void release() {
+            UniEmitter<? super Runnable> next;
+            synchronized (this) {
+                // the permit goes to the next waiting request that was not cancelled meanwhile
+                do {
+                    next = waiting.pollFirst();
+                } while (next != null && next.isCancelled());
+                if (next == null) {
+                    active--;
+                }
+            }
+            if (next != null) {
+                next.complete(newRelease());
+            }
+        }
+
+        synchronized int getActive() {
+            return active;
+        }
+
+        synchronized int getQueued() {
+            return waiting.size();
+        }
+
+        synchronized long getRejected() {
+            return rejected;
+        }
+    }
+}
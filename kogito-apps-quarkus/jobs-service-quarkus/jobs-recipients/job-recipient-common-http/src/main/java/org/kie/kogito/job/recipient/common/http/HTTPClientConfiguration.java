@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.job.recipient.common.http;
+
+import io.smallrye.config.WithDefault;
+
+/**
+ * Settings of the web client used by a {@link HTTPRequestExecutor} to reach the recipients, and of the bulkhead that
+ * limits the number of concurrent requests sent to every destination.
+ * <p>
+ * Config group shared by the <code>client</code> settings of the HTTP and the sink recipients.
+ */
+public interface HTTPClientConfiguration {
+
+    /**
+     * Maximum number of HTTP/1.x connections kept in the pool for every destination.
+     */
+    @WithDefault("20")
+    int maxPoolSize();
+
+    /**
+     * Keep the connections open after a request is completed to reuse them.
+     */
+    @WithDefault("true")
+    boolean keepAlive();
+
+    /**
+     * Time in seconds after an unused connection is closed, zero means the connections are never closed.
+     */
+    @WithDefault("60")
+    int idleTimeoutInSeconds();
+
+    /**
+     * Send several HTTP/1.1 requests on the same connection without waiting for the previous responses.
+     */
+    @WithDefault("false")
+    boolean pipelining();
+
+    /**
+     * Use HTTP/2 when the destination supports it, falling back to HTTP/1.1 otherwise.
+     */
+    @WithDefault("false")
+    boolean http2();
+
+    /**
+     * Maximum number of HTTP/2 connections kept in the pool for every destination.
+     */
+    @WithDefault("1")
+    int http2MaxPoolSize();
+
+    /**
+     * Maximum number of concurrent streams on a single HTTP/2 connection, -1 means the value announced by the server.
+     */
+    @WithDefault("-1")
+    int http2MultiplexingLimit();
+
+    /**
+     * Maximum number of requests sent at the same time to a single destination (scheme, host and port), the
+     * remaining requests wait for a permit. Zero or a negative value disables the limit.
+     */
+    @WithDefault("0")
+    int maxConcurrentRequestsPerDestination();
+
+    /**
+     * Maximum number of requests waiting for a permit for a single destination, requests beyond this value fail
+     * immediately. A negative value means the queue is not bounded.
+     */
+    @WithDefault("-1")
+    int maxQueuedRequestsPerDestination();
+}
@@ -18,9 +18,11 @@
  */
 package org.kie.kogito.job.recipient.common.http;
 
+import java.net.URI;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.kie.kogito.job.recipient.common.http.converters.HttpConverters;
@@ -37,6 +39,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.ext.web.client.HttpRequest;
@@ -56,24 +60,65 @@ public abstract class HTTPRequestExecutor<R extends Recipient<?>> {
 
     protected ObjectMapper objectMapper;
 
+    protected HTTPClientConfiguration clientConfiguration;
+
+    protected DestinationBulkhead bulkhead;
+
     protected HTTPRequestExecutor() {
     }
 
     protected HTTPRequestExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper) {
+        this(timeout, vertx, objectMapper, null);
+    }
+
+    /**
+     * @param clientConfiguration settings of the web client and the destinations bulkhead, when null the web client
+     *        is created with the default options and the requests are not limited.
+     */
+    protected HTTPRequestExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper, HTTPClientConfiguration clientConfiguration) {
         this.timeout = timeout;
         this.vertx = vertx;
         this.objectMapper = objectMapper;
+        this.clientConfiguration = clientConfiguration;
     }
 
     protected void initialize() {
         this.client = createClient();
+        this.bulkhead = clientConfiguration != null
+                ? new DestinationBulkhead(clientConfiguration.maxConcurrentRequestsPerDestination(), clientConfiguration.maxQueuedRequestsPerDestination())
+                : new DestinationBulkhead(0, -1);
     }
 
     /**
      * facilitates tests.
      */
     public WebClient createClient() {
-        return WebClient.create(vertx);
+        if (clientConfiguration == null) {
+            return WebClient.create(vertx);
+        }
+        return WebClient.create(vertx, createClientOptions(clientConfiguration));
+    }
+
+    static WebClientOptions createClientOptions(HTTPClientConfiguration configuration) {
+        WebClientOptions options = new WebClientOptions()
+                .setMaxPoolSize(configuration.maxPoolSize())
+                .setKeepAlive(configuration.keepAlive())
+                .setIdleTimeout(configuration.idleTimeoutInSeconds())
+                .setIdleTimeoutUnit(TimeUnit.SECONDS)
+                .setPipelining(configuration.pipelining());
+        if (configuration.http2()) {
+            // ALPN negotiates HTTP/2 on TLS connections, plain connections are upgraded from HTTP/1.1
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2ClearTextUpgrade(true)
+                    .setHttp2MaxPoolSize(configuration.http2MaxPoolSize())
+                    .setHttp2MultiplexingLimit(configuration.http2MultiplexingLimit());
+        }
+        return options;
+    }
+
+    public DestinationBulkhead getBulkhead() {
+        return bulkhead;
     }
 
     public Uni<JobExecutionResponse> execute(JobDetails jobDetails) {
@@ -83,7 +128,7 @@ public abstract class HTTPRequestExecutor<R extends Recipient<?>> {
                     final String limit = getLimit(job);
                     final HTTPRequest request = buildRequest(recipient, limit);
                     final long requestTimeout = getTimeoutInMillis(job);
-                    return executeRequest(request, requestTimeout)
+                    return bulkhead.execute(getDestination(request), () -> executeRequest(request, requestTimeout))
                             .onFailure().transform(unexpected -> new JobExecutionException(job.getId(),
                                     "Unexpected error when executing HTTP request for job: " + jobDetails.getId() + ". " + unexpected.getMessage()))
                             .onItem().transform(response -> JobExecutionResponse.builder()
@@ -114,6 +159,21 @@ public abstract class HTTPRequestExecutor<R extends Recipient<?>> {
         }
     }
 
+    /**
+     * @return the scheme, host and port the request targets, used to share the bulkhead permits.
+     */
+    protected static String getDestination(HTTPRequest request) {
+        try {
+            URI uri = URI.create(request.getUrl());
+            if (uri.getHost() == null) {
+                return request.getUrl();
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() >= 0 ? ":" + uri.getPort() : "");
+        } catch (IllegalArgumentException e) {
+            return request.getUrl();
+        }
+    }
+
     protected Buffer buildBuffer(Object body) {
         if (body instanceof String) {
             return Buffer.buffer((String) body);
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.job.recipient.common.http;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DestinationBulkheadTest {
+
+    private static final String DESTINATION = "http://localhost:8080";
+    private static final String OTHER_DESTINATION = "http://localhost:8081";
+
+    @Test
+    void executeQueuesRequestsBeyondTheLimit() {
+        DestinationBulkhead tested = new DestinationBulkhead(2, -1);
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        CompletableFuture<String> third = new CompletableFuture<>();
+
+        CompletableFuture<String> firstResult = execute(tested, DESTINATION, first, started);
+        CompletableFuture<String> secondResult = execute(tested, DESTINATION, second, started);
+        CompletableFuture<String> thirdResult = execute(tested, DESTINATION, third, started);
+        CompletableFuture<String> otherResult = execute(tested, OTHER_DESTINATION, CompletableFuture.completedFuture("other"), started);
+
+        assertThat(started).hasValue(3);
+        assertThat(otherResult).isCompletedWithValue("other");
+        assertThat(tested.getActiveRequests(DESTINATION)).isEqualTo(2);
+        assertThat(tested.getQueuedRequests(DESTINATION)).isEqualTo(1);
+        assertThat(tested.getActiveRequests(OTHER_DESTINATION)).isZero();
+
+        first.complete("first");
+        assertThat(firstResult).isCompletedWithValue("first");
+        assertThat(started).hasValue(4);
+        assertThat(tested.getActiveRequests(DESTINATION)).isEqualTo(2);
+        assertThat(tested.getQueuedRequests(DESTINATION)).isZero();
+
+        second.completeExceptionally(new IllegalStateException("second"));
+        third.complete("third");
+        assertThat(secondResult).isCompletedExceptionally();
+        assertThat(thirdResult).isCompletedWithValue("third");
+        assertThat(tested.getActiveRequests(DESTINATION)).isZero();
+        assertThat(tested.getDestinations()).containsExactlyInAnyOrder(DESTINATION, OTHER_DESTINATION);
+    }
+
+    @Test
+    void executeRejectsWhenTheQueueIsFull() {
+        DestinationBulkhead tested = new DestinationBulkhead(1, 1);
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<String> first = new CompletableFuture<>();
+
+        execute(tested, DESTINATION, first, started);
+        execute(tested, DESTINATION, CompletableFuture.completedFuture("second"), started);
+        CompletableFuture<String> rejected = execute(tested, DESTINATION, CompletableFuture.completedFuture("third"), started);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.handle((r, e) -> e)).isCompletedWithValueMatching(RejectedExecutionException.class::isInstance);
+        assertThat(tested.getRejectedRequests(DESTINATION)).isEqualTo(1);
+        assertThat(started).hasValue(1);
+
+        first.complete("first");
+        assertThat(started).hasValue(2);
+        assertThat(tested.getActiveRequests(DESTINATION)).isZero();
+    }
+
+    @Test
+    void cancelledRequestsReleaseThePermit() {
+        DestinationBulkhead tested = new DestinationBulkhead(1, -1);
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<String> first = new CompletableFuture<>();
+
+        Cancellable running = tested.execute(DESTINATION, () -> {
+            started.incrementAndGet();
+            return Uni.createFrom().completionStage(first);
+        }).subscribe().with(item -> {
+        });
+        Cancellable queued = tested.execute(DESTINATION, () -> {
+            started.incrementAndGet();
+            return Uni.createFrom().item("queued");
+        }).subscribe().with(item -> {
+        });
+        assertThat(tested.getQueuedRequests(DESTINATION)).isEqualTo(1);
+
+        queued.cancel();
+        assertThat(tested.getQueuedRequests(DESTINATION)).isZero();
+        running.cancel();
+        assertThat(tested.getActiveRequests(DESTINATION)).isZero();
+        assertThat(started).hasValue(1);
+
+        CompletableFuture<String> next = execute(tested, DESTINATION, CompletableFuture.completedFuture("next"), started);
+        assertThat(next).isCompletedWithValue("next");
+    }
+
+    @Test
+    void executeWithoutLimit() {
+        DestinationBulkhead tested = new DestinationBulkhead(0, -1);
+        AtomicInteger started = new AtomicInteger();
+
+        execute(tested, DESTINATION, new CompletableFuture<>(), started);
+        execute(tested, DESTINATION, new CompletableFuture<>(), started);
+
+        assertThat(tested.isEnabled()).isFalse();
+        assertThat(started).hasValue(2);
+        assertThat(tested.getDestinations()).isEmpty();
+    }
+
+    private static CompletableFuture<String> execute(DestinationBulkhead bulkhead, String destination, CompletableFuture<String> response, AtomicInteger started) {
+        return bulkhead.execute(destination, () -> {
+            started.incrementAndGet();
+            return Uni.createFrom().completionStage(response);
+        }).subscribeAsCompletionStage();
+    }
+}
@@ -20,6 +20,7 @@ package org.kie.kogito.job.recipient.common.http;
 
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
 import io.vertx.mutiny.core.MultiMap;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.core.buffer.Buffer;
@@ -48,6 +51,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -59,7 +63,8 @@ public abstract class HTTPRequestExecutorTest<R extends Recipient<?>, E extends
     public static final int PORT = 8080;
     public static final String HOST = "localhost";
     public static final String PATH = "/my-service";
-    public static final String ENDPOINT = "http://" + HOST + ":" + PORT + PATH;
+    public static final String DESTINATION = "http://" + HOST + ":" + PORT;
+    public static final String ENDPOINT = DESTINATION + PATH;
     public static final String JOB_ID = "JOB_ID";
     public static final String JOB_DATA = "JOB_DATA";
 
@@ -101,12 +106,24 @@ public abstract class HTTPRequestExecutorTest<R extends Recipient<?>, E extends
 
     protected abstract E createExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper);
 
+    /**
+     * Client configuration with a bulkhead of one request per destination, so the tests go through it.
+     */
+    protected static <C extends HTTPClientConfiguration> C mockClientConfiguration(Class<C> type) {
+        C configuration = mock(type);
+        lenient().doReturn(1).when(configuration).maxConcurrentRequestsPerDestination();
+        lenient().doReturn(-1).when(configuration).maxQueuedRequestsPerDestination();
+        return configuration;
+    }
+
     @Test
     void testExecute() {
         JobDetails job = createSimpleJob();
         executeAndCollectRequestInfo(request, params, headers, job, false);
         assertExecuteConditions();
         assertTimeout(DEFAULT_TIMEOUT);
+        assertThat(tested.getBulkhead().getDestinations()).containsExactly(DESTINATION);
+        assertThat(tested.getBulkhead().getActiveRequests(DESTINATION)).isZero();
     }
 
     @Test
@@ -126,6 +143,37 @@ public abstract class HTTPRequestExecutorTest<R extends Recipient<?>, E extends
         JobDetails job = createSimpleJob();
         executeAndCollectRequestInfo(request, params, headers, job, true);
         assertExecuteWithErrorConditions();
+        assertThat(tested.getBulkhead().getActiveRequests(DESTINATION)).isZero();
+    }
+
+    @Test
+    void testCreateClientOptions() {
+        HTTPClientConfiguration configuration = mock(HTTPClientConfiguration.class);
+        doReturn(50).when(configuration).maxPoolSize();
+        doReturn(true).when(configuration).keepAlive();
+        doReturn(30).when(configuration).idleTimeoutInSeconds();
+        doReturn(true).when(configuration).pipelining();
+        doReturn(true).when(configuration).http2();
+        doReturn(2).when(configuration).http2MaxPoolSize();
+        doReturn(100).when(configuration).http2MultiplexingLimit();
+
+        WebClientOptions options = HTTPRequestExecutor.createClientOptions(configuration);
+
+        assertThat(options.getMaxPoolSize()).isEqualTo(50);
+        assertThat(options.isKeepAlive()).isTrue();
+        assertThat(options.getIdleTimeout()).isEqualTo(30);
+        assertThat(options.getIdleTimeoutUnit()).isEqualTo(TimeUnit.SECONDS);
+        assertThat(options.isPipelining()).isTrue();
+        assertThat(options.getProtocolVersion()).isEqualTo(HttpVersion.HTTP_2);
+        assertThat(options.isUseAlpn()).isTrue();
+        assertThat(options.getHttp2MaxPoolSize()).isEqualTo(2);
+        assertThat(options.getHttp2MultiplexingLimit()).isEqualTo(100);
+    }
+
+    @Test
+    void testGetDestination() {
+        assertThat(HTTPRequestExecutor.getDestination(HTTPRequest.builder().url(ENDPOINT + "?param=value").build())).isEqualTo(DESTINATION);
+        assertThat(HTTPRequestExecutor.getDestination(HTTPRequest.builder().url("https://" + HOST + PATH).build())).isEqualTo("https://" + HOST);
     }
 
     protected abstract void assertExecuteWithErrorConditions();
@@ -18,6 +18,8 @@
  */
 package org.kie.kogito.job.sink.recipient;
 
+import org.kie.kogito.job.recipient.common.http.HTTPClientConfiguration;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -39,4 +41,9 @@ public interface JobSinkRecipientRuntimeConfiguration {
      */
     @WithDefault("60000")
     long maxTimeoutInMillis();
+
+    /**
+     * Web client and per destination concurrency settings used to execute the HTTP requests for the SinkRecipient.
+     */
+    HTTPClientConfiguration client();
 }
@@ -59,8 +59,9 @@ public class SinkJobExecutor extends HTTPRequestExecutor<SinkRecipient<?>> imple
     @Inject
     public SinkJobExecutor(@ConfigProperty(name = "kogito.job.recipient.sink.timeout-in-millis") long timeout,
             Vertx vertx,
-            ObjectMapper objectMapper) {
-        super(timeout, vertx, objectMapper);
+            ObjectMapper objectMapper,
+            JobSinkRecipientRuntimeConfiguration configuration) {
+        super(timeout, vertx, objectMapper, configuration.client());
     }
 
     @PostConstruct
@@ -23,6 +23,7 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
 
+import org.kie.kogito.job.recipient.common.http.HTTPClientConfiguration;
 import org.kie.kogito.job.recipient.common.http.HTTPRequestExecutorTest;
 import org.kie.kogito.jobs.service.api.recipient.sink.SinkRecipient;
 import org.kie.kogito.jobs.service.api.recipient.sink.SinkRecipientJsonPayloadData;
@@ -38,6 +39,8 @@ import io.cloudevents.SpecVersion;
 import io.vertx.mutiny.core.Vertx;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 class SinkJobExecutorTest extends HTTPRequestExecutorTest<SinkRecipient<?>, SinkJobExecutor> {
 
@@ -52,7 +55,9 @@ class SinkJobExecutorTest extends HTTPRequestExecutorTest<SinkRecipient<?>, Sink
 
     @Override
     protected SinkJobExecutor createExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper) {
-        return new SinkJobExecutor(timeout, vertx, objectMapper);
+        JobSinkRecipientRuntimeConfiguration configuration = mock(JobSinkRecipientRuntimeConfiguration.class);
+        doReturn(mockClientConfiguration(HTTPClientConfiguration.class)).when(configuration).client();
+        return new SinkJobExecutor(timeout, vertx, objectMapper, configuration);
     }
 
     @Override
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.time.temporal.ChronoUnit;
+
+import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipient;
+import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipientStringPayloadData;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.RecipientInstance;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+
+/**
+ * Jobs shaped like the ones created by the processes, with an http recipient and a small payload.
+ */
+final class BenchmarkJobs {
+
+    private BenchmarkJobs() {
+    }
+
+    static JobDetails jobDetails(String id, long fireTime) {
+        return JobDetails.builder()
+                .id(id)
+                .correlationId(id)
+                .status(JobStatus.SCHEDULED)
+                .created(DateUtil.now())
+                .lastUpdate(DateUtil.now())
+                .retries(0)
+                .executionCounter(0)
+                .priority(0)
+                .recipient(new RecipientInstance(HttpRecipient.builder()
+                        .forStringPayload()
+                        .url("http://localhost:8080/management/jobs/" + id)
+                        .payload(HttpRecipientStringPayloadData.from("{\"processInstanceId\":\"" + id + "\"}"))
+                        .build()))
+                .trigger(new PointInTimeTrigger(fireTime, null, null))
+                .executionTimeout(10L)
+                .executionTimeoutUnit(ChronoUnit.SECONDS)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.jobs.service.adapter.JobDetailsAdapter;
+import org.kie.kogito.jobs.service.api.Job;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the {@link JobDetailsAdapter} conversions between the api {@link Job} and the internal {@link JobDetails},
+ * executed on every job created or read through the v2 api.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JobDetailsAdapterBenchmark {
+
+    private JobDetails jobDetails;
+
+    private Job job;
+
+    @Setup
+    public void setUp() {
+        jobDetails = BenchmarkJobs.jobDetails("benchmark", System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5));
+        job = JobDetailsAdapter.toJob(jobDetails);
+    }
+
+    @Benchmark
+    public Job toJob() {
+        return JobDetailsAdapter.toJob(jobDetails);
+    }
+
+    @Benchmark
+    public JobDetails fromJob() {
+        return JobDetailsAdapter.from(job);
+    }
+}
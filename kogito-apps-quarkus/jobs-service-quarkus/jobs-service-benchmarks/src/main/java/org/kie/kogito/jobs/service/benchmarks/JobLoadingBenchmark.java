@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.app.jobs.api.JobSchedulerBuilder;
+import org.kie.kogito.app.jobs.api.JobTimeoutExecution;
+import org.kie.kogito.app.jobs.api.JobTimeoutInterceptor;
+import org.kie.kogito.app.jobs.impl.VertxJobScheduler;
+import org.kie.kogito.app.jobs.spi.JobContext;
+import org.kie.kogito.app.jobs.spi.JobStore;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to load the active jobs of a job store into the {@link VertxJobScheduler}, built through the
+ * {@link JobSchedulerBuilder} as the embedded jobs addons do:
+ * <ul>
+ * <li><code>init</code>: start of a new scheduler, its first refresh creates a timer for every job.</li>
+ * <li><code>refresh</code>: periodic full refresh of a scheduler holding the timers of all the jobs already.</li>
+ * </ul>
+ * The job store is a stub returning the jobs seeded once per trial, so only the scheduler side is measured.
+ * The periodic refresh is pushed far away and each benchmark waits for the refresh it triggers to complete.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JobLoadingBenchmark {
+
+    private static final long REFRESH_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+    private static final long REFRESH_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+    @Param({ "10000", "100000", "1000000" })
+    public int jobs;
+
+    private SeededJobStore jobStore;
+
+    @Setup(Level.Trial)
+    public void setUpJobStore() {
+        long now = System.currentTimeMillis();
+        List<JobDetails> jobDetails = new ArrayList<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            // inside the refresh window, and far enough to never fire while measuring
+            jobDetails.add(BenchmarkJobs.jobDetails("job-" + i, now + TimeUnit.MINUTES.toMillis(30) + i % TimeUnit.MINUTES.toMillis(10)));
+        }
+        jobStore = new SeededJobStore(jobDetails);
+    }
+
+    @Benchmark
+    public void init(NewScheduler created) throws InterruptedException {
+        CountDownLatch refreshed = created.refreshListener.expectRefresh();
+        created.scheduler.init();
+        RefreshListener.await(refreshed);
+    }
+
+    @Benchmark
+    public void refresh(InitializedScheduler initialized) throws InterruptedException {
+        CountDownLatch refreshed = initialized.refreshListener.expectRefresh();
+        initialized.scheduler.handle(0L);
+        RefreshListener.await(refreshed);
+    }
+
+    /**
+     * Scheduler built but not started, a new one for every invocation.
+     */
+    @State(Scope.Benchmark)
+    public static class NewScheduler {
+
+        private RefreshListener refreshListener;
+
+        private VertxJobScheduler scheduler;
+
+        @Setup(Level.Invocation)
+        public void setUp(JobLoadingBenchmark benchmark) {
+            refreshListener = new RefreshListener();
+            scheduler = newScheduler(benchmark.jobStore, refreshListener);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            scheduler.close();
+        }
+    }
+
+    /**
+     * Scheduler already holding the timers of all the seeded jobs, shared by the iterations of the trial.
+     */
+    @State(Scope.Benchmark)
+    public static class InitializedScheduler {
+
+        private RefreshListener refreshListener;
+
+        private VertxJobScheduler scheduler;
+
+        @Setup(Level.Trial)
+        public void setUp(JobLoadingBenchmark benchmark) throws InterruptedException {
+            refreshListener = new RefreshListener();
+            scheduler = newScheduler(benchmark.jobStore, refreshListener);
+            CountDownLatch refreshed = refreshListener.expectRefresh();
+            scheduler.init();
+            RefreshListener.await(refreshed);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            scheduler.close();
+        }
+    }
+
+    private static VertxJobScheduler newScheduler(JobStore jobStore, RefreshListener refreshListener) {
+        // jobs never fire during the benchmarks, so no executor is needed
+        return (VertxJobScheduler) JobSchedulerBuilder.newJobSchedulerBuilder()
+                .withJobStore(jobStore)
+                .withRefreshJobsInterval(REFRESH_INTERVAL)
+                .withMaxRefreshJobsIntervalWindow(REFRESH_INTERVAL)
+                .withTimeoutInterceptor(refreshListener)
+                .build();
+    }
+
+    /**
+     * The refreshes run on the worker threads of the scheduler, wrapped by its interceptors: this one releases the
+     * latch of the expected refresh once it completed. Timeouts would be intercepted too, but no job fires.
+     */
+    private static class RefreshListener implements JobTimeoutInterceptor {
+
+        private volatile CountDownLatch refreshed;
+
+        CountDownLatch expectRefresh() {
+            refreshed = new CountDownLatch(1);
+            return refreshed;
+        }
+
+        static void await(CountDownLatch refreshed) throws InterruptedException {
+            if (!refreshed.await(REFRESH_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Jobs refresh not completed after " + REFRESH_TIMEOUT + " ms");
+            }
+        }
+
+        @Override
+        public Callable<JobTimeoutExecution> chainIntercept(Callable<JobTimeoutExecution> callable) {
+            return () -> {
+                try {
+                    return callable.call();
+                } finally {
+                    refreshed.countDown();
+                }
+            };
+        }
+    }
+
+    /**
+     * Job store returning the same active jobs on every load, without copying them.
+     */
+    private static class SeededJobStore implements JobStore {
+
+        private final List<JobDetails> jobDetails;
+
+        SeededJobStore(List<JobDetails> jobDetails) {
+            this.jobDetails = Collections.unmodifiableList(jobDetails);
+        }
+
+        @Override
+        public List<JobDetails> loadActiveJobs(JobContext jobContext, OffsetDateTime maxWindowsLoad) {
+            return jobDetails;
+        }
+
+        @Override
+        public JobDetails find(JobContext context, String jobId) {
+            return null;
+        }
+
+        @Override
+        public void persist(JobContext context, JobDetails jobDetails) {
+        }
+
+        @Override
+        public void update(JobContext context, JobDetails jobDetails) {
+        }
+
+        @Override
+        public void remove(JobContext context, String jobId) {
+        }
+
+        @Override
+        public boolean shouldRun(JobContext jobContext, String jobId) {
+            return false;
+        }
+    }
+}
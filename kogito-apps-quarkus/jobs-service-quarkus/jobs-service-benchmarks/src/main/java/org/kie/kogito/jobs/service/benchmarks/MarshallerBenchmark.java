@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.repository.marshaller.JobDetailsMarshaller;
+import org.kie.kogito.jobs.service.repository.marshaller.RecipientMarshaller;
+import org.kie.kogito.jobs.service.repository.marshaller.TriggerMarshaller;
+import org.kie.kogito.timer.Trigger;
+import org.kie.kogito.timer.impl.SimpleTimerTrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Cost of the {@link JobDetailsMarshaller} and {@link TriggerMarshaller}, used by the storages that keep the trigger
+ * and the recipient as json, on every job saved and loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MarshallerBenchmark {
+
+    @Param({ "point-in-time", "simple-timer" })
+    public String trigger;
+
+    private JobDetailsMarshaller jobDetailsMarshaller;
+
+    private TriggerMarshaller triggerMarshaller;
+
+    private JobDetails jobDetails;
+
+    private JsonObject jobDetailsJson;
+
+    private Trigger jobTrigger;
+
+    private JsonObject triggerJson;
+
+    @Setup
+    public void setUp() {
+        triggerMarshaller = new TriggerMarshaller();
+        jobDetailsMarshaller = new JobDetailsMarshaller(triggerMarshaller, new RecipientMarshaller());
+        long fireTime = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5);
+        JobDetails job = BenchmarkJobs.jobDetails("benchmark", fireTime);
+        jobTrigger = "simple-timer".equals(trigger)
+                ? new SimpleTimerTrigger(new Date(fireTime), 10, ChronoUnit.MINUTES, 5, "UTC")
+                : job.getTrigger();
+        jobDetails = JobDetails.builder().of(job).trigger(jobTrigger).build();
+        jobDetailsJson = jobDetailsMarshaller.marshall(jobDetails);
+        triggerJson = triggerMarshaller.marshall(jobTrigger);
+    }
+
+    @Benchmark
+    public JsonObject marshallJobDetails() {
+        return jobDetailsMarshaller.marshall(jobDetails);
+    }
+
+    @Benchmark
+    public JobDetails unmarshallJobDetails() {
+        return jobDetailsMarshaller.unmarshall(jobDetailsJson);
+    }
+
+    @Benchmark
+    public JsonObject marshallTrigger() {
+        return triggerMarshaller.marshall(jobTrigger);
+    }
+
+    @Benchmark
+    public Trigger unmarshallTrigger() {
+        return triggerMarshaller.unmarshall(triggerJson);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.repository.impl.InMemoryJobRepository;
+import org.kie.kogito.jobs.service.scheduler.BaseTimerJobScheduler;
+import org.kie.kogito.jobs.service.scheduler.impl.TimerDelegateJobScheduler;
+import org.kie.kogito.jobs.service.scheduler.impl.VertxTimerServiceScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+
+import static mutiny.zero.flow.adapters.AdaptersToFlow.publisher;
+
+/**
+ * Throughput of {@link BaseTimerJobScheduler#schedule(JobDetails)} backed by the {@link InMemoryJobRepository}, the
+ * path followed by every job created through the api: existence check, timer creation and save.
+ * A new scheduler is created on every iteration so the timers and the jobs do not pile up across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    private Vertx vertx;
+
+    private TimerDelegateJobScheduler scheduler;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        vertx = Vertx.vertx();
+        InMemoryJobRepository repository = new InMemoryJobRepository(vertx.getDelegate(), job -> job);
+        scheduler = newScheduler(repository, vertx);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    @Benchmark
+    public JobDetails schedule() {
+        // inside the current scheduler chunk, so a timer is created, and far enough to never fire while measuring
+        JobDetails job = BenchmarkJobs.jobDetails(UUID.randomUUID().toString(), System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5));
+        return Uni.createFrom().publisher(publisher(scheduler.schedule(job))).await().indefinitely();
+    }
+
+    private static TimerDelegateJobScheduler newScheduler(InMemoryJobRepository repository, Vertx vertx) {
+        // jobs never fire during the benchmarks, so no executor is needed
+        return new TimerDelegateJobScheduler(repository, 1000, 60000, 10, 1000, true, true,
+                null, new VertxTimerServiceScheduler(vertx, 1000), new JobServicePartitions(), null);
+    }
+}
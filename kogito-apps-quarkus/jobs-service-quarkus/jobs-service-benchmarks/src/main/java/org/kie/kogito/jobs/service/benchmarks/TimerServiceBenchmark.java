@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.jobs.service.job.DelegateJob;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobDetailsContext;
+import org.kie.kogito.jobs.service.model.ManageableJobHandle;
+import org.kie.kogito.jobs.service.scheduler.impl.TimingWheelTimerServiceScheduler;
+import org.kie.kogito.jobs.service.scheduler.impl.VertxTimerServiceScheduler;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Compares the cost of scheduling and cancelling timers with one Vert.x timer per job
+ * ({@link VertxTimerServiceScheduler}) against the {@link TimingWheelTimerServiceScheduler}.
+ * Timers are spread over the default 10 minutes scheduler chunk and cancelled before they expire, run with
+ * <code>-prof gc</code> to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TimerServiceBenchmark {
+
+    private static final long CHUNK_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    @Param({ "vertx", "timing-wheel" })
+    public String timer;
+
+    @Param({ "10000", "100000" })
+    public int timers;
+
+    private Vertx vertx;
+
+    private VertxTimerServiceScheduler timerService;
+
+    private DelegateJob job;
+
+    private JobDetailsContext context;
+
+    private PointInTimeTrigger[] triggers;
+
+    private ManageableJobHandle[] handles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        vertx = Vertx.vertx();
+        timerService = "timing-wheel".equals(timer)
+                ? new TimingWheelTimerServiceScheduler(vertx, 1000, 100, 512)
+                : new VertxTimerServiceScheduler(vertx, 1000);
+        // the timers never expire during the benchmark, so the job is never executed
+        job = new DelegateJob(null, null);
+        context = new JobDetailsContext(JobDetails.builder().id("benchmark").build());
+        handles = new ManageableJobHandle[timers];
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpTriggers() {
+        Random random = new Random(timers);
+        long now = System.currentTimeMillis();
+        triggers = new PointInTimeTrigger[timers];
+        for (int i = 0; i < timers; i++) {
+            // at least one minute ahead so nothing expires while measuring
+            triggers[i] = new PointInTimeTrigger(now + TimeUnit.MINUTES.toMillis(1) + (long) (random.nextDouble() * CHUNK_MILLIS), null, null);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    @Benchmark
+    public void scheduleAndCancel(Blackhole blackhole) {
+        for (int i = 0; i < timers; i++) {
+            handles[i] = timerService.scheduleJob(job, context, triggers[i]);
+        }
+        for (int i = 0; i < timers; i++) {
+            blackhole.consume(timerService.removeJob(handles[i]));
+        }
+    }
+}
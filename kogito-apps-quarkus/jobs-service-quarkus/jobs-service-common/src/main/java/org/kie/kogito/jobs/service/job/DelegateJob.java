@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.kie.kogito.jobs.service.exception.JobExecutionException;
 import org.kie.kogito.jobs.service.executor.JobExecutor;
 import org.kie.kogito.jobs.service.executor.JobExecutorResolver;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobDetailsContext;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
@@ -32,6 +33,7 @@ import org.kie.kogito.timer.Job;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Timer;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 
@@ -49,21 +51,40 @@ public class DelegateJob implements Job<JobDetailsContext> {
 
     ReactiveJobScheduler scheduler;
 
+    private final JobServiceMetrics metrics;
+
     public DelegateJob(JobExecutorResolver executorResolver, ReactiveJobScheduler scheduler) {
+        this(executorResolver, scheduler, JobServiceMetrics.noop());
+    }
+
+    public DelegateJob(JobExecutorResolver executorResolver, ReactiveJobScheduler scheduler, JobServiceMetrics metrics) {
         this.jobExecutorResolver = executorResolver;
         this.scheduler = scheduler;
+        this.metrics = metrics;
     }
 
     @Override
     public void execute(JobDetailsContext ctx) {
-        final AtomicReference<JobExecutionResponse> executionResponse = new AtomicReference<>();
         final JobDetails jobDetails = requireNonNull(ctx.getJobDetails(), () -> String.format("JobDetails cannot be null for context: %s", ctx));
+        execute(jobDetails, null);
+    }
+
+    /**
+     * @param jobDetails the job to execute.
+     * @param persistedJob the persisted version of the job when it was read right before the execution, it is then
+     *        used to handle the execution response instead of reading the job again, null otherwise.
+     */
+    protected void execute(JobDetails jobDetails, JobDetails persistedJob) {
+        final AtomicReference<JobExecutionResponse> executionResponse = new AtomicReference<>();
         final JobExecutor executor = requireNonNull(jobExecutorResolver.get(jobDetails), () -> String.format("No JobExecutor was found for jobDetails: %s", jobDetails));
         LOGGER.info("Executing job for context: {}", jobDetails);
+        metrics.recordFireLag(jobDetails);
+        final Timer.Sample sample = metrics.startSample();
         executor.execute(jobDetails)
+                .onItemOrFailure().invoke((response, ex) -> metrics.recordExecution(sample, JobServiceMetrics.recipientType(executor), ex == null))
                 .flatMap(response -> {
                     executionResponse.set(response);
-                    return handleJobExecutionSuccess(response);
+                    return handleJobExecutionSuccess(response, persistedJob);
                 })
                 .onFailure(JobExecutionException.class).recoverWithUni(ex -> {
                     String jobId = ((JobExecutionException) ex).getJobId();
@@ -72,7 +93,7 @@ public class DelegateJob implements Job<JobDetailsContext> {
                             .now()
                             .jobId(jobId)
                             .build());
-                    return handleJobExecutionError(executionResponse.get());
+                    return handleJobExecutionError(executionResponse.get(), persistedJob);
                 })
                 // avoid blocking IO pool from the event-loop since alternative EmbeddedJobExecutor is blocking.
                 .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
@@ -88,4 +109,12 @@ public class DelegateJob implements Job<JobDetailsContext> {
         LOGGER.error("Job execution error response received: {}", response);
         return Uni.createFrom().publisher(publisher(ErrorHandling.skipErrorPublisherBuilder(scheduler::handleJobExecutionError, response).buildRs()));
     }
+
+    protected Uni<JobDetails> handleJobExecutionSuccess(JobExecutionResponse response, JobDetails persistedJob) {
+        return handleJobExecutionSuccess(response);
+    }
+
+    protected Uni<JobDetails> handleJobExecutionError(JobExecutionResponse response, JobDetails persistedJob) {
+        return handleJobExecutionError(response);
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.job;
+
+import java.util.Date;
+import java.util.Objects;
+
+import org.kie.kogito.jobs.service.executor.JobExecutorResolver;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobDetailsContext;
+import org.kie.kogito.jobs.service.model.JobExecutionResponse;
+import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
+import org.kie.kogito.jobs.service.scheduler.BaseTimerJobScheduler;
+import org.kie.kogito.jobs.service.utils.ErrorHandling;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+import static mutiny.zero.flow.adapters.AdaptersToFlow.publisher;
+
+/**
+ * {@link DelegateJob} used in the partitioned mode. A job might be canceled or rescheduled through an instance that
+ * does not hold its timer, so before executing the job the persisted version is checked, and the execution is skipped
+ * when the job was removed or its fire time has changed. In that case the job is scheduled again from its persisted
+ * version.
+ * <p>
+ * The persisted version read by the check is the one used to handle the execution response, so the job is read
+ * once per execution as in the single leader mode.
+ */
+public class PartitionedDelegateJob extends DelegateJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedDelegateJob.class);
+
+    private final ReactiveJobRepository jobRepository;
+
+    private final BaseTimerJobScheduler timerScheduler;
+
+    public PartitionedDelegateJob(JobExecutorResolver executorResolver, BaseTimerJobScheduler scheduler, ReactiveJobRepository jobRepository) {
+        this(executorResolver, scheduler, jobRepository, JobServiceMetrics.noop());
+    }
+
+    public PartitionedDelegateJob(JobExecutorResolver executorResolver, BaseTimerJobScheduler scheduler, ReactiveJobRepository jobRepository,
+            JobServiceMetrics metrics) {
+        super(executorResolver, scheduler, metrics);
+        this.jobRepository = jobRepository;
+        this.timerScheduler = scheduler;
+    }
+
+    @Override
+    public void execute(JobDetailsContext ctx) {
+        final JobDetails jobDetails = ctx.getJobDetails();
+        if (Objects.isNull(jobDetails)) {
+            super.execute(ctx);
+            return;
+        }
+        Uni.createFrom().completionStage(() -> jobRepository.get(jobDetails.getId()))
+                .subscribe().with(current -> {
+                    if (isCurrent(jobDetails, current)) {
+                        execute(jobDetails, current);
+                    } else {
+                        LOGGER.info("Skipping the execution of job: {}, it was canceled or rescheduled from another instance", jobDetails.getId());
+                        handleOutdated(jobDetails, current);
+                    }
+                }, ex -> {
+                    LOGGER.warn("Could not verify the job: {} before the execution, executing it anyway", jobDetails.getId(), ex);
+                    super.execute(ctx);
+                });
+    }
+
+    @Override
+    protected Uni<JobDetails> handleJobExecutionSuccess(JobExecutionResponse response, JobDetails persistedJob) {
+        if (Objects.isNull(persistedJob)) {
+            return super.handleJobExecutionSuccess(response, null);
+        }
+        return Uni.createFrom().publisher(publisher(ErrorHandling.skipErrorPublisherBuilder(job -> timerScheduler.handleJobExecutionSuccess(job), persistedJob)
+                .buildRs()));
+    }
+
+    @Override
+    protected Uni<JobDetails> handleJobExecutionError(JobExecutionResponse response, JobDetails persistedJob) {
+        if (Objects.isNull(persistedJob)) {
+            return super.handleJobExecutionError(response, null);
+        }
+        LOGGER.error("Job execution error response received: {}", response);
+        return Uni.createFrom().publisher(publisher(ErrorHandling.skipErrorPublisherBuilder(job -> timerScheduler.handleJobExecutionError(job), persistedJob)
+                .buildRs()));
+    }
+
+    private void handleOutdated(JobDetails jobDetails, JobDetails current) {
+        Multi.createFrom().publisher(publisher(timerScheduler.handleOutdatedTimer(jobDetails, current)))
+                .subscribe().with(rescheduled -> LOGGER.debug("Job: {} was rescheduled from its persisted version", rescheduled.getId()),
+                        ex -> LOGGER.error("Could not reschedule the job: {} from its persisted version", jobDetails.getId(), ex));
+    }
+
+    static boolean isCurrent(JobDetails scheduled, JobDetails current) {
+        if (Objects.isNull(current)) {
+            return false;
+        }
+        Date scheduledFireTime = Objects.nonNull(scheduled.getTrigger()) ? scheduled.getTrigger().hasNextFireTime() : null;
+        Date currentFireTime = Objects.nonNull(current.getTrigger()) ? current.getTrigger().hasNextFireTime() : null;
+        return Objects.equals(scheduledFireTime, currentFireTime);
+    }
+}
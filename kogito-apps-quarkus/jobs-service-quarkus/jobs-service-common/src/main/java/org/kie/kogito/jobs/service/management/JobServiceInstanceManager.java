@@ -24,6 +24,7 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.jobs.service.messaging.MessagingHandler;
@@ -68,6 +69,12 @@ public class JobServiceInstanceManager {
     @Inject
     Event<MessagingChangeEvent> messagingChangeEventEvent;
 
+    @Inject
+    Event<PartitionsChangeEvent> partitionsChangeEvent;
+
+    @Inject
+    JobServicePartitions partitions;
+
     @Inject
     Vertx vertx;
 
@@ -83,8 +90,17 @@ public class JobServiceInstanceManager {
     private final AtomicBoolean leader = new AtomicBoolean(false);
 
     void startup(@Observes StartupEvent startupEvent) {
+        if (partitions.isEnabled() && !repository.isShared()) {
+            throw new IllegalStateException("The partitioned mode (kogito.jobs-service.management.partitioning.enabled) requires a storage " +
+                    "shared by all the Job Service instances, it is not supported by the configured storage");
+        }
         buildAndSetInstanceInfo();
 
+        if (partitions.isEnabled()) {
+            startupPartitioned();
+            return;
+        }
+
         //background task for leader check, it will be started after the first tryBecomeLeader() execution
         checkLeader = vertx.periodicStream(TimeUnit.SECONDS.toMillis(leaderCheckIntervalInSeconds))
                 .handler(id -> tryBecomeLeader(currentInfo.get(), checkLeader, heartbeat)
@@ -105,6 +121,61 @@ public class JobServiceInstanceManager {
                         ex -> LOGGER.error("Error on initial check leader", ex));
     }
 
+    /**
+     * In the partitioned mode every instance is active, it keeps its own heartbeat entry and periodically checks the
+     * live instances to rebalance the partitions it owns.
+     */
+    private void startupPartitioned() {
+        checkLeader = vertx.periodicStream(TimeUnit.SECONDS.toMillis(leaderCheckIntervalInSeconds))
+                .handler(id -> rebalance(currentInfo.get())
+                        .subscribe().with(i -> LOGGER.trace("Partitions check completed"),
+                                ex -> LOGGER.error("Error checking partitions", ex)))
+                .pause();
+
+        heartbeat = vertx.periodicStream(TimeUnit.SECONDS.toMillis(heardBeatIntervalInSeconds))
+                .handler(t -> heartbeat(currentInfo.get())
+                        .subscribe().with(i -> LOGGER.trace("Heartbeat completed {}", currentInfo.get()),
+                                ex -> LOGGER.error("Error on heartbeat {}", currentInfo.get(), ex)))
+                .pause();
+
+        register(currentInfo.get())
+                .subscribe().with(i -> LOGGER.info("Instance registered for partitioned mode {}", currentInfo.get()),
+                        ex -> LOGGER.error("Error registering instance {}", currentInfo.get(), ex));
+    }
+
+    protected Uni<Void> register(JobServiceManagementInfo info) {
+        info.setLastHeartbeat(DateUtil.now().toOffsetDateTime());
+        return repository.set(info)
+                .onItem().invoke(i -> {
+                    leader.set(true);
+                    heartbeat.resume();
+                })
+                .chain(i -> rebalance(info))
+                .onItem().invoke(i -> {
+                    enableCommunication();
+                    checkLeader.resume();
+                });
+    }
+
+    /**
+     * Reads the live instances and recomputes the owned partitions, the instances with an expired heartbeat are not
+     * considered so their partitions are taken by the remaining ones. The entries of the expired instances are pruned,
+     * since every instance start registers a new one.
+     */
+    protected Uni<Void> rebalance(JobServiceManagementInfo info) {
+        final OffsetDateTime heartbeatAfter = DateUtil.now().toOffsetDateTime().minusSeconds(heartbeatExpirationInSeconds);
+        return repository.deleteExpiredInstances(heartbeatAfter)
+                .onItem().invoke(deleted -> {
+                    if (deleted > 0) {
+                        LOGGER.info("Removed {} expired instances", deleted);
+                    }
+                })
+                .chain(deleted -> repository.findActiveInstances(heartbeatAfter))
+                .onItem().transform(instances -> instances.stream().map(JobServiceManagementInfo::getToken).collect(Collectors.toList()))
+                .onItem().invoke(tokens -> partitions.rebalance(info.getToken(), tokens).ifPresent(partitionsChangeEvent::fire))
+                .replaceWithVoid();
+    }
+
     private void disableCommunication() {
         //disable consuming events
         messagingHandlerInstance.stream().forEach(MessagingHandler::pause);
@@ -174,7 +245,9 @@ public class JobServiceInstanceManager {
 
     protected Uni<Void> release(JobServiceManagementInfo info) {
         leader.set(false);
-        return repository.release(info)
+        // in the partitioned mode the entry belongs to this instance only, so it is removed instead of released
+        Uni<Boolean> released = partitions.isEnabled() ? repository.delete(info) : repository.release(info);
+        return released
                 .onItem().invoke(this::disableCommunication)
                 .onItem().invoke(i -> LOGGER.info("Leader instance released"))
                 .onFailure().invoke(ex -> LOGGER.error("Error releasing leader"))
@@ -182,6 +255,14 @@ public class JobServiceInstanceManager {
     }
 
     protected Uni<JobServiceManagementInfo> heartbeat(JobServiceManagementInfo info) {
+        if (isLeader() && partitions.isEnabled()) {
+            // the entry might have been removed, register the instance again
+            return repository.heartbeat(info)
+                    .onItem().ifNull().switchTo(() -> {
+                        info.setLastHeartbeat(DateUtil.now().toOffsetDateTime());
+                        return repository.set(info);
+                    });
+        }
         if (isLeader()) {
             return repository.heartbeat(info);
         }
@@ -189,7 +270,10 @@ public class JobServiceInstanceManager {
     }
 
     private void buildAndSetInstanceInfo() {
-        currentInfo.set(new JobServiceManagementInfo(leaderManagementId, generateToken(), DateUtil.now().toOffsetDateTime()));
+        String token = generateToken();
+        // in the partitioned mode every instance has its own entry
+        String id = partitions.isEnabled() ? token : leaderManagementId;
+        currentInfo.set(new JobServiceManagementInfo(id, token, DateUtil.now().toOffsetDateTime()));
         LOGGER.info("Current Job Service Instance {}", currentInfo.get());
     }
 
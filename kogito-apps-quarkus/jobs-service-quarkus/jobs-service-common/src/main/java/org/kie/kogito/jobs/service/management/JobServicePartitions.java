@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.management;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.jobs.service.repository.JobPartitionFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Assigns the jobs to the live Job Service instances when the partitioned mode is enabled.
+ * <p>
+ * Every job id is mapped to one of a fixed number of partitions, and every partition is owned by the live instance
+ * with the highest rendezvous hash for it. When an instance joins or leaves only the partitions it wins or owned are
+ * moved, the rest of the instances keep their assignment. All the instances compute the same assignment as long as
+ * they see the same set of live instances.
+ * <p>
+ * When the partitioned mode is disabled the current instance owns every job, and the single leader election applies.
+ */
+@ApplicationScoped
+public class JobServicePartitions {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobServicePartitions.class);
+
+    @ConfigProperty(name = "kogito.jobs-service.management.partitioning.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "kogito.jobs-service.management.partitioning.partitions", defaultValue = "256")
+    int partitions;
+
+    private volatile BitSet ownedPartitions = new BitSet();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * @return true if the job must be loaded and fired by the current instance.
+     */
+    public boolean isOwned(String jobId) {
+        return !enabled || ownedPartitions.get(partitionOf(jobId, partitions));
+    }
+
+    public int getOwnedPartitionsCount() {
+        return ownedPartitions.cardinality();
+    }
+
+    /**
+     * @return the filter of the jobs to be loaded by the current instance.
+     */
+    public JobPartitionFilter getOwnedPartitionsFilter() {
+        return enabled ? JobPartitionFilter.of(partitions, ownedPartitions) : JobPartitionFilter.all();
+    }
+
+    /**
+     * Computes again the partitions owned by the current instance.
+     *
+     * @param localToken the token of the current instance.
+     * @param liveTokens the tokens of all the instances with a non expired heartbeat, the current instance owns no
+     *        partition if it is not part of them.
+     * @return the change of the owned partitions if any.
+     */
+    synchronized Optional<PartitionsChangeEvent> rebalance(String localToken, Collection<String> liveTokens) {
+        BitSet current = ownedPartitions;
+        BitSet assigned = assign(localToken, liveTokens, partitions);
+        if (assigned.equals(current)) {
+            return Optional.empty();
+        }
+        BitSet acquired = (BitSet) assigned.clone();
+        acquired.andNot(current);
+        BitSet released = (BitSet) current.clone();
+        released.andNot(assigned);
+        ownedPartitions = assigned;
+        LOGGER.info("Partitions rebalanced for {} live instances, owned: {}, acquired: {}, released: {}", liveTokens.size(),
+                assigned.cardinality(), acquired.cardinality(), released.cardinality());
+        return Optional.of(new PartitionsChangeEvent(acquired, released));
+    }
+
+    public static int partitionOf(String jobId, int partitions) {
+        return partitionKey(jobId) % partitions;
+    }
+
+    /**
+     * @return a non negative hash of the job id that does not depend on the number of partitions, it is persisted
+     *         with the job so the storage can compute its partition.
+     */
+    public static int partitionKey(String jobId) {
+        return (int) (mix(jobId.hashCode()) >>> 33);
+    }
+
+    static BitSet assign(String localToken, Collection<String> liveTokens, int partitions) {
+        BitSet assigned = new BitSet(partitions);
+        if (!liveTokens.contains(localToken)) {
+            return assigned;
+        }
+        long localHash = localToken.hashCode();
+        for (int partition = 0; partition < partitions; partition++) {
+            long localWeight = weight(localHash, partition);
+            boolean owner = true;
+            for (String token : liveTokens) {
+                long weight = weight(token.hashCode(), partition);
+                // ties are broken by the token itself, so every instance resolves them the same way
+                if (Long.compareUnsigned(weight, localWeight) > 0 || (weight == localWeight && token.compareTo(localToken) > 0)) {
+                    owner = false;
+                    break;
+                }
+            }
+            if (owner) {
+                assigned.set(partition);
+            }
+        }
+        return assigned;
+    }
+
+    private static long weight(long tokenHash, int partition) {
+        return mix(tokenHash * 0x9E3779B97F4A7C15L + partition);
+    }
+
+    /**
+     * Finalizer of the MurmurHash3 64 bits, String.hashCode is stable across JVMs but not well distributed.
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.management;
+
+import java.util.BitSet;
+
+/**
+ * Fired when the partitions owned by the current instance change, after an instance joined or left the cluster.
+ */
+public class PartitionsChangeEvent {
+
+    private final BitSet acquired;
+
+    private final BitSet released;
+
+    public PartitionsChangeEvent(BitSet acquired, BitSet released) {
+        this.acquired = (BitSet) acquired.clone();
+        this.released = (BitSet) released.clone();
+    }
+
+    public BitSet getAcquired() {
+        return (BitSet) acquired.clone();
+    }
+
+    public BitSet getReleased() {
+        return (BitSet) released.clone();
+    }
+
+    public boolean hasAcquired() {
+        return !acquired.isEmpty();
+    }
+
+    public boolean hasReleased() {
+        return !released.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionsChangeEvent{" +
+                "acquired=" + acquired +
+                ", released=" + released +
+                '}';
+    }
+}
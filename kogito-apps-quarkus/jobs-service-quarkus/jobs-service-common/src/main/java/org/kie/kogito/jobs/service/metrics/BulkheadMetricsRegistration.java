@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.metrics;
+
+import org.kie.kogito.job.recipient.common.http.HTTPRequestExecutor;
+import org.kie.kogito.jobs.service.executor.JobExecutor;
+
+import io.quarkus.runtime.StartupEvent;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+/**
+ * Registers the meters of the destination bulkheads of the HTTP based recipients on startup.
+ */
+@ApplicationScoped
+public class BulkheadMetricsRegistration {
+
+    @Inject
+    Instance<JobExecutor> executors;
+
+    @Inject
+    JobServiceMetrics metrics;
+
+    void onStart(@Observes StartupEvent event) {
+        executors.stream()
+                .filter(HTTPRequestExecutor.class::isInstance)
+                .forEach(executor -> metrics.registerBulkhead(JobServiceMetrics.recipientType(executor), ((HTTPRequestExecutor<?>) executor).getBulkhead()));
+    }
+}
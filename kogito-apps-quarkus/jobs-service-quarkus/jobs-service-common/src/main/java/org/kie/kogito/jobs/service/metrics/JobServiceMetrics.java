@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.metrics;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.kie.kogito.job.recipient.common.http.DestinationBulkhead;
+import org.kie.kogito.jobs.service.executor.JobExecutor;
+import org.kie.kogito.jobs.service.model.JobDetails;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Meters of the jobs service hot path, they allow to tell whether a job fired late because of the timer, the
+ * repository or the recipient callback:
+ * <ul>
+ * <li>{@value #SCHEDULE_TIMER}: time to schedule a job received through the API.</li>
+ * <li>{@value #FIRE_LAG_TIMER}: time between the expected fire time of a job and the moment the timer fired it.</li>
+ * <li>{@value #EXECUTION_TIMER}: duration of the job executions, by recipient type and outcome.</li>
+ * <li>{@value #RETRIES_COUNTER} and {@value #ERRORS_COUNTER}: retries scheduled and jobs that ran out of retries.</li>
+ * <li>{@value #SCHEDULED_TIMERS_GAUGE} and {@value #LOADED_JOBS_GAUGE}: timers held in memory and jobs picked by the
+ * last loading.</li>
+ * <li>{@value #REPOSITORY_TIMER}: latency of the repository calls, by implementation class and method.</li>
+ * <li>{@value #BULKHEAD_ACTIVE_GAUGE}, {@value #BULKHEAD_QUEUED_GAUGE} and {@value #BULKHEAD_REJECTED_COUNTER}: requests
+ * executed, waiting and rejected by the bulkhead of the HTTP recipients, by recipient type and destination.</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class JobServiceMetrics {
+
+    public static final String REPOSITORY_TIMER = "kogito.jobs.service.repository";
+
+    static final String SCHEDULE_TIMER = "kogito.jobs.service.schedule";
+    static final String FIRE_LAG_TIMER = "kogito.jobs.service.fire.lag";
+    static final String EXECUTION_TIMER = "kogito.jobs.service.execution";
+    static final String RETRIES_COUNTER = "kogito.jobs.service.retries";
+    static final String ERRORS_COUNTER = "kogito.jobs.service.errors";
+    static final String SCHEDULED_TIMERS_GAUGE = "kogito.jobs.service.scheduled.timers";
+    static final String LOADED_JOBS_GAUGE = "kogito.jobs.service.loaded.jobs";
+    static final String BULKHEAD_ACTIVE_GAUGE = "kogito.jobs.service.bulkhead.active";
+    static final String BULKHEAD_QUEUED_GAUGE = "kogito.jobs.service.bulkhead.queued";
+    static final String BULKHEAD_REJECTED_COUNTER = "kogito.jobs.service.bulkhead.rejected";
+
+    static final String RECIPIENT_TAG = "recipient";
+    static final String OUTCOME_TAG = "outcome";
+    static final String DESTINATION_TAG = "destination";
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+
+    private final MeterRegistry registry;
+
+    private final Timer scheduleTimer;
+
+    private final Timer fireLagTimer;
+
+    private final Counter retriesCounter;
+
+    private final Counter errorsCounter;
+
+    private final AtomicLong loadedJobs = new AtomicLong();
+
+    // execution timers by recipient type and outcome, looked up on every job execution
+    private final Map<String, Timer> executionTimers = new ConcurrentHashMap<>();
+
+    @Inject
+    public JobServiceMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.scheduleTimer = Timer.builder(SCHEDULE_TIMER)
+                .description("Time to schedule a job received through the API")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.fireLagTimer = Timer.builder(FIRE_LAG_TIMER)
+                .description("Time between the expected fire time of a job and the moment it was fired")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.retriesCounter = Counter.builder(RETRIES_COUNTER)
+                .description("Job execution retries scheduled")
+                .register(registry);
+        this.errorsCounter = Counter.builder(ERRORS_COUNTER)
+                .description("Jobs moved to the error status after exceeding the retries limit")
+                .register(registry);
+        Gauge.builder(LOADED_JOBS_GAUGE, loadedJobs, AtomicLong::get)
+                .description("Jobs scheduled by the last loading from the repository")
+                .register(registry);
+    }
+
+    /**
+     * Meters bound to no registry, used when the service runs without metrics, e.g. on unit tests.
+     */
+    public static JobServiceMetrics noop() {
+        return new JobServiceMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Value of the {@value #RECIPIENT_TAG} tag of the meters related to the executor.
+     */
+    public static String recipientType(JobExecutor executor) {
+        return executor.type() != null ? executor.type().getSimpleName() : executor.getClass().getSimpleName();
+    }
+
+    public Timer.Sample startSample() {
+        return Timer.start(registry);
+    }
+
+    public void recordSchedule(Timer.Sample sample) {
+        sample.stop(scheduleTimer);
+    }
+
+    /**
+     * Records the delay between the expected fire time of the job, still on its trigger, and now.
+     */
+    public void recordFireLag(JobDetails job) {
+        Date expected = job.getTrigger() != null ? job.getTrigger().hasNextFireTime() : null;
+        if (expected != null) {
+            fireLagTimer.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - expected.getTime())));
+        }
+    }
+
+    public void recordExecution(Timer.Sample sample, String recipientType, boolean success) {
+        String outcome = success ? SUCCESS : FAILURE;
+        sample.stop(executionTimers.computeIfAbsent(recipientType + '/' + outcome, key -> Timer.builder(EXECUTION_TIMER)
+                .description("Duration of the job executions")
+                .tag(RECIPIENT_TAG, recipientType)
+                .tag(OUTCOME_TAG, outcome)
+                .publishPercentileHistogram()
+                .register(registry)));
+    }
+
+    public void incrementRetries() {
+        retriesCounter.increment();
+    }
+
+    public void incrementErrors() {
+        errorsCounter.increment();
+    }
+
+    public void setLoadedJobs(long count) {
+        loadedJobs.set(count);
+    }
+
+    /**
+     * Registers the gauge of the timers held in memory by the scheduler, the supplier is read on every scrape.
+     */
+    public void registerScheduledTimers(Supplier<Number> scheduledTimers) {
+        Gauge.builder(SCHEDULED_TIMERS_GAUGE, scheduledTimers)
+                .description("Job timers held in memory by the scheduler")
+                .register(registry);
+    }
+
+    /**
+     * Registers the meters of every destination of the bulkhead as soon as it receives its first request, nothing is
+     * registered when the bulkhead is disabled.
+     */
+    public void registerBulkhead(String recipientType, DestinationBulkhead bulkhead) {
+        if (!bulkhead.isEnabled()) {
+            return;
+        }
+        bulkhead.onNewDestination(destination -> {
+            Tags tags = Tags.of(RECIPIENT_TAG, recipientType, DESTINATION_TAG, destination);
+            Gauge.builder(BULKHEAD_ACTIVE_GAUGE, bulkhead, b -> b.getActiveRequests(destination))
+                    .description("Requests being executed against the destination")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder(BULKHEAD_QUEUED_GAUGE, bulkhead, b -> b.getQueuedRequests(destination))
+                    .description("Requests waiting for a permit of the destination")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder(BULKHEAD_REJECTED_COUNTER, bulkhead, b -> b.getRejectedRequests(destination))
+                    .description("Requests rejected because the queue of the destination was full")
+                    .tags(tags)
+                    .register(registry);
+        });
+    }
+}
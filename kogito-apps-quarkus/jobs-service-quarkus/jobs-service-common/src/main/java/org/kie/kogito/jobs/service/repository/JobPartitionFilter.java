@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.repository;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
+
+/**
+ * Restricts the jobs read from the repository to the partitions owned by the current instance in the partitioned
+ * mode. The partition of a job is its {@link JobServicePartitions#partitionKey(String) partition key} modulo the
+ * number of partitions, the key does not depend on the number of partitions so the repositories persist it with the
+ * job and evaluate the filter in the storage.
+ */
+public final class JobPartitionFilter {
+
+    private static final JobPartitionFilter ALL = new JobPartitionFilter(0, new BitSet());
+
+    private final int partitions;
+
+    private final BitSet ownedPartitions;
+
+    private JobPartitionFilter(int partitions, BitSet ownedPartitions) {
+        this.partitions = partitions;
+        this.ownedPartitions = ownedPartitions;
+    }
+
+    /**
+     * @return the filter that matches every job.
+     */
+    public static JobPartitionFilter all() {
+        return ALL;
+    }
+
+    /**
+     * @param partitions the number of partitions.
+     * @param ownedPartitions the partitions to match.
+     */
+    public static JobPartitionFilter of(int partitions, BitSet ownedPartitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("partitions must be greater than zero: " + partitions);
+        }
+        return new JobPartitionFilter(partitions, (BitSet) ownedPartitions.clone());
+    }
+
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public Integer[] getOwnedPartitions() {
+        return ownedPartitions.stream().boxed().toArray(Integer[]::new);
+    }
+
+    public boolean test(String jobId) {
+        return isAll() || ownedPartitions.get(JobServicePartitions.partitionOf(jobId, partitions));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JobPartitionFilter)) {
+            return false;
+        }
+        JobPartitionFilter that = (JobPartitionFilter) o;
+        return partitions == that.partitions && Objects.equals(ownedPartitions, that.ownedPartitions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partitions, ownedPartitions);
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "JobPartitionFilter{all}"
+                : "JobPartitionFilter{" +
+                        "partitions=" + partitions +
+                        ", ownedPartitions=" + ownedPartitions +
+                        '}';
+    }
+}
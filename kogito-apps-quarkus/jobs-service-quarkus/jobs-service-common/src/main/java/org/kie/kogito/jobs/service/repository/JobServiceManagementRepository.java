@@ -18,6 +18,8 @@
  */
 package org.kie.kogito.jobs.service.repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.function.Function;
 
 import org.kie.kogito.jobs.service.model.JobServiceManagementInfo;
@@ -34,4 +36,29 @@ public interface JobServiceManagementRepository {
 
     Uni<JobServiceManagementInfo> heartbeat(JobServiceManagementInfo info);
 
+    /**
+     * Returns the instances registered with their own entry, where the id is the instance token, and a heartbeat
+     * after the given time. Used by the partitioned mode to find the live instances.
+     */
+    Uni<List<JobServiceManagementInfo>> findActiveInstances(OffsetDateTime heartbeatAfter);
+
+    /**
+     * Removes the entry of the given instance if it still holds the token. Used by the partitioned mode, where the
+     * entries are not shared between restarts.
+     */
+    Uni<Boolean> delete(JobServiceManagementInfo info);
+
+    /**
+     * Removes the instances registered with their own entry, where the id is the instance token, and a heartbeat
+     * before the given time, returning the number of removed entries.
+     */
+    Uni<Integer> deleteExpiredInstances(OffsetDateTime heartbeatBefore);
+
+    /**
+     * @return true if the entries are stored where every Job Service instance sees them, required by the partitioned
+     *         mode, otherwise every instance would consider itself the only live one and fire all the jobs.
+     */
+    default boolean isShared() {
+        return false;
+    }
 }
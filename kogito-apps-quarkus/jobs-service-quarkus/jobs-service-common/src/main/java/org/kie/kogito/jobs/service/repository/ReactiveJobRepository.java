@@ -19,6 +19,7 @@
 package org.kie.kogito.jobs.service.repository;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
@@ -65,6 +66,14 @@ public interface ReactiveJobRepository {
 
     CompletionStage<JobDetails> save(JobDetails job);
 
+    /**
+     * Saves a group of jobs, implementations are free to persist them using a single round trip to the storage.
+     *
+     * @param jobs the jobs to save.
+     * @return the saved jobs, in the same order they were provided.
+     */
+    CompletionStage<List<JobDetails>> saveAll(List<JobDetails> jobs);
+
     CompletionStage<JobDetails> merge(String id, JobDetails job);
 
     CompletionStage<JobDetails> get(String id);
@@ -79,4 +88,33 @@ public interface ReactiveJobRepository {
             ZonedDateTime toFireTime,
             JobStatus[] status,
             SortTerm[] orderBy);
+
+    /**
+     * Streams the jobs with the given status and a fire time between the given dates, ordered by fire time and id.
+     * The jobs are fetched using keyset pagination and a page is only requested once the previous one was consumed,
+     * the number of jobs held in memory is bounded by the page size regardless of the number of jobs that match.
+     *
+     * @param fromFireTime the lower bound of the fire time, inclusive.
+     * @param toFireTime the upper bound of the fire time, inclusive.
+     * @param status the status of the jobs to return.
+     * @param pageSize the maximum number of jobs fetched from the storage at once.
+     */
+    default PublisherBuilder<JobDetails> findByStatusBetweenDatesPaged(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            int pageSize) {
+        return findByStatusBetweenDatesPaged(fromFireTime, toFireTime, status, JobPartitionFilter.all(), pageSize);
+    }
+
+    /**
+     * Same as {@link #findByStatusBetweenDatesPaged(ZonedDateTime, ZonedDateTime, JobStatus[], int)} restricted to
+     * the jobs of the given partitions.
+     *
+     * @param partitionFilter the partitions of the jobs to return.
+     */
+    PublisherBuilder<JobDetails> findByStatusBetweenDatesPaged(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            JobPartitionFilter partitionFilter,
+            int pageSize);
 }
@@ -18,18 +18,30 @@
  */
 package org.kie.kogito.jobs.service.repository.impl;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.JobPartitionFilter;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobEventPublisher;
+import org.kie.kogito.jobs.service.utils.DateUtil;
 
+import io.smallrye.mutiny.Multi;
 import io.vertx.core.Vertx;
 
+import static mutiny.zero.flow.adapters.AdaptersToReactiveStreams.publisher;
+
 public abstract class BaseReactiveJobRepository implements ReactiveJobRepository {
 
     private Vertx vertx;
@@ -56,6 +68,92 @@ public abstract class BaseReactiveJobRepository implements ReactiveJobRepository
 
     public abstract CompletionStage<JobDetails> doSave(JobDetails job);
 
+    @Override
+    public CompletionStage<List<JobDetails>> saveAll(List<JobDetails> jobs) {
+        return doSaveAll(jobs)
+                .thenApply(saved -> saved.stream().map(jobEventPublisher::publishJobStatusChange).toList());
+    }
+
+    /**
+     * Default implementation saves the jobs one by one, repositories supporting batched writes should override it.
+     */
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        CompletionStage<List<JobDetails>> result = CompletableFuture.completedFuture(new ArrayList<>(jobs.size()));
+        for (JobDetails job : jobs) {
+            result = result.thenCompose(saved -> doSave(job).thenApply(j -> {
+                saved.add(j);
+                return saved;
+            }));
+        }
+        return result;
+    }
+
+    @Override
+    public PublisherBuilder<JobDetails> findByStatusBetweenDatesPaged(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            JobPartitionFilter partitionFilter,
+            int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than zero: " + pageSize);
+        }
+        // the state keeps the last job of the previous page, the next page starts right after it
+        return ReactiveStreams.fromPublisher(publisher(Multi.createBy().repeating()
+                .completionStage(AtomicReference<JobDetails>::new,
+                        last -> findPageByStatusBetweenDates(fromFireTime, toFireTime, status, partitionFilter, afterFireTime(last.get()), afterId(last.get()),
+                                pageSize)
+                                .thenApply(page -> {
+                                    if (!page.isEmpty()) {
+                                        last.set(page.get(page.size() - 1));
+                                    }
+                                    return page;
+                                }))
+                .whilst(page -> page.size() == pageSize)
+                .onItem().transformToIterable(page -> page)
+                // the jobs of other partitions returned by the repositories that do not filter them in the storage
+                .select().where(job -> partitionFilter.test(job.getId()))));
+    }
+
+    /**
+     * Returns the page of jobs of the given partitions, see
+     * {@link #findPageByStatusBetweenDates(ZonedDateTime, ZonedDateTime, JobStatus[], ZonedDateTime, String, int)}.
+     * The default implementation ignores the filter and the jobs of other partitions are discarded once the page is
+     * fetched, repositories able to evaluate it in the storage override this method. The jobs persisted without a
+     * partition key might be returned regardless of the filter.
+     */
+    protected CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            JobPartitionFilter partitionFilter,
+            ZonedDateTime afterFireTime,
+            String afterId,
+            int pageSize) {
+        return findPageByStatusBetweenDates(fromFireTime, toFireTime, status, afterFireTime, afterId, pageSize);
+    }
+
+    /**
+     * Returns the page of jobs with the given status and a fire time between the given dates, ordered by fire time and
+     * id, that come after the given key.
+     *
+     * @param afterFireTime the fire time of the last job of the previous page, null for the first page.
+     * @param afterId the id of the last job of the previous page, null for the first page.
+     * @param pageSize the maximum number of jobs to return.
+     */
+    protected abstract CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            ZonedDateTime afterFireTime,
+            String afterId,
+            int pageSize);
+
+    private static ZonedDateTime afterFireTime(JobDetails last) {
+        return last != null ? DateUtil.fromDate(last.getTrigger().hasNextFireTime()) : null;
+    }
+
+    private static String afterId(JobDetails last) {
+        return last != null ? last.getId() : null;
+    }
+
     @Override
     public CompletionStage<JobDetails> delete(JobDetails job) {
         return delete(job.getId())
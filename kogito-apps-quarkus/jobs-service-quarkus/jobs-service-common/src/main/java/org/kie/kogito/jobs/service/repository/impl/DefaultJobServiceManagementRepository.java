@@ -18,6 +18,9 @@
  */
 package org.kie.kogito.jobs.service.repository.impl;
 
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -58,4 +61,35 @@ public class DefaultJobServiceManagementRepository implements JobServiceManageme
         instance.set(new JobServiceManagementInfo(info.getId(), null, null));
         return Uni.createFrom().item(true);
     }
+
+    @Override
+    public Uni<List<JobServiceManagementInfo>> findActiveInstances(OffsetDateTime heartbeatAfter) {
+        JobServiceManagementInfo info = instance.get();
+        if (Objects.nonNull(info) && Objects.nonNull(info.getToken()) && Objects.equals(info.getId(), info.getToken())
+                && Objects.nonNull(info.getLastHeartbeat()) && info.getLastHeartbeat().isAfter(heartbeatAfter)) {
+            return Uni.createFrom().item(List.of(info));
+        }
+        return Uni.createFrom().item(List.of());
+    }
+
+    @Override
+    public Uni<Boolean> delete(JobServiceManagementInfo info) {
+        JobServiceManagementInfo current = instance.get();
+        if (Objects.nonNull(current) && Objects.equals(current.getId(), info.getId()) && Objects.equals(current.getToken(), info.getToken())) {
+            instance.set(new JobServiceManagementInfo(null, null, null));
+            return Uni.createFrom().item(true);
+        }
+        return Uni.createFrom().item(false);
+    }
+
+    @Override
+    public Uni<Integer> deleteExpiredInstances(OffsetDateTime heartbeatBefore) {
+        JobServiceManagementInfo info = instance.get();
+        if (Objects.nonNull(info) && Objects.nonNull(info.getToken()) && Objects.equals(info.getId(), info.getToken())
+                && Objects.nonNull(info.getLastHeartbeat()) && info.getLastHeartbeat().isBefore(heartbeatBefore)) {
+            instance.set(new JobServiceManagementInfo(null, null, null));
+            return Uni.createFrom().item(1);
+        }
+        return Uni.createFrom().item(0);
+    }
 }
@@ -29,12 +29,14 @@ import java.util.stream.Stream;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobEventPublisher;
 import org.kie.kogito.jobs.service.utils.DateUtil;
 
+import io.micrometer.core.annotation.Timed;
 import io.quarkus.arc.DefaultBean;
 import io.vertx.core.Vertx;
 
@@ -59,6 +61,7 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> doSave(JobDetails job) {
         return runAsync(() -> {
             boolean isNew = !jobMap.containsKey(job.getId());
@@ -69,16 +72,19 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> get(String key) {
         return runAsync(() -> jobMap.get(key));
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<Boolean> exists(String key) {
         return runAsync(() -> jobMap.containsKey(key));
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> delete(String key) {
         return runAsync(() -> jobMap.remove(key));
     }
@@ -96,6 +102,30 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
         return ReactiveStreams.fromIterable(result);
     }
 
+    @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
+    protected CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            ZonedDateTime afterFireTime,
+            String afterId,
+            int pageSize) {
+        Comparator<JobDetails> keyComparator = orderByComparator(new SortTerm[] { SortTerm.byFireTime(true), SortTerm.byId(true) });
+        return runAsync(() -> jobMap.values()
+                .stream()
+                .filter(j -> matchStatusFilter(j, status))
+                .filter(j -> matchFireTimeFilter(j, fromFireTime, toFireTime))
+                .filter(j -> afterId == null || matchAfterKey(j, afterFireTime, afterId))
+                .sorted(keyComparator)
+                .limit(pageSize)
+                .toList());
+    }
+
+    private static boolean matchAfterKey(JobDetails job, ZonedDateTime afterFireTime, String afterId) {
+        ZonedDateTime fireTime = DateUtil.fromDate(job.getTrigger().hasNextFireTime());
+        return fireTime.isAfter(afterFireTime) || (fireTime.isEqual(afterFireTime) && job.getId().compareTo(afterId) > 0);
+    }
+
     private static boolean matchStatusFilter(JobDetails job, JobStatus[] status) {
         if (status == null || status.length == 0) {
             return true;
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.repository.marshaller;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the values written by the {@link BinaryWriter} straight from the source array, without intermediate copies.
+ */
+final class BinaryReader {
+
+    private final byte[] buffer;
+
+    private int position;
+
+    BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    int readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalArgumentException("Unexpected end of the binary content at position: " + position);
+        }
+        return buffer[position++];
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    long readVarLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int current = readByte();
+            zigzag |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at position: " + position);
+    }
+
+    Long readNullableLong() {
+        return readBoolean() ? readVarLong() : null;
+    }
+
+    String readString() {
+        int length = readVarInt();
+        if (length < 0) {
+            return null;
+        }
+        checkAvailable(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    int position() {
+        return position;
+    }
+
+    int remaining() {
+        return buffer.length - position;
+    }
+
+    private void checkAvailable(int length) {
+        if (length > remaining()) {
+            throw new IllegalArgumentException("Unexpected end of the binary content at position: " + position);
+        }
+    }
+}
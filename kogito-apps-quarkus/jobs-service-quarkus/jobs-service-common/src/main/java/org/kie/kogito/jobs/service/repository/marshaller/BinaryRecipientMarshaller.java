@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.repository.marshaller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.kie.kogito.jobs.service.model.Recipient;
+import org.kie.kogito.jobs.service.model.RecipientInstance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vertx.core.json.jackson.DatabindCodec;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Binary alternative to the {@link RecipientMarshaller}. The content starts with a format version byte and the
+ * recipient class name, followed by the recipient serialized by the same mapper used for the json columns, written and
+ * read directly as bytes instead of going through a {@link io.vertx.core.json.JsonObject} tree.
+ */
+@ApplicationScoped
+public class BinaryRecipientMarshaller implements Marshaller<Recipient, byte[]> {
+
+    static final int VERSION = 1;
+
+    private final Map<String, Class<?>> recipientTypes = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] marshall(Recipient recipient) {
+        if (Objects.isNull(recipient) || Objects.isNull(recipient.getRecipient())) {
+            return null;
+        }
+        try {
+            byte[] content = mapper().writeValueAsBytes(recipient.getRecipient());
+            return new BinaryWriter(content.length + 64)
+                    .writeByte(VERSION)
+                    .writeString(recipient.getRecipient().getClass().getName())
+                    .writeRaw(content)
+                    .toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Recipient unmarshall(byte[] value) {
+        if (value == null || value.length == 0) {
+            return null;
+        }
+        BinaryReader reader = new BinaryReader(value);
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported recipient binary format version: " + version);
+        }
+        String classType = reader.readString();
+        if (classType == null) {
+            return null;
+        }
+        try {
+            Object recipient = mapper().readValue(reader.buffer(), reader.position(), reader.remaining(), recipientType(classType));
+            return new RecipientInstance((org.kie.kogito.jobs.service.api.Recipient<?>) recipient);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Class<?> recipientType(String classType) {
+        return recipientTypes.computeIfAbsent(classType, type -> {
+            try {
+                return Class.forName(type);
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static ObjectMapper mapper() {
+        return DatabindCodec.mapper();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.repository.marshaller;
+
+import java.time.temporal.ChronoUnit;
+
+import org.kie.kogito.timer.Trigger;
+import org.kie.kogito.timer.impl.IntervalTrigger;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.kie.kogito.timer.impl.SimpleTimerTrigger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import static org.kie.kogito.jobs.service.repository.marshaller.TriggerMarshaller.toDate;
+import static org.kie.kogito.jobs.service.repository.marshaller.TriggerMarshaller.toTime;
+
+/**
+ * Compact binary alternative to the {@link TriggerMarshaller}, it writes the same fields without building a json tree.
+ * The content starts with a format version byte followed by the trigger type, the remaining fields are varints.
+ */
+@ApplicationScoped
+public class BinaryTriggerMarshaller implements Marshaller<Trigger, byte[]> {
+
+    static final int VERSION = 1;
+
+    private static final int POINT_IN_TIME = 1;
+    private static final int INTERVAL = 2;
+    private static final int SIMPLE_TIMER = 3;
+
+    private static final ChronoUnit[] CHRONO_UNITS = ChronoUnit.values();
+
+    @Override
+    public byte[] marshall(Trigger trigger) {
+        if (trigger instanceof SimpleTimerTrigger) {
+            return marshall((SimpleTimerTrigger) trigger);
+        }
+        if (trigger instanceof IntervalTrigger) {
+            return marshall((IntervalTrigger) trigger);
+        }
+        if (trigger instanceof PointInTimeTrigger) {
+            return new BinaryWriter(12)
+                    .writeByte(VERSION)
+                    .writeByte(POINT_IN_TIME)
+                    .writeNullableLong(toTime(trigger.hasNextFireTime()))
+                    .toByteArray();
+        }
+        return null;
+    }
+
+    private static byte[] marshall(IntervalTrigger trigger) {
+        return new BinaryWriter(48)
+                .writeByte(VERSION)
+                .writeByte(INTERVAL)
+                .writeNullableLong(toTime(trigger.getStartTime()))
+                .writeNullableLong(toTime(trigger.getEndTime()))
+                .writeVarInt(trigger.getRepeatLimit())
+                .writeVarInt(trigger.getRepeatCount())
+                .writeNullableLong(toTime(trigger.getNextFireTime()))
+                .writeVarLong(trigger.getPeriod())
+                .toByteArray();
+    }
+
+    private static byte[] marshall(SimpleTimerTrigger trigger) {
+        return new BinaryWriter(64)
+                .writeByte(VERSION)
+                .writeByte(SIMPLE_TIMER)
+                .writeNullableLong(toTime(trigger.getStartTime()))
+                .writeVarLong(trigger.getPeriod())
+                .writeVarInt(trigger.getPeriodUnit() != null ? trigger.getPeriodUnit().ordinal() : -1)
+                .writeVarInt(trigger.getRepeatCount())
+                .writeNullableLong(toTime(trigger.getEndTime()))
+                .writeString(trigger.getZoneId())
+                .writeNullableLong(toTime(trigger.getNextFireTime()))
+                .writeVarInt(trigger.getCurrentRepeatCount())
+                .writeBoolean(trigger.isEndTimeReached())
+                .toByteArray();
+    }
+
+    @Override
+    public Trigger unmarshall(byte[] value) {
+        if (value == null || value.length == 0) {
+            return null;
+        }
+        BinaryReader reader = new BinaryReader(value);
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported trigger binary format version: " + version);
+        }
+        int type = reader.readByte();
+        switch (type) {
+            case POINT_IN_TIME:
+                Long nextFireTime = reader.readNullableLong();
+                return nextFireTime != null ? new PointInTimeTrigger(nextFireTime, null, null) : null;
+            case INTERVAL:
+                return unmarshallInterval(reader);
+            case SIMPLE_TIMER:
+                return unmarshallSimpleTimer(reader);
+            default:
+                return null;
+        }
+    }
+
+    private static IntervalTrigger unmarshallInterval(BinaryReader reader) {
+        IntervalTrigger trigger = new IntervalTrigger();
+        trigger.setStartTime(toDate(reader.readNullableLong()));
+        trigger.setEndTime(toDate(reader.readNullableLong()));
+        trigger.setRepeatLimit(reader.readVarInt());
+        trigger.setRepeatCount(reader.readVarInt());
+        trigger.setNextFireTime(toDate(reader.readNullableLong()));
+        trigger.setPeriod(reader.readVarLong());
+        return trigger;
+    }
+
+    private static SimpleTimerTrigger unmarshallSimpleTimer(BinaryReader reader) {
+        SimpleTimerTrigger trigger = new SimpleTimerTrigger();
+        trigger.setStartTime(toDate(reader.readNullableLong()));
+        trigger.setPeriod(reader.readVarLong());
+        int periodUnit = reader.readVarInt();
+        trigger.setPeriodUnit(periodUnit >= 0 ? CHRONO_UNITS[periodUnit] : null);
+        trigger.setRepeatCount(reader.readVarInt());
+        trigger.setEndTime(toDate(reader.readNullableLong()));
+        trigger.setZoneId(reader.readString());
+        trigger.setNextFireTime(toDate(reader.readNullableLong()));
+        trigger.setCurrentRepeatCount(reader.readVarInt());
+        trigger.setEndTimeReached(reader.readBoolean());
+        return trigger;
+    }
+}
@@ -35,6 +35,7 @@ import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.exception.InvalidScheduleTimeException;
 import org.kie.kogito.jobs.service.exception.JobServiceException;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
 import org.kie.kogito.jobs.service.model.JobStatus;
@@ -48,6 +49,7 @@ import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Timer;
 import io.smallrye.mutiny.Uni;
 
 import static mutiny.zero.flow.adapters.AdaptersToFlow.publisher;
@@ -90,6 +92,8 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
 
     private final Map<String, SchedulerControlRecord> schedulerControl;
 
+    protected final JobServiceMetrics metrics;
+
     protected static class SchedulerControlRecord {
         private final String jobId;
         private final long handleId;
@@ -115,7 +119,7 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
     }
 
     protected BaseTimerJobScheduler() {
-        this(null, 0, 0, 0, 0, true, true);
+        this(null, 0, 0, 0, 0, true, true, null);
     }
 
     protected BaseTimerJobScheduler(ReactiveJobRepository jobRepository,
@@ -124,7 +128,8 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
             long schedulerChunkInMinutes,
             long schedulerMinTimerDelayInMillis,
             boolean forceExecuteExpiredJobs,
-            boolean forceExecuteExpiredJobsOnServiceStart) {
+            boolean forceExecuteExpiredJobsOnServiceStart,
+            JobServiceMetrics metrics) {
         this.jobRepository = jobRepository;
         this.backoffRetryMillis = backoffRetryMillis;
         this.maxIntervalLimitToRetryMillis = maxIntervalLimitToRetryMillis;
@@ -133,6 +138,8 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
         this.schedulerMinTimerDelayInMillis = schedulerMinTimerDelayInMillis;
         this.forceExecuteExpiredJobs = forceExecuteExpiredJobs;
         this.forceExecuteExpiredJobsOnServiceStart = forceExecuteExpiredJobsOnServiceStart;
+        this.metrics = metrics != null ? metrics : JobServiceMetrics.noop();
+        this.metrics.registerScheduledTimers(schedulerControl::size);
     }
 
     /**
@@ -141,16 +148,19 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
     @Override
     public Publisher<JobDetails> schedule(JobDetails job) {
         LOGGER.debug("Scheduling job: {}", job);
+        Timer.Sample sample = metrics.startSample();
         return ReactiveStreams
                 .fromCompletionStage(jobRepository.exists(job.getId()))
                 .flatMap(exists -> Boolean.TRUE.equals(exists)
                         ? handleExistingJob(job)
                         : ReactiveStreams.of(job))
-                .flatMap(handled -> isOnCurrentSchedulerChunk(job)
+                .flatMap(handled -> isOnCurrentSchedulerChunk(job) && isOwned(job)
                         // in case the job is on the current bulk, proceed with scheduling process.
                         ? doJobScheduling(job)
-                        // in case the job is not on the current bulk, just save it to be scheduled later.
+                        // in case the job is not on the current bulk, or it is owned by another instance, just save it
+                        // to be scheduled later by the periodic loader.
                         : ReactiveStreams.fromCompletionStage(jobRepository.save(jobWithStatus(job, JobStatus.SCHEDULED))))
+                .onTerminate(() -> metrics.recordSchedule(sample))
                 .buildRs();
     }
 
@@ -206,6 +216,14 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
         return DateUtil.fromDate(job.getTrigger().hasNextFireTime()).isBefore(DateUtil.now().plusMinutes(schedulerChunkInMinutes));
     }
 
+    /**
+     * Check if the job timers are handled by the current instance, always true unless the concrete scheduler
+     * shares the jobs with other instances.
+     */
+    protected boolean isOwned(JobDetails job) {
+        return true;
+    }
+
     private PublisherBuilder<JobDetails> handleExistingJob(JobDetails job) {
         return ReactiveStreams.fromCompletionStage(jobRepository.get(job.getId()))
                 .flatMap(
@@ -254,6 +272,23 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
         }
     }
 
+    /**
+     * Invoked when a fired timer no longer matches the persisted job, because the job was canceled or rescheduled
+     * through another instance. The timer registration is dropped so the periodic loader does not consider the job as
+     * scheduled anymore, and if the job still exists on the current chunk it is scheduled again from its persisted
+     * version.
+     */
+    public Publisher<JobDetails> handleOutdatedTimer(JobDetails firedJob, JobDetails currentJob) {
+        unregisterScheduledJob(firedJob);
+        if (Objects.isNull(currentJob) || Objects.isNull(currentJob.getTrigger()) || Objects.isNull(currentJob.getTrigger().hasNextFireTime())
+                || !isOnCurrentSchedulerChunk(currentJob) || !isOwned(currentJob)) {
+            // removed, finished or to be picked by the periodic loader later
+            return ReactiveStreams.<JobDetails> empty().buildRs();
+        }
+        LOGGER.debug("Rescheduling job: {} from its persisted version", currentJob.getId());
+        return internalSchedule(currentJob, false);
+    }
+
     private PublisherBuilder<JobDetails> handleInternalScheduleDeletedJob(JobDetails job) {
         LOGGER.warn("Job was removed from database: {}.", job);
         return ReactiveStreams.of(job);
@@ -334,6 +369,13 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
         return handleRetry(jobRepository.get(errorResponse.getJobId()));
     }
 
+    /**
+     * Same as {@link #handleJobExecutionError(JobExecutionResponse)} for a job already read from the repository.
+     */
+    public PublisherBuilder<JobDetails> handleJobExecutionError(JobDetails scheduledJob) {
+        return handleRetry(CompletableFuture.completedFuture(scheduledJob));
+    }
+
     private PublisherBuilder<JobDetails> handleRetry(CompletionStage<JobDetails> futureJob) {
         return ReactiveStreams.fromCompletionStage(futureJob)
                 .flatMap(scheduledJob -> handleExpirationTime(scheduledJob)
@@ -347,7 +389,10 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
                                 .build())
                         .map(jobRepository::save)
                         .flatMapCompletionStage(p -> p))
-                .peek(job -> LOGGER.debug("Retry executed {}", job))
+                .peek(job -> {
+                    metrics.incrementRetries();
+                    LOGGER.debug("Retry executed {}", job);
+                })
                 .onError(errorHandler -> LOGGER.error("Failed to retrieve job due to {}", errorHandler.getMessage()));
     }
 
@@ -363,6 +408,7 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
                         .delete(j)
                         .thenApply(deleted -> {
                             unregisterScheduledJob(j);
+                            metrics.incrementErrors();
                             LOGGER.warn("Retry limit exceeded for job{}", j);
                             return j;
                         }))
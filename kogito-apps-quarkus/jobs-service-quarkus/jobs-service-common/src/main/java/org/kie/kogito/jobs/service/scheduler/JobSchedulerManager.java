@@ -27,8 +27,11 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
 import org.kie.kogito.jobs.service.management.MessagingChangeEvent;
+import org.kie.kogito.jobs.service.management.PartitionsChangeEvent;
 import org.kie.kogito.jobs.service.management.ReleaseLeaderEvent;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
@@ -45,10 +48,6 @@ import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 
-import static org.kie.kogito.jobs.service.repository.ReactiveJobRepository.SortTerm.byCreated;
-import static org.kie.kogito.jobs.service.repository.ReactiveJobRepository.SortTerm.byFireTime;
-import static org.kie.kogito.jobs.service.repository.ReactiveJobRepository.SortTerm.byId;
-
 @ApplicationScoped
 public class JobSchedulerManager {
 
@@ -87,12 +86,30 @@ public class JobSchedulerManager {
     @ConfigProperty(name = "kogito.jobs-service.loadJobErrorStrategy", defaultValue = "NONE")
     String loadJobErrorStrategy;
 
+    /**
+     * The maximum number of jobs fetched at once from the repository by the job loading method, jobs are streamed page
+     * by page so the memory used on a service start does not depend on the number of overdue jobs.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.loadJobPageSize", defaultValue = "500")
+    int loadJobPageSize;
+
+    /**
+     * The interval the job loading method runs when the partitioned mode is enabled. Jobs created through an instance
+     * that does not own them are only saved, and they are scheduled by the owner instance on the next loading, so
+     * this interval is expected to be much shorter than {@link #loadJobIntervalInMinutes}.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.management.partitioning.load-job-interval-in-seconds", defaultValue = "10")
+    long partitionedLoadJobIntervalInSeconds;
+
     @Inject
     TimerDelegateJobScheduler scheduler;
 
     @Inject
     ReactiveJobRepository repository;
 
+    @Inject
+    JobServicePartitions partitions;
+
     @Inject
     Event<ReleaseLeaderEvent> releaseLeaderEvent;
 
@@ -101,6 +118,9 @@ public class JobSchedulerManager {
 
     @Inject
     Vertx vertx;
+
+    @Inject
+    JobServiceMetrics metrics;
     final AtomicBoolean enabled = new AtomicBoolean(false);
 
     final AtomicLong periodicTimerIdForLoadJobs = new AtomicLong(-1L);
@@ -119,8 +139,8 @@ public class JobSchedulerManager {
 
     private void startJobsLoadingFromRepositoryTask() {
         LOGGER.info(
-                "Starting with configuration: schedulerChunkInMinutes={}, loadJobIntervalInMinutes={}, loadJobFromCurrentTimeIntervalInMinutes={}, loadJobRetries={}, loadJobErrorStrategy={}",
-                schedulerChunkInMinutes, loadJobIntervalInMinutes, loadJobFromCurrentTimeIntervalInMinutes, loadJobRetries, loadJobErrorStrategy);
+                "Starting with configuration: schedulerChunkInMinutes={}, loadJobIntervalInMinutes={}, loadJobFromCurrentTimeIntervalInMinutes={}, loadJobRetries={}, loadJobErrorStrategy={}, loadJobPageSize={}",
+                schedulerChunkInMinutes, loadJobIntervalInMinutes, loadJobFromCurrentTimeIntervalInMinutes, loadJobRetries, loadJobErrorStrategy, loadJobPageSize);
         //guarantee it starts the task just in case it is not already active
         initialLoading.set(true);
         if (periodicTimerIdForLoadJobs.get() < 0) {
@@ -142,7 +162,10 @@ public class JobSchedulerManager {
             //first execution
             vertx.runOnContext(this::loadJobDetails);
             //next executions to run periodically
-            periodicTimerIdForLoadJobs.set(vertx.setPeriodic(TimeUnit.MINUTES.toMillis(loadJobIntervalInMinutes), id -> loadJobDetails()));
+            long loadJobIntervalInMillis = partitions.isEnabled()
+                    ? TimeUnit.SECONDS.toMillis(partitionedLoadJobIntervalInSeconds)
+                    : TimeUnit.MINUTES.toMillis(loadJobIntervalInMinutes);
+            periodicTimerIdForLoadJobs.set(vertx.setPeriodic(loadJobIntervalInMillis, id -> loadJobDetails()));
         }
     }
 
@@ -165,6 +188,21 @@ public class JobSchedulerManager {
         }
     }
 
+    /**
+     * Removes the timers of the partitions taken by other instances, and loads the jobs of the partitions taken from
+     * other instances. The overdue jobs left by an instance that is no longer alive are handled as on a service start.
+     */
+    protected void onPartitionsChange(@Observes PartitionsChangeEvent event) {
+        LOGGER.info("Owned partitions changed {}", event);
+        if (event.hasReleased()) {
+            scheduler.unscheduleTimers(jobId -> !partitions.isOwned(jobId));
+        }
+        if (event.hasAcquired() && enabled.get()) {
+            initialLoading.set(true);
+            vertx.runOnContext(this::loadJobDetails);
+        }
+    }
+
     /**
      * Runs periodically loading the jobs from the repository in chunks.
      */
@@ -183,10 +221,14 @@ public class JobSchedulerManager {
 
     public void doLoadJobDetails(ZonedDateTime fromFireTime, ZonedDateTime toFireTime, final int retries) {
         LOGGER.info("Loading jobs to schedule from the repository, fromFireTime: {} toFireTime: {}.", fromFireTime, toFireTime);
+        final AtomicLong loadedJobs = new AtomicLong();
         loadJobsBetweenDates(fromFireTime, toFireTime)
                 .filter(this::isNotScheduled)
                 .flatMapRsPublisher(jobDetails -> ErrorHandling.skipErrorPublisher((jd) -> scheduler.internalSchedule(jd, initialLoading.get()), jobDetails))
-                .forEach(jobDetails -> LOGGER.debug("Loaded and scheduled job {}.", jobDetails))
+                .forEach(jobDetails -> {
+                    loadedJobs.incrementAndGet();
+                    LOGGER.debug("Loaded and scheduled job {}.", jobDetails);
+                })
                 .run()
                 .whenComplete((unused, throwable) -> {
                     if (throwable != null) {
@@ -200,6 +242,7 @@ public class JobSchedulerManager {
                         }
                     }
                     initialLoading.set(false);
+                    metrics.setLoadedJobs(loadedJobs.get());
                     LOGGER.info("Loading scheduled jobs completed !");
                 });
     }
@@ -225,10 +268,14 @@ public class JobSchedulerManager {
         return !scheduled;
     }
 
+    /**
+     * In the partitioned mode only the jobs of the owned partitions are read from the repository.
+     */
     private PublisherBuilder<JobDetails> loadJobsBetweenDates(ZonedDateTime fromFireTime, ZonedDateTime toFireTime) {
-        return repository.findByStatusBetweenDates(fromFireTime, toFireTime,
+        return repository.findByStatusBetweenDatesPaged(fromFireTime, toFireTime,
                 new JobStatus[] { JobStatus.SCHEDULED, JobStatus.RETRY },
-                new ReactiveJobRepository.SortTerm[] { byCreated(true), byFireTime(true), byId(true) });
+                partitions.getOwnedPartitionsFilter(),
+                loadJobPageSize);
     }
 
     private void applyLoadJobsErrorStrategy(Throwable throwable) {
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck) with cascading levels.
+ * <p>
+ * Timers are kept in a pool of parallel primitive arrays, every slot of the wheel is a doubly linked list of pool
+ * indexes, so adding and removing a timer are O(1) and do not allocate once the pool has grown to its working size.
+ * The id returned by {@link #add(long, Object)} encodes the pool index and a generation counter, a stale id never
+ * removes a timer that reused the same pool entry.
+ * <p>
+ * This class is not thread safe, callers must synchronize the access.
+ *
+ * @param <T> the payload stored with every timer.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int NONE = -1;
+
+    private static final int LEVELS = 4;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long startMillis;
+    private final long tickMillis;
+    private final int bitsPerLevel;
+    private final int mask;
+
+    private long currentTick;
+
+    /**
+     * Head of the timers list of every slot, indexed by level * wheelSize + slot.
+     */
+    private final int[] slotHeads;
+
+    // timers pool
+    private long[] expirationTicks;
+    private int[] nextEntries;
+    private int[] previousEntries;
+    private int[] entrySlots;
+    private int[] generations;
+    private Object[] payloads;
+    private int freeHead;
+    private int size;
+
+    public HierarchicalTimingWheel(long startMillis, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be greater than zero: " + tickMillis);
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.startMillis = startMillis;
+        this.tickMillis = tickMillis;
+        this.bitsPerLevel = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.slotHeads = new int[LEVELS * wheelSize];
+        Arrays.fill(slotHeads, NONE);
+        this.expirationTicks = new long[0];
+        this.nextEntries = new int[0];
+        this.previousEntries = new int[0];
+        this.entrySlots = new int[0];
+        this.generations = new int[0];
+        this.payloads = new Object[0];
+        this.freeHead = NONE;
+        grow(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds a timer, timers already expired are fired on the next tick.
+     *
+     * @param expirationMillis epoch millis when the timer should be fired.
+     * @param payload the payload returned when the timer expires.
+     * @return the id of the timer, to be used in {@link #remove(long)}.
+     */
+    public long add(long expirationMillis, T payload) {
+        if (freeHead == NONE) {
+            grow(expirationTicks.length * 2);
+        }
+        int entry = freeHead;
+        freeHead = nextEntries[entry];
+        // round up, a timer must never be fired before its expiration
+        long expirationTick = Math.floorDiv(expirationMillis - startMillis + tickMillis - 1, tickMillis);
+        expirationTicks[entry] = Math.max(expirationTick, currentTick + 1);
+        payloads[entry] = payload;
+        place(entry);
+        size++;
+        return ((long) generations[entry] << 32) | entry;
+    }
+
+    /**
+     * Removes a timer if it has not expired yet.
+     *
+     * @param id the id returned by {@link #add(long, Object)}.
+     * @return true if the timer was removed, false if it was not found.
+     */
+    public boolean remove(long id) {
+        int entry = (int) id;
+        if (entry < 0 || entry >= expirationTicks.length || entrySlots[entry] == NONE || generations[entry] != (int) (id >>> 32)) {
+            return false;
+        }
+        unlink(entry);
+        release(entry);
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given time and hands every expired timer to the consumer, in expiration order.
+     *
+     * @param nowMillis current epoch millis.
+     * @param expiredConsumer receives the payload of every expired timer.
+     * @return the number of expired timers.
+     */
+    @SuppressWarnings("unchecked")
+    public int advance(long nowMillis, Consumer<T> expiredConsumer) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        int expired = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            int slot = (int) (currentTick & mask);
+            int entry = slotHeads[slot];
+            slotHeads[slot] = NONE;
+            while (entry != NONE) {
+                int next = nextEntries[entry];
+                T payload = (T) payloads[entry];
+                release(entry);
+                expiredConsumer.accept(payload);
+                expired++;
+                entry = next;
+            }
+        }
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * When the lower level completes a turn, the timers of the current slot of the upper level are moved down.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (bitsPerLevel * level)) - 1)) != 0) {
+                return;
+            }
+            int slot = level * (mask + 1) + (int) ((currentTick >>> (bitsPerLevel * level)) & mask);
+            int entry = slotHeads[slot];
+            slotHeads[slot] = NONE;
+            while (entry != NONE) {
+                int next = nextEntries[entry];
+                place(entry);
+                entry = next;
+            }
+        }
+    }
+
+    private void place(int entry) {
+        long placementTick = expirationTicks[entry];
+        long delta = placementTick - currentTick;
+        int level = 0;
+        while (level < LEVELS && delta >= (1L << (bitsPerLevel * (level + 1)))) {
+            level++;
+        }
+        if (level == LEVELS) {
+            // beyond the wheel range, parked in the farthest slot and placed again when it is cascaded
+            level = LEVELS - 1;
+            placementTick = currentTick + (1L << (bitsPerLevel * LEVELS)) - 1;
+        }
+        int slot = level * (mask + 1) + (int) ((placementTick >>> (bitsPerLevel * level)) & mask);
+        int head = slotHeads[slot];
+        nextEntries[entry] = head;
+        previousEntries[entry] = NONE;
+        if (head != NONE) {
+            previousEntries[head] = entry;
+        }
+        slotHeads[slot] = entry;
+        entrySlots[entry] = slot;
+    }
+
+    private void unlink(int entry) {
+        int previous = previousEntries[entry];
+        int next = nextEntries[entry];
+        if (previous == NONE) {
+            slotHeads[entrySlots[entry]] = next;
+        } else {
+            nextEntries[previous] = next;
+        }
+        if (next != NONE) {
+            previousEntries[next] = previous;
+        }
+    }
+
+    private void release(int entry) {
+        payloads[entry] = null;
+        entrySlots[entry] = NONE;
+        generations[entry]++;
+        nextEntries[entry] = freeHead;
+        freeHead = entry;
+        size--;
+    }
+
+    private void grow(int capacity) {
+        int oldCapacity = expirationTicks.length;
+        expirationTicks = Arrays.copyOf(expirationTicks, capacity);
+        nextEntries = Arrays.copyOf(nextEntries, capacity);
+        previousEntries = Arrays.copyOf(previousEntries, capacity);
+        entrySlots = Arrays.copyOf(entrySlots, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        payloads = Arrays.copyOf(payloads, capacity);
+        for (int entry = capacity - 1; entry >= oldCapacity; entry--) {
+            entrySlots[entry] = NONE;
+            nextEntries[entry] = freeHead;
+            freeHead = entry;
+        }
+    }
+}
@@ -19,12 +19,16 @@
 package org.kie.kogito.jobs.service.scheduler.impl;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.executor.JobExecutorResolver;
 import org.kie.kogito.jobs.service.job.DelegateJob;
+import org.kie.kogito.jobs.service.job.PartitionedDelegateJob;
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobDetailsContext;
 import org.kie.kogito.jobs.service.model.ManageableJobHandle;
@@ -50,6 +54,10 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
 
     private VertxTimerServiceScheduler delegate;
 
+    private ReactiveJobRepository jobRepository;
+
+    private JobServicePartitions partitions;
+
     protected TimerDelegateJobScheduler() {
     }
 
@@ -61,21 +69,31 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
             @ConfigProperty(name = "kogito.jobs-service.schedulerMinTimerDelayInMillis", defaultValue = "1000") long schedulerMinTimerDelayInMillis,
             @ConfigProperty(name = "kogito.jobs-service.forceExecuteExpiredJobs", defaultValue = "true") boolean forceExecuteExpiredJobs,
             @ConfigProperty(name = "kogito.jobs-service.forceExecuteExpiredJobsOnServiceStart", defaultValue = "true") boolean forceExecuteExpiredJobsOnServiceStart,
-            JobExecutorResolver jobExecutorResolver, VertxTimerServiceScheduler delegate) {
+            JobExecutorResolver jobExecutorResolver, VertxTimerServiceScheduler delegate, JobServicePartitions partitions,
+            JobServiceMetrics metrics) {
         super(jobRepository, backoffRetryMillis, maxIntervalLimitToRetryMillis, schedulerChunkInMinutes, schedulerMinTimerDelayInMillis, forceExecuteExpiredJobs,
-                forceExecuteExpiredJobsOnServiceStart);
+                forceExecuteExpiredJobsOnServiceStart, metrics);
         LOGGER.info(
                 "Creating JobScheduler with backoffRetryMillis={}, maxIntervalLimitToRetryMillis={}, schedulerChunkInMinutes={}, schedulerMinTimerDelayInMillis={}, forceExecuteExpiredJobs={}, forceExecuteExpiredJobsOnServiceStart={}",
                 backoffRetryMillis, maxIntervalLimitToRetryMillis, schedulerChunkInMinutes, schedulerMinTimerDelayInMillis, forceExecuteExpiredJobs, forceExecuteExpiredJobsOnServiceStart);
         this.jobExecutorResolver = jobExecutorResolver;
         this.delegate = delegate;
+        this.jobRepository = jobRepository;
+        this.partitions = partitions;
+    }
+
+    @Override
+    protected boolean isOwned(JobDetails job) {
+        return partitions.isOwned(job.getId());
     }
 
     @Override
     public PublisherBuilder<ManageableJobHandle> doSchedule(JobDetails job, Trigger trigger) {
         LOGGER.debug("Job Scheduling job: {}, trigger: {}", job, trigger);
-        ManageableJobHandle jobHandle = delegate.scheduleJob(new DelegateJob(jobExecutorResolver, this),
-                new JobDetailsContext(job), trigger);
+        DelegateJob delegateJob = partitions.isEnabled()
+                ? new PartitionedDelegateJob(jobExecutorResolver, this, jobRepository, metrics)
+                : new DelegateJob(jobExecutorResolver, this, metrics);
+        ManageableJobHandle jobHandle = delegate.scheduleJob(delegateJob, new JobDetailsContext(job), trigger);
         return ReactiveStreams.of(jobHandle);
     }
 
@@ -87,7 +105,9 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
                 .filter(Objects::nonNull)
                 .map(scheduledId -> {
                     ManageableJobHandle handle = new ManageableJobHandle(scheduledId);
-                    handle.setCancel(delegate.removeJob(handle));
+                    // the timer of a job owned by another instance is not in this scheduler, and the id might
+                    // match an unrelated local timer
+                    handle.setCancel(isOwned(scheduledJob) && delegate.removeJob(handle));
                     return handle;
                 })
                 .buildRs();
@@ -97,8 +117,15 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
      * Removes only the programed in-memory timers.
      */
     public void unscheduleTimers() {
+        unscheduleTimers(jobId -> true);
+    }
+
+    /**
+     * Removes only the programed in-memory timers of the jobs matching the filter.
+     */
+    public void unscheduleTimers(Predicate<String> jobIdFilter) {
         LOGGER.debug("Removing in-memory scheduled timers");
-        super.getScheduledJobs().forEach(record -> {
+        super.getScheduledJobs().stream().filter(record -> jobIdFilter.test(record.getJobId())).forEach(record -> {
             boolean removed = delegate.removeJob(new ManageableJobHandle(record.getHandleId()));
             LOGGER.debug("Vertex timer: {} for jobId: {}, was removed: {}", record.getHandleId(), record.getJobId(), removed);
             super.unregisterScheduledJob(JobDetails.builder().id(record.getJobId()).build());
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.jobs.service.model.ManageableJobHandle;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.timer.Trigger;
+import org.kie.kogito.timer.impl.TimerJobInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.vertx.mutiny.core.Vertx;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Timer service backed by a {@link HierarchicalTimingWheel} instead of one Vert.x timer per job. A single Vert.x
+ * periodic timer advances the wheel and the jobs expired on every tick are fired in one batch.
+ * Enabled at build time with <code>kogito.jobs-service.timer=timing-wheel</code>.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "kogito.jobs-service.timer", stringValue = "timing-wheel")
+public class TimingWheelTimerServiceScheduler extends VertxTimerServiceScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelTimerServiceScheduler.class);
+
+    private final HierarchicalTimingWheel<TimerJobInstance> wheel;
+
+    private final long tickTimerId;
+
+    @Inject
+    public TimingWheelTimerServiceScheduler(Vertx vertx,
+            @ConfigProperty(name = "kogito.jobs-service.schedulerMinTimerDelayInMillis", defaultValue = "1000") long schedulerMinTimerDelayInMillis,
+            @ConfigProperty(name = "kogito.jobs-service.timingWheel.tickMillis", defaultValue = "100") long tickMillis,
+            @ConfigProperty(name = "kogito.jobs-service.timingWheel.wheelSize", defaultValue = "512") int wheelSize) {
+        super(vertx, schedulerMinTimerDelayInMillis);
+        this.wheel = new HierarchicalTimingWheel<>(getCurrentTime(), tickMillis, wheelSize);
+        this.tickTimerId = vertx.setPeriodic(tickMillis, id -> tick());
+        LOGGER.info("Creating TimingWheelTimerServiceScheduler with tickMillis={}, wheelSize={}", tickMillis, wheelSize);
+    }
+
+    @Override
+    public void shutdown() {
+        vertx.cancelTimer(tickTimerId);
+        super.shutdown();
+    }
+
+    @Override
+    public boolean removeJob(ManageableJobHandle jobHandle) {
+        synchronized (wheel) {
+            return wheel.remove(jobHandle.getId());
+        }
+    }
+
+    @Override
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        final Trigger trigger = timerJobInstance.getTrigger();
+        if (trigger.hasNextFireTime() == null) {
+            return;
+        }
+        final ZonedDateTime now = DateUtil.now();
+        final long nowMillis = now.toInstant().toEpochMilli();
+        final long expiration = nowMillis + Math.max(schedulerMinTimerDelayInMillis, trigger.hasNextFireTime().getTime() - nowMillis);
+        final ManageableJobHandle handle = (ManageableJobHandle) timerJobInstance.getJobHandle();
+        long scheduledId;
+        synchronized (wheel) {
+            scheduledId = wheel.add(expiration, timerJobInstance);
+        }
+        handle.setId(scheduledId);
+        handle.setScheduledTime(now);
+    }
+
+    /**
+     * Number of timers currently programmed in the wheel.
+     */
+    public int getScheduledTimers() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    void tick() {
+        List<TimerJobInstance> expired = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(getCurrentTime(), expired::add);
+        }
+        // jobs are fired outside the lock, so they can schedule or cancel timers
+        for (TimerJobInstance timerJobInstance : expired) {
+            try {
+                timerJobInstance.getJob().execute(timerJobInstance.getJobContext());
+            } catch (Exception e) {
+                LOGGER.error("Failed to fire timer for job context: {}", timerJobInstance.getJobContext(), e);
+            }
+        }
+    }
+}
@@ -34,16 +34,18 @@ import org.kie.kogito.timer.impl.DefaultTimerJobFactoryManager;
 import org.kie.kogito.timer.impl.TimerJobFactoryManager;
 import org.kie.kogito.timer.impl.TimerJobInstance;
 
+import io.quarkus.arc.DefaultBean;
 import io.vertx.mutiny.core.Vertx;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+@DefaultBean
 @ApplicationScoped
 public class VertxTimerServiceScheduler implements TimerService<ManageableJobHandle>,
         InternalSchedulerService {
 
-    private final long schedulerMinTimerDelayInMillis;
+    protected final long schedulerMinTimerDelayInMillis;
 
     protected TimerJobFactoryManager jobFactoryManager = DefaultTimerJobFactoryManager.instance;
 
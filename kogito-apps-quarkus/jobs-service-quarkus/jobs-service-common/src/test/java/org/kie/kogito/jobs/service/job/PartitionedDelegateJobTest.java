@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.job;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.jobs.service.exception.JobExecutionException;
+import org.kie.kogito.jobs.service.executor.JobExecutor;
+import org.kie.kogito.jobs.service.executor.JobExecutorResolver;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobDetailsContext;
+import org.kie.kogito.jobs.service.model.JobExecutionResponse;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
+import org.kie.kogito.jobs.service.scheduler.BaseTimerJobScheduler;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.smallrye.mutiny.Uni;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedDelegateJobTest {
+
+    private static final String JOB_ID = "JOB_ID";
+
+    @Mock
+    JobExecutorResolver executorResolver;
+
+    @Mock
+    JobExecutor executor;
+
+    @Mock
+    BaseTimerJobScheduler scheduler;
+
+    @Mock
+    ReactiveJobRepository repository;
+
+    private PartitionedDelegateJob tested;
+
+    private JobDetails job;
+
+    @BeforeEach
+    void setUp() {
+        tested = new PartitionedDelegateJob(executorResolver, scheduler, repository);
+        job = JobDetails.builder()
+                .id(JOB_ID)
+                .status(JobStatus.SCHEDULED)
+                .trigger(new PointInTimeTrigger(DateUtil.now().toInstant().toEpochMilli(), null, null))
+                .build();
+    }
+
+    @Test
+    void executeReadsTheJobOnce() {
+        doReturn(CompletableFuture.completedFuture(job)).when(repository).get(JOB_ID);
+        doReturn(executor).when(executorResolver).get(job);
+        doReturn(Uni.createFrom().item(JobExecutionResponse.builder().jobId(JOB_ID).now().build())).when(executor).execute(job);
+        doReturn(ReactiveStreams.of(job)).when(scheduler).handleJobExecutionSuccess(job);
+
+        tested.execute(new JobDetailsContext(job));
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> verify(scheduler).handleJobExecutionSuccess(job));
+        verify(repository, times(1)).get(JOB_ID);
+        verify(scheduler, never()).handleJobExecutionSuccess(any(JobExecutionResponse.class));
+    }
+
+    @Test
+    void executeErrorReadsTheJobOnce() {
+        doReturn(CompletableFuture.completedFuture(job)).when(repository).get(JOB_ID);
+        doReturn(executor).when(executorResolver).get(job);
+        doReturn(Uni.createFrom().failure(new JobExecutionException(JOB_ID, "error"))).when(executor).execute(job);
+        doReturn(ReactiveStreams.of(job)).when(scheduler).handleJobExecutionError(job);
+
+        tested.execute(new JobDetailsContext(job));
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> verify(scheduler).handleJobExecutionError(job));
+        verify(repository, times(1)).get(JOB_ID);
+        verify(scheduler, never()).handleJobExecutionError(any(JobExecutionResponse.class));
+    }
+
+    @Test
+    void executeRemovedJob() {
+        doReturn(CompletableFuture.completedFuture(null)).when(repository).get(JOB_ID);
+        doReturn(ReactiveStreams.<JobDetails> empty().buildRs()).when(scheduler).handleOutdatedTimer(job, null);
+
+        tested.execute(new JobDetailsContext(job));
+
+        verify(scheduler).handleOutdatedTimer(job, null);
+        verify(executor, never()).execute(any());
+    }
+}
@@ -47,10 +47,12 @@ import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.Instance;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -78,6 +80,12 @@ class JobServiceInstanceManagerTest {
     @Mock
     Event<MessagingChangeEvent> messagingChangeEventEvent;
 
+    @Mock
+    Event<PartitionsChangeEvent> partitionsChangeEvent;
+
+    @Spy
+    JobServicePartitions partitions = new JobServicePartitions();
+
     @Captor
     ArgumentCaptor<JobServiceManagementInfo> infoCaptor;
 
@@ -92,6 +100,7 @@ class JobServiceInstanceManagerTest {
         tested.heartbeatExpirationInSeconds = 1;
         tested.leaderCheckIntervalInSeconds = 1;
         tested.heardBeatIntervalInSeconds = 1;
+        partitions.partitions = 16;
         messagingHandler = mock(MessagingHandler.class);
         Stream<MessagingHandler> handlers = Arrays.stream(new MessagingHandler[] { messagingHandler });
         lenient().doReturn(handlers).when(messagingHandlerInstance).stream();
@@ -118,6 +127,20 @@ class JobServiceInstanceManagerTest {
         verify(repository, times(1)).release(tested.getCurrentInfo());
     }
 
+    @Test
+    void onShutdownPartitioned() {
+        partitions.enabled = true;
+        doReturn(true).when(repository).isShared();
+        tested.startup(startupEvent);
+        await().atMost(30, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(tested.isLeader()).isTrue());
+        tested.onShutdown(shutdownEvent);
+
+        verify(repository, times(1)).delete(tested.getCurrentInfo());
+        verify(repository, never()).release(any());
+        assertThat(repository.findActiveInstances(OffsetDateTime.now().minusMinutes(1)).await().indefinitely()).isEmpty();
+    }
+
     @Test
     void tryBecomeLeaderSuccess() {
         JobServiceManagementInfo info = new JobServiceManagementInfo("id", "token", OffsetDateTime.now());
@@ -170,4 +193,41 @@ class JobServiceInstanceManagerTest {
         assertThat(lastHeartbeat.getToken()).isEqualTo(tested.getCurrentInfo().getToken());
         assertThat(lastHeartbeat.getLastHeartbeat()).isNotNull();
     }
+
+    @Test
+    void startupPartitioned() {
+        partitions.enabled = true;
+        doReturn(true).when(repository).isShared();
+        tested.startup(startupEvent);
+
+        await().atMost(30, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(tested.isLeader()).isTrue());
+        assertThat(tested.getCurrentInfo().getId()).isEqualTo(tested.getCurrentInfo().getToken());
+        verify(tested, never()).tryBecomeLeader(any(), any(), any());
+        verify(repository, atLeastOnce()).set(tested.getCurrentInfo());
+        verify(partitionsChangeEvent).fire(any(PartitionsChangeEvent.class));
+        verify(messagingHandler).resume();
+        assertThat(partitions.getOwnedPartitionsCount()).isEqualTo(16);
+    }
+
+    @Test
+    void startupPartitionedNotSharedRepository() {
+        partitions.enabled = true;
+
+        assertThatThrownBy(() -> tested.startup(startupEvent)).isInstanceOf(IllegalStateException.class);
+        verify(repository, never()).set(any());
+    }
+
+    @Test
+    void rebalanceHeartbeatExpired() {
+        partitions.enabled = true;
+        JobServiceManagementInfo info = new JobServiceManagementInfo("token", "token", OffsetDateTime.now().minusMinutes(1));
+        repository.set(info).await().indefinitely();
+
+        tested.rebalance(info).await().indefinitely();
+        assertThat(partitions.getOwnedPartitionsCount()).isZero();
+        verify(partitionsChangeEvent, never()).fire(any());
+        verify(repository).deleteExpiredInstances(any());
+        assertThat(repository.getAndUpdate("token", current -> current).await().indefinitely().getId()).isNull();
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.management;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.service.repository.JobPartitionFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobServicePartitionsTest {
+
+    private static final int PARTITIONS = 64;
+
+    private JobServicePartitions tested;
+
+    @BeforeEach
+    void setUp() {
+        tested = new JobServicePartitions();
+        tested.enabled = true;
+        tested.partitions = PARTITIONS;
+    }
+
+    @Test
+    void isOwnedDisabled() {
+        tested.enabled = false;
+        assertThat(tested.isOwned(UUID.randomUUID().toString())).isTrue();
+    }
+
+    @Test
+    void ownedPartitionsFilter() {
+        assertThat(tested.getOwnedPartitionsFilter().isAll()).isFalse();
+        String local = UUID.randomUUID().toString();
+        tested.rebalance(local, List.of(local, UUID.randomUUID().toString()));
+
+        JobPartitionFilter filter = tested.getOwnedPartitionsFilter();
+        assertThat(filter.getPartitions()).isEqualTo(PARTITIONS);
+        assertThat(filter.getOwnedPartitions()).hasSize(tested.getOwnedPartitionsCount());
+        String jobId = UUID.randomUUID().toString();
+        assertThat(filter.test(jobId)).isEqualTo(tested.isOwned(jobId));
+
+        tested.enabled = false;
+        assertThat(tested.getOwnedPartitionsFilter().isAll()).isTrue();
+    }
+
+    @Test
+    void partitionKey() {
+        String jobId = UUID.randomUUID().toString();
+        assertThat(JobServicePartitions.partitionKey(jobId)).isNotNegative().isEqualTo(JobServicePartitions.partitionKey(jobId));
+        assertThat(JobServicePartitions.partitionOf(jobId, PARTITIONS)).isEqualTo(JobServicePartitions.partitionKey(jobId) % PARTITIONS);
+    }
+
+    @Test
+    void assignEveryPartitionToOneInstance() {
+        List<String> tokens = tokens(5);
+        BitSet all = new BitSet();
+        int assignedCount = 0;
+        for (String token : tokens) {
+            BitSet assigned = JobServicePartitions.assign(token, tokens, PARTITIONS);
+            assertThat(assigned.intersects(all)).isFalse();
+            all.or(assigned);
+            assignedCount += assigned.cardinality();
+        }
+        assertThat(assignedCount).isEqualTo(PARTITIONS);
+        assertThat(all.cardinality()).isEqualTo(PARTITIONS);
+    }
+
+    @Test
+    void assignNotLiveInstance() {
+        assertThat(JobServicePartitions.assign("token", tokens(3), PARTITIONS).isEmpty()).isTrue();
+    }
+
+    @Test
+    void assignOnlyMovesPartitionsOfTheLeavingInstance() {
+        List<String> tokens = tokens(4);
+        List<String> remaining = new ArrayList<>(tokens.subList(0, 3));
+        for (String token : remaining) {
+            BitSet before = JobServicePartitions.assign(token, tokens, PARTITIONS);
+            BitSet after = JobServicePartitions.assign(token, remaining, PARTITIONS);
+            BitSet lost = (BitSet) before.clone();
+            lost.andNot(after);
+            assertThat(lost.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    void rebalance() {
+        List<String> tokens = tokens(2);
+        String local = tokens.get(0);
+
+        Optional<PartitionsChangeEvent> event = tested.rebalance(local, List.of(local));
+        assertThat(event).isPresent();
+        assertThat(event.get().getAcquired().cardinality()).isEqualTo(PARTITIONS);
+        assertThat(event.get().hasReleased()).isFalse();
+        assertThat(tested.getOwnedPartitionsCount()).isEqualTo(PARTITIONS);
+
+        assertThat(tested.rebalance(local, List.of(local))).isEmpty();
+
+        event = tested.rebalance(local, tokens);
+        assertThat(event).isPresent();
+        assertThat(event.get().hasAcquired()).isFalse();
+        assertThat(event.get().getReleased().cardinality()).isEqualTo(PARTITIONS - tested.getOwnedPartitionsCount());
+
+        String jobId = UUID.randomUUID().toString();
+        boolean ownedByLocal = JobServicePartitions.assign(local, tokens, PARTITIONS).get(JobServicePartitions.partitionOf(jobId, PARTITIONS));
+        assertThat(tested.isOwned(jobId)).isEqualTo(ownedByLocal);
+    }
+
+    private static List<String> tokens(int size) {
+        return IntStream.range(0, size).mapToObj(i -> UUID.randomUUID().toString()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.job.recipient.common.http.DestinationBulkhead;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobServiceMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    private JobServiceMetrics tested;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tested = new JobServiceMetrics(registry);
+    }
+
+    @Test
+    void recordSchedule() {
+        tested.recordSchedule(tested.startSample());
+        assertThat(registry.get(JobServiceMetrics.SCHEDULE_TIMER).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordFireLag() {
+        JobDetails job = JobDetails.builder()
+                .id("1")
+                .trigger(new PointInTimeTrigger(System.currentTimeMillis() - 1000, null, null))
+                .build();
+        tested.recordFireLag(job);
+        Timer timer = registry.get(JobServiceMetrics.FIRE_LAG_TIMER).timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test
+    void recordFireLagWithoutTrigger() {
+        tested.recordFireLag(JobDetails.builder().id("1").build());
+        assertThat(registry.get(JobServiceMetrics.FIRE_LAG_TIMER).timer().count()).isZero();
+    }
+
+    @Test
+    void recordExecution() {
+        tested.recordExecution(tested.startSample(), "HttpRecipient", true);
+        tested.recordExecution(tested.startSample(), "HttpRecipient", false);
+        tested.recordExecution(tested.startSample(), "HttpRecipient", true);
+        assertThat(registry.get(JobServiceMetrics.EXECUTION_TIMER)
+                .tag(JobServiceMetrics.RECIPIENT_TAG, "HttpRecipient")
+                .tag(JobServiceMetrics.OUTCOME_TAG, JobServiceMetrics.SUCCESS)
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get(JobServiceMetrics.EXECUTION_TIMER)
+                .tag(JobServiceMetrics.RECIPIENT_TAG, "HttpRecipient")
+                .tag(JobServiceMetrics.OUTCOME_TAG, JobServiceMetrics.FAILURE)
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get(JobServiceMetrics.EXECUTION_TIMER).timers()).hasSize(2);
+    }
+
+    @Test
+    void counters() {
+        tested.incrementRetries();
+        tested.incrementRetries();
+        tested.incrementErrors();
+        assertThat(registry.get(JobServiceMetrics.RETRIES_COUNTER).counter().count()).isEqualTo(2);
+        assertThat(registry.get(JobServiceMetrics.ERRORS_COUNTER).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void gauges() {
+        AtomicInteger scheduledTimers = new AtomicInteger(3);
+        tested.registerScheduledTimers(scheduledTimers::get);
+        tested.setLoadedJobs(10);
+        assertThat(registry.get(JobServiceMetrics.SCHEDULED_TIMERS_GAUGE).gauge().value()).isEqualTo(3);
+        assertThat(registry.get(JobServiceMetrics.LOADED_JOBS_GAUGE).gauge().value()).isEqualTo(10);
+        scheduledTimers.set(5);
+        assertThat(registry.get(JobServiceMetrics.SCHEDULED_TIMERS_GAUGE).gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    void bulkhead() {
+        DestinationBulkhead bulkhead = new DestinationBulkhead(1, 0);
+        tested.registerBulkhead("HttpRecipient", bulkhead);
+        bulkhead.execute("http://host:8080", () -> Uni.createFrom().emitter(emitter -> {
+        })).subscribe().with(item -> {
+        });
+        bulkhead.execute("http://host:8080", () -> Uni.createFrom().item("rejected")).subscribe().with(item -> {
+        }, failure -> {
+        });
+
+        assertThat(registry.get(JobServiceMetrics.BULKHEAD_ACTIVE_GAUGE)
+                .tag(JobServiceMetrics.RECIPIENT_TAG, "HttpRecipient")
+                .tag(JobServiceMetrics.DESTINATION_TAG, "http://host:8080")
+                .gauge().value()).isEqualTo(1);
+        assertThat(registry.get(JobServiceMetrics.BULKHEAD_QUEUED_GAUGE)
+                .tag(JobServiceMetrics.DESTINATION_TAG, "http://host:8080")
+                .gauge().value()).isZero();
+        assertThat(registry.get(JobServiceMetrics.BULKHEAD_REJECTED_COUNTER)
+                .tag(JobServiceMetrics.DESTINATION_TAG, "http://host:8080")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkheadDisabled() {
+        DestinationBulkhead bulkhead = new DestinationBulkhead(0, -1);
+        tested.registerBulkhead("HttpRecipient", bulkhead);
+        bulkhead.execute("http://host:8080", () -> Uni.createFrom().item("done")).subscribe().with(item -> {
+        });
+
+        assertThat(registry.find(JobServiceMetrics.BULKHEAD_ACTIVE_GAUGE).gauge()).isNull();
+    }
+}
@@ -19,19 +19,24 @@
 package org.kie.kogito.jobs.service.repository.impl;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipient;
 import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipientStringPayloadData;
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.model.Recipient;
 import org.kie.kogito.jobs.service.model.RecipientInstance;
+import org.kie.kogito.jobs.service.repository.JobPartitionFilter;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobEventPublisher;
 import org.kie.kogito.jobs.service.utils.DateUtil;
@@ -85,6 +90,47 @@ public abstract class BaseJobRepositoryTest {
         tested().save(job).toCompletableFuture().get();
     }
 
+    @Test
+    void testSaveExistingJob() throws ExecutionException, InterruptedException {
+        JobDetails toUpdate = JobDetails.builder()
+                .of(job)
+                .status(JobStatus.RETRY)
+                .retries(2)
+                .executionCounter(3)
+                .build();
+        JobDetails updated = tested().save(toUpdate).toCompletableFuture().get();
+        assertEqualsToReturnedJob(toUpdate, updated);
+        assertEqualsToReturnedJob(toUpdate, tested().get(ID).toCompletableFuture().get());
+    }
+
+    @Test
+    void testSaveAll() throws ExecutionException, InterruptedException {
+        // far from the windows queried by the other tests, the jobs are kept in the repository
+        ZonedDateTime now = DateUtil.now().plusYears(1);
+        JobDetails existing = JobDetails.builder()
+                .of(job)
+                .status(JobStatus.SCHEDULED)
+                .build();
+        List<JobDetails> jobs = IntStream.rangeClosed(1, 5).boxed()
+                .map(i -> JobDetails.builder()
+                        .id(UUID.randomUUID().toString())
+                        .status(JobStatus.SCHEDULED)
+                        .priority(i)
+                        .trigger(new PointInTimeTrigger(now.plusMinutes(i).toInstant().toEpochMilli(), null, null))
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+        jobs.add(existing);
+
+        List<JobDetails> saved = tested().saveAll(jobs).toCompletableFuture().get();
+
+        assertThat(saved).hasSize(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            assertEqualsToReturnedJob(jobs.get(i), saved.get(i));
+            assertEqualsToReturnedJob(jobs.get(i), tested().get(jobs.get(i).getId()).toCompletableFuture().get());
+        }
+        assertThat(tested().saveAll(List.of()).toCompletableFuture().get()).isEmpty();
+    }
+
     @Test
     void testExists() throws ExecutionException, InterruptedException {
         Boolean exists = tested().exists(ID).toCompletableFuture().get();
@@ -168,6 +214,73 @@ public abstract class BaseJobRepositoryTest {
         assertThat(fetchedNotFound.size()).isZero();
     }
 
+    @Test
+    void testFindByStatusBetweenDatesPaged() throws ExecutionException, InterruptedException {
+        // far from the windows queried by the other tests, the jobs are kept in the repository
+        ZonedDateTime from = DateUtil.now().plusYears(2);
+        // pairs of jobs sharing the same fire time, ordered by id
+        List<JobDetails> jobs = IntStream.range(0, 10).boxed()
+                .map(i -> JobDetails.builder()
+                        .id(from.toInstant().toEpochMilli() + "-" + i)
+                        .status(i == 9 ? JobStatus.CANCELED : JobStatus.SCHEDULED)
+                        .priority(i)
+                        .trigger(new PointInTimeTrigger(from.plusMinutes(i / 2).toInstant().toEpochMilli(), null, null))
+                        .build())
+                .map(j -> FunctionsUtil.unchecked((t) -> tested().save(j).toCompletableFuture().get()).apply(null))
+                .toList();
+
+        List<JobDetails> fetched = tested().findByStatusBetweenDatesPaged(from,
+                from.plusMinutes(10),
+                new JobStatus[] { JobStatus.SCHEDULED },
+                2)
+                .toList()
+                .run()
+                .toCompletableFuture()
+                .get();
+
+        assertThat(fetched).containsExactlyElementsOf(jobs.subList(0, 9));
+
+        List<JobDetails> fetchedWithPartialPage = tested().findByStatusBetweenDatesPaged(from,
+                from.plusMinutes(2),
+                new JobStatus[] { JobStatus.SCHEDULED },
+                4)
+                .toList()
+                .run()
+                .toCompletableFuture()
+                .get();
+
+        assertThat(fetchedWithPartialPage).containsExactlyElementsOf(jobs.subList(0, 6));
+    }
+
+    @Test
+    void testFindByStatusBetweenDatesPagedPartitioned() throws ExecutionException, InterruptedException {
+        ZonedDateTime from = DateUtil.now().plusYears(3);
+        List<JobDetails> jobs = IntStream.range(0, 20).boxed()
+                .map(i -> JobDetails.builder()
+                        .id(from.toInstant().toEpochMilli() + "-" + i)
+                        .status(JobStatus.SCHEDULED)
+                        .priority(i)
+                        .trigger(new PointInTimeTrigger(from.plusMinutes(i).toInstant().toEpochMilli(), null, null))
+                        .build())
+                .map(j -> FunctionsUtil.unchecked((t) -> tested().save(j).toCompletableFuture().get()).apply(null))
+                .toList();
+        BitSet owned = new BitSet();
+        owned.set(1);
+
+        List<JobDetails> fetched = tested().findByStatusBetweenDatesPaged(from,
+                from.plusMinutes(20),
+                new JobStatus[] { JobStatus.SCHEDULED },
+                JobPartitionFilter.of(2, owned),
+                3)
+                .toList()
+                .run()
+                .toCompletableFuture()
+                .get();
+
+        assertThat(fetched).isNotEmpty()
+                .containsExactlyElementsOf(jobs.stream().filter(j -> JobServicePartitions.partitionOf(j.getId(), 2) == 1).toList());
+    }
+
     @Test
     void testMergeCallbackEndpoint() throws Exception {
         String id = UUID.randomUUID().toString();
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.repository.marshaller;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipient;
+import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipientStringPayloadData;
+import org.kie.kogito.jobs.service.model.Recipient;
+import org.kie.kogito.jobs.service.model.RecipientInstance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryRecipientMarshallerTest {
+
+    BinaryRecipientMarshaller marshaller = new BinaryRecipientMarshaller();
+
+    @Test
+    void marshallAndUnmarshall() {
+        Recipient recipient = new RecipientInstance(HttpRecipient.builder()
+                .forStringPayload()
+                .url("http://localhost:8080/test")
+                .payload(HttpRecipientStringPayloadData.from("payload"))
+                .build());
+        byte[] binary = marshaller.marshall(recipient);
+        assertEquals(BinaryRecipientMarshaller.VERSION, binary[0]);
+        assertEquals(recipient, marshaller.unmarshall(binary));
+    }
+
+    @Test
+    void marshallNull() {
+        assertNull(marshaller.marshall(null));
+    }
+
+    @Test
+    void unmarshallNull() {
+        assertNull(marshaller.unmarshall(null));
+    }
+
+    @Test
+    void unmarshallUnsupportedVersion() {
+        assertThrows(IllegalArgumentException.class, () -> marshaller.unmarshall(new byte[] { 9 }));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.repository.marshaller;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.timer.Trigger;
+import org.kie.kogito.timer.impl.IntervalTrigger;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.kie.kogito.timer.impl.SimpleTimerTrigger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryTriggerMarshallerTest {
+
+    BinaryTriggerMarshaller marshaller = new BinaryTriggerMarshaller();
+
+    @Test
+    void pointInTimeTrigger() {
+        Date time = new Date();
+        byte[] binary = marshaller.marshall(new PointInTimeTrigger(time.getTime(), null, null));
+        assertThat(binary[0]).isEqualTo((byte) BinaryTriggerMarshaller.VERSION);
+        assertThat(binary).hasSizeLessThan(new TriggerMarshaller().marshall(new PointInTimeTrigger(time.getTime(), null, null)).toBuffer().length());
+
+        Trigger trigger = marshaller.unmarshall(binary);
+        assertThat(trigger).hasToString(new PointInTimeTrigger(time.getTime(), null, null).toString());
+    }
+
+    @Test
+    void intervalTrigger() {
+        IntervalTrigger trigger = new IntervalTrigger();
+        trigger.setStartTime(new Date());
+        trigger.setEndTime(null);
+        trigger.setRepeatLimit(-1);
+        trigger.setRepeatCount(3);
+        trigger.setNextFireTime(new Date());
+        trigger.setPeriod(Long.MAX_VALUE);
+
+        Trigger result = marshaller.unmarshall(marshaller.marshall(trigger));
+
+        assertThat(result).hasToString(trigger.toString());
+    }
+
+    @Test
+    void simpleTimerTrigger() {
+        Date startTime = new Date();
+        Date endTime = new Date(startTime.getTime() + 10000);
+        SimpleTimerTrigger trigger = new SimpleTimerTrigger(startTime, 4, ChronoUnit.HOURS, 3, endTime, "+02:00");
+
+        Trigger result = marshaller.unmarshall(marshaller.marshall(trigger));
+
+        assertThat(result).isExactlyInstanceOf(SimpleTimerTrigger.class);
+        SimpleTimerTrigger simpleTimerTrigger = (SimpleTimerTrigger) result;
+        assertThat(simpleTimerTrigger.getStartTime()).isEqualTo(startTime);
+        assertThat(simpleTimerTrigger.getPeriod()).isEqualTo(4);
+        assertThat(simpleTimerTrigger.getPeriodUnit()).isEqualTo(ChronoUnit.HOURS);
+        assertThat(simpleTimerTrigger.getRepeatCount()).isEqualTo(3);
+        assertThat(simpleTimerTrigger.getEndTime()).isEqualTo(endTime);
+        assertThat(simpleTimerTrigger.getZoneId()).isEqualTo("+02:00");
+        assertThat(simpleTimerTrigger.getNextFireTime()).isEqualTo(startTime);
+        assertThat(simpleTimerTrigger.getCurrentRepeatCount()).isZero();
+        assertThat(simpleTimerTrigger.isEndTimeReached()).isFalse();
+    }
+
+    @Test
+    void marshallNull() {
+        assertThat(marshaller.marshall(null)).isNull();
+    }
+
+    @Test
+    void unmarshallNull() {
+        assertThat(marshaller.unmarshall(null)).isNull();
+    }
+
+    @Test
+    void unmarshallUnsupportedVersion() {
+        assertThatThrownBy(() -> marshaller.unmarshall(new byte[] { 9, 1 }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unmarshallTruncated() {
+        byte[] binary = marshaller.marshall(new PointInTimeTrigger(System.currentTimeMillis(), null, null));
+        byte[] truncated = new byte[binary.length - 1];
+        System.arraycopy(binary, 0, truncated, 0, truncated.length);
+        assertThatThrownBy(() -> marshaller.unmarshall(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -19,18 +19,24 @@
 package org.kie.kogito.jobs.service.scheduler;
 
 import java.time.ZonedDateTime;
+import java.util.BitSet;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
 import org.kie.kogito.jobs.service.management.MessagingChangeEvent;
+import org.kie.kogito.jobs.service.management.PartitionsChangeEvent;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.JobPartitionFilter;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.scheduler.impl.TimerDelegateJobScheduler;
 import org.kie.kogito.jobs.service.utils.DateUtil;
@@ -47,8 +53,10 @@ import io.vertx.mutiny.core.Vertx;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
@@ -70,6 +78,12 @@ class JobSchedulerManagerTest {
     @Mock
     Vertx vertx;
 
+    @Spy
+    JobServicePartitions partitions = new JobServicePartitions();
+
+    @Spy
+    JobServiceMetrics metrics = JobServiceMetrics.noop();
+
     @Spy
     @InjectMocks
     private JobSchedulerManager tested;
@@ -93,10 +107,11 @@ class JobSchedulerManagerTest {
                 .trigger(new PointInTimeTrigger(System.currentTimeMillis(), null, null))
                 .build();
 
-        lenient().when(repository.findByStatusBetweenDates(any(ZonedDateTime.class),
+        lenient().when(repository.findByStatusBetweenDatesPaged(any(ZonedDateTime.class),
                 any(ZonedDateTime.class),
                 any(JobStatus[].class),
-                any(ReactiveJobRepository.SortTerm[].class)))
+                any(JobPartitionFilter.class),
+                anyInt()))
                 .thenReturn(ReactiveStreams.of(scheduledJob));
         lenient().when(scheduler.scheduled(JOB_ID))
                 .thenReturn(Optional.empty());
@@ -126,6 +141,36 @@ class JobSchedulerManagerTest {
         verify(scheduler, never()).schedule(scheduledJob);
     }
 
+    @Test
+    void testLoadJobDetailsOwnedPartitions() {
+        BitSet owned = new BitSet();
+        owned.set(1);
+        JobPartitionFilter partitionFilter = JobPartitionFilter.of(4, owned);
+        doReturn(partitionFilter).when(partitions).getOwnedPartitionsFilter();
+
+        tested.loadJobDetails();
+        verify(repository).findByStatusBetweenDatesPaged(any(ZonedDateTime.class),
+                any(ZonedDateTime.class),
+                any(JobStatus[].class),
+                eq(partitionFilter),
+                anyInt());
+    }
+
+    @Test
+    void onPartitionsChange() {
+        tested.initialLoading.set(false);
+        BitSet partitionsSet = new BitSet();
+        partitionsSet.set(1);
+
+        tested.onPartitionsChange(new PartitionsChangeEvent(partitionsSet, new BitSet()));
+        verify(scheduler, never()).unscheduleTimers(any(Predicate.class));
+        verify(scheduler).internalSchedule(scheduledJob, true);
+
+        tested.onPartitionsChange(new PartitionsChangeEvent(new BitSet(), partitionsSet));
+        verify(scheduler).unscheduleTimers(any(Predicate.class));
+        verify(tested).loadJobDetails();//still called once
+    }
+
     @Test
     void onMessagingStatusChange() {
         tested.enabled.set(false);
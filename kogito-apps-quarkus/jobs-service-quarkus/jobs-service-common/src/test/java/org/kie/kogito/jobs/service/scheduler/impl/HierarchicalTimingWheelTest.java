@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+    private static final long TICK = 10L;
+
+    private HierarchicalTimingWheel<String> tested;
+
+    private List<String> expired;
+
+    @BeforeEach
+    void setUp() {
+        // 4 slots per level, so the levels cover 40ms, 160ms, 640ms and 2560ms
+        tested = new HierarchicalTimingWheel<>(START, TICK, 4);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    void advanceFiresOnlyExpiredTimers() {
+        tested.add(START + 25, "a");
+        tested.add(START + 30, "b");
+        tested.add(START + 31, "c");
+
+        assertThat(tested.advance(START + 29, expired::add)).isZero();
+        assertThat(tested.advance(START + 30, expired::add)).isEqualTo(2);
+        assertThat(expired).containsExactlyInAnyOrder("a", "b");
+        assertThat(tested.size()).isEqualTo(1);
+
+        assertThat(tested.advance(START + 40, expired::add)).isEqualTo(1);
+        assertThat(expired).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(tested.size()).isZero();
+    }
+
+    @Test
+    void timersOnUpperLevelsAreCascaded() {
+        tested.add(START + 155, "level1");
+        tested.add(START + 2_000, "level3");
+        tested.add(START + 100_000, "overflow");
+
+        tested.advance(START + 150, expired::add);
+        assertThat(expired).isEmpty();
+        tested.advance(START + 160, expired::add);
+        assertThat(expired).containsExactly("level1");
+
+        tested.advance(START + 1_990, expired::add);
+        assertThat(expired).containsExactly("level1");
+        tested.advance(START + 2_000, expired::add);
+        assertThat(expired).containsExactly("level1", "level3");
+
+        tested.advance(START + 99_990, expired::add);
+        assertThat(expired).containsExactly("level1", "level3");
+        tested.advance(START + 100_000, expired::add);
+        assertThat(expired).containsExactly("level1", "level3", "overflow");
+    }
+
+    @Test
+    void expiredTimersAreFiredOnNextTick() {
+        tested.advance(START + 100, expired::add);
+        tested.add(START, "past");
+
+        tested.advance(START + 109, expired::add);
+        assertThat(expired).isEmpty();
+        tested.advance(START + 110, expired::add);
+        assertThat(expired).containsExactly("past");
+    }
+
+    @Test
+    void remove() {
+        long id = tested.add(START + 50, "a");
+        tested.add(START + 50, "b");
+
+        assertThat(tested.remove(id)).isTrue();
+        assertThat(tested.remove(id)).isFalse();
+        tested.advance(START + 50, expired::add);
+        assertThat(expired).containsExactly("b");
+    }
+
+    @Test
+    void staleIdDoesNotRemoveReusedEntry() {
+        long id = tested.add(START + 10, "a");
+        tested.advance(START + 10, expired::add);
+        long reusedId = tested.add(START + 20, "b");
+
+        assertThat(reusedId).isNotEqualTo(id);
+        assertThat(tested.remove(id)).isFalse();
+        tested.advance(START + 20, expired::add);
+        assertThat(expired).containsExactly("a", "b");
+    }
+
+    @Test
+    void poolGrows() {
+        for (int i = 0; i < 5_000; i++) {
+            tested.add(START + i, "timer" + i);
+        }
+        assertThat(tested.size()).isEqualTo(5_000);
+        assertThat(tested.advance(START + 5_000, expired::add)).isEqualTo(5_000);
+        assertThat(tested.size()).isZero();
+    }
+
+    @Test
+    void invalidWheelSize() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(START, TICK, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<>(START, 0, 64)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
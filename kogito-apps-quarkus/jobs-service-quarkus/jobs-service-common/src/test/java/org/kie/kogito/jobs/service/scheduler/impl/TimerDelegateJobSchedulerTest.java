@@ -19,12 +19,15 @@
 package org.kie.kogito.jobs.service.scheduler.impl;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kie.kogito.jobs.service.job.DelegateJob;
+import org.kie.kogito.jobs.service.job.PartitionedDelegateJob;
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobDetailsContext;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
@@ -35,6 +38,8 @@ import org.kie.kogito.jobs.service.utils.DateUtil;
 import org.kie.kogito.timer.Job;
 import org.kie.kogito.timer.JobContext;
 import org.kie.kogito.timer.Trigger;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -44,11 +49,15 @@ import org.reactivestreams.Publisher;
 import io.smallrye.mutiny.Multi;
 
 import static mutiny.zero.flow.adapters.AdaptersToFlow.publisher;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
@@ -60,6 +69,9 @@ class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
     @Mock
     private VertxTimerServiceScheduler timer;
 
+    @Spy
+    private JobServicePartitions partitions = new JobServicePartitions();
+
     @BeforeEach
     public void setUp() {
         super.setUp();
@@ -87,6 +99,22 @@ class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
         verify(timer).removeJob(any(ManageableJobHandle.class));
     }
 
+    @Test
+    void testDoSchedulePartitioned() {
+        doReturn(true).when(partitions).isEnabled();
+        PublisherBuilder<ManageableJobHandle> schedule = tested.doSchedule(scheduledJob, scheduledJob.getTrigger());
+        Multi.createFrom().publisher(publisher(schedule.buildRs())).subscribe().with(dummyCallback(), dummyCallback());
+        verify(timer).scheduleJob(any(PartitionedDelegateJob.class), any(JobDetailsContext.class), eq(scheduledJob.getTrigger()));
+    }
+
+    @Test
+    void testDoCancelNotOwned() {
+        doReturn(false).when(partitions).isOwned(JOB_ID);
+        Publisher<ManageableJobHandle> cancel = tested.doCancel(JobDetails.builder().of(scheduledJob).scheduledId(SCHEDULED_ID).build());
+        Multi.createFrom().publisher(publisher(cancel)).subscribe().with(dummyCallback(), dummyCallback());
+        verify(timer, never()).removeJob(any(ManageableJobHandle.class));
+    }
+
     @Test
     void testDoCancelNullId() {
         Publisher<ManageableJobHandle> cancel =
@@ -95,6 +123,47 @@ class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
         verify(timer, never()).removeJob(any(ManageableJobHandle.class));
     }
 
+    @Test
+    void testPartitionedJobRescheduledFromAnotherInstance() {
+        Job<JobDetailsContext> firedJob = schedulePartitioned();
+
+        // the job was rescheduled through another instance, only the persisted version has the new fire time
+        Trigger newTrigger = new PointInTimeTrigger(expirationTime.minusMinutes(1).toInstant().toEpochMilli(), null, null);
+        JobDetails current = JobDetails.builder().of(scheduledJob).trigger(newTrigger).scheduledId(SCHEDULED_ID).build();
+        when(jobRepository.get(JOB_ID)).thenReturn(CompletableFuture.completedFuture(current));
+
+        firedJob.execute(new JobDetailsContext(scheduledJob));
+
+        verify(jobExecutor, never()).execute(any());
+        verify(timer).scheduleJob(any(PartitionedDelegateJob.class), any(JobDetailsContext.class), eq(newTrigger));
+        assertThat(tested.scheduled(JOB_ID)).isPresent();
+    }
+
+    @Test
+    void testPartitionedJobCanceledFromAnotherInstance() {
+        Job<JobDetailsContext> firedJob = schedulePartitioned();
+
+        when(jobRepository.get(JOB_ID)).thenReturn(CompletableFuture.completedFuture(null));
+
+        firedJob.execute(new JobDetailsContext(scheduledJob));
+
+        verify(jobExecutor, never()).execute(any());
+        verify(timer, times(1)).scheduleJob(any(Job.class), any(JobContext.class), any(Trigger.class));
+        assertThat(tested.scheduled(JOB_ID)).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Job<JobDetailsContext> schedulePartitioned() {
+        doReturn(true).when(partitions).isEnabled();
+        when(jobRepository.exists(JOB_ID)).thenReturn(CompletableFuture.completedFuture(false), CompletableFuture.completedFuture(true));
+        Multi.createFrom().publisher(publisher(tested.schedule(scheduledJob))).subscribe().with(dummyCallback(), dummyCallback());
+        assertThat(tested.scheduled(JOB_ID)).isPresent();
+
+        ArgumentCaptor<Job> jobCaptor = ArgumentCaptor.forClass(Job.class);
+        verify(timer).scheduleJob(jobCaptor.capture(), any(JobDetailsContext.class), eq(trigger));
+        return jobCaptor.getValue();
+    }
+
     private JobExecutionResponse getJobResponse() {
         return JobExecutionResponse.builder()
                 .jobId(UUID.randomUUID().toString())
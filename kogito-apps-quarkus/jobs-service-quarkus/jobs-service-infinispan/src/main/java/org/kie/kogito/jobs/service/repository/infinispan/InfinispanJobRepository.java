@@ -20,6 +20,7 @@ package org.kie.kogito.jobs.service.repository.infinispan;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -32,12 +33,14 @@ import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.infinispan.client.hotrod.Search;
 import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.QueryFactory;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobEventPublisher;
 
+import io.micrometer.core.annotation.Timed;
 import io.vertx.core.Vertx;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -72,6 +75,7 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> doSave(JobDetails job) {
         return runAsync(() -> {
             boolean isNew = !cache.containsKey(job.getId());
@@ -82,16 +86,19 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> get(String id) {
         return runAsync(() -> cache.get(id));
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<Boolean> exists(String id) {
         return runAsync(() -> cache.containsKey(id));
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> delete(String id) {
         return runAsync(() -> cache
                 .withFlags(Flag.FORCE_RETURN_VALUE)
@@ -125,6 +132,40 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
         return ReactiveStreams.fromIterable(query.execute().list());
     }
 
+    @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
+    protected CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            ZonedDateTime afterFireTime,
+            String afterId,
+            int pageSize) {
+
+        StringBuilder queryFilter = new StringBuilder();
+        if (status != null && status.length > 0) {
+            queryFilter.append(createStatusFilter(status));
+            queryFilter.append(" and ");
+        }
+        queryFilter.append(createFireTimeFilter("from", "to"));
+        if (afterId != null) {
+            queryFilter.append(" and (j.nextFireTime > :afterFireTime or (j.nextFireTime = :afterFireTime and j.id > :afterId))");
+        }
+
+        String findQuery = "from job.service.JobDetails j" +
+                " where " + queryFilter +
+                " order by j.nextFireTime asc, j.id asc";
+
+        Query<JobDetails> query = queryFactory.create(findQuery);
+        query.setParameter("from", fromFireTime.toInstant().toEpochMilli());
+        query.setParameter("to", toFireTime.toInstant().toEpochMilli());
+        if (afterId != null) {
+            query.setParameter("afterFireTime", afterFireTime.toInstant().toEpochMilli());
+            query.setParameter("afterId", afterId);
+        }
+        query.maxResults(pageSize);
+        return runAsync(() -> query.execute().list());
+    }
+
     private static String createFireTimeFilter(String fromParam, String toParam) {
         return String.format("j.nextFireTime >= :%s and j.nextFireTime <= :%s ", fromParam, toParam);
     }
@@ -29,6 +29,7 @@ import org.bson.conversions.Bson;
 import org.bson.json.JsonWriterSettings;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
@@ -38,6 +39,7 @@ import org.kie.kogito.jobs.service.stream.JobEventPublisher;
 
 import com.mongodb.client.model.FindOneAndReplaceOptions;
 
+import io.micrometer.core.annotation.Timed;
 import io.quarkus.mongodb.FindOptions;
 import io.quarkus.mongodb.reactive.ReactiveMongoClient;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
@@ -53,9 +55,11 @@ import jakarta.inject.Inject;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
 import static com.mongodb.client.model.Filters.gte;
 import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.lte;
+import static com.mongodb.client.model.Filters.or;
 import static com.mongodb.client.model.Indexes.ascending;
 import static com.mongodb.client.model.ReturnDocument.AFTER;
 import static com.mongodb.client.model.Sorts.descending;
@@ -110,6 +114,7 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> doSave(JobDetails job) {
         return collection.find(eq(ID, job.getId()))
                 .collect().with(counting())
@@ -130,6 +135,7 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> get(String id) {
         return collection.find(eq(ID, id))
                 .collect().first()
@@ -141,6 +147,7 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<Boolean> exists(String id) {
         return collection.find(eq(ID, id))
                 .collect().with(counting())
@@ -151,6 +158,7 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> delete(String id) {
         return collection.findOneAndDelete(eq(ID, id))
                 .map(MongoDBJobRepository::documentToJson)
@@ -188,6 +196,41 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                         .toPublisher()));
     }
 
+    @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
+    protected CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            ZonedDateTime afterFireTime,
+            String afterId,
+            int pageSize) {
+
+        List<Bson> filters = new ArrayList<>();
+        if (status != null && status.length > 0) {
+            filters.add(createStatusFilter(status));
+        }
+        filters.add(gte(FIRE_TIME_COLUMN, fromFireTime.toInstant().toEpochMilli()));
+        filters.add(lte(FIRE_TIME_COLUMN, toFireTime.toInstant().toEpochMilli()));
+        if (afterId != null) {
+            long afterFireTimeMillis = afterFireTime.toInstant().toEpochMilli();
+            filters.add(or(gt(FIRE_TIME_COLUMN, afterFireTimeMillis),
+                    and(eq(FIRE_TIME_COLUMN, afterFireTimeMillis), gt(ID, afterId))));
+        }
+
+        FindOptions findOptions = new FindOptions()
+                .filter(and(filters))
+                .sort(ascending(FIRE_TIME_COLUMN, ID))
+                .limit(pageSize);
+
+        return collection.find(findOptions)
+                .map(MongoDBJobRepository::documentToJson)
+                .map(jobDetailsMarshaller::unmarshall)
+                .collect().asList()
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
     static JsonObject documentToJson(Document document) {
         return ofNullable(document).map(doc -> new JsonObject(doc.toJson(jsonWriterSettings))).orElse(null);
     }
@@ -20,26 +20,38 @@ package org.kie.kogito.jobs.service.repository.postgresql;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.Recipient;
+import org.kie.kogito.jobs.service.repository.JobPartitionFilter;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseReactiveJobRepository;
+import org.kie.kogito.jobs.service.repository.marshaller.BinaryRecipientMarshaller;
+import org.kie.kogito.jobs.service.repository.marshaller.BinaryTriggerMarshaller;
 import org.kie.kogito.jobs.service.repository.marshaller.RecipientMarshaller;
 import org.kie.kogito.jobs.service.repository.marshaller.TriggerMarshaller;
 import org.kie.kogito.jobs.service.stream.JobEventPublisher;
 import org.kie.kogito.jobs.service.utils.DateUtil;
 import org.kie.kogito.timer.Trigger;
 
+import io.micrometer.core.annotation.Timed;
 import io.smallrye.mutiny.Multi;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.mutiny.pgclient.PgPool;
 import io.vertx.mutiny.sqlclient.Row;
@@ -59,7 +71,17 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
     private static final String JOB_DETAILS_TABLE = "job_details";
 
     private static final String JOB_DETAILS_COLUMNS = "id, correlation_id, status, last_update, retries, " +
-            "execution_counter, scheduled_id, priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created";
+            "execution_counter, scheduled_id, priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created, " +
+            "recipient_bin, trigger_bin";
+
+    private static final String UPSERT_JOB_QUERY = "INSERT INTO " + JOB_DETAILS_TABLE + " (" + JOB_DETAILS_COLUMNS +
+            ", partition_key) VALUES ($1, $2, $3, now(), $4, $5, $6, $7, $8, $9, $10, $11, $12, now(), $13, $14, $15) " +
+            "ON CONFLICT (id) DO " +
+            "UPDATE SET correlation_id = $2, status = $3, last_update = now(), retries = $4, " +
+            "execution_counter = $5, scheduled_id = $6, priority = $7, " +
+            "recipient = $8, trigger = $9, fire_time = $10, execution_timeout = $11, execution_timeout_unit = $12, " +
+            "recipient_bin = $13, trigger_bin = $14, partition_key = $15 " +
+            "RETURNING " + JOB_DETAILS_COLUMNS;
 
     private PgPool client;
 
@@ -67,42 +89,45 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
 
     private final RecipientMarshaller recipientMarshaller;
 
+    private final BinaryTriggerMarshaller binaryTriggerMarshaller;
+
+    private final BinaryRecipientMarshaller binaryRecipientMarshaller;
+
+    /**
+     * When enabled the trigger and the recipient are also written in the binary columns, which are read instead of the
+     * json ones when present. The json columns are always written, so the rows stay readable by the previous versions,
+     * the SQL tooling and after disabling this setting.
+     */
+    private final boolean binaryMarshalling;
+
     PostgreSqlJobRepository() {
         this(null, null, null, null, null);
     }
 
-    @Inject
     public PostgreSqlJobRepository(Vertx vertx, JobEventPublisher jobEventPublisher, PgPool client,
             TriggerMarshaller triggerMarshaller, RecipientMarshaller recipientMarshaller) {
+        this(vertx, jobEventPublisher, client, triggerMarshaller, recipientMarshaller, new BinaryTriggerMarshaller(), new BinaryRecipientMarshaller(), false);
+    }
+
+    @Inject
+    public PostgreSqlJobRepository(Vertx vertx, JobEventPublisher jobEventPublisher, PgPool client,
+            TriggerMarshaller triggerMarshaller, RecipientMarshaller recipientMarshaller,
+            BinaryTriggerMarshaller binaryTriggerMarshaller, BinaryRecipientMarshaller binaryRecipientMarshaller,
+            @ConfigProperty(name = "kogito.jobs-service.postgresql.binaryMarshalling", defaultValue = "false") boolean binaryMarshalling) {
         super(vertx, jobEventPublisher);
         this.client = client;
         this.triggerMarshaller = triggerMarshaller;
         this.recipientMarshaller = recipientMarshaller;
+        this.binaryTriggerMarshaller = binaryTriggerMarshaller;
+        this.binaryRecipientMarshaller = binaryRecipientMarshaller;
+        this.binaryMarshalling = binaryMarshalling;
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> doSave(JobDetails job) {
-        return client.preparedQuery("INSERT INTO " + JOB_DETAILS_TABLE + " (" + JOB_DETAILS_COLUMNS +
-                ") VALUES ($1, $2, $3, now(), $4, $5, $6, $7, $8, $9, $10, $11, $12, now()) " +
-                "ON CONFLICT (id) DO " +
-                "UPDATE SET correlation_id = $2, status = $3, last_update = now(), retries = $4, " +
-                "execution_counter = $5, scheduled_id = $6, priority = $7, " +
-                "recipient = $8, trigger = $9, fire_time = $10, execution_timeout = $11, execution_timeout_unit = $12 " +
-                "RETURNING " + JOB_DETAILS_COLUMNS)
-                .execute(Tuple.tuple(Stream.of(
-                        job.getId(),
-                        job.getCorrelationId(),
-                        Optional.ofNullable(job.getStatus()).map(Enum::name).orElse(null),
-                        job.getRetries(),
-                        job.getExecutionCounter(),
-                        job.getScheduledId(),
-                        job.getPriority(),
-                        recipientMarshaller.marshall(job.getRecipient()),
-                        triggerMarshaller.marshall(job.getTrigger()),
-                        Optional.ofNullable(job.getTrigger()).map(Trigger::hasNextFireTime).map(DateUtil::dateToOffsetDateTime).orElse(null),
-                        job.getExecutionTimeout(),
-                        Optional.ofNullable(job.getExecutionTimeoutUnit()).map(Enum::name).orElse(null))
-                        .collect(toList())))
+        return client.preparedQuery(UPSERT_JOB_QUERY)
+                .execute(upsertParameters(job))
                 .onItem().transform(RowSet::iterator)
                 .onItem().transform(iterator -> iterator.hasNext() ? from(iterator.next()) : null)
                 .convert()
@@ -110,6 +135,51 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        if (jobs.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        // the batch is pipelined in a single round trip, every statement returns its own row set
+        return client.preparedQuery(UPSERT_JOB_QUERY)
+                .executeBatch(jobs.stream().map(this::upsertParameters).toList())
+                .onItem().transform(rowSet -> {
+                    List<JobDetails> saved = new ArrayList<>(jobs.size());
+                    for (RowSet<Row> current = rowSet; current != null; current = current.next()) {
+                        current.forEach(row -> saved.add(from(row)));
+                    }
+                    return saved;
+                })
+                .convert()
+                .toCompletableFuture();
+    }
+
+    private Tuple upsertParameters(JobDetails job) {
+        return Tuple.tuple(Stream.of(
+                job.getId(),
+                job.getCorrelationId(),
+                Optional.ofNullable(job.getStatus()).map(Enum::name).orElse(null),
+                job.getRetries(),
+                job.getExecutionCounter(),
+                job.getScheduledId(),
+                job.getPriority(),
+                recipientMarshaller.marshall(job.getRecipient()),
+                triggerMarshaller.marshall(job.getTrigger()),
+                Optional.ofNullable(job.getTrigger()).map(Trigger::hasNextFireTime).map(DateUtil::dateToOffsetDateTime).orElse(null),
+                job.getExecutionTimeout(),
+                Optional.ofNullable(job.getExecutionTimeoutUnit()).map(Enum::name).orElse(null),
+                binaryMarshalling ? toBuffer(binaryRecipientMarshaller.marshall(job.getRecipient())) : null,
+                binaryMarshalling ? toBuffer(binaryTriggerMarshaller.marshall(job.getTrigger())) : null,
+                JobServicePartitions.partitionKey(job.getId()))
+                .collect(toList()));
+    }
+
+    private static Buffer toBuffer(byte[] value) {
+        return value != null ? Buffer.buffer(value) : null;
+    }
+
+    @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> get(String id) {
         return client.preparedQuery("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE + " WHERE id = $1").execute(Tuple.of(id))
                 .onItem().transform(RowSet::iterator)
@@ -119,6 +189,7 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<Boolean> exists(String id) {
         return client.preparedQuery("SELECT id FROM " + JOB_DETAILS_TABLE + " WHERE id = $1").execute(Tuple.of(id))
                 .onItem().transform(rowSet -> rowSet.rowCount() > 0)
@@ -127,6 +198,7 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> delete(String id) {
         return client.preparedQuery("DELETE FROM " + JOB_DETAILS_TABLE + " WHERE id = $1 RETURNING " + JOB_DETAILS_COLUMNS).execute(Tuple.of(id))
                 .onItem().transform(RowSet::iterator)
@@ -165,6 +237,62 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
                         .onItem().transform(this::from)));
     }
 
+    @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
+    protected CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            ZonedDateTime afterFireTime,
+            String afterId,
+            int pageSize) {
+        return findPageByStatusBetweenDates(fromFireTime, toFireTime, status, JobPartitionFilter.all(), afterFireTime, afterId, pageSize);
+    }
+
+    @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
+    protected CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            JobPartitionFilter partitionFilter,
+            ZonedDateTime afterFireTime,
+            String afterId,
+            int pageSize) {
+
+        StringBuilder queryFilter = new StringBuilder();
+        if (status != null && status.length > 0) {
+            queryFilter.append(createStatusFilter(status));
+            queryFilter.append(" AND ");
+        }
+        queryFilter.append(createFireTimeFilter("$1", "$2"));
+
+        Tuple params = Tuple.of(fromFireTime.toOffsetDateTime(), toFireTime.toOffsetDateTime(), pageSize);
+        if (afterId != null) {
+            // keyset condition, the page starts right after the last job of the previous page
+            queryFilter.append(" AND (fire_time, id) > ($4, $5)");
+            params.addOffsetDateTime(afterFireTime.toOffsetDateTime()).addString(afterId);
+        }
+        if (!partitionFilter.isAll()) {
+            // the jobs saved before the partition key was introduced are filtered once fetched
+            queryFilter.append(createPartitionFilter("$" + (params.size() + 1), "$" + (params.size() + 2)));
+            params.addInteger(partitionFilter.getPartitions()).addArrayOfInteger(partitionFilter.getOwnedPartitions());
+        }
+
+        String findQuery = "SELECT " + JOB_DETAILS_COLUMNS +
+                " FROM " + JOB_DETAILS_TABLE +
+                " WHERE " + queryFilter +
+                " ORDER BY fire_time ASC, id ASC LIMIT $3";
+
+        return client.preparedQuery(findQuery)
+                .execute(params)
+                .onItem().transform(rowSet -> {
+                    List<JobDetails> page = new ArrayList<>(rowSet.rowCount());
+                    rowSet.forEach(row -> page.add(from(row)));
+                    return page;
+                })
+                .convert()
+                .toCompletableFuture();
+    }
+
     static String createStatusFilter(JobStatus... status) {
         return Arrays.stream(status).map(JobStatus::name)
                 .collect(Collectors.joining("', '", "status IN ('", "')"));
@@ -174,6 +302,10 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
         return String.format("fire_time BETWEEN %s AND %s", indexFrom, indexTo);
     }
 
+    static String createPartitionFilter(String indexPartitions, String indexOwnedPartitions) {
+        return String.format(" AND (partition_key IS NULL OR partition_key %% %s = ANY(%s))", indexPartitions, indexOwnedPartitions);
+    }
+
     static String createOrderBy(SortTerm[] sortTerms) {
         return Stream.of(sortTerms).map(PostgreSqlJobRepository::createOrderByTerm)
                 .collect(Collectors.joining(", ", "ORDER BY ", ""));
@@ -202,11 +334,28 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
                 .executionCounter(row.getInteger("execution_counter"))
                 .scheduledId(row.getString("scheduled_id"))
                 .priority(row.getInteger("priority"))
-                .recipient(recipientMarshaller.unmarshall(row.get(JsonObject.class, "recipient")))
-                .trigger(triggerMarshaller.unmarshall(row.get(JsonObject.class, "trigger")))
+                .recipient(recipientFrom(row))
+                .trigger(triggerFrom(row))
                 .executionTimeout(row.getLong("execution_timeout"))
                 .executionTimeoutUnit(Optional.ofNullable(row.getString("execution_timeout_unit")).map(ChronoUnit::valueOf).orElse(null))
                 .created(Optional.ofNullable(row.getOffsetDateTime("created")).map(t -> t.atZoneSameInstant(DEFAULT_ZONE)).orElse(null))
                 .build();
     }
+
+    /**
+     * The binary column takes precedence, the json one is read for the rows written with the json format.
+     */
+    private Recipient recipientFrom(Row row) {
+        Buffer binary = row.get(Buffer.class, "recipient_bin");
+        return binary != null
+                ? binaryRecipientMarshaller.unmarshall(binary.getBytes())
+                : recipientMarshaller.unmarshall(row.get(JsonObject.class, "recipient"));
+    }
+
+    private Trigger triggerFrom(Row row) {
+        Buffer binary = row.get(Buffer.class, "trigger_bin");
+        return binary != null
+                ? binaryTriggerMarshaller.unmarshall(binary.getBytes())
+                : triggerMarshaller.unmarshall(row.get(JsonObject.class, "trigger"));
+    }
 }
@@ -18,6 +18,8 @@
  */
 package org.kie.kogito.jobs.service.repository.postgresql;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -28,6 +30,7 @@ import org.kie.kogito.jobs.service.repository.JobServiceManagementRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.pgclient.PgPool;
 import io.vertx.mutiny.sqlclient.Row;
@@ -109,4 +112,33 @@ public class PostgreSqlJobServiceManagementRepository implements JobServiceManag
                 .onItem().transform(RowSet::iterator)
                 .onItem().transform(RowIterator::hasNext));
     }
+
+    @Override
+    public Uni<List<JobServiceManagementInfo>> findActiveInstances(OffsetDateTime heartbeatAfter) {
+        return client.preparedQuery("SELECT id, token, last_heartbeat FROM job_service_management WHERE id = token AND last_heartbeat > $1")
+                .execute(Tuple.of(heartbeatAfter))
+                .onItem().transformToMulti(rowSet -> Multi.createFrom().iterable(rowSet))
+                .onItem().transform(this::from)
+                .collect().asList();
+    }
+
+    @Override
+    public Uni<Boolean> delete(JobServiceManagementInfo info) {
+        return client.preparedQuery("DELETE FROM job_service_management WHERE id = $1 AND token = $2 RETURNING id")
+                .execute(Tuple.of(info.getId(), info.getToken()))
+                .onItem().transform(RowSet::iterator)
+                .onItem().transform(RowIterator::hasNext);
+    }
+
+    @Override
+    public Uni<Integer> deleteExpiredInstances(OffsetDateTime heartbeatBefore) {
+        return client.preparedQuery("DELETE FROM job_service_management WHERE id = token AND last_heartbeat < $1")
+                .execute(Tuple.of(heartbeatBefore))
+                .onItem().transform(RowSet::rowCount);
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
 }
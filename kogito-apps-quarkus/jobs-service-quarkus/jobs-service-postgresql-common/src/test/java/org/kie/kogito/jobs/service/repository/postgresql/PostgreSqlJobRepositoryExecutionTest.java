@@ -20,6 +20,7 @@ package org.kie.kogito.jobs.service.repository.postgresql;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
@@ -31,11 +32,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipient;
 import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipientStringPayloadData;
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.model.Recipient;
 import org.kie.kogito.jobs.service.model.RecipientInstance;
+import org.kie.kogito.jobs.service.repository.JobPartitionFilter;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
+import org.kie.kogito.jobs.service.repository.marshaller.BinaryRecipientMarshaller;
+import org.kie.kogito.jobs.service.repository.marshaller.BinaryTriggerMarshaller;
 import org.kie.kogito.jobs.service.repository.marshaller.RecipientMarshaller;
 import org.kie.kogito.jobs.service.repository.marshaller.TriggerMarshaller;
 import org.kie.kogito.jobs.service.utils.DateUtil;
@@ -48,6 +53,7 @@ import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.groups.MultiOnItem;
 import io.smallrye.mutiny.groups.UniConvert;
 import io.smallrye.mutiny.groups.UniOnItem;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.mutiny.pgclient.PgPool;
 import io.vertx.mutiny.sqlclient.PreparedQuery;
@@ -56,6 +62,7 @@ import io.vertx.mutiny.sqlclient.RowSet;
 import io.vertx.mutiny.sqlclient.Tuple;
 
 import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
@@ -153,11 +160,13 @@ class PostgreSqlJobRepositoryExecutionTest {
         verify(query, times(1)).execute(parameterCaptor.capture());
 
         String query = "INSERT INTO " + JOB_DETAILS + " (id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
-                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created) VALUES ($1, $2, $3, now(), $4, $5, $6, $7, $8, $9, $10, $11, $12, now()) " +
+                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created, recipient_bin, trigger_bin, partition_key) " +
+                "VALUES ($1, $2, $3, now(), $4, $5, $6, $7, $8, $9, $10, $11, $12, now(), $13, $14, $15) " +
                 "ON CONFLICT (id) DO UPDATE SET correlation_id = $2, status = $3, last_update = now(), retries = $4, " +
                 "execution_counter = $5, scheduled_id = $6, priority = $7, " +
-                "recipient = $8, trigger = $9, fire_time = $10, execution_timeout = $11, execution_timeout_unit = $12 RETURNING id, correlation_id, status, last_update, retries, " +
-                "execution_counter, scheduled_id, priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created";
+                "recipient = $8, trigger = $9, fire_time = $10, execution_timeout = $11, execution_timeout_unit = $12, recipient_bin = $13, trigger_bin = $14, " +
+                "partition_key = $15 RETURNING id, correlation_id, status, last_update, retries, " +
+                "execution_counter, scheduled_id, priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created, recipient_bin, trigger_bin";
 
         Tuple parameter = Tuple.tuple(Stream.of(
                 job.getId(),
@@ -187,6 +196,7 @@ class PostgreSqlJobRepositoryExecutionTest {
         assertEquals(parameter.getOffsetDateTime(9), parameterCaptor.getValue().getOffsetDateTime(9));
         assertEquals(parameter.getJson(10), parameterCaptor.getValue().getJson(10));
         assertEquals(parameter.getJson(11), parameterCaptor.getValue().getJson(11));
+        assertEquals(JobServicePartitions.partitionKey(job.getId()), parameterCaptor.getValue().getInteger(14));
     }
 
     @Test
@@ -200,7 +210,7 @@ class PostgreSqlJobRepositoryExecutionTest {
         verify(query, times(1)).execute(parameterCaptor.capture());
 
         String query = "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
-                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created FROM " + JOB_DETAILS + " WHERE id = $1";
+                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created, recipient_bin, trigger_bin FROM " + JOB_DETAILS + " WHERE id = $1";
         String parameter = "test";
 
         assertEquals(query, queryCaptor.getValue());
@@ -236,7 +246,7 @@ class PostgreSqlJobRepositoryExecutionTest {
 
         String query = "DELETE FROM " + JOB_DETAILS + " WHERE id = $1 " +
                 "RETURNING id, correlation_id, status, last_update, retries, " +
-                "execution_counter, scheduled_id, priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created";
+                "execution_counter, scheduled_id, priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created, recipient_bin, trigger_bin";
         String parameter = "test";
 
         assertEquals(query, queryCaptor.getValue());
@@ -257,12 +267,70 @@ class PostgreSqlJobRepositoryExecutionTest {
         verify(client, times(1)).preparedQuery(queryCaptor.capture());
 
         String query = "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
-                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created FROM " + JOB_DETAILS + " " +
+                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created, recipient_bin, trigger_bin FROM " + JOB_DETAILS + " " +
                 "WHERE status IN ('SCHEDULED', 'RETRY') AND fire_time BETWEEN $1 AND $2 ORDER BY fire_time ASC";
 
         assertEquals(query, queryCaptor.getValue());
     }
 
+    @Test
+    void findPageByStatusBetweenDates() {
+        ZonedDateTime from = ZonedDateTime.now();
+        ZonedDateTime to = ZonedDateTime.now();
+
+        CompletionStage<?> firstPage = repository.findPageByStatusBetweenDates(from, to,
+                new JobStatus[] { JobStatus.SCHEDULED, JobStatus.RETRY }, null, null, 10);
+        assertEquals(completableFuture, firstPage);
+
+        CompletionStage<?> nextPage = repository.findPageByStatusBetweenDates(from, to,
+                new JobStatus[] { JobStatus.SCHEDULED, JobStatus.RETRY }, fireTime, "123", 10);
+        assertEquals(completableFuture, nextPage);
+
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        verify(client, times(2)).preparedQuery(queryCaptor.capture());
+        ArgumentCaptor<Tuple> parameterCaptor = ArgumentCaptor.forClass(Tuple.class);
+        verify(query, times(2)).execute(parameterCaptor.capture());
+
+        String columns = "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
+                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created, recipient_bin, trigger_bin FROM " + JOB_DETAILS + " ";
+        assertEquals(columns + "WHERE status IN ('SCHEDULED', 'RETRY') AND fire_time BETWEEN $1 AND $2 " +
+                "ORDER BY fire_time ASC, id ASC LIMIT $3", queryCaptor.getAllValues().get(0));
+        assertEquals(columns + "WHERE status IN ('SCHEDULED', 'RETRY') AND fire_time BETWEEN $1 AND $2 AND (fire_time, id) > ($4, $5) " +
+                "ORDER BY fire_time ASC, id ASC LIMIT $3", queryCaptor.getAllValues().get(1));
+
+        assertEquals(3, parameterCaptor.getAllValues().get(0).size());
+        Tuple nextPageParameters = parameterCaptor.getAllValues().get(1);
+        assertEquals(10, nextPageParameters.getInteger(2));
+        assertEquals(fireTime.toOffsetDateTime(), nextPageParameters.getOffsetDateTime(3));
+        assertEquals("123", nextPageParameters.getString(4));
+    }
+
+    @Test
+    void findPageByStatusBetweenDatesPartitioned() {
+        ZonedDateTime from = ZonedDateTime.now();
+        ZonedDateTime to = ZonedDateTime.now();
+        BitSet owned = new BitSet();
+        owned.set(1);
+        owned.set(3);
+
+        CompletionStage<?> nextPage = repository.findPageByStatusBetweenDates(from, to,
+                new JobStatus[] { JobStatus.SCHEDULED, JobStatus.RETRY }, JobPartitionFilter.of(4, owned), fireTime, "123", 10);
+        assertEquals(completableFuture, nextPage);
+
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        verify(client, times(1)).preparedQuery(queryCaptor.capture());
+        ArgumentCaptor<Tuple> parameterCaptor = ArgumentCaptor.forClass(Tuple.class);
+        verify(query, times(1)).execute(parameterCaptor.capture());
+
+        assertEquals("SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
+                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created, recipient_bin, trigger_bin FROM " + JOB_DETAILS + " " +
+                "WHERE status IN ('SCHEDULED', 'RETRY') AND fire_time BETWEEN $1 AND $2 AND (fire_time, id) > ($4, $5) " +
+                "AND (partition_key IS NULL OR partition_key % $6 = ANY($7)) ORDER BY fire_time ASC, id ASC LIMIT $3", queryCaptor.getValue());
+        Tuple parameters = parameterCaptor.getValue();
+        assertEquals(4, parameters.getInteger(5));
+        assertArrayEquals(new Integer[] { 1, 3 }, parameters.getArrayOfIntegers(6));
+    }
+
     @Test
     void findByStatusBetweenDatesNoStatusCondition() {
         ZonedDateTime from = ZonedDateTime.now();
@@ -277,7 +345,7 @@ class PostgreSqlJobRepositoryExecutionTest {
         verify(client, times(1)).preparedQuery(queryCaptor.capture());
 
         String query = "SELECT id, correlation_id, status, last_update, retries, execution_counter, scheduled_id, " +
-                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created FROM " + JOB_DETAILS + " " +
+                "priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit, created, recipient_bin, trigger_bin FROM " + JOB_DETAILS + " " +
                 "WHERE fire_time BETWEEN $1 AND $2 ORDER BY fire_time DESC";
 
         assertEquals(query, queryCaptor.getValue());
@@ -333,4 +401,51 @@ class PostgreSqlJobRepositoryExecutionTest {
 
         assertEquals(expected, jobDetails);
     }
+
+    @Test
+    void doSaveBinary() {
+        BinaryTriggerMarshaller binaryTriggerMarshaller = new BinaryTriggerMarshaller();
+        BinaryRecipientMarshaller binaryRecipientMarshaller = new BinaryRecipientMarshaller();
+        repository = new PostgreSqlJobRepository(null, null, client, new TriggerMarshaller(), new RecipientMarshaller(),
+                binaryTriggerMarshaller, binaryRecipientMarshaller, true);
+        PointInTimeTrigger trigger = new PointInTimeTrigger(fireTime.toInstant().toEpochMilli(), null, null);
+        Recipient recipient = new RecipientInstance(HttpRecipient.builder().forStringPayload().url(URL).payload(HttpRecipientStringPayloadData.from(PAYLOAD_TEST)).build());
+        JobDetails job = JobDetails.builder()
+                .id("test")
+                .status(JobStatus.SCHEDULED)
+                .recipient(recipient)
+                .trigger(trigger)
+                .build();
+
+        repository.doSave(job);
+
+        ArgumentCaptor<Tuple> parameterCaptor = ArgumentCaptor.forClass(Tuple.class);
+        verify(query, times(1)).execute(parameterCaptor.capture());
+        Tuple parameter = parameterCaptor.getValue();
+        assertEquals(new RecipientMarshaller().marshall(recipient), parameter.getValue(7));
+        assertEquals(new TriggerMarshaller().marshall(trigger), parameter.getValue(8));
+        assertArrayEquals(binaryRecipientMarshaller.marshall(recipient), parameter.getDelegate().getBuffer(12).getBytes());
+        assertArrayEquals(binaryTriggerMarshaller.marshall(trigger), parameter.getDelegate().getBuffer(13).getBytes());
+    }
+
+    @Test
+    void fromBinary() {
+        BinaryTriggerMarshaller binaryTriggerMarshaller = new BinaryTriggerMarshaller();
+        BinaryRecipientMarshaller binaryRecipientMarshaller = new BinaryRecipientMarshaller();
+        repository = new PostgreSqlJobRepository(null, null, client, new TriggerMarshaller(), new RecipientMarshaller(),
+                binaryTriggerMarshaller, binaryRecipientMarshaller, false);
+        PointInTimeTrigger trigger = new PointInTimeTrigger(fireTime.toInstant().toEpochMilli(), null, null);
+        Recipient recipient = new RecipientInstance(HttpRecipient.builder().forStringPayload().url(URL).payload(HttpRecipientStringPayloadData.from(PAYLOAD_TEST)).build());
+
+        Row row = mock(Row.class);
+        when(row.getString("id")).thenReturn("test");
+        when(row.getString("status")).thenReturn("SCHEDULED");
+        when(row.get(Buffer.class, "recipient_bin")).thenReturn(Buffer.buffer(binaryRecipientMarshaller.marshall(recipient)));
+        when(row.get(Buffer.class, "trigger_bin")).thenReturn(Buffer.buffer(binaryTriggerMarshaller.marshall(trigger)));
+
+        JobDetails jobDetails = repository.from(row);
+
+        assertEquals(recipient, jobDetails.getRecipient());
+        assertEquals(trigger.hasNextFireTime(), jobDetails.getTrigger().hasNextFireTime());
+    }
 }
@@ -19,6 +19,7 @@
 package org.kie.kogito.jobs.service.repository.postgresql;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -104,4 +105,43 @@ class PostgreSqlJobServiceManagementRepositoryTest {
         JobServiceManagementInfo updated = tested.heartbeat(new JobServiceManagementInfo(id, "differentToken", null)).await().indefinitely();
         assertThat(updated).isNull();
     }
+
+    @Test
+    void testFindActiveInstances() {
+        String token = "instance-token-5";
+        JobServiceManagementInfo created = create(token, token);
+        create("instance-id-6", "token6");
+        tested.heartbeat(created).await().indefinitely();
+
+        List<JobServiceManagementInfo> active = tested.findActiveInstances(DateUtil.now().minusMinutes(1).toOffsetDateTime()).await().indefinitely();
+        assertThat(active).extracting(JobServiceManagementInfo::getToken).contains(token).doesNotContain("token6");
+
+        tested.release(created).await().indefinitely();
+        active = tested.findActiveInstances(DateUtil.now().minusMinutes(1).toOffsetDateTime()).await().indefinitely();
+        assertThat(active).extracting(JobServiceManagementInfo::getToken).doesNotContain(token);
+    }
+
+    @Test
+    void testDelete() {
+        String token = "instance-token-7";
+        JobServiceManagementInfo created = create(token, token);
+
+        assertThat(tested.delete(new JobServiceManagementInfo(token, "differentToken", null)).await().indefinitely()).isFalse();
+        assertThat(tested.delete(created).await().indefinitely()).isTrue();
+        assertThat(tested.getAndUpdate(token, info -> info).await().indefinitely()).isNull();
+    }
+
+    @Test
+    void testDeleteExpiredInstances() {
+        String expiredToken = "instance-token-8";
+        String activeToken = "instance-token-9";
+        tested.set(new JobServiceManagementInfo(expiredToken, expiredToken, DateUtil.now().minusMinutes(10).toOffsetDateTime())).await().indefinitely();
+        JobServiceManagementInfo active = create(activeToken, activeToken);
+        tested.heartbeat(active).await().indefinitely();
+
+        Integer deleted = tested.deleteExpiredInstances(DateUtil.now().minusMinutes(1).toOffsetDateTime()).await().indefinitely();
+        assertThat(deleted).isPositive();
+        assertThat(tested.getAndUpdate(expiredToken, info -> info).await().indefinitely()).isNull();
+        assertThat(tested.getAndUpdate(activeToken, info -> info).await().indefinitely()).isNotNull();
+    }
 }
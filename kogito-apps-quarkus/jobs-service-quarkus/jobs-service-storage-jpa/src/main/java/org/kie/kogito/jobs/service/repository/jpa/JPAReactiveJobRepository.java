@@ -23,6 +23,7 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
@@ -31,8 +32,11 @@ import java.util.function.Function;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.kie.kogito.jobs.service.management.JobServicePartitions;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.JobPartitionFilter;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.jpa.model.JobDetailsEntity;
@@ -45,6 +49,8 @@ import org.kie.kogito.jobs.service.utils.DateUtil;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 import io.smallrye.mutiny.Multi;
@@ -65,6 +71,21 @@ public class JPAReactiveJobRepository extends BaseReactiveJobRepository implemen
             "from JobDetailsEntity job " +
             "where job.fireTime between :from and :to and job.status in :status";
 
+    private static final String JOBS_AFTER_KEY_FILTER = " and (job.fireTime > :afterFireTime " +
+            "or (job.fireTime = :afterFireTime and job.id > :afterId))";
+
+    // the jobs saved before the partition key was introduced are filtered once fetched
+    private static final String JOBS_PARTITION_FILTER = " and (job.partitionKey is null " +
+            "or mod(job.partitionKey, :partitions) in :ownedPartitions)";
+
+    private static final String UPDATE_JOB_QUERY = "update JobDetailsEntity job " +
+            "set job.correlationId = :correlationId, job.status = :status, job.lastUpdate = :lastUpdate, " +
+            "job.retries = :retries, job.executionCounter = :executionCounter, job.scheduledId = :scheduledId, " +
+            "job.priority = :priority, job.recipient = :recipient, job.trigger = :trigger, job.fireTime = :fireTime, " +
+            "job.executionTimeout = :executionTimeout, job.executionTimeoutUnit = :executionTimeoutUnit, job.created = :created, " +
+            "job.partitionKey = :partitionKey " +
+            "where job.id = :id";
+
     private final JobDetailsEntityRepository repository;
     private final ReactiveRepositoryHelper reactiveRepositoryHelper;
 
@@ -87,34 +108,67 @@ public class JPAReactiveJobRepository extends BaseReactiveJobRepository implemen
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> doSave(JobDetails job) {
         return this.reactiveRepositoryHelper.runAsync(() -> persist(job))
                 .thenApply(this::from);
     }
 
+    @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        return this.reactiveRepositoryHelper.runAsync(() -> jobs.stream().map(this::persist).toList())
+                .thenApply(entities -> entities.stream().map(this::from).toList());
+    }
+
+    /**
+     * Most of the saves are updates of an existing job, so the job is first updated in place with a single statement
+     * and only inserted when no row was updated. The returned entity is the one that was written, no need to read it back.
+     */
     private JobDetailsEntity persist(JobDetails job) {
-        JobDetailsEntity jobDetailsInstance = repository.findByIdOptional(job.getId()).orElseGet(JobDetailsEntity::new);
+        JobDetailsEntity jobDetailsInstance = merge(job, new JobDetailsEntity());
 
-        merge(job, jobDetailsInstance);
+        if (repository.update(UPDATE_JOB_QUERY, updateParameters(jobDetailsInstance).map()) == 0) {
+            repository.persist(jobDetailsInstance);
+        }
 
-        repository.persist(jobDetailsInstance);
+        return jobDetailsInstance;
+    }
 
-        return repository.findById(job.getId());
+    private static Parameters updateParameters(JobDetailsEntity instance) {
+        return Parameters.with("id", instance.getId())
+                .and("correlationId", instance.getCorrelationId())
+                .and("status", instance.getStatus())
+                .and("lastUpdate", instance.getLastUpdate())
+                .and("retries", instance.getRetries())
+                .and("executionCounter", instance.getExecutionCounter())
+                .and("scheduledId", instance.getScheduledId())
+                .and("priority", instance.getPriority())
+                .and("recipient", instance.getRecipient())
+                .and("trigger", instance.getTrigger())
+                .and("fireTime", instance.getFireTime())
+                .and("executionTimeout", instance.getExecutionTimeout())
+                .and("executionTimeoutUnit", instance.getExecutionTimeoutUnit())
+                .and("created", instance.getCreated())
+                .and("partitionKey", instance.getPartitionKey());
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> get(String id) {
         return this.reactiveRepositoryHelper.runAsync(() -> repository.findById(id))
                 .thenApply(this::from);
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<Boolean> exists(String id) {
         return this.reactiveRepositoryHelper.runAsync(() -> repository.findByIdOptional(id))
                 .thenApply(Optional::isPresent);
     }
 
     @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
     public CompletionStage<JobDetails> delete(String id) {
         return this.reactiveRepositoryHelper.runAsync(() -> this.deleteJob(id))
                 .thenApply(this::from);
@@ -166,6 +220,49 @@ public class JPAReactiveJobRepository extends BaseReactiveJobRepository implemen
 
     }
 
+    @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
+    protected CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            ZonedDateTime afterFireTime,
+            String afterId,
+            int pageSize) {
+        return findPageByStatusBetweenDates(fromFireTime, toFireTime, status, JobPartitionFilter.all(), afterFireTime, afterId, pageSize);
+    }
+
+    @Override
+    @Timed(value = JobServiceMetrics.REPOSITORY_TIMER, histogram = true)
+    protected CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime fromFireTime,
+            ZonedDateTime toFireTime,
+            JobStatus[] status,
+            JobPartitionFilter partitionFilter,
+            ZonedDateTime afterFireTime,
+            String afterId,
+            int pageSize) {
+
+        Parameters params = Parameters.with("from", fromFireTime.toOffsetDateTime())
+                .and("to", toFireTime.toOffsetDateTime())
+                .and("status", Arrays.stream(status).map(Enum::toString).toList());
+
+        StringBuilder query = new StringBuilder(JOBS_BETWEEN_FIRE_TIMES_QUERY);
+        if (afterId != null) {
+            query.append(JOBS_AFTER_KEY_FILTER);
+            params.and("afterFireTime", afterFireTime.toOffsetDateTime())
+                    .and("afterId", afterId);
+        }
+        if (!partitionFilter.isAll()) {
+            query.append(JOBS_PARTITION_FILTER);
+            params.and("partitions", partitionFilter.getPartitions())
+                    .and("ownedPartitions", Arrays.asList(partitionFilter.getOwnedPartitions()));
+        }
+        final String pageQuery = query.toString();
+        Sort sort = Sort.ascending("fireTime", "id");
+
+        return this.reactiveRepositoryHelper.runAsync(() -> repository.find(pageQuery, sort, params.map()).page(Page.ofSize(pageSize)).list())
+                .thenApply(jobDetailsEntities -> jobDetailsEntities.stream().map(this::from).toList());
+    }
+
     JobDetailsEntity merge(JobDetails job, JobDetailsEntity instance) {
         if (Objects.isNull(instance)) {
             instance = new JobDetailsEntity();
@@ -192,6 +289,7 @@ public class JPAReactiveJobRepository extends BaseReactiveJobRepository implemen
         instance.setExecutionTimeoutUnit(mapOptionalValue(job.getExecutionTimeoutUnit(), Enum::name));
 
         instance.setCreated(Optional.ofNullable(job.getCreated()).map(ZonedDateTime::toOffsetDateTime).orElse(lastUpdate));
+        instance.setPartitionKey(JobServicePartitions.partitionKey(job.getId()));
 
         return instance;
     }
@@ -19,8 +19,11 @@
 
 package org.kie.kogito.jobs.service.repository.jpa;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.kie.kogito.jobs.service.model.JobServiceManagementInfo;
 import org.kie.kogito.jobs.service.repository.JobServiceManagementRepository;
@@ -107,6 +110,45 @@ public class JPAReactiveJobServiceManagementRepository implements JobServiceMana
         return Uni.createFrom().completionStage(this.reactiveRepositoryHelper.runAsync(() -> this.doRelease(info)));
     }
 
+    @Override
+    public Uni<List<JobServiceManagementInfo>> findActiveInstances(OffsetDateTime heartbeatAfter) {
+        return Uni.createFrom().completionStage(this.reactiveRepositoryHelper.runAsync(() -> this.doFindActiveInstances(heartbeatAfter)));
+    }
+
+    private List<JobServiceManagementInfo> doFindActiveInstances(OffsetDateTime heartbeatAfter) {
+        return repository.find("#JobServiceManagementEntity.GetActiveInstances", Parameters.with("heartbeatAfter", heartbeatAfter).map())
+                .stream()
+                .map(this::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Uni<Boolean> delete(JobServiceManagementInfo info) {
+        return Uni.createFrom().completionStage(this.reactiveRepositoryHelper.runAsync(() -> this.doDelete(info)));
+    }
+
+    private Boolean doDelete(JobServiceManagementInfo info) {
+        JobServiceManagementEntity jobService = findByIdAndToken(info);
+        if (jobService == null) {
+            return false;
+        }
+        repository.delete(jobService);
+        return true;
+    }
+
+    @Override
+    public Uni<Integer> deleteExpiredInstances(OffsetDateTime heartbeatBefore) {
+        return Uni.createFrom().completionStage(this.reactiveRepositoryHelper.runAsync(() -> this.doDeleteExpiredInstances(heartbeatBefore)));
+    }
+
+    private Integer doDeleteExpiredInstances(OffsetDateTime heartbeatBefore) {
+        List<JobServiceManagementEntity> expired = repository
+                .find("#JobServiceManagementEntity.GetExpiredInstances", Parameters.with("heartbeatBefore", heartbeatBefore).map())
+                .list();
+        expired.forEach(repository::delete);
+        return expired.size();
+    }
+
     private JobServiceManagementEntity findById(String id) {
         return repository.findById(id);
     }
@@ -146,4 +188,9 @@ public class JPAReactiveJobServiceManagementRepository implements JobServiceMana
         }
         return new JobServiceManagementInfo(jobService.getId(), jobService.getToken(), jobService.getLastHeartBeat());
     }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
 }
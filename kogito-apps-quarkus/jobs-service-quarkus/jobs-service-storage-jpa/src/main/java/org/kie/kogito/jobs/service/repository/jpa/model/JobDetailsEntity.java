@@ -74,6 +74,9 @@ public class JobDetailsEntity {
     @Temporal(TemporalType.TIMESTAMP)
     private OffsetDateTime created;
 
+    @Column(name = "partition_key")
+    private Integer partitionKey;
+
     public String getId() {
         return id;
     }
@@ -185,4 +188,12 @@ public class JobDetailsEntity {
     public void setCreated(OffsetDateTime created) {
         this.created = created;
     }
+
+    public Integer getPartitionKey() {
+        return partitionKey;
+    }
+
+    public void setPartitionKey(Integer partitionKey) {
+        this.partitionKey = partitionKey;
+    }
 }
@@ -28,6 +28,14 @@ import jakarta.persistence.*;
         query = "select service " +
                 "from JobServiceManagementEntity service " +
                 "where service.id = :id and service.token = :token")
+@NamedQuery(name = "JobServiceManagementEntity.GetActiveInstances",
+        query = "select service " +
+                "from JobServiceManagementEntity service " +
+                "where service.id = service.token and service.lastHeartBeat > :heartbeatAfter")
+@NamedQuery(name = "JobServiceManagementEntity.GetExpiredInstances",
+        query = "select service " +
+                "from JobServiceManagementEntity service " +
+                "where service.id = service.token and service.lastHeartBeat < :heartbeatBefore")
 @Table(name = "job_service_management")
 public class JobServiceManagementEntity {
 
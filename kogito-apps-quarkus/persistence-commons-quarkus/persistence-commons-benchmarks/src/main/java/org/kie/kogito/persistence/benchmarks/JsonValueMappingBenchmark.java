@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Cost of binding a {@code json_value} row of the PostgreSQL storage, already parsed into a tree by the hibernate
+ * type, to the type of the storage. Run with {@code -prof gc} to compare the allocations per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JsonValueMappingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int outcomes;
+
+    private ObjectMapper mapper;
+
+    private ObjectReader reader;
+
+    private String text;
+
+    private JsonNode node;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = ObjectMapperFactory.get();
+        reader = mapper.readerFor(Document.class);
+        node = mapper.valueToTree(Document.of(outcomes));
+        text = node.toString();
+    }
+
+    /**
+     * Previous mapping of the query results, the tree is printed and parsed again.
+     */
+    @Benchmark
+    public Document writeAndRead() throws IOException {
+        return mapper.readValue(mapper.writeValueAsString(node), Document.class);
+    }
+
+    /**
+     * Current mapping of the query results, the tree is bound with the reader of the storage type.
+     */
+    @Benchmark
+    public Document readTree() throws IOException {
+        return reader.readValue(node);
+    }
+
+    /**
+     * Full cost of a row, including the parsing of the jsonb text done by the hibernate type.
+     */
+    @Benchmark
+    public Document parseAndReadTree() throws IOException {
+        return reader.readValue(mapper.readTree(text));
+    }
+
+    public static class Document {
+
+        public String id;
+        public String status;
+        public long timestamp;
+        public List<Outcome> outcomes;
+
+        static Document of(int outcomes) {
+            Document document = new Document();
+            document.id = "decision";
+            document.status = "SUCCEEDED";
+            document.timestamp = System.currentTimeMillis();
+            document.outcomes = new ArrayList<>(outcomes);
+            for (int i = 0; i < outcomes; i++) {
+                Outcome outcome = new Outcome();
+                outcome.id = "outcome-" + i;
+                outcome.name = "Outcome " + i;
+                outcome.value = i * 1.5;
+                outcome.messages = List.of("message " + i, "detail " + i);
+                document.outcomes.add(outcome);
+            }
+            return document;
+        }
+    }
+
+    public static class Outcome {
+
+        public String id;
+        public String name;
+        public double value;
+        public List<String> messages;
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.kie.kogito.persistence.api.query.AttributeFilter;
+import org.kie.kogito.persistence.api.query.AttributeSort;
+import org.kie.kogito.persistence.api.query.FilterCondition;
+import org.kie.kogito.persistence.api.query.QueryFilterFactory;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Holds the query arguments shared by the blocking and the reactive queries, and converts them into the statements on
+ * the <code>kogito_data_cache</code> table. The subclasses supply the parameter markers and the cast syntax of their driver.
+ */
+public abstract class AbstractPostgresQuery {
+
+    private static final String AND = " AND ";
+    private static final String OR = " OR ";
+    private static final String ATTRIBUTE_ACCESSOR = "(json_value->>'%s')";
+    // jsonb_build_object takes a key and a value argument per attribute, and functions are limited to 100 arguments
+    private static final int MAX_PROJECTED_ATTRIBUTES = 50;
+
+    protected final String name;
+    private final Set<String> numericAttributes;
+
+    protected Integer limit;
+    protected Integer offset;
+    protected List<AttributeFilter<?>> filters;
+    protected List<AttributeSort> sortBy;
+    protected Set<String> projection;
+    protected List<?> after;
+    protected Integer timeout;
+    private Map<String, JsonField> fields;
+    private List<Object> parameters;
+
+    private static final class JsonField {
+
+        String name;
+        Object value;
+
+        JsonField(String name) {
+            this(name, null);
+        }
+
+        JsonField(String name, Object value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+    /**
+     * @param indexes indexes of the cache, their attributes are filtered and sorted with the indexed expression
+     */
+    protected AbstractPostgresQuery(String name, Collection<CacheIndex> indexes) {
+        this.name = name;
+        this.numericAttributes = indexes.stream().filter(CacheIndex::numeric).map(CacheIndex::attribute).collect(Collectors.toSet());
+    }
+
+    /**
+     * Marker of the bound parameter at the given position, starting at 1.
+     */
+    protected abstract String parameterMarker(int position);
+
+    /**
+     * Suffix casting an expression into a numeric value.
+     */
+    protected abstract String numericCast();
+
+    /**
+     * Builds the statement selecting the matching documents as a <code>json_value</code> column, the limit and the
+     * offset are left to the caller.
+     */
+    protected String selectStatement() {
+        List<AttributeFilter<?>> queryFilters = filters;
+        if (after != null) {
+            queryFilters = filters == null ? new ArrayList<>() : new ArrayList<>(filters);
+            // PostgreSQL sorts the null values as the highest ones
+            queryFilters.add(QueryFilterFactory.after(sortBy == null ? List.of() : sortBy, after, true));
+        }
+        //Get type information from filters/sorting to cast JSON document fields in query
+        fields = addFilters(new HashMap<>(), queryFilters);
+        parameters = new ArrayList<>();
+        if (sortBy != null && !sortBy.isEmpty()) {
+            sortBy.stream().filter(sortBy -> !fields.containsKey(sortBy.getAttribute()))
+                    .forEach(sortBy -> fields.put(sortBy.getAttribute(),
+                            new JsonField(sortBy.getAttribute())));
+        }
+
+        StringBuilder queryString = new StringBuilder("SELECT ")
+                .append(selectString());
+        appendFromWhere(queryString, queryFilters);
+
+        // Sorting
+        if (sortBy != null && !sortBy.isEmpty()) {
+            queryString.append(" ORDER BY ");
+            queryString.append(sortBy.stream().map(f -> {
+                final JsonField field = fields.get(f.getAttribute());
+                return attribute(field).append(f.getSort().name());
+            }).collect(joining(", ")));
+        }
+        return queryString.toString();
+    }
+
+    /**
+     * Builds the statement counting the matching documents, the after values do not apply.
+     */
+    protected String countStatement() {
+        fields = addFilters(new HashMap<>(), filters);
+        parameters = new ArrayList<>();
+        StringBuilder queryString = new StringBuilder("SELECT COUNT(*)");
+        appendFromWhere(queryString, filters);
+        return queryString.toString();
+    }
+
+    /**
+     * Values bound to the markers of the last built statement, in order.
+     */
+    protected List<Object> parameters() {
+        return parameters;
+    }
+
+    // Values are bound, so the statement text only depends on the shape of the query and can be cached
+    protected String bind(Object value) {
+        parameters.add(value);
+        return parameterMarker(parameters.size());
+    }
+
+    private void appendFromWhere(StringBuilder queryString, List<AttributeFilter<?>> queryFilters) {
+        queryString.append(" FROM kogito_data_cache")
+                .append(" WHERE cache_name = ")
+                .append(bind(name));
+        if (queryFilters != null && !queryFilters.isEmpty()) {
+            queryString.append(" AND ");
+            queryString.append(queryFilters.stream()
+                    .map(filter -> new StringBuilder()
+                            .append(filterStringFunction(filter)))
+                    .collect(joining(AND)));
+        }
+    }
+
+    private String selectString() {
+        if (projection == null || projection.isEmpty() || projection.size() > MAX_PROJECTED_ATTRIBUTES) {
+            return "*";
+        }
+        // builds a document with the requested top level attributes only
+        return projection.stream()
+                .map(attribute -> attribute.replace("'", "''"))
+                .map(attribute -> format("'%1$s', json_value->'%1$s'", attribute))
+                .collect(joining(", ", "jsonb_build_object(", ") AS json_value"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, JsonField> addFilters(final Map<String, JsonField> fields,
+            final List<AttributeFilter<?>> filters) {
+        if (Objects.isNull(filters) || filters.isEmpty()) {
+            return fields;
+        }
+
+        filters.stream()
+                .filter(filter -> Objects.nonNull(filter.getAttribute()))
+                .filter(filter -> !Objects.equals(filter.getCondition(), FilterCondition.NOT))
+                .filter(filter -> !Objects.equals(filter.getCondition(), FilterCondition.AND))
+                .filter(filter -> !Objects.equals(filter.getCondition(), FilterCondition.OR))
+                .filter(filter -> !Objects.equals(filter.getCondition(), FilterCondition.BETWEEN))
+                .filter(filter -> !fields.containsKey(filter.getAttribute()))
+                .forEach(filter -> fields.put(filter.getAttribute(),
+                        new JsonField(filter.getAttribute(), filter.getValue())));
+
+        //Add Children of NOT conditions
+        addFilters(fields,
+                filters.stream()
+                        .filter(filter -> Objects.equals(filter.getCondition(), FilterCondition.NOT))
+                        .map(filter -> (AttributeFilter<?>) filter.getValue())
+                        .collect(Collectors.toList()));
+
+        //Add Children of AND conditions
+        addFilters(fields,
+                filters.stream()
+                        .filter(filter -> Objects.equals(filter.getCondition(), FilterCondition.AND))
+                        .map(filter -> (List<AttributeFilter<?>>) filter.getValue())
+                        .flatMap(List::stream)
+                        .collect(Collectors.toList()));
+
+        //Add Children of OR conditions
+        addFilters(fields,
+                filters.stream()
+                        .filter(filter -> Objects.equals(filter.getCondition(), FilterCondition.OR))
+                        .map(filter -> (List<AttributeFilter<?>>) filter.getValue())
+                        .flatMap(List::stream)
+                        .collect(Collectors.toList()));
+
+        //Add Children of BETWEEN conditions
+        filters.stream()
+                .filter(filter -> Objects.equals(filter.getCondition(), FilterCondition.BETWEEN))
+                .filter(filter -> !fields.containsKey(filter.getAttribute()))
+                .forEach(filter -> fields.put(filter.getAttribute(),
+                        new JsonField(filter.getAttribute(),
+                                ((List<Object>) filter.getValue()).get(0))));
+
+        return fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String filterStringFunction(AttributeFilter<?> filter) {
+        JsonField field = fields.get(filter.getAttribute());
+        switch (filter.getCondition()) {
+            case CONTAINS:
+                return attribute(field)
+                        .append("= ").append(parameter(field, filter.getValue()))
+                        .toString();
+            case CONTAINS_ALL:
+                return (String) ((List) filter.getValue())
+                        .stream()
+                        .map(o -> attribute(field)
+                                .append("= ").append(parameter(field, o)))
+                        .collect(joining(AND));
+            case CONTAINS_ANY:
+                return (String) ((List) filter.getValue())
+                        .stream()
+                        .map(o -> attribute(field)
+                                .append("= ").append(parameter(field, o)))
+                        .collect(joining(OR));
+            case LIKE:
+                return attribute(field)
+                        .append("LIKE ").append(parameter(field, filter.getValue().toString().replace('*', '%')))
+                        .toString();
+            case EQUAL:
+                return attribute(field)
+                        .append("= ").append(parameter(field, filter.getValue()))
+                        .toString();
+            case IN:
+                return attribute(field)
+                        .append(format("IN (%s)", ((List<Object>) filter.getValue()).stream().map(o -> parameter(field, o)).collect(joining(", "))))
+                        .toString();
+            case IS_NULL:
+                return attribute(field)
+                        .append("IS NULL")
+                        .toString();
+            case NOT_NULL:
+                return attribute(field)
+                        .append("IS NOT NULL")
+                        .toString();
+            case BETWEEN:
+                List<Object> value = (List<Object>) filter.getValue();
+                return attribute(field)
+                        .append(format("BETWEEN %s AND %s", parameter(field, value.get(0)), parameter(field, value.get(1))))
+                        .toString();
+            case GT:
+                return attribute(field)
+                        .append("> ").append(parameter(field, filter.getValue()))
+                        .toString();
+            case GTE:
+                return attribute(field)
+                        .append(">= ").append(parameter(field, filter.getValue()))
+                        .toString();
+            case LT:
+                return attribute(field)
+                        .append("< ").append(parameter(field, filter.getValue()))
+                        .toString();
+            case LTE:
+                return attribute(field)
+                        .append("<= ").append(parameter(field, filter.getValue()))
+                        .toString();
+            case OR:
+                return getRecursiveString(filter, OR);
+            case AND:
+                return getRecursiveString(filter, AND);
+            case NOT:
+                return format("not %s", filterStringFunction((AttributeFilter<?>) filter.getValue()));
+            default:
+                return null;
+        }
+    }
+
+    static String accessor(String attribute) {
+        return format(ATTRIBUTE_ACCESSOR, attribute.replace("'", "''"));
+    }
+
+    // Text values extracted from the JSON structure may need casting into primitive types
+    private StringBuilder attribute(JsonField field) {
+        StringBuilder cast = new StringBuilder();
+        String accessor = accessor(field.name);
+        if (isNumeric(field)) {
+            cast.append("(").append(accessor).append(")").append(numericCast()).append(" ");
+        } else {
+            cast.append(accessor).append(" ");
+        }
+        return cast;
+    }
+
+    private boolean isNumeric(JsonField field) {
+        return field.value instanceof Number || numericAttributes.contains(field.name);
+    }
+
+    // numeric values are compared as numbers, the rest as the text extracted from the document
+    private String parameter(JsonField field, Object value) {
+        if (isNumeric(field)) {
+            return "cast(" + bind(value) + " as numeric)";
+        }
+        return bind(value instanceof String ? value : String.valueOf(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private String getRecursiveString(AttributeFilter<?> filter, String joining) {
+        return ((List<AttributeFilter<?>>) filter.getValue())
+                .stream()
+                .map(this::filterStringFunction)
+                .collect(joining(joining, "(", ")"));
+    }
+}
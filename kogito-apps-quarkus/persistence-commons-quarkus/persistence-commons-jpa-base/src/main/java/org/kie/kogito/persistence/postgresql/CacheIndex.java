@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+/**
+ * Top level attribute of the documents of a cache backed by an expression index on the <code>kogito_data_cache</code>
+ * table, see {@link PostgresCacheIndexManager}.
+ *
+ * @param attribute the indexed attribute
+ * @param numeric whether the attribute is compared and sorted as a number, or as text otherwise
+ */
+public record CacheIndex(String attribute, boolean numeric) {
+
+    public static CacheIndex text(String attribute) {
+        return new CacheIndex(attribute, false);
+    }
+
+    public static CacheIndex numeric(String attribute) {
+        return new CacheIndex(attribute, true);
+    }
+}
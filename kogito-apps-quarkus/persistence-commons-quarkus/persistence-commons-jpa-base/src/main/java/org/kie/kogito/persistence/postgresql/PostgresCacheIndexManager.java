@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+import static java.lang.String.format;
+
+/**
+ * Builds the DDL of the expression indexes declared by the caches on the <code>kogito_data_cache</code> table. Every
+ * index starts with the cache name, followed by the same expression {@link PostgresQuery} uses to filter and sort the
+ * attribute, so the planner can use it. As the cache name leads, a single index per expression serves all the caches
+ * filtering by it, so the indexes are named after the expression only, with the {@value #INDEX_PREFIX} prefix.
+ * <p>
+ * The indexes are not created at runtime: they are shipped as kie-flyway migrations of the modules declaring them,
+ * which must contain the statements built here.
+ */
+public final class PostgresCacheIndexManager {
+
+    static final String INDEX_PREFIX = "idx_cache_";
+
+    private static final String NUMERIC_SUFFIX = "_numeric";
+    private static final int MAX_NAME_LENGTH = 63;
+
+    private PostgresCacheIndexManager() {
+    }
+
+    /**
+     * Returns the statement creating the index of a cache attribute. The index is created concurrently, so the table is
+     * not locked, which makes flyway run the migrations containing it out of a transaction.
+     */
+    public static String createIndexStatement(CacheIndex index) {
+        return format("CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON kogito_data_cache (cache_name, (%s));", indexName(index), expression(index));
+    }
+
+    static String expression(CacheIndex index) {
+        String accessor = AbstractPostgresQuery.accessor(index.attribute());
+        return index.numeric() ? format("(%s)::numeric", accessor) : accessor;
+    }
+
+    static String indexName(CacheIndex index) {
+        String suffix = index.numeric() ? NUMERIC_SUFFIX : "";
+        String name = (INDEX_PREFIX + index.attribute()).toLowerCase().replaceAll("[^a-z0-9_]", "_");
+        if (name.length() + suffix.length() > MAX_NAME_LENGTH) {
+            String hash = format("%08x", index.attribute().hashCode());
+            name = name.substring(0, MAX_NAME_LENGTH - suffix.length() - hash.length() - 1) + "_" + hash;
+        }
+        return name + suffix;
+    }
+}
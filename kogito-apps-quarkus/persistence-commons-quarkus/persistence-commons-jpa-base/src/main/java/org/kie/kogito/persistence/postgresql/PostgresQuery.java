@@ -18,67 +18,50 @@
  */
 package org.kie.kogito.persistence.postgresql;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.type.CustomType;
 import org.hibernate.type.spi.TypeConfiguration;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
 import org.kie.kogito.persistence.api.query.AttributeSort;
-import org.kie.kogito.persistence.api.query.FilterCondition;
 import org.kie.kogito.persistence.api.query.Query;
+import org.kie.kogito.persistence.api.query.QueryTimeoutException;
 import org.kie.kogito.persistence.postgresql.hibernate.JsonBinaryType;
 import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
-import static java.lang.String.format;
-import static java.util.stream.Collectors.joining;
-
-public class PostgresQuery<T> implements Query<T> {
+public class PostgresQuery<T> extends AbstractPostgresQuery implements Query<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresQuery.class);
-    private static final String AND = " AND ";
-    private static final String OR = " OR ";
-    private static final String ATTRIBUTE_ACCESSOR = "(json_value->>'%s')";
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+    private static final CustomType<JsonNode> JSON_VALUE_TYPE = new CustomType<>(new JsonBinaryType(), new TypeConfiguration());
 
-    private final String name;
     private final CacheEntityRepository repository;
-    private final ObjectMapper objectMapper;
-    private final Class<T> type;
-
-    private Integer limit;
-    private Integer offset;
-    private List<AttributeFilter<?>> filters;
-    private List<AttributeSort> sortBy;
-    private Map<String, JsonField> fields;
-
-    private static final class JsonField {
-
-        String name;
-        Object value;
-
-        JsonField(String name) {
-            this(name, null);
-        }
+    private final ObjectReader reader;
 
-        JsonField(String name, Object value) {
-            this.name = name;
-            this.value = value;
-        }
+    public PostgresQuery(String name, CacheEntityRepository repository, ObjectMapper objectMapper, Class<T> type) {
+        this(name, repository, objectMapper.readerFor(type), Set.of());
     }
 
-    public PostgresQuery(String name, CacheEntityRepository repository, ObjectMapper objectMapper, Class<T> type) {
-        this.name = name;
+    /**
+     * @param reader reader bound to the type of the query results, reused by all the queries of the storage
+     * @param indexes indexes of the cache, their attributes are filtered and sorted with the indexed expression
+     */
+    public PostgresQuery(String name, CacheEntityRepository repository, ObjectReader reader, Collection<CacheIndex> indexes) {
+        super(name, indexes);
         this.repository = repository;
-        this.objectMapper = objectMapper;
-        this.type = type;
+        this.reader = reader;
     }
 
     @Override
@@ -106,40 +89,29 @@ public class PostgresQuery<T> implements Query<T> {
     }
 
     @Override
-    public List<T> execute() {
-        //Get type information from filters/sorting to cast JSON document fields in query
-        fields = addFilters(new HashMap<>(), filters);
-        if (sortBy != null && !sortBy.isEmpty()) {
-            sortBy.stream().filter(sortBy -> !fields.containsKey(sortBy.getAttribute()))
-                    .forEach(sortBy -> fields.put(sortBy.getAttribute(),
-                            new JsonField(sortBy.getAttribute())));
-        }
+    public Query<T> projection(Set<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
 
-        // Build the query to retrieve the filtered data from the temporary table above.
-        StringBuilder queryString = new StringBuilder("SELECT * FROM kogito_data_cache")
-                .append(" WHERE cache_name = '")
-                .append(name)
-                .append("'");
-        if (filters != null && !filters.isEmpty()) {
-            queryString.append(" AND ");
-            queryString.append(filters.stream()
-                    .map(filter -> new StringBuilder()
-                            .append(filterStringFunction(filter)))
-                    .collect(joining(AND)));
-        }
+    @Override
+    public Query<T> after(List<?> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
 
-        // Sorting
-        if (sortBy != null && !sortBy.isEmpty()) {
-            queryString.append(" ORDER BY ");
-            queryString.append(sortBy.stream().map(f -> {
-                final JsonField field = fields.get(f.getAttribute());
-                return cast(field, format(ATTRIBUTE_ACCESSOR, f.getAttribute())).append(" ").append(f.getSort().name());
-            }).collect(joining(", ")));
-        }
+    @Override
+    public Query<T> timeout(Integer timeoutMillis) {
+        this.timeout = timeoutMillis;
+        return this;
+    }
 
+    @Override
+    public List<T> execute() {
+        String queryString = selectStatement();
         LOGGER.debug("Executing PostgreSQL query: {}", queryString);
-        jakarta.persistence.Query query = repository.getEntityManager().createNativeQuery(queryString.toString());
-        query.unwrap(org.hibernate.query.NativeQuery.class).addScalar("json_value", new CustomType<>(new JsonBinaryType(), new TypeConfiguration()));
+        jakarta.persistence.Query query = createQuery(queryString);
+        query.unwrap(org.hibernate.query.NativeQuery.class).addScalar("json_value", JSON_VALUE_TYPE);
 
         if (limit != null) {
             query.setMaxResults(limit);
@@ -148,165 +120,60 @@ public class PostgresQuery<T> implements Query<T> {
             query.setFirstResult(offset);
         }
 
-        List<?> results = query.getResultList();
-
-        return results.stream().map(r -> {
-            if (r == null) {
-                return null;
-            }
-            try {
-                return objectMapper.readValue(objectMapper.writeValueAsString(r), type);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
-        }).collect(Collectors.toList());
-    }
+        List<?> results = withTimeout(query, query::getResultList);
 
-    @SuppressWarnings("unchecked")
-    private Map<String, JsonField> addFilters(final Map<String, JsonField> fields,
-            final List<AttributeFilter<?>> filters) {
-        if (Objects.isNull(filters) || filters.isEmpty()) {
-            return fields;
+        // the json_value scalar is already parsed into a tree, bind it without serializing it back to text
+        List<T> values = new ArrayList<>(results.size());
+        for (Object r : results) {
+            values.add(r == null ? null : readValue((JsonNode) r));
         }
+        return values;
+    }
 
-        filters.stream()
-                .filter(filter -> Objects.nonNull(filter.getAttribute()))
-                .filter(filter -> !Objects.equals(filter.getCondition(), FilterCondition.NOT))
-                .filter(filter -> !Objects.equals(filter.getCondition(), FilterCondition.AND))
-                .filter(filter -> !Objects.equals(filter.getCondition(), FilterCondition.OR))
-                .filter(filter -> !Objects.equals(filter.getCondition(), FilterCondition.BETWEEN))
-                .filter(filter -> !fields.containsKey(filter.getAttribute()))
-                .forEach(filter -> fields.put(filter.getAttribute(),
-                        new JsonField(filter.getAttribute(), filter.getValue())));
-
-        //Add Children of NOT conditions
-        addFilters(fields,
-                filters.stream()
-                        .filter(filter -> Objects.equals(filter.getCondition(), FilterCondition.NOT))
-                        .map(filter -> (AttributeFilter<?>) filter.getValue())
-                        .collect(Collectors.toList()));
-
-        //Add Children of AND conditions
-        addFilters(fields,
-                filters.stream()
-                        .filter(filter -> Objects.equals(filter.getCondition(), FilterCondition.AND))
-                        .map(filter -> (List<AttributeFilter<?>>) filter.getValue())
-                        .flatMap(List::stream)
-                        .collect(Collectors.toList()));
-
-        //Add Children of OR conditions
-        addFilters(fields,
-                filters.stream()
-                        .filter(filter -> Objects.equals(filter.getCondition(), FilterCondition.OR))
-                        .map(filter -> (List<AttributeFilter<?>>) filter.getValue())
-                        .flatMap(List::stream)
-                        .collect(Collectors.toList()));
-
-        //Add Children of BETWEEN conditions
-        filters.stream()
-                .filter(filter -> Objects.equals(filter.getCondition(), FilterCondition.BETWEEN))
-                .filter(filter -> !fields.containsKey(filter.getAttribute()))
-                .forEach(filter -> fields.put(filter.getAttribute(),
-                        new JsonField(filter.getAttribute(),
-                                ((List<Object>) filter.getValue()).get(0))));
+    @Override
+    public long count() {
+        String queryString = countStatement();
+        LOGGER.debug("Executing PostgreSQL count: {}", queryString);
+        jakarta.persistence.Query query = createQuery(queryString);
+        return ((Number) withTimeout(query, query::getSingleResult)).longValue();
+    }
 
-        return fields;
+    @Override
+    protected String parameterMarker(int position) {
+        return "?" + position;
     }
 
-    @SuppressWarnings("unchecked")
-    private String filterStringFunction(AttributeFilter<?> filter) {
-        JsonField field = fields.get(filter.getAttribute());
-        switch (filter.getCondition()) {
-            case CONTAINS:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("= %s", getValueForQueryString(filter.getValue())))
-                        .toString();
-            case CONTAINS_ALL:
-                return (String) ((List) filter.getValue())
-                        .stream()
-                        .map(o -> cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                                .append(format("= %s", getValueForQueryString(o))))
-                        .collect(joining(AND));
-            case CONTAINS_ANY:
-                return (String) ((List) filter.getValue())
-                        .stream()
-                        .map(o -> cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                                .append(format("= %s", getValueForQueryString(o))))
-                        .collect(joining(OR));
-            case LIKE:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("LIKE %s", getValueForQueryString(filter.getValue())))
-                        .toString()
-                        .replaceAll("\\*", "%");
-            case EQUAL:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("= %s", getValueForQueryString(filter.getValue())))
-                        .toString();
-            case IN:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("IN (%s)", ((List) filter.getValue()).stream().map(PostgresQuery::getValueForQueryString).collect(joining(", "))))
-                        .toString();
-            case IS_NULL:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append("IS NULL")
-                        .toString();
-            case NOT_NULL:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append("IS NOT NULL")
-                        .toString();
-            case BETWEEN:
-                List<Object> value = (List<Object>) filter.getValue();
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("BETWEEN %s AND %s", getValueForQueryString(value.get(0)), getValueForQueryString(value.get(1))))
-                        .toString();
-            case GT:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("> %s", getValueForQueryString(filter.getValue())))
-                        .toString();
-            case GTE:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format(">= %s", getValueForQueryString(filter.getValue())))
-                        .toString();
-            case LT:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("< %s", getValueForQueryString(filter.getValue())))
-                        .toString();
-            case LTE:
-                return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("<= %s", getValueForQueryString(filter.getValue())))
-                        .toString();
-            case OR:
-                return getRecursiveString(filter, OR);
-            case AND:
-                return getRecursiveString(filter, AND);
-            case NOT:
-                return format("not %s", filterStringFunction((AttributeFilter<?>) filter.getValue()));
-            default:
-                return null;
-        }
+    @Override
+    protected String numericCast() {
+        // colons are escaped so Hibernate does not take the cast for a named parameter
+        return "\\:\\:numeric";
     }
 
-    // Text values extracted from the JSON structure may need casting into primitive types
-    private static StringBuilder cast(JsonField field, String accessor) {
-        StringBuilder cast = new StringBuilder();
-        Object value = field.value;
-        if (value instanceof Number) {
-            cast.append("(").append(accessor).append(")\\:\\:numeric ");
-        } else {
-            cast.append(accessor).append(" ");
+    private T readValue(JsonNode node) {
+        try {
+            return reader.readValue(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return cast;
     }
 
-    private static String getValueForQueryString(Object value) {
-        return value instanceof String ? "'" + value + "'" : value.toString();
+    private jakarta.persistence.Query createQuery(String queryString) {
+        jakarta.persistence.Query query = repository.getEntityManager().createNativeQuery(queryString);
+        List<Object> parameters = parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        return query;
     }
 
-    @SuppressWarnings("unchecked")
-    private String getRecursiveString(AttributeFilter<?> filter, String joining) {
-        return ((List<AttributeFilter<?>>) filter.getValue())
-                .stream()
-                .map(this::filterStringFunction)
-                .collect(joining(joining, "(", ")"));
+    private <R> R withTimeout(jakarta.persistence.Query query, Supplier<R> execution) {
+        if (timeout != null) {
+            query.setHint(QUERY_TIMEOUT_HINT, timeout);
+        }
+        try {
+            return execution.get();
+        } catch (jakarta.persistence.QueryTimeoutException e) {
+            throw new QueryTimeoutException("Query on " + name + " exceeded the timeout of " + timeout + " ms", e);
+        }
     }
 }
@@ -18,44 +18,88 @@
  */
 package org.kie.kogito.persistence.postgresql;
 
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
+import org.hibernate.Session;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.kie.kogito.persistence.api.ReactiveStorageFetcher;
 import org.kie.kogito.persistence.api.Storage;
+import org.kie.kogito.persistence.api.StorageServiceCapability;
 import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.postgresql.model.CacheEntity;
 import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
 import org.kie.kogito.persistence.postgresql.model.CacheId;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.mutiny.Multi;
 
+import jakarta.persistence.EntityManager;
+
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
+/**
+ * Storage of a cache in the <code>kogito_data_cache</code> table.
+ * <p>
+ * The object listeners are not supported: the change notifications of the data index tables do not cover the cache
+ * table, where a trigger would put a NOTIFY on the commit of every cache write.
+ */
 public class PostgresStorage<V> implements Storage<String, V> {
 
-    private static final String LISTENER_NOT_AVAILABLE_IN_POSTGRES_SQL = "Listener not available in PostgresSQL";
+    private static final String LISTENER_NOT_AVAILABLE_IN_POSTGRES_SQL = "Listener not available in PostgreSQL cache storage, the kogito_data_cache changes are not notified";
+    private static final String UPSERT = "INSERT INTO kogito_data_cache (var_name, cache_name, json_value) VALUES (?, ?, ?) " +
+            "ON CONFLICT (var_name, cache_name) DO UPDATE SET json_value = EXCLUDED.json_value";
     private CacheEntityRepository repository;
     private String cacheName;
     private Class<V> type;
     private ObjectMapper mapper;
+    private ObjectReader reader;
     private String rootType;
+    private Collection<CacheIndex> indexes;
+    private ReactiveStorageFetcher<String, V> reactiveStorage;
 
     public PostgresStorage(String cacheName, CacheEntityRepository repository, ObjectMapper mapper, Class<V> type) {
         this(cacheName, repository, mapper, type, type.getCanonicalName());
     }
 
     public PostgresStorage(String cacheName, CacheEntityRepository repository, ObjectMapper mapper, Class<V> type, String rootType) {
+        this(cacheName, repository, mapper, type, rootType, Set.of());
+    }
+
+    /**
+     * @param indexes indexes of the cache, they must have been created by a migration, see {@link PostgresCacheIndexManager}
+     */
+    public PostgresStorage(String cacheName, CacheEntityRepository repository, ObjectMapper mapper, Class<V> type, String rootType, Collection<CacheIndex> indexes) {
+        this(cacheName, repository, mapper, type, rootType, indexes, null);
+    }
+
+    /**
+     * @param reactiveStorage non blocking reads of the same cache, or null when no reactive client is available
+     */
+    public PostgresStorage(String cacheName, CacheEntityRepository repository, ObjectMapper mapper, Class<V> type, String rootType, Collection<CacheIndex> indexes,
+            ReactiveStorageFetcher<String, V> reactiveStorage) {
         this.repository = repository;
         this.cacheName = cacheName;
         this.type = type;
         this.mapper = mapper;
+        this.reader = mapper.readerFor(type);
         this.rootType = rootType;
+        this.indexes = indexes;
+        this.reactiveStorage = reactiveStorage;
     }
 
     @Override
@@ -75,7 +119,22 @@ public class PostgresStorage<V> implements Storage<String, V> {
 
     @Override
     public Query<V> query() {
-        return new PostgresQuery<V>(cacheName, repository, mapper, type);
+        return new PostgresQuery<V>(cacheName, repository, reader, indexes);
+    }
+
+    @Override
+    public Optional<ReactiveStorageFetcher<String, V>> reactive() {
+        return Optional.ofNullable(reactiveStorage);
+    }
+
+    @Override
+    public Set<StorageServiceCapability> capabilities() {
+        return indexes.isEmpty() ? EnumSet.noneOf(StorageServiceCapability.class) : EnumSet.of(StorageServiceCapability.INDEXED_ATTRIBUTES);
+    }
+
+    @Override
+    public Set<String> indexedAttributes() {
+        return indexes.stream().map(CacheIndex::attribute).collect(toSet());
     }
 
     @Override
@@ -87,11 +146,11 @@ public class PostgresStorage<V> implements Storage<String, V> {
         return entity -> {
             try {
                 if (String.class.equals(type)) {
-                    return mapper.treeToValue(entity.getValue().get("value"), type);
+                    return reader.readValue(entity.getValue().get("value"));
                 } else {
-                    return mapper.treeToValue(entity.getValue(), type);
+                    return reader.readValue(entity.getValue());
                 }
-            } catch (JsonProcessingException ex) {
+            } catch (IOException ex) {
                 throw new RuntimeException(format("Failed to convert JSON into type %s", rootType), ex);
             }
         };
@@ -99,13 +158,7 @@ public class PostgresStorage<V> implements Storage<String, V> {
 
     @Override
     public V put(String key, V value) {
-        ObjectNode json;
-        if (String.class.equals(type)) {
-            json = mapper.createObjectNode();
-            json.put("value", (String) value);
-        } else {
-            json = mapper.valueToTree(value);
-        }
+        ObjectNode json = toJson(value);
         CacheId cacheId = new CacheId(cacheName, key);
         Optional<CacheEntity> byId = repository.findByIdOptional(cacheId);
         CacheEntity entity;
@@ -119,6 +172,62 @@ public class PostgresStorage<V> implements Storage<String, V> {
         return value;
     }
 
+    @Override
+    public void putAll(Map<String, V> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        EntityManager entityManager = repository.getEntityManager();
+        // the batch bypasses the persistence context, pending changes are written before and the affected entities discarded after
+        entityManager.flush();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+                for (Map.Entry<String, V> element : elements.entrySet()) {
+                    statement.setString(1, element.getKey());
+                    statement.setString(2, cacheName);
+                    statement.setObject(3, toJson(element.getValue()).toString(), Types.OTHER);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+        detach(entityManager, elements.keySet());
+    }
+
+    @Override
+    public void removeAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        EntityManager entityManager = repository.getEntityManager();
+        // the bulk delete bypasses the persistence context as well
+        entityManager.flush();
+        repository.delete("name = ?1 and key in ?2", cacheName, keys);
+        detach(entityManager, keys);
+    }
+
+    // only the entities of the given keys are detached, the rest of the caller's persistence context is kept
+    private void detach(EntityManager entityManager, Collection<String> keys) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getEntityPersister(CacheEntity.class.getName(), null);
+        PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+        for (String key : keys) {
+            Object entity = persistenceContext.getEntity(session.generateEntityKey(new CacheId(cacheName, key), persister));
+            if (entity != null) {
+                entityManager.detach(entity);
+            }
+        }
+    }
+
+    private ObjectNode toJson(V value) {
+        if (String.class.equals(type)) {
+            ObjectNode json = mapper.createObjectNode();
+            json.put("value", (String) value);
+            return json;
+        }
+        return mapper.valueToTree(value);
+    }
+
     @Override
     public V remove(String key) {
         V value = get(key);
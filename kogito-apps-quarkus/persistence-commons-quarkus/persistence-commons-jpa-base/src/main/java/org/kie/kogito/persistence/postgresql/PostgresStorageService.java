@@ -18,12 +18,16 @@
  */
 package org.kie.kogito.persistence.postgresql;
 
+import java.util.Set;
+
+import org.kie.kogito.persistence.api.ReactiveStorageFetcher;
 import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.StorageService;
 import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.quarkus.arc.DefaultBean;
 import io.quarkus.arc.properties.IfBuildProperty;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -32,6 +36,7 @@ import jakarta.inject.Inject;
 import static org.kie.kogito.persistence.api.factory.Constants.PERSISTENCE_TYPE_PROPERTY;
 import static org.kie.kogito.persistence.postgresql.Constants.POSTGRESQL_STORAGE;
 
+@DefaultBean
 @ApplicationScoped
 @IfBuildProperty(name = PERSISTENCE_TYPE_PROPERTY, stringValue = POSTGRESQL_STORAGE)
 public class PostgresStorageService implements StorageService {
@@ -44,16 +49,25 @@ public class PostgresStorageService implements StorageService {
 
     @Override
     public Storage<String, String> getCache(String name) {
-        return new PostgresStorage<>(name, repository, mapper, String.class);
+        return getCache(name, String.class);
     }
 
     @Override
     public <T> Storage<String, T> getCache(String name, Class<T> type) {
-        return new PostgresStorage<>(name, repository, mapper, type);
+        return getCache(name, type, type.getCanonicalName());
     }
 
     @Override
     public <T> Storage<String, T> getCache(String name, Class<T> type, String rootType) {
-        return new PostgresStorage<>(name, repository, mapper, type, rootType);
+        return new PostgresStorage<>(name, repository, mapper, type, rootType, Set.of(), getReactiveCache(name, type));
+    }
+
+    /**
+     * Gets the non blocking reads of a cache, none by default as this module only has the JDBC driver.
+     *
+     * @return The reactive storage fetcher, or null.
+     */
+    protected <T> ReactiveStorageFetcher<String, T> getReactiveCache(String name, Class<T> type) {
+        return null;
     }
 }
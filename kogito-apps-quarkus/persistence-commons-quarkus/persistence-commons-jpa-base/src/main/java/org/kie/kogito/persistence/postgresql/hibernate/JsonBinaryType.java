@@ -38,7 +38,8 @@ import static java.lang.String.format;
 
 public class JsonBinaryType implements UserType<JsonNode> {
 
-    private ObjectMapper mapper = new ObjectMapper();
+    // only used to parse and print trees, shared by all the instances
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     @Override
     public int getSqlType() {
@@ -68,7 +69,7 @@ public class JsonBinaryType implements UserType<JsonNode> {
             return null;
         }
         try {
-            return mapper.readTree(json.getBytes("UTF-8"));
+            return MAPPER.readTree(json);
         } catch (final Exception ex) {
             throw new RuntimeException("Failed to convert String to JSON: " + ex.getMessage(), ex);
         }
@@ -109,7 +110,7 @@ public class JsonBinaryType implements UserType<JsonNode> {
     @Override
     public JsonNode assemble(Serializable cached, Object owner) throws HibernateException {
         try {
-            return mapper.readTree(cached.toString());
+            return MAPPER.readTree(cached.toString());
         } catch (JsonProcessingException ex) {
             throw new RuntimeException(format("Failed to convert String to JSON: %s", ex.getMessage()), ex);
         }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.persistence.postgresql.PostgresCacheIndexManager.INDEX_PREFIX;
+
+class PostgresCacheIndexManagerTest {
+
+    @Test
+    void testIndexName() {
+        assertThat(PostgresCacheIndexManager.indexName(CacheIndex.text("executionId"))).isEqualTo("idx_cache_executionid");
+        assertThat(PostgresCacheIndexManager.indexName(CacheIndex.numeric("executionTimestamp"))).isEqualTo("idx_cache_executiontimestamp_numeric");
+        assertThat(PostgresCacheIndexManager.indexName(CacheIndex.text("attr.name"))).isEqualTo("idx_cache_attr_name");
+    }
+
+    @Test
+    void testIndexNameTruncation() {
+        CacheIndex index = CacheIndex.text("a".repeat(60));
+        String name = PostgresCacheIndexManager.indexName(index);
+
+        assertThat(name).hasSize(63)
+                .startsWith(INDEX_PREFIX + "a".repeat(44))
+                .endsWith("_" + String.format("%08x", index.attribute().hashCode()));
+        assertThat(PostgresCacheIndexManager.indexName(CacheIndex.text("a".repeat(61)))).hasSize(63).isNotEqualTo(name);
+    }
+
+    @Test
+    void testNumericIndexNameTruncation() {
+        CacheIndex index = CacheIndex.numeric("a".repeat(60));
+
+        assertThat(PostgresCacheIndexManager.indexName(index)).hasSize(63)
+                .endsWith("_" + String.format("%08x", index.attribute().hashCode()) + "_numeric")
+                .isNotEqualTo(PostgresCacheIndexManager.indexName(CacheIndex.text("a".repeat(60))));
+    }
+
+    @Test
+    void testIndexNameMaxLength() {
+        String attribute = "a".repeat(63 - INDEX_PREFIX.length());
+        assertThat(PostgresCacheIndexManager.indexName(CacheIndex.text(attribute))).isEqualTo(INDEX_PREFIX + attribute);
+    }
+
+    @Test
+    void testCreateIndexStatement() {
+        assertThat(PostgresCacheIndexManager.createIndexStatement(CacheIndex.numeric("executionTimestamp")))
+                .isEqualTo("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cache_executiontimestamp_numeric ON kogito_data_cache "
+                        + "(cache_name, ((json_value->>'executionTimestamp')::numeric));");
+        assertThat(PostgresCacheIndexManager.createIndexStatement(CacheIndex.text("it's")))
+                .isEqualTo("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cache_it_s ON kogito_data_cache (cache_name, ((json_value->>'it''s')));");
+    }
+}
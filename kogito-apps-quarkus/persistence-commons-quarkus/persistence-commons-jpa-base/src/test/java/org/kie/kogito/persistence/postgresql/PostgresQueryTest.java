@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.persistence.api.query.SortDirection;
+import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.between;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.equalTo;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.greaterThan;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.in;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.like;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgresQueryTest {
+
+    private static final String CACHE_NAME = "cache";
+
+    private EntityManager entityManager;
+    private Query query;
+    private CacheEntityRepository repository;
+
+    @BeforeEach
+    void setup() {
+        entityManager = mock(EntityManager.class);
+        query = mock(Query.class);
+        NativeQuery<?> nativeQuery = mock(NativeQuery.class);
+        repository = mock(CacheEntityRepository.class);
+        when(repository.getEntityManager()).thenReturn(entityManager);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+        when(query.getResultList()).thenReturn(List.of());
+        when(query.getSingleResult()).thenReturn(0L);
+    }
+
+    private PostgresQuery<Object> postgresQuery(CacheIndex... indexes) {
+        return new PostgresQuery<>(CACHE_NAME, repository, new ObjectMapper().readerFor(Object.class), List.of(indexes));
+    }
+
+    @Test
+    void testTextValuesAreBound() {
+        postgresQuery().filter(List.of(equalTo("name", "o'neil"), like("city", "New*"))).execute();
+
+        verify(entityManager).createNativeQuery("SELECT * FROM kogito_data_cache WHERE cache_name = ?1 AND (json_value->>'name') = ?2 AND (json_value->>'city') LIKE ?3");
+        verify(query).setParameter(1, CACHE_NAME);
+        verify(query).setParameter(2, "o'neil");
+        verify(query).setParameter(3, "New%");
+    }
+
+    @Test
+    void testNumericValuesAreBoundAsNumeric() {
+        postgresQuery().filter(List.of(greaterThan("age", 18), between("height", 150, 200))).count();
+
+        verify(entityManager).createNativeQuery("SELECT COUNT(*) FROM kogito_data_cache WHERE cache_name = ?1 AND ((json_value->>'age'))\\:\\:numeric > cast(?2 as numeric)"
+                + " AND ((json_value->>'height'))\\:\\:numeric BETWEEN cast(?3 as numeric) AND cast(?4 as numeric)");
+        verify(query).setParameter(1, CACHE_NAME);
+        verify(query).setParameter(2, 18);
+        verify(query).setParameter(3, 150);
+        verify(query).setParameter(4, 200);
+    }
+
+    @Test
+    void testIndexedNumericAttribute() {
+        postgresQuery(CacheIndex.numeric("timestamp")).filter(List.of(in("timestamp", List.of("1", "2"))))
+                .sort(List.of(orderBy("timestamp", SortDirection.DESC))).execute();
+
+        verify(entityManager).createNativeQuery("SELECT * FROM kogito_data_cache WHERE cache_name = ?1"
+                + " AND ((json_value->>'timestamp'))\\:\\:numeric IN (cast(?2 as numeric), cast(?3 as numeric))"
+                + " ORDER BY ((json_value->>'timestamp'))\\:\\:numeric DESC");
+        verify(query).setParameter(2, "1");
+        verify(query).setParameter(3, "2");
+    }
+
+    @Test
+    void testStatementDoesNotDependOnValues() {
+        postgresQuery().filter(List.of(equalTo("name", "first"))).execute();
+        postgresQuery().filter(List.of(equalTo("name", "second"))).execute();
+
+        verify(entityManager, times(2)).createNativeQuery("SELECT * FROM kogito_data_cache WHERE cache_name = ?1 AND (json_value->>'name') = ?2");
+        verify(query).setParameter(2, "first");
+        verify(query).setParameter(2, "second");
+    }
+
+    @Test
+    void testProjectionIsNotBound() {
+        postgresQuery().projection(Set.of("name")).limit(10).execute();
+
+        verify(entityManager).createNativeQuery("SELECT jsonb_build_object('name', json_value->'name') AS json_value FROM kogito_data_cache WHERE cache_name = ?1");
+        verify(query).setParameter(1, CACHE_NAME);
+        verify(query, never()).setParameter(eq(2), any());
+        verify(query).setMaxResults(10);
+        verify(query, never()).setFirstResult(anyInt());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.mongodb.client;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+
+import io.quarkus.mongodb.reactive.ReactiveMongoClient;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class ReactiveMongoClientProducer {
+
+    @Inject
+    ReactiveMongoClient reactiveMongoClient;
+
+    /**
+     * Exposes the reactive streams driver client managed by Quarkus, used by the reactive storages.
+     */
+    @Produces
+    MongoClient reactiveStreamsMongoClient() {
+        return reactiveMongoClient.unwrap();
+    }
+}
@@ -18,6 +18,9 @@
  */
 package org.kie.kogito.persistence.mongodb.storage;
 
+import java.util.List;
+import java.util.Map;
+
 import org.bson.Document;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -88,6 +91,20 @@ class MongoStorageIT {
         assertEquals(testValue, document.get(TEST_ATTRIBUTE));
     }
 
+    @Test
+    void testPutAllAndRemoveAll() {
+        storage.putAll(Map.of("testPutAll1", "testValue1", "testPutAll2", "testValue2"));
+        assertEquals(2, collection.countDocuments());
+        assertEquals("testValue1", storage.get("testPutAll1"));
+
+        storage.putAll(Map.of("testPutAll1", "newValue"));
+        assertEquals(2, collection.countDocuments());
+        assertEquals("newValue", storage.get("testPutAll1"));
+
+        storage.removeAll(List.of("testPutAll1", "testPutAll2"));
+        assertEquals(0, collection.countDocuments());
+    }
+
     @Test
     void testClear() {
         String testId = "testClear";
@@ -52,6 +52,7 @@ class MongoStorageManagerIT {
 
         assertTrue(storage instanceof MongoStorage);
         assertEquals(storageName, ((MongoStorage) storage).mongoCollection.getNamespace().getCollectionName());
+        assertTrue(storage.reactive().isPresent());
     }
 
     @Test
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.kie.kogito.persistence.api.query.AttributeFilter;
+import org.kie.kogito.persistence.api.query.AttributeSort;
+import org.kie.kogito.persistence.api.query.QueryTimeoutException;
+import org.kie.kogito.persistence.api.query.ReactiveQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+/**
+ * Query on the <code>kogito_data_cache</code> table through the Vert.x reactive PostgreSQL client, it builds the same
+ * statements as {@link PostgresQuery} with the <code>$n</code> parameter markers of the client.
+ */
+public class ReactivePostgresQuery<T> extends AbstractPostgresQuery implements ReactiveQuery<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactivePostgresQuery.class);
+
+    private final PgPool client;
+    private final ObjectReader reader;
+
+    /**
+     * @param reader reader bound to the type of the query results, reused by all the queries of the storage
+     * @param indexes indexes of the cache, their attributes are filtered and sorted with the indexed expression
+     */
+    public ReactivePostgresQuery(String name, PgPool client, ObjectReader reader, Collection<CacheIndex> indexes) {
+        super(name, indexes);
+        this.client = client;
+        this.reader = reader;
+    }
+
+    @Override
+    public ReactiveQuery<T> limit(Integer limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<T> offset(Integer offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<T> filter(List<AttributeFilter<?>> filters) {
+        this.filters = filters;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<T> sort(List<AttributeSort> sortBy) {
+        this.sortBy = sortBy;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<T> projection(Set<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<T> after(List<?> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<T> timeout(Integer timeoutMillis) {
+        this.timeout = timeoutMillis;
+        return this;
+    }
+
+    @Override
+    public Uni<List<T>> execute() {
+        return stream().collect().asList();
+    }
+
+    @Override
+    public Multi<T> stream() {
+        StringBuilder queryString = new StringBuilder(selectStatement());
+        if (limit != null) {
+            queryString.append(" LIMIT ").append(bind(limit));
+        }
+        if (offset != null) {
+            queryString.append(" OFFSET ").append(bind(offset));
+        }
+        LOGGER.debug("Executing PostgreSQL reactive query: {}", queryString);
+        return withTimeout(client.preparedQuery(queryString.toString()).execute(Tuple.from(parameters())))
+                .onItem().transformToMulti(rows -> Multi.createFrom().iterable(rows))
+                .onItem().transform(row -> readValue(row.getJsonObject("json_value")));
+    }
+
+    @Override
+    public Uni<Long> count() {
+        String queryString = countStatement();
+        LOGGER.debug("Executing PostgreSQL reactive count: {}", queryString);
+        return withTimeout(client.preparedQuery(queryString).execute(Tuple.from(parameters())))
+                .onItem().transform(rows -> rows.iterator().next().getLong(0));
+    }
+
+    @Override
+    protected String parameterMarker(int position) {
+        return "$" + position;
+    }
+
+    @Override
+    protected String numericCast() {
+        return "::numeric";
+    }
+
+    // the client has no statement timeout, the wait for the result is bounded instead
+    private <R> Uni<R> withTimeout(Uni<R> execution) {
+        if (timeout == null) {
+            return execution;
+        }
+        return execution.ifNoItem().after(Duration.ofMillis(timeout)).fail()
+                .onFailure(TimeoutException.class)
+                .transform(e -> new QueryTimeoutException("Query on " + name + " exceeded the timeout of " + timeout + " ms", e));
+    }
+
+    private T readValue(JsonObject json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return reader.readValue(json.toBuffer().getBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import org.kie.kogito.persistence.api.ReactiveStorageFetcher;
+import org.kie.kogito.persistence.api.query.ReactiveQuery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+import static java.lang.String.format;
+
+/**
+ * Non blocking reads of a cache in the <code>kogito_data_cache</code> table, the writes stay with the transactional
+ * {@link PostgresStorage}.
+ */
+public class ReactivePostgresStorageFetcher<V> implements ReactiveStorageFetcher<String, V> {
+
+    private static final String FIND_BY_KEY = "SELECT json_value FROM kogito_data_cache WHERE cache_name = $1 AND var_name = $2";
+
+    private final String cacheName;
+    private final PgPool client;
+    private final Class<V> type;
+    private final ObjectReader reader;
+    private final Collection<CacheIndex> indexes;
+
+    public ReactivePostgresStorageFetcher(String cacheName, PgPool client, ObjectMapper mapper, Class<V> type, Collection<CacheIndex> indexes) {
+        this.cacheName = cacheName;
+        this.client = client;
+        this.type = type;
+        this.reader = mapper.readerFor(type);
+        this.indexes = indexes;
+    }
+
+    @Override
+    public ReactiveQuery<V> query() {
+        return new ReactivePostgresQuery<>(cacheName, client, reader, indexes);
+    }
+
+    @Override
+    public Uni<V> get(String key) {
+        return client.preparedQuery(FIND_BY_KEY).execute(Tuple.of(cacheName, key))
+                .onItem().transform(rows -> {
+                    RowIterator<Row> iterator = rows.iterator();
+                    return iterator.hasNext() ? readValue(iterator.next().getJsonObject("json_value")) : null;
+                });
+    }
+
+    // mirrors PostgresStorage, the strings are wrapped in a document with a single value attribute
+    private V readValue(JsonObject json) {
+        try {
+            if (String.class.equals(type)) {
+                return type.cast(json.getString("value"));
+            }
+            return reader.readValue(json.toBuffer().getBytes());
+        } catch (IOException ex) {
+            throw new RuntimeException(format("Failed to convert JSON into type %s", type.getCanonicalName()), ex);
+        }
+    }
+}
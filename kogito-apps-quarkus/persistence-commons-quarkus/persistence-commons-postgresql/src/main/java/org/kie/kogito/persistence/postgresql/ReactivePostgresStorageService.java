@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.persistence.api.ReactiveStorageFetcher;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.vertx.mutiny.pgclient.PgPool;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import static org.kie.kogito.persistence.api.factory.Constants.PERSISTENCE_TYPE_PROPERTY;
+import static org.kie.kogito.persistence.postgresql.Constants.POSTGRESQL_STORAGE;
+
+/**
+ * Adds the reads through the Vert.x reactive client to the caches of {@link PostgresStorageService}, when the reactive
+ * datasource is configured.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = PERSISTENCE_TYPE_PROPERTY, stringValue = POSTGRESQL_STORAGE)
+public class ReactivePostgresStorageService extends PostgresStorageService {
+
+    @ConfigProperty(name = "quarkus.datasource.reactive.url")
+    Optional<String> reactiveUrl;
+
+    @Inject
+    Instance<PgPool> client;
+
+    @Override
+    protected <T> ReactiveStorageFetcher<String, T> getReactiveCache(String name, Class<T> type) {
+        // the pool of an unconfigured reactive datasource is inactive, the caches then stay blocking only
+        if (reactiveUrl.isEmpty() || !client.isResolvable()) {
+            return null;
+        }
+        return new ReactivePostgresStorageFetcher<>(name, client.get(), mapper, type, Set.of());
+    }
+}
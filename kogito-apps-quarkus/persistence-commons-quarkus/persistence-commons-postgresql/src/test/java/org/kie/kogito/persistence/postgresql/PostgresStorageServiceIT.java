@@ -19,6 +19,7 @@
 package org.kie.kogito.persistence.postgresql;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,7 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.kie.kogito.persistence.postgresql.ProcessInstanceModel.newModel;
 
 @QuarkusTest
@@ -160,6 +162,26 @@ class PostgresStorageServiceIT {
         assertThat(entity).isNull();
     }
 
+    @Test
+    @Transactional
+    void testPutAllAndRemoveAll() {
+        Storage<String, String> cache = storageService.getCache("test");
+        cache.put("key1", "value1");
+        cache.put("other", "otherValue");
+        CacheEntity other = repository.findById(new CacheId("test", "other"));
+
+        cache.putAll(Map.of("key1", "newValue1", "key2", "value2"));
+
+        assertThat(cache.entries()).containsOnly(entry("key1", "newValue1"), entry("key2", "value2"), entry("other", "otherValue"));
+        assertThat(repository.getEntityManager().contains(other)).isTrue();
+
+        cache.removeAll(List.of("key1", "key2", "key3"));
+
+        assertThat(cache.entries()).containsOnly(entry("other", "otherValue"));
+        assertThat(repository.getEntityManager().contains(other)).isTrue();
+        assertThat(repository.findById(new CacheId("test", "key1"))).isNull();
+    }
+
     @Test
     @Transactional
     void testCacheByNameAndType() {
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.persistence.api.query.SortDirection;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.between;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.equalTo;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.greaterThan;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.like;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactivePostgresQueryTest {
+
+    private static final String CACHE_NAME = "cache";
+
+    private PgPool client;
+    private PreparedQuery<RowSet<Row>> preparedQuery;
+    private RowSet<Row> rows;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        client = mock(PgPool.class);
+        preparedQuery = mock(PreparedQuery.class);
+        rows = mock(RowSet.class);
+        when(client.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rows));
+        when(rows.iterator()).thenReturn(mock(RowIterator.class));
+    }
+
+    private ReactivePostgresQuery<Object> reactiveQuery(CacheIndex... indexes) {
+        return new ReactivePostgresQuery<>(CACHE_NAME, client, new ObjectMapper().readerFor(Object.class), List.of(indexes));
+    }
+
+    private Tuple executedTuple() {
+        ArgumentCaptor<Tuple> tuple = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery).execute(tuple.capture());
+        return tuple.getValue();
+    }
+
+    @Test
+    void testTextValuesAreBound() {
+        reactiveQuery().filter(List.of(equalTo("name", "o'neil"), like("city", "New*"))).execute().await().indefinitely();
+
+        verify(client).preparedQuery("SELECT * FROM kogito_data_cache WHERE cache_name = $1 AND (json_value->>'name') = $2 AND (json_value->>'city') LIKE $3");
+        Tuple tuple = executedTuple();
+        assertThat(tuple.size()).isEqualTo(3);
+        assertThat(tuple.getValue(0)).isEqualTo(CACHE_NAME);
+        assertThat(tuple.getValue(1)).isEqualTo("o'neil");
+        assertThat(tuple.getValue(2)).isEqualTo("New%");
+    }
+
+    @Test
+    void testNumericValuesAreCastWithoutEscaping() {
+        reactiveQuery(CacheIndex.numeric("timestamp")).filter(List.of(greaterThan("age", 18), between("height", 150, 200)))
+                .sort(List.of(orderBy("timestamp", SortDirection.DESC))).execute().await().indefinitely();
+
+        verify(client).preparedQuery("SELECT * FROM kogito_data_cache WHERE cache_name = $1 AND ((json_value->>'age'))::numeric > cast($2 as numeric)"
+                + " AND ((json_value->>'height'))::numeric BETWEEN cast($3 as numeric) AND cast($4 as numeric)"
+                + " ORDER BY ((json_value->>'timestamp'))::numeric DESC");
+        Tuple tuple = executedTuple();
+        assertThat(tuple.getValue(1)).isEqualTo(18);
+        assertThat(tuple.getValue(2)).isEqualTo(150);
+        assertThat(tuple.getValue(3)).isEqualTo(200);
+    }
+
+    @Test
+    void testLimitAndOffsetAreBound() {
+        reactiveQuery().filter(List.of(equalTo("name", "first"))).limit(10).offset(20).execute().await().indefinitely();
+
+        verify(client).preparedQuery("SELECT * FROM kogito_data_cache WHERE cache_name = $1 AND (json_value->>'name') = $2 LIMIT $3 OFFSET $4");
+        Tuple tuple = executedTuple();
+        assertThat(tuple.getValue(2)).isEqualTo(10);
+        assertThat(tuple.getValue(3)).isEqualTo(20);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCount() {
+        Row row = mock(Row.class);
+        when(row.getLong(0)).thenReturn(5L);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        when(iterator.next()).thenReturn(row);
+        when(rows.iterator()).thenReturn(iterator);
+
+        assertThat(reactiveQuery().filter(List.of(equalTo("name", "first"))).count().await().indefinitely()).isEqualTo(5L);
+
+        verify(client).preparedQuery("SELECT COUNT(*) FROM kogito_data_cache WHERE cache_name = $1 AND (json_value->>'name') = $2");
+    }
+}
@@ -106,6 +106,15 @@ public class RedisQuery<V> implements Query<V> {
         }).collect(Collectors.toList());
     }
 
+    @Override
+    public long count() {
+        io.redisearch.Query query = new io.redisearch.Query(RedisQueryFactory.buildQueryBody(indexName, filters));
+        // only the number of matching documents is returned
+        query.limit(0, 0);
+        RedisQueryFactory.addFilters(query, filters);
+        return redisClient.search(query).totalResults;
+    }
+
     private void setQueryLimitAndOffset(io.redisearch.Query query) {
         if (limit != null && offset == null) {
             LOGGER.warn("Limit was specified in Redis query but not the offset. Limit is ignored.");
@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.persistence.redis;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 
 import io.redisearch.Client;
 import io.redisearch.Document;
+import io.redisearch.client.AddOptions;
 import io.smallrye.mutiny.Multi;
 
 import static org.kie.kogito.persistence.redis.Constants.INDEX_NAME_FIELD;
@@ -86,6 +88,21 @@ public class RedisStorage<V> implements Storage<String, V> {
 
     @Override
     public V put(String key, V value) {
+        redisClient.addDocument(key, toDocument(value));
+        return value;
+    }
+
+    @Override
+    public void putAll(Map<String, V> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        // the documents are added through a single pipeline
+        Document[] documents = elements.entrySet().stream().map(e -> new Document(e.getKey(), toDocument(e.getValue()))).toArray(Document[]::new);
+        redisClient.addDocuments(new AddOptions(), documents);
+    }
+
+    private Map<String, Object> toDocument(V value) {
         Map<String, Object> document = new HashMap<>();
         List<String> indexedFields = redisIndexManager.getSchema(indexName);
         if (!indexedFields.isEmpty()) { // Add into the payload only the indexed fields, if there are any
@@ -106,8 +123,7 @@ public class RedisStorage<V> implements Storage<String, V> {
             LOGGER.warn("Could not serialize the object.", e);
             throw new RuntimeException(e);
         }
-        redisClient.addDocument(key, document);
-        return value;
+        return document;
     }
 
     @Override
@@ -117,6 +133,13 @@ public class RedisStorage<V> implements Storage<String, V> {
         return value;
     }
 
+    @Override
+    public void removeAll(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            redisClient.deleteDocuments(true, keys.toArray(String[]::new));
+        }
+    }
+
     @Override
     public boolean containsKey(String key) {
         return redisClient.getDocument(key) != null;
@@ -153,7 +153,13 @@ public class RedisClientMock implements io.redisearch.Client {
 
     @Override
     public boolean[] addDocuments(AddOptions addOptions, Document... documents) {
-        throw new UnsupportedOperationException("Mock does not support this operation.");
+        boolean[] added = new boolean[documents.length];
+        for (int i = 0; i < documents.length; i++) {
+            Map<String, Object> fields = new HashMap<>();
+            documents[i].getProperties().forEach(e -> fields.put(e.getKey(), e.getValue()));
+            added[i] = addDocument(documents[i].getId(), fields);
+        }
+        return added;
     }
 
     @Override
@@ -193,7 +199,11 @@ public class RedisClientMock implements io.redisearch.Client {
 
     @Override
     public boolean[] deleteDocuments(boolean b, String... strings) {
-        throw new UnsupportedOperationException("Mock does not support this operation.");
+        boolean[] deleted = new boolean[strings.length];
+        for (int i = 0; i < strings.length; i++) {
+            deleted[i] = storage.remove(strings[i]) != null;
+        }
+        return deleted;
     }
 
     @Override
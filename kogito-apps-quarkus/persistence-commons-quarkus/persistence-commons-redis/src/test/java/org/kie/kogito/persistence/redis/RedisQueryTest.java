@@ -82,4 +82,15 @@ public class RedisQueryTest {
         Assertions.assertEquals("pippo", result.get(0).getName());
         Assertions.assertEquals(20, result.get(0).getAge());
     }
+
+    @Test
+    public void countTest() {
+        Client client = Mockito.mock(Client.class);
+        when(client.search(any(Query.class))).thenReturn(new SearchResult(singletonList(7L), false, false, false));
+
+        RedisQuery<Person> redisQuery = new RedisQuery<>(client, TEST_INDEX_NAME, Person.class);
+        redisQuery.filter(singletonList(QueryFilterFactory.equalTo(NAME_PROPERTY, "pippo")));
+
+        Assertions.assertEquals(7L, redisQuery.count());
+    }
 }
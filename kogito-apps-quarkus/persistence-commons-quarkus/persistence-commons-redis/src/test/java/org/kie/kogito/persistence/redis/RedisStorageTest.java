@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.persistence.redis;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
@@ -135,6 +136,19 @@ public class RedisStorageTest {
         Assertions.assertNull(redisStorage.get(key));
     }
 
+    @Test
+    public void putAllAndRemoveAllOperationsTest() {
+        redisStorage.putAll(Map.of("key1", new Person("pippo", 22), "key2", new Person("pluto", 33)));
+
+        Assertions.assertEquals(2, redisClientMock.getStorage().size());
+        Assertions.assertEquals("pippo", redisStorage.get("key1").getName());
+        Assertions.assertEquals(33, redisStorage.get("key2").getAge());
+
+        redisStorage.removeAll(List.of("key1", "key2", "a_key_that_does_not_exist"));
+
+        Assertions.assertTrue(redisClientMock.getStorage().isEmpty());
+    }
+
     @Test
     public void nullIndexedValuesTest() {
         String key = "myKey";
@@ -82,6 +82,24 @@ public class SpringbootJobsService implements JobsService {
     @Value("${kogito.jobs-service.schedulerChunkInMinutes:10}")
     protected Long maxRefreshJobsIntervalWindow;
 
+    // the jobs are loaded every chunk by default
+    @Value("${kogito.jobs-service.refreshJobsIntervalMillis:#{null}}")
+    protected Long refreshJobsInterval;
+
+    // between the full reloads only the jobs changed since the previous refresh are loaded
+    @Value("${kogito.jobs-service.fullRefreshJobsIntervalMillis:3600000}")
+    protected Long fullRefreshJobsInterval;
+
+    // the changes committed late are loaded by the incremental refreshes as long as the transaction took less than this
+    @Value("${kogito.jobs-service.maxTransactionTimeMillis:300000}")
+    protected Long maxTransactionTime;
+
+    @Value("${kogito.jobs-service.claimBatchSize:0}")
+    protected Integer claimBatchSize;
+
+    @Value("${kogito.jobs-service.claimTimeoutMillis:600000}")
+    protected Long claimTimeoutMillis;
+
     @Value("${kogito.service.url:http://localhost:8080}")
     protected String serviceURL;
 
@@ -112,13 +130,17 @@ public class SpringbootJobsService implements JobsService {
                 .withMaxRefreshJobsIntervalWindow(maxRefreshJobsIntervalWindow * 60 * 1000L)
                 .withRetryInterval(retryMillis)
                 .withMaxNumberOfRetries(maxNumberOfRetries)
-                .withRefreshJobsInterval(maxRefreshJobsIntervalWindow * 60 * 1000L)
+                .withRefreshJobsInterval(refreshJobsInterval != null ? refreshJobsInterval : maxRefreshJobsIntervalWindow * 60 * 1000L)
+                .withFullRefreshJobsInterval(fullRefreshJobsInterval)
+                .withMaxTransactionTime(maxTransactionTime)
                 .withTimeoutInterceptor(
                         new ErrorHandlingJobTimeoutInterceptor(ofNullable(exceptionHandlers).stream().toList()),
                         new TransactionJobTimeoutInterceptor(transactionManager))
                 .withExceptionDetailsExtractor(exceptionDetailsExtractor)
                 .withTransactionRollbackMarker(transactionRollbackMarker)
                 .withNumberOfWorkerThreads(numberOfWorkerThreads)
+                .withClaimBatchSize(claimBatchSize)
+                .withClaimTimeout(claimTimeoutMillis)
                 .withJobSynchronization(new JobSynchronization() {
 
                     @Override
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.api;
+
+import java.util.Collection;
+import java.util.Map;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Non blocking counterpart of the write operations of {@link Storage}, returned by {@link StorageFetcher#reactive()}
+ * of the storages backed by an asynchronous driver.
+ */
+public interface ReactiveStorage<K, V> extends ReactiveStorageFetcher<K, V> {
+
+    /**
+     * Puts an element with a key. If an element with the same key is already present in the storage, then it is replaced.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return The value.
+     */
+    Uni<V> put(K key, V value);
+
+    /**
+     * Removes an element by key. If the element is not present in the storage, then the `Uni` emits `null`.
+     *
+     * @param key The key.
+     * @return The removed object.
+     */
+    Uni<V> remove(K key);
+
+    /**
+     * Puts several elements by key in a single round-trip, replacing the elements already present with the same keys.
+     *
+     * @param elements The elements by key.
+     */
+    Uni<Void> putAll(Map<K, V> elements);
+
+    /**
+     * Removes several elements by key in a single round-trip. The keys not present in the storage are ignored.
+     *
+     * @param keys The keys.
+     */
+    Uni<Void> removeAll(Collection<K> keys);
+
+    /**
+     * Checks whether the storage contains a key.
+     *
+     * @param key The key.
+     * @return `true` if the key is present in the storage, `false` otherwise.
+     */
+    Uni<Boolean> containsKey(K key);
+}
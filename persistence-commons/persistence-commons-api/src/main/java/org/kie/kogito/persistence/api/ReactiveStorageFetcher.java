@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.api;
+
+import org.kie.kogito.persistence.api.query.ReactiveQuery;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Non blocking counterpart of the read operations of {@link StorageFetcher}, available through
+ * {@link StorageFetcher#reactive()} when the underlying datastore has an asynchronous driver.
+ */
+public interface ReactiveStorageFetcher<K, V> {
+
+    /**
+     * Gets the `ReactiveQuery` object to query the storage.
+     *
+     * @return The `ReactiveQuery` instance.
+     */
+    ReactiveQuery<V> query();
+
+    /**
+     * Gets an element by key. If the element is not present in the storage, then the `Uni` emits `null`.
+     *
+     * @param key The key.
+     * @return The element.
+     */
+    Uni<V> get(K key);
+}
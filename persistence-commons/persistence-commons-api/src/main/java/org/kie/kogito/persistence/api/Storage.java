@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.persistence.api;
 
+import java.util.Collection;
 import java.util.Map;
 
 public interface Storage<K, V> extends StorageFetcher<K, V> {
@@ -38,6 +39,25 @@ public interface Storage<K, V> extends StorageFetcher<K, V> {
      */
     V remove(K key);
 
+    /**
+     * Puts several elements by key, replacing the elements already present with the same keys. Storages should
+     * override it to write all the elements in a single round-trip.
+     *
+     * @param elements The elements by key.
+     */
+    default void putAll(Map<K, V> elements) {
+        elements.forEach(this::put);
+    }
+
+    /**
+     * Removes several elements by key. The keys not present in the storage are ignored.
+     *
+     * @param keys The keys.
+     */
+    default void removeAll(Collection<K> keys) {
+        keys.forEach(this::remove);
+    }
+
     /**
      * Checks whether the storage contains a key.
      *
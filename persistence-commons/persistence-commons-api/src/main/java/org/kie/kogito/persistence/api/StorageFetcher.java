@@ -19,6 +19,7 @@
 package org.kie.kogito.persistence.api;
 
 import java.util.EnumSet;
+import java.util.Optional;
 import java.util.Set;
 
 import org.kie.kogito.persistence.api.query.Query;
@@ -48,10 +49,29 @@ public interface StorageFetcher<K, V> {
      */
     Query<V> query();
 
+    /**
+     * Gets the non blocking variant of the storage, when the underlying datastore has an asynchronous driver.
+     *
+     * @return The `ReactiveStorageFetcher` instance, or empty if the storage is only accessible through blocking calls.
+     */
+    default Optional<? extends ReactiveStorageFetcher<K, V>> reactive() {
+        return Optional.empty();
+    }
+
     default Set<StorageServiceCapability> capabilities() {
         return EnumSet.noneOf(StorageServiceCapability.class);
     }
 
+    /**
+     * Gets the attributes of the stored elements that are indexed by the storage, when it has the
+     * {@link StorageServiceCapability#INDEXED_ATTRIBUTES} capability.
+     *
+     * @return The indexed attributes.
+     */
+    default Set<String> indexedAttributes() {
+        return Set.of();
+    }
+
     /**
      * Gets an element by key. If the element is not present in the storage, then `null` is returned.
      *
@@ -20,5 +20,9 @@ package org.kie.kogito.persistence.api;
 
 public enum StorageServiceCapability {
     COUNT,
-    JSON_QUERY
+    JSON_QUERY,
+    /**
+     * Filters and sorting on the attributes returned by {@link StorageFetcher#indexedAttributes()} are backed by an index.
+     */
+    INDEXED_ATTRIBUTES
 }
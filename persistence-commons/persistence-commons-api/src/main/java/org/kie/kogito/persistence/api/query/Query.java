@@ -19,17 +19,49 @@
 package org.kie.kogito.persistence.api.query;
 
 import java.util.List;
+import java.util.Set;
 
-public interface Query<T> {
+public interface Query<T> extends QueryBuilder<Query<T>> {
 
+    @Override
     Query<T> limit(Integer limit);
 
+    @Override
     Query<T> offset(Integer offset);
 
+    @Override
     Query<T> filter(List<AttributeFilter<?>> filters);
 
+    @Override
     Query<T> sort(List<AttributeSort> sortBy);
 
+    /**
+     * Hints the top level attributes that will be read from the results, so the underlying datastore can skip fetching
+     * the rest, which might be left unset. Implementations not supporting it return the complete objects.
+     */
+    @Override
+    default Query<T> projection(Set<String> attributes) {
+        return this;
+    }
+
+    /**
+     * Starts the results after the row with the given values of the sort attributes, in the same order, instead of
+     * skipping an offset of rows. The sort must identify every row, typically ending with the id.
+     */
+    @Override
+    default Query<T> after(List<?> sortValues) {
+        throw new UnsupportedOperationException("Keyset pagination is an optional operation not supported by the underlying datastore");
+    }
+
+    /**
+     * Hints the maximum time the underlying datastore spends executing the query, after which the query is aborted with a
+     * {@link QueryTimeoutException}. Implementations not supporting it ignore the hint.
+     */
+    @Override
+    default Query<T> timeout(Integer timeoutMillis) {
+        return this;
+    }
+
     List<T> execute();
 
     default long count() {
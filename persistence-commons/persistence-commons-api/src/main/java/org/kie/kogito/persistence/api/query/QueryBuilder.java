@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.api.query;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Arguments shared by the blocking {@link Query} and the non blocking {@link ReactiveQuery}, so they can be
+ * configured by the same code regardless of how the query is executed.
+ *
+ * @param <Q> the query type returned by every method to chain the calls.
+ */
+public interface QueryBuilder<Q extends QueryBuilder<Q>> {
+
+    Q limit(Integer limit);
+
+    Q offset(Integer offset);
+
+    Q filter(List<AttributeFilter<?>> filters);
+
+    Q sort(List<AttributeSort> sortBy);
+
+    Q projection(Set<String> attributes);
+
+    Q after(List<?> sortValues);
+
+    Q timeout(Integer timeoutMillis);
+}
@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.persistence.api.query;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -93,4 +94,42 @@ public final class QueryFilterFactory {
     public static <T> AttributeFilter<AttributeFilter<T>> not(AttributeFilter<T> filter) {
         return new AttributeFilter<>(null, FilterCondition.NOT, filter);
     }
+
+    /**
+     * Creates the filter selecting the rows placed after the one with the given values of the sort attributes, which is
+     * the keyset (seek) form of an offset: the first attribute is beyond its value, or it is equal and the second one is
+     * beyond its value, and so on.
+     *
+     * @param sortBy the sort of the query, which must identify every row for the pages not to skip or repeat rows
+     * @param values the values of the sort attributes in the last row of the previous page, in the same order
+     * @param nullsHighest whether the datastore sorts the null values after the rest in ascending order
+     */
+    public static AttributeFilter<List<AttributeFilter>> after(List<AttributeSort> sortBy, List<?> values, boolean nullsHighest) {
+        if (sortBy.size() != values.size()) {
+            throw new IllegalArgumentException("Expected " + sortBy.size() + " values for the sort attributes but got " + values.size());
+        }
+        List<AttributeFilter<?>> alternatives = new ArrayList<>();
+        List<AttributeFilter<?>> previous = new ArrayList<>();
+        for (int i = 0; i < sortBy.size(); i++) {
+            String attribute = sortBy.get(i).getAttribute();
+            Object value = values.get(i);
+            boolean ascending = sortBy.get(i).getSort() != SortDirection.DESC;
+            AttributeFilter<?> beyond = beyond(attribute, value, ascending, ascending == nullsHighest);
+            if (beyond != null) {
+                List<AttributeFilter<?>> alternative = new ArrayList<>(previous);
+                alternative.add(beyond);
+                alternatives.add(alternative.size() == 1 ? beyond : and(alternative));
+            }
+            previous.add(value == null ? isNull(attribute) : equalTo(attribute, value));
+        }
+        return or(alternatives);
+    }
+
+    private static AttributeFilter<?> beyond(String attribute, Object value, boolean ascending, boolean nullsLast) {
+        if (value == null) {
+            return nullsLast ? null : notNull(attribute);
+        }
+        AttributeFilter<?> comparison = ascending ? greaterThan(attribute, value) : lessThan(attribute, value);
+        return nullsLast ? or(Arrays.asList(comparison, isNull(attribute))) : comparison;
+    }
 }
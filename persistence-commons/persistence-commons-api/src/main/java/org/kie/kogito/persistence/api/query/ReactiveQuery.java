@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.api.query;
+
+import java.util.List;
+import java.util.Set;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Non blocking counterpart of {@link Query}, executed on the asynchronous driver of the underlying datastore so the
+ * caller thread is not blocked while the query runs.
+ */
+public interface ReactiveQuery<T> extends QueryBuilder<ReactiveQuery<T>> {
+
+    @Override
+    ReactiveQuery<T> limit(Integer limit);
+
+    @Override
+    ReactiveQuery<T> offset(Integer offset);
+
+    @Override
+    ReactiveQuery<T> filter(List<AttributeFilter<?>> filters);
+
+    @Override
+    ReactiveQuery<T> sort(List<AttributeSort> sortBy);
+
+    /**
+     * @see Query#projection(Set)
+     */
+    @Override
+    default ReactiveQuery<T> projection(Set<String> attributes) {
+        return this;
+    }
+
+    /**
+     * @see Query#after(List)
+     */
+    @Override
+    default ReactiveQuery<T> after(List<?> sortValues) {
+        throw new UnsupportedOperationException("Keyset pagination is an optional operation not supported by the underlying datastore");
+    }
+
+    /**
+     * Hints the maximum time the underlying datastore spends executing the query, after which the returned {@link Uni}
+     * fails with a {@link QueryTimeoutException}. Implementations not supporting it ignore the hint.
+     */
+    @Override
+    default ReactiveQuery<T> timeout(Integer timeoutMillis) {
+        return this;
+    }
+
+    Uni<List<T>> execute();
+
+    /**
+     * Emits the results as they are read from the datastore, instead of collecting them into a list.
+     */
+    default Multi<T> stream() {
+        return execute().onItem().transformToMulti(results -> Multi.createFrom().iterable(results));
+    }
+
+    default Uni<Long> count() {
+        return Uni.createFrom().failure(new UnsupportedOperationException("Count is an optional operation not supported by the underlying datastore"));
+    }
+}
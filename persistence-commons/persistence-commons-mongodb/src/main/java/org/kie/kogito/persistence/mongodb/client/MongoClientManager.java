@@ -18,6 +18,8 @@
  */
 package org.kie.kogito.persistence.mongodb.client;
 
+import java.util.Optional;
+
 import org.bson.Document;
 import org.kie.kogito.persistence.mongodb.index.MongoConfig;
 
@@ -26,6 +28,7 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
 @ApplicationScoped
@@ -37,6 +40,9 @@ public class MongoClientManager {
     @Inject
     MongoClient mongoClient;
 
+    @Inject
+    Instance<com.mongodb.reactivestreams.client.MongoClient> reactiveMongoClient;
+
     @Inject
     MongoConfig mongoConfig;
 
@@ -48,6 +54,16 @@ public class MongoClientManager {
         return getMongoDatabase().getCollection(collection);
     }
 
+    /**
+     * Gets the collection on the reactive streams driver, when a client of that driver is available.
+     */
+    public <E> Optional<com.mongodb.reactivestreams.client.MongoCollection<E>> getReactiveCollection(String collection, Class<E> type) {
+        if (!reactiveMongoClient.isResolvable()) {
+            return Optional.empty();
+        }
+        return Optional.of(reactiveMongoClient.get().getDatabase(mongoConfig.database()).getCollection(collection, type));
+    }
+
     private MongoDatabase getMongoDatabase() {
         return mongoClient.getDatabase(mongoConfig.database());
     }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.mongodb.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.bson.conversions.Bson;
+import org.kie.kogito.persistence.api.query.AttributeFilter;
+import org.kie.kogito.persistence.api.query.AttributeSort;
+import org.kie.kogito.persistence.api.query.QueryFilterFactory;
+import org.kie.kogito.persistence.api.query.SortDirection;
+import org.kie.kogito.persistence.mongodb.model.MongoEntityMapper;
+
+import static com.mongodb.client.model.Projections.include;
+import static com.mongodb.client.model.Sorts.ascending;
+import static com.mongodb.client.model.Sorts.descending;
+import static com.mongodb.client.model.Sorts.orderBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Holds the query arguments shared by the blocking and the reactive queries, and converts them into the filter, sort
+ * and projection documents of the MongoDB find operation.
+ */
+abstract class AbstractMongoQuery<V, E> {
+
+    Integer limit;
+    Integer offset;
+    List<AttributeFilter<?>> filters;
+    List<AttributeSort> sortBy;
+    Set<String> projection;
+    List<?> after;
+    Integer timeout;
+
+    MongoEntityMapper<V, E> mongoEntityMapper;
+
+    AbstractMongoQuery(MongoEntityMapper<V, E> mongoEntityMapper) {
+        this.mongoEntityMapper = mongoEntityMapper;
+    }
+
+    Optional<Bson> generateQuery() {
+        return QueryUtils.generateQuery(this.generateFilters(), mongoEntityMapper::convertToMongoAttribute);
+    }
+
+    private List<AttributeFilter<?>> generateFilters() {
+        if (this.after == null) {
+            return this.filters;
+        }
+        List<AttributeFilter<?>> seekFilters = this.filters == null ? new ArrayList<>() : new ArrayList<>(this.filters);
+        // MongoDB sorts the null values as the lowest ones
+        seekFilters.add(QueryFilterFactory.after(this.sortBy == null ? List.of() : this.sortBy, this.after, false));
+        return seekFilters;
+    }
+
+    Optional<Bson> generateProjection() {
+        return Optional.ofNullable(this.projection).filter(p -> !p.isEmpty())
+                .map(p -> include(p.stream().map(mongoEntityMapper::convertToMongoAttribute).collect(toList())));
+    }
+
+    Optional<Bson> generateSort() {
+        return Optional.ofNullable(this.sortBy).map(sbList -> orderBy(sbList.stream().map(
+                sb -> SortDirection.ASC.equals(sb.getSort()) ? ascending(mongoEntityMapper.convertToMongoAttribute(sb.getAttribute()))
+                        : descending(mongoEntityMapper.convertToMongoAttribute(sb.getAttribute())))
+                .collect(toList())));
+    }
+}
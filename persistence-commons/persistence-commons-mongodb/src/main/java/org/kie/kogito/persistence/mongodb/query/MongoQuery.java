@@ -21,42 +21,33 @@ package org.kie.kogito.persistence.mongodb.query;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.bson.conversions.Bson;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
 import org.kie.kogito.persistence.api.query.AttributeSort;
 import org.kie.kogito.persistence.api.query.Query;
-import org.kie.kogito.persistence.api.query.SortDirection;
+import org.kie.kogito.persistence.api.query.QueryTimeoutException;
 import org.kie.kogito.persistence.mongodb.model.MongoEntityMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.mongodb.ExplainVerbosity;
+import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 
-import static com.mongodb.client.model.Sorts.ascending;
-import static com.mongodb.client.model.Sorts.descending;
-import static com.mongodb.client.model.Sorts.orderBy;
-import static java.util.stream.Collectors.toList;
-
-public class MongoQuery<V, E> implements Query<V> {
+public class MongoQuery<V, E> extends AbstractMongoQuery<V, E> implements Query<V> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MongoQuery.class);
 
-    Integer limit;
-    Integer offset;
-    List<AttributeFilter<?>> filters;
-    List<AttributeSort> sortBy;
-
-    MongoEntityMapper<V, E> mongoEntityMapper;
-
     MongoCollection<E> mongoCollection;
 
     public MongoQuery(MongoCollection<E> mongoCollection, MongoEntityMapper<V, E> mongoEntityMapper) {
+        super(mongoEntityMapper);
         this.mongoCollection = mongoCollection;
-        this.mongoEntityMapper = mongoEntityMapper;
     }
 
     @Override
@@ -83,16 +74,38 @@ public class MongoQuery<V, E> implements Query<V> {
         return this;
     }
 
+    @Override
+    public Query<V> projection(Set<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
+
+    @Override
+    public Query<V> after(List<?> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
+
+    @Override
+    public Query<V> timeout(Integer timeoutMillis) {
+        this.timeout = timeoutMillis;
+        return this;
+    }
+
     @Override
     public List<V> execute() {
         MongoCollection<E> collection = this.mongoCollection;
-        Optional<Bson> query = QueryUtils.generateQuery(this.filters, mongoEntityMapper::convertToMongoAttribute);
+        Optional<Bson> query = this.generateQuery();
         Optional<Bson> sort = this.generateSort();
 
         FindIterable<E> find = query.map(collection::find).orElseGet(collection::find);
         find = sort.map(find::sort).orElse(find);
         find = Optional.ofNullable(this.offset).map(find::skip).orElse(find);
         find = Optional.ofNullable(this.limit).map(find::limit).orElse(find);
+        find = this.generateProjection().map(find::projection).orElse(find);
+        if (this.timeout != null) {
+            find = find.maxTime(this.timeout, TimeUnit.MILLISECONDS);
+        }
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("-------------- Executing MongoDb query with { \"queryPlanner\": \"{}\"",
@@ -104,14 +117,9 @@ public class MongoQuery<V, E> implements Query<V> {
                 E e = cursor.next();
                 list.add(mongoEntityMapper.mapToModel(e));
             }
+        } catch (MongoExecutionTimeoutException e) {
+            throw new QueryTimeoutException("Query on " + collection.getNamespace().getCollectionName() + " exceeded the timeout of " + this.timeout + " ms", e);
         }
         return list;
     }
-
-    private Optional<Bson> generateSort() {
-        return Optional.ofNullable(this.sortBy).map(sbList -> orderBy(sbList.stream().map(
-                sb -> SortDirection.ASC.equals(sb.getSort()) ? ascending(mongoEntityMapper.convertToMongoAttribute(sb.getAttribute()))
-                        : descending(mongoEntityMapper.convertToMongoAttribute(sb.getAttribute())))
-                .collect(toList())));
-    }
 }
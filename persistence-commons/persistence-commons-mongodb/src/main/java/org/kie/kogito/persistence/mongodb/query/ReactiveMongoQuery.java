@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.mongodb.query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.conversions.Bson;
+import org.kie.kogito.persistence.api.query.AttributeFilter;
+import org.kie.kogito.persistence.api.query.AttributeSort;
+import org.kie.kogito.persistence.api.query.QueryTimeoutException;
+import org.kie.kogito.persistence.api.query.ReactiveQuery;
+import org.kie.kogito.persistence.mongodb.model.MongoEntityMapper;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+import static mutiny.zero.flow.adapters.AdaptersToFlow.publisher;
+
+public class ReactiveMongoQuery<V, E> extends AbstractMongoQuery<V, E> implements ReactiveQuery<V> {
+
+    MongoCollection<E> mongoCollection;
+
+    public ReactiveMongoQuery(MongoCollection<E> mongoCollection, MongoEntityMapper<V, E> mongoEntityMapper) {
+        super(mongoEntityMapper);
+        this.mongoCollection = mongoCollection;
+    }
+
+    @Override
+    public ReactiveQuery<V> limit(Integer limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<V> offset(Integer offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<V> filter(List<AttributeFilter<?>> filters) {
+        this.filters = filters;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<V> sort(List<AttributeSort> sortBy) {
+        this.sortBy = sortBy;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<V> projection(Set<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<V> after(List<?> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<V> timeout(Integer timeoutMillis) {
+        this.timeout = timeoutMillis;
+        return this;
+    }
+
+    @Override
+    public Uni<List<V>> execute() {
+        return stream().collect().asList();
+    }
+
+    @Override
+    public Multi<V> stream() {
+        MongoCollection<E> collection = this.mongoCollection;
+        Optional<Bson> query = this.generateQuery();
+        Optional<Bson> sort = this.generateSort();
+
+        FindPublisher<E> find = query.map(collection::find).orElseGet(collection::find);
+        find = sort.map(find::sort).orElse(find);
+        find = Optional.ofNullable(this.offset).map(find::skip).orElse(find);
+        find = Optional.ofNullable(this.limit).map(find::limit).orElse(find);
+        find = this.generateProjection().map(find::projection).orElse(find);
+        if (this.timeout != null) {
+            find = find.maxTime(this.timeout, TimeUnit.MILLISECONDS);
+        }
+
+        return Multi.createFrom().publisher(publisher(find))
+                .onItem().transform(mongoEntityMapper::mapToModel)
+                .onFailure(MongoExecutionTimeoutException.class)
+                .transform(e -> new QueryTimeoutException("Query on " + collection.getNamespace().getCollectionName() + " exceeded the timeout of " + this.timeout + " ms", e));
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.kie.kogito.persistence.mongodb.storage;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -28,13 +30,17 @@ import org.kie.kogito.persistence.mongodb.model.MongoEntityMapper;
 import org.kie.kogito.persistence.mongodb.query.MongoQuery;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
 
 import io.smallrye.mutiny.Multi;
 
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.in;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.kie.kogito.persistence.mongodb.model.ModelUtils.MONGO_ID;
 import static org.kie.kogito.persistence.mongodb.storage.StorageUtils.watchCollectionEntries;
 import static org.kie.kogito.persistence.mongodb.storage.StorageUtils.watchCollectionKeys;
@@ -49,10 +55,17 @@ public class MongoStorage<V, E> implements Storage<String, V> {
 
     String rootType;
 
+    ReactiveMongoStorage<V, E> reactiveStorage;
+
     public MongoStorage(MongoCollection<E> mongoCollection, String rootType, MongoEntityMapper<V, E> mapper) {
+        this(mongoCollection, rootType, mapper, null);
+    }
+
+    public MongoStorage(MongoCollection<E> mongoCollection, String rootType, MongoEntityMapper<V, E> mapper, ReactiveMongoStorage<V, E> reactiveStorage) {
         this.mongoCollection = mongoCollection;
         this.rootType = rootType;
         this.mapper = mapper;
+        this.reactiveStorage = reactiveStorage;
     }
 
     @Override
@@ -75,6 +88,11 @@ public class MongoStorage<V, E> implements Storage<String, V> {
         return new MongoQuery<>(this.mongoCollection, this.mapper);
     }
 
+    @Override
+    public Optional<ReactiveMongoStorage<V, E>> reactive() {
+        return Optional.ofNullable(this.reactiveStorage);
+    }
+
     @Override
     public boolean containsKey(String o) {
         return this.mongoCollection.find(new Document(MONGO_ID, o)).iterator().hasNext();
@@ -99,6 +117,25 @@ public class MongoStorage<V, E> implements Storage<String, V> {
         return v;
     }
 
+    @Override
+    public void putAll(Map<String, V> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        ReplaceOptions upsert = new ReplaceOptions().upsert(true);
+        List<ReplaceOneModel<E>> replacements = elements.entrySet().stream()
+                .map(e -> new ReplaceOneModel<>(new Document(MONGO_ID, e.getKey()), mapper.mapToEntity(e.getKey(), e.getValue()), upsert))
+                .collect(toList());
+        this.mongoCollection.bulkWrite(replacements, new BulkWriteOptions().ordered(false));
+    }
+
+    @Override
+    public void removeAll(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            this.mongoCollection.deleteMany(in(MONGO_ID, keys));
+        }
+    }
+
     @Override
     public void clear() {
         this.mongoCollection.deleteMany(new Document());
@@ -21,6 +21,7 @@ package org.kie.kogito.persistence.mongodb.storage;
 import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.StorageService;
 import org.kie.kogito.persistence.mongodb.client.MongoClientManager;
+import org.kie.kogito.persistence.mongodb.model.MongoEntityMapper;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -36,22 +37,24 @@ public class MongoStorageManager implements StorageService {
 
     @Override
     public Storage<String, String> getCache(String name) {
-        return new MongoStorage<>(
-                mongoClientManager.getCollection(name, mongoModelService.getEntityMapper(name).getEntityClass()),
-                String.class.getName(), mongoModelService.getEntityMapper(name));
+        return createStorage(name, String.class.getName());
     }
 
     @Override
     public <T> Storage<String, T> getCache(String name, Class<T> type) {
-        return new MongoStorage<>(
-                mongoClientManager.getCollection(name, mongoModelService.getEntityMapper(name).getEntityClass()),
-                type.getName(), mongoModelService.getEntityMapper(name));
+        return createStorage(name, type.getName());
     }
 
     @Override
     public <T> Storage<String, T> getCache(String name, Class<T> type, String rootType) {
+        return createStorage(name, rootType);
+    }
+
+    private <V, E> Storage<String, V> createStorage(String name, String rootType) {
+        MongoEntityMapper<V, E> mapper = mongoModelService.getEntityMapper(name);
         return new MongoStorage<>(
-                mongoClientManager.getCollection(name, mongoModelService.getEntityMapper(name).getEntityClass()),
-                rootType, mongoModelService.getEntityMapper(name));
+                mongoClientManager.getCollection(name, mapper.getEntityClass()),
+                rootType, mapper,
+                mongoClientManager.getReactiveCollection(name, mapper.getEntityClass()).map(c -> new ReactiveMongoStorage<>(c, mapper)).orElse(null));
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.persistence.mongodb.storage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.kie.kogito.persistence.api.ReactiveStorage;
+import org.kie.kogito.persistence.api.query.ReactiveQuery;
+import org.kie.kogito.persistence.mongodb.model.MongoEntityMapper;
+import org.kie.kogito.persistence.mongodb.query.ReactiveMongoQuery;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import io.smallrye.mutiny.Uni;
+
+import static com.mongodb.client.model.Filters.in;
+import static java.util.stream.Collectors.toList;
+import static mutiny.zero.flow.adapters.AdaptersToFlow.publisher;
+import static org.kie.kogito.persistence.mongodb.model.ModelUtils.MONGO_ID;
+
+public class ReactiveMongoStorage<V, E> implements ReactiveStorage<String, V> {
+
+    MongoEntityMapper<V, E> mapper;
+
+    MongoCollection<E> mongoCollection;
+
+    public ReactiveMongoStorage(MongoCollection<E> mongoCollection, MongoEntityMapper<V, E> mapper) {
+        this.mongoCollection = mongoCollection;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ReactiveQuery<V> query() {
+        return new ReactiveMongoQuery<>(this.mongoCollection, this.mapper);
+    }
+
+    @Override
+    public Uni<V> get(String key) {
+        return Uni.createFrom().publisher(publisher(this.mongoCollection.find(new Document(MONGO_ID, key)).first()))
+                .onItem().ifNotNull().transform(mapper::mapToModel);
+    }
+
+    @Override
+    public Uni<Boolean> containsKey(String key) {
+        return Uni.createFrom().publisher(publisher(this.mongoCollection.countDocuments(new Document(MONGO_ID, key))))
+                .onItem().transform(count -> count > 0);
+    }
+
+    @Override
+    public Uni<V> put(String key, V value) {
+        return Uni.createFrom().publisher(publisher(this.mongoCollection.findOneAndReplace(
+                new Document(MONGO_ID, key),
+                mapper.mapToEntity(key, value),
+                new FindOneAndReplaceOptions().upsert(true))))
+                .replaceWith(value);
+    }
+
+    @Override
+    public Uni<V> remove(String key) {
+        return Uni.createFrom().publisher(publisher(this.mongoCollection.findOneAndDelete(new Document(MONGO_ID, key))))
+                .onItem().ifNotNull().transform(mapper::mapToModel);
+    }
+
+    @Override
+    public Uni<Void> putAll(Map<String, V> elements) {
+        if (elements.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        ReplaceOptions upsert = new ReplaceOptions().upsert(true);
+        List<ReplaceOneModel<E>> replacements = elements.entrySet().stream()
+                .map(e -> new ReplaceOneModel<>(new Document(MONGO_ID, e.getKey()), mapper.mapToEntity(e.getKey(), e.getValue()), upsert))
+                .collect(toList());
+        return Uni.createFrom().publisher(publisher(this.mongoCollection.bulkWrite(replacements, new BulkWriteOptions().ordered(false))))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> removeAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().publisher(publisher(this.mongoCollection.deleteMany(in(MONGO_ID, keys))))
+                .replaceWithVoid();
+    }
+}
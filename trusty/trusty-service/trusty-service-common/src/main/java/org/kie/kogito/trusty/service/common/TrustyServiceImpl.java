@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -69,6 +70,11 @@ public class TrustyServiceImpl implements TrustyService {
 
     private static final Logger LOG = LoggerFactory.getLogger(TrustyServiceImpl.class);
 
+    // the attributes of the execution headers, the inputs and outcomes of the decisions are not read for the list views
+    private static final Set<String> EXECUTION_HEADER_FIELDS = Set.of(Execution.EXECUTION_ID_FIELD, Execution.EXECUTION_TIMESTAMP_FIELD,
+            Execution.HAS_SUCCEEDED_FIELD, Execution.EXECUTOR_NAME_FIELD, Execution.EXECUTED_MODEL_NAME_FIELD,
+            Execution.EXECUTED_MODEL_NAMESPACE_FIELD, Execution.EXECUTION_TYPE_FIELD, "@type");
+
     private boolean isExplainabilityEnabled;
     private Long maxRunningTimeSeconds;
 
@@ -107,16 +113,21 @@ public class TrustyServiceImpl implements TrustyService {
         filters.add(QueryFilterFactory.like(Execution.EXECUTION_ID_FIELD, prefix + "*"));
         filters.add(QueryFilterFactory.greaterThanEqual(Execution.EXECUTION_TIMESTAMP_FIELD, from.toInstant().toEpochMilli()));
         filters.add(QueryFilterFactory.lessThanEqual(Execution.EXECUTION_TIMESTAMP_FIELD, to.toInstant().toEpochMilli()));
-        ArrayList result = new ArrayList<>(storage.query()
-                .sort(asList(orderBy(Execution.EXECUTION_TIMESTAMP_FIELD, DESC)))
-                .filter(filters)
-                .execute());
+        long count = storage.query().filter(filters).count();
 
-        if (result.size() < offset) {
+        if (count < offset) {
             throw new IllegalArgumentException("Out of bound start offset in result");
         }
 
-        return new MatchedExecutionHeaders(result.subList(offset, Math.min(offset + limit, result.size())), result.size());
+        List<Execution> result = new ArrayList<>(storage.query()
+                .sort(asList(orderBy(Execution.EXECUTION_TIMESTAMP_FIELD, DESC)))
+                .filter(filters)
+                .projection(EXECUTION_HEADER_FIELDS)
+                .limit(limit)
+                .offset(offset)
+                .execute());
+
+        return new MatchedExecutionHeaders(result, (int) count);
     }
 
     @Override
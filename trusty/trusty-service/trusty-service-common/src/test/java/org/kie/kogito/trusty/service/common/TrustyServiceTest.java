@@ -80,6 +80,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -144,11 +145,7 @@ public class TrustyServiceTest {
         Decision decision = new Decision();
         decision.setExecutionId(TEST_EXECUTION_ID);
 
-        Query queryMock = mock(Query.class);
-        when(queryMock.filter(any(List.class))).thenReturn(queryMock);
-        when(queryMock.offset(any(Integer.class))).thenReturn(queryMock);
-        when(queryMock.sort(any(List.class))).thenReturn(queryMock);
-        when(queryMock.execute()).thenReturn(List.of(decision));
+        Query queryMock = mockQuery(List.of(decision));
 
         Storage storageMock = mock(Storage.class);
         when(storageMock.put(eq(TEST_EXECUTION_ID), any(Object.class))).thenReturn(decision);
@@ -175,10 +172,7 @@ public class TrustyServiceTest {
             decisions.add(d);
         });
 
-        Query queryMock = mock(Query.class);
-        when(queryMock.filter(any(List.class))).thenReturn(queryMock);
-        when(queryMock.sort(any(List.class))).thenReturn(queryMock);
-        when(queryMock.execute()).thenReturn(decisions);
+        Query queryMock = mockQuery(decisions);
 
         Storage storageMock = mock(Storage.class);
         decisions.forEach(x -> {
@@ -205,10 +199,7 @@ public class TrustyServiceTest {
     @Test
     @SuppressWarnings("unchecked")
     void givenNoExecutionsNoExceptionsAreRaised() {
-        Query queryMock = mock(Query.class);
-        when(queryMock.filter(any(List.class))).thenReturn(queryMock);
-        when(queryMock.sort(any(List.class))).thenReturn(queryMock);
-        when(queryMock.execute()).thenReturn(new ArrayList<>());
+        Query queryMock = mockQuery(new ArrayList<>());
 
         Storage storageMock = mock(Storage.class);
         when(storageMock.query()).thenReturn(queryMock);
@@ -672,4 +663,23 @@ public class TrustyServiceTest {
     private DMNModelMetadata buildDmnModelIdentifier() {
         return new DMNModelMetadata("groupId", "artifactId", "version", "dmnVersion", "name", "namespace");
     }
+
+    // paginates the given decisions like the storage does
+    @SuppressWarnings("unchecked")
+    private static Query mockQuery(List<Decision> decisions) {
+        Query queryMock = mock(Query.class, RETURNS_SELF);
+        int[] page = { 0, Integer.MAX_VALUE };
+        when(queryMock.offset(any(Integer.class))).thenAnswer(invocation -> {
+            page[0] = invocation.getArgument(0);
+            return queryMock;
+        });
+        when(queryMock.limit(any(Integer.class))).thenAnswer(invocation -> {
+            page[1] = invocation.getArgument(0);
+            return queryMock;
+        });
+        when(queryMock.execute()).thenAnswer(invocation -> decisions.subList(Math.min(page[0], decisions.size()),
+                (int) Math.min((long) page[0] + page[1], decisions.size())));
+        when(queryMock.count()).thenReturn((long) decisions.size());
+        return queryMock;
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.kie.kogito.trusty.service.common.mocks;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -72,6 +73,11 @@ public class StorageImplMock<K, V> implements Storage<K, V> {
         return value;
     }
 
+    @Override
+    public void putAll(Map<K, V> elements) {
+        storage.putAll(elements);
+    }
+
     @Override
     public V remove(K key) {
         V element = storage.get(key);
@@ -79,6 +85,11 @@ public class StorageImplMock<K, V> implements Storage<K, V> {
         return element;
     }
 
+    @Override
+    public void removeAll(Collection<K> keys) {
+        storage.keySet().removeAll(keys);
+    }
+
     @Override
     public boolean containsKey(K key) {
         return storage.containsKey(key);
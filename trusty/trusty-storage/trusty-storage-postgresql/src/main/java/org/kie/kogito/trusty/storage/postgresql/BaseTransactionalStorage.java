@@ -18,10 +18,15 @@
  */
 package org.kie.kogito.trusty.storage.postgresql;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.kie.kogito.persistence.api.Storage;
+import org.kie.kogito.persistence.api.StorageServiceCapability;
 import org.kie.kogito.persistence.api.query.Query;
+import org.kie.kogito.persistence.postgresql.CacheIndex;
 import org.kie.kogito.persistence.postgresql.PostgresStorage;
 import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
 
@@ -43,6 +48,10 @@ public abstract class BaseTransactionalStorage<T> implements Storage<String, T>
         this(new PostgresStorage<>(name, repository, mapper, type));
     }
 
+    protected BaseTransactionalStorage(String name, CacheEntityRepository repository, ObjectMapper mapper, Class<T> type, List<CacheIndex> indexes) {
+        this(new PostgresStorage<>(name, repository, mapper, type, type.getCanonicalName(), indexes));
+    }
+
     //For Unit Tests to check delegation
     BaseTransactionalStorage(final PostgresStorage<T> delegate) {
         this.delegate = delegate;
@@ -69,6 +78,16 @@ public abstract class BaseTransactionalStorage<T> implements Storage<String, T>
         return delegate.query();
     }
 
+    @Override
+    public Set<StorageServiceCapability> capabilities() {
+        return delegate.capabilities();
+    }
+
+    @Override
+    public Set<String> indexedAttributes() {
+        return delegate.indexedAttributes();
+    }
+
     @Override
     @Transactional
     public T get(String key) {
@@ -81,12 +100,24 @@ public abstract class BaseTransactionalStorage<T> implements Storage<String, T>
         return delegate.put(key, value);
     }
 
+    @Override
+    @Transactional
+    public void putAll(Map<String, T> elements) {
+        delegate.putAll(elements);
+    }
+
     @Override
     @Transactional
     public T remove(String key) {
         return delegate.remove(key);
     }
 
+    @Override
+    @Transactional
+    public void removeAll(Collection<String> keys) {
+        delegate.removeAll(keys);
+    }
+
     @Override
     @Transactional
     public boolean containsKey(String key) {
@@ -18,7 +18,10 @@
  */
 package org.kie.kogito.trusty.storage.postgresql;
 
+import java.util.List;
+
 import org.kie.kogito.explainability.api.CounterfactualExplainabilityRequest;
+import org.kie.kogito.persistence.postgresql.CacheIndex;
 import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,12 +34,16 @@ import static org.kie.kogito.trusty.storage.common.TrustyStorageService.COUNTERF
 @ApplicationScoped
 public class CounterfactualRequestsStorage extends BaseTransactionalStorage<CounterfactualExplainabilityRequest> {
 
+    // created by the kie-flyway migrations of this module
+    static final List<CacheIndex> INDEXES = List.of(CacheIndex.text(CounterfactualExplainabilityRequest.EXECUTION_ID_FIELD),
+            CacheIndex.text(CounterfactualExplainabilityRequest.COUNTERFACTUAL_ID_FIELD));
+
     CounterfactualRequestsStorage() {
         //CDI proxy
     }
 
     @Inject
     public CounterfactualRequestsStorage(CacheEntityRepository repository, ObjectMapper mapper) {
-        super(COUNTERFACTUAL_REQUESTS_STORAGE, repository, mapper, CounterfactualExplainabilityRequest.class);
+        super(COUNTERFACTUAL_REQUESTS_STORAGE, repository, mapper, CounterfactualExplainabilityRequest.class, INDEXES);
     }
 }
@@ -18,7 +18,10 @@
  */
 package org.kie.kogito.trusty.storage.postgresql;
 
+import java.util.List;
+
 import org.kie.kogito.explainability.api.CounterfactualExplainabilityResult;
+import org.kie.kogito.persistence.postgresql.CacheIndex;
 import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,12 +34,16 @@ import static org.kie.kogito.trusty.storage.common.TrustyStorageService.COUNTERF
 @ApplicationScoped
 public class CounterfactualResultsStorage extends BaseTransactionalStorage<CounterfactualExplainabilityResult> {
 
+    // created by the kie-flyway migrations of this module
+    static final List<CacheIndex> INDEXES = List.of(CacheIndex.text(CounterfactualExplainabilityResult.EXECUTION_ID_FIELD),
+            CacheIndex.text(CounterfactualExplainabilityResult.COUNTERFACTUAL_ID_FIELD));
+
     CounterfactualResultsStorage() {
         //CDI proxy
     }
 
     @Inject
     public CounterfactualResultsStorage(CacheEntityRepository repository, ObjectMapper mapper) {
-        super(COUNTERFACTUAL_RESULTS_STORAGE, repository, mapper, CounterfactualExplainabilityResult.class);
+        super(COUNTERFACTUAL_RESULTS_STORAGE, repository, mapper, CounterfactualExplainabilityResult.class, INDEXES);
     }
 }
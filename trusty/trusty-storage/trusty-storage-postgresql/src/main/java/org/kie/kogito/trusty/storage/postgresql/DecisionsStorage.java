@@ -18,7 +18,11 @@
  */
 package org.kie.kogito.trusty.storage.postgresql;
 
+import java.util.List;
+
+import org.kie.kogito.persistence.postgresql.CacheIndex;
 import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
+import org.kie.kogito.trusty.storage.api.model.Execution;
 import org.kie.kogito.trusty.storage.api.model.decision.Decision;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,12 +35,15 @@ import static org.kie.kogito.trusty.storage.common.TrustyStorageService.DECISION
 @ApplicationScoped
 public class DecisionsStorage extends BaseTransactionalStorage<Decision> {
 
+    // created by the kie-flyway migrations of this module
+    static final List<CacheIndex> INDEXES = List.of(CacheIndex.numeric(Execution.EXECUTION_TIMESTAMP_FIELD), CacheIndex.text(Execution.EXECUTION_ID_FIELD));
+
     DecisionsStorage() {
         //CDI proxy
     }
 
     @Inject
     public DecisionsStorage(CacheEntityRepository repository, ObjectMapper mapper) {
-        super(DECISIONS_STORAGE, repository, mapper, Decision.class);
+        super(DECISIONS_STORAGE, repository, mapper, Decision.class, INDEXES);
     }
 }
@@ -0,0 +1,25 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+-- Expression indexes of the attributes the trusty caches filter and sort by, see PostgresCacheIndexManager. As every
+-- index leads with the cache name, a single index per expression serves all the caches filtering by it.
+-- They are created concurrently, so the table is not locked, which makes flyway run this script out of a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cache_executiontimestamp_numeric ON kogito_data_cache (cache_name, ((json_value->>'executionTimestamp')::numeric));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cache_executionid ON kogito_data_cache (cache_name, ((json_value->>'executionId')));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cache_counterfactualid ON kogito_data_cache (cache_name, ((json_value->>'counterfactualId')));
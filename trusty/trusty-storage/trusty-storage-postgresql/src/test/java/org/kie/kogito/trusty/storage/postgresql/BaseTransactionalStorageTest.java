@@ -18,6 +18,9 @@
  */
 package org.kie.kogito.trusty.storage.postgresql;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.persistence.postgresql.PostgresStorage;
@@ -72,6 +75,18 @@ public class BaseTransactionalStorageTest {
         verify(delegate).query();
     }
 
+    @Test
+    public void testCapabilities() {
+        storage.capabilities();
+        verify(delegate).capabilities();
+    }
+
+    @Test
+    public void testIndexedAttributes() {
+        storage.indexedAttributes();
+        verify(delegate).indexedAttributes();
+    }
+
     @Test
     public void testGet() {
         storage.get(KEY);
@@ -84,12 +99,24 @@ public class BaseTransactionalStorageTest {
         verify(delegate).put(KEY, VALUE);
     }
 
+    @Test
+    public void testPutAll() {
+        storage.putAll(Map.of(KEY, VALUE));
+        verify(delegate).putAll(Map.of(KEY, VALUE));
+    }
+
     @Test
     public void testRemove() {
         storage.remove(KEY);
         verify(delegate).remove(KEY);
     }
 
+    @Test
+    public void testRemoveAll() {
+        storage.removeAll(List.of(KEY));
+        verify(delegate).removeAll(List.of(KEY));
+    }
+
     @Test
     public void testContainsKey() {
         storage.containsKey(KEY);
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.kogito.trusty.storage.postgresql;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.kogito.persistence.postgresql.CacheIndex;
+import org.kie.kogito.persistence.postgresql.PostgresCacheIndexManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheIndexMigrationTest {
+
+    private static final String MIGRATION = "kie-flyway/db/trusty/postgresql/V1.52.0__add_cache_indexes.sql";
+
+    static Stream<CacheIndex> indexes() {
+        return Stream.of(DecisionsStorage.INDEXES, CounterfactualRequestsStorage.INDEXES, CounterfactualResultsStorage.INDEXES)
+                .flatMap(List::stream);
+    }
+
+    @ParameterizedTest
+    @MethodSource("indexes")
+    public void testIndexIsCreatedByMigration(CacheIndex index) throws IOException {
+        String migration;
+        try (InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(MIGRATION)) {
+            assertThat(stream).isNotNull();
+            migration = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(migration).containsOnlyOnce(PostgresCacheIndexManager.createIndexStatement(index));
+    }
+}